@@ -0,0 +1,185 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.levels.ActorManager;
+import com.example.demo.levels.LevelParentBase;
+import com.example.demo.projectiles.HomingProjectile;
+import com.example.demo.projectiles.Projectile;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-frame work of {@link ActorManager}: updating every actor and sweeping destroyed ones.
+ *
+ * <p>A tenth of the actors are enemies; the rest are split evenly between user
+ * and enemy projectiles. Enemies count their shots instead of spawning new
+ * projectiles, so the population stays the same size while it is measured.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class ActorManagerBenchmark {
+
+    /**
+     * A populated actor manager for measuring updates. Rebuilt every iteration,
+     * since updates keep moving the actors.
+     */
+    @State(Scope.Thread)
+    public static class UpdateState {
+
+        /**
+         * The total number of actors in the manager.
+         */
+        @Param({"10", "100", "1000", "10000"})
+        public int actorCount;
+
+        /**
+         * The manager under test.
+         */
+        ActorManager actorManager;
+
+        /**
+         * Fills a fresh manager.
+         *
+         * @throws InterruptedException if interrupted while starting JavaFX
+         */
+        @Setup(Level.Iteration)
+        public void setUp() throws InterruptedException {
+            BenchmarkSupport.startToolkit();
+            actorManager = populate(actorCount);
+        }
+    }
+
+    /**
+     * A populated actor manager with half of its actors destroyed. Refilled before
+     * every invocation, since each sweep removes them.
+     */
+    @State(Scope.Thread)
+    public static class SweepState {
+
+        /**
+         * The total number of actors in the manager.
+         */
+        @Param({"10", "100", "1000", "10000"})
+        public int actorCount;
+
+        /**
+         * The manager under test.
+         */
+        ActorManager actorManager;
+
+        /**
+         * The source of projectile positions when refilling.
+         */
+        private SplittableRandom random;
+
+        /**
+         * Fills a fresh manager.
+         *
+         * @throws InterruptedException if interrupted while starting JavaFX
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws InterruptedException {
+            BenchmarkSupport.startToolkit();
+            actorManager = populate(actorCount);
+            random = new SplittableRandom(BenchmarkSupport.SEED);
+        }
+
+        /**
+         * Tops the manager back up to its full size, then destroys every other projectile.
+         */
+        @Setup(Level.Invocation)
+        public void destroyHalf() {
+            List<Projectile> userProjectiles = actorManager.getUserProjectiles();
+            List<Projectile> enemyProjectiles = actorManager.getEnemyProjectiles();
+            ActiveActorDestructible target = actorManager.getEnemies().get(0);
+            while (userProjectiles.size() + enemyProjectiles.size() + actorManager.getEnemies().size() < actorCount) {
+                double x = random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_WIDTH);
+                double y = random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_HEIGHT);
+                if (userProjectiles.size() <= enemyProjectiles.size()) {
+                    actorManager.fireUserProjectile(x, y);
+                } else {
+                    actorManager.addEnemyProjectile(new HomingProjectile(x, y, null, target, "enemyFire.png"));
+                }
+            }
+            destroyEveryOther(actorManager.getUserProjectiles());
+            destroyEveryOther(actorManager.getEnemyProjectiles());
+        }
+    }
+
+    /**
+     * Updates every actor for one frame.
+     *
+     * @param state the populated manager
+     */
+    @Benchmark
+    public void updateAll(UpdateState state) {
+        state.actorManager.updateAll();
+    }
+
+    /**
+     * Removes the destroyed projectiles and returns them to their pools.
+     *
+     * @param state the manager with destroyed projectiles
+     */
+    @Benchmark
+    public void removeDestroyedActors(SweepState state) {
+        state.actorManager.removeDestroyedActors();
+    }
+
+    /**
+     * Builds an actor manager holding the given number of actors.
+     *
+     * @param actorCount the total number of actors
+     * @return the populated manager
+     */
+    static ActorManager populate(int actorCount) {
+        SplittableRandom random = new SplittableRandom(BenchmarkSupport.SEED);
+        Group root = new Group();
+        ActorManager actorManager = BenchmarkSupport.countingActorManager(root);
+        int enemyCount = Math.max(1, actorCount / 10);
+        int projectileCount = actorCount - enemyCount;
+        for (int i = 0; i < enemyCount; i++) {
+            actorManager.addEnemy(BenchmarkSupport.randomEnemy(random, actorManager, 1));
+        }
+        ActiveActorDestructible target = actorManager.getEnemies().get(0);
+        for (int i = 0; i < projectileCount; i++) {
+            double x = random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_WIDTH);
+            double y = random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_HEIGHT);
+            if (i % 2 == 0) {
+                actorManager.fireUserProjectile(x, y);
+            } else {
+                actorManager.addEnemyProjectile(new HomingProjectile(x, y, null, target, "enemyFire.png"));
+            }
+        }
+        return actorManager;
+    }
+
+    /**
+     * Destroys every other projectile in a list.
+     *
+     * @param projectiles the projectiles
+     */
+    private static void destroyEveryOther(List<Projectile> projectiles) {
+        for (int i = 0; i < projectiles.size(); i += 2) {
+            projectiles.get(i).destroy();
+        }
+    }
+}
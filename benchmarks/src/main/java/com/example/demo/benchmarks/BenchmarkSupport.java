@@ -0,0 +1,139 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.levels.ActorManager;
+import com.example.demo.levels.GameEventQueue;
+import com.example.demo.levels.LevelParentBase;
+import javafx.application.Platform;
+import javafx.scene.Group;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Shared setup for the benchmarks: starting JavaFX and building populations of actors.
+ *
+ * <p>Actors are image views, and decoding their images needs the JavaFX
+ * toolkit, so every benchmark starts it once per fork. Running the
+ * benchmarks therefore needs a display, or a headless JavaFX platform such
+ * as Monocle.</p>
+ */
+final class BenchmarkSupport {
+
+    /**
+     * The actor counts every suite is measured at.
+     */
+    static final String[] ACTOR_COUNTS = {"10", "100", "1000", "10000"};
+
+    /**
+     * The seed used to place actors, so every run measures the same layout.
+     */
+    static final long SEED = 2024L;
+
+    /**
+     * Whether the JavaFX toolkit has been started in this JVM.
+     */
+    private static boolean started;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Starts the JavaFX toolkit if it is not running yet.
+     *
+     * @throws InterruptedException if interrupted while waiting for the toolkit
+     */
+    static synchronized void startToolkit() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            Platform.startup(ready::countDown);
+        } catch (IllegalStateException alreadyRunning) {
+            ready.countDown();
+        }
+        Platform.setImplicitExit(false);
+        ready.await();
+        started = true;
+    }
+
+    /**
+     * Creates an actor manager whose enemies count their shots instead of spawning projectiles,
+     * so the measured population stays the same size from one invocation to the next.
+     *
+     * @param root the root group actors are attached to
+     * @return the actor manager
+     */
+    static CountingActorManager countingActorManager(Group root) {
+        return new CountingActorManager(root);
+    }
+
+    /**
+     * Creates an enemy plane at a random position on the original screen, firing from a stream split from
+     * {@code random}, so a run seeded with {@link #SEED} always builds and fires the same way.
+     *
+     * @param random       the source of positions and of the enemy's own stream
+     * @param actorManager the manager the enemy fires through
+     * @param health       the enemy's health
+     * @return the enemy plane
+     */
+    static EnemyPlane randomEnemy(SplittableRandom random, ActorManager actorManager, int health) {
+        return new EnemyPlane(random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_WIDTH),
+                random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_HEIGHT), actorManager, null, health, random.split());
+    }
+
+    /**
+     * Moves an actor to a random position on the original screen.
+     *
+     * @param random the source of positions
+     * @param actor  the actor to move
+     */
+    static void placeRandomly(SplittableRandom random, ActiveActorDestructible actor) {
+        actor.setTranslateX(0);
+        actor.setTranslateY(0);
+        actor.setLayoutX(random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_WIDTH));
+        actor.setLayoutY(random.nextDouble(LevelParentBase.ORIGINAL_SCREEN_HEIGHT));
+    }
+
+    /**
+     * An actor manager that records enemy shots without creating projectiles.
+     */
+    static final class CountingActorManager extends ActorManager {
+
+        /**
+         * The number of shots requested since construction.
+         */
+        private long shotsRequested;
+
+        /**
+         * Constructs the manager.
+         *
+         * @param root the root group actors are attached to
+         */
+        CountingActorManager(Group root) {
+            super(root, new GameEventQueue());
+        }
+
+        /**
+         * Counts the shot instead of spawning a projectile.
+         */
+        @Override
+        public void createEnemyProjectile(double x, double y, ActiveActorDestructible target, String imageName) {
+            shotsRequested++;
+        }
+
+        /**
+         * Retrieves the number of shots requested.
+         *
+         * @return the shot count
+         */
+        long getShotsRequested() {
+            return shotsRequested;
+        }
+    }
+}
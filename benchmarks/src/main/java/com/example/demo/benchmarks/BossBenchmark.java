@@ -0,0 +1,74 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.Boss;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Boss#updateActor}: the move pattern, shield timing and firing decision.
+ *
+ * <p>The game has one boss, so the counts here scale the number of bosses to
+ * make the per-boss cost measurable and comparable with the other suites.
+ * Shots are counted instead of spawned, so only the boss's own work is
+ * measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class BossBenchmark {
+
+    /**
+     * The number of bosses updated per invocation.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    public int actorCount;
+
+    /**
+     * The bosses under test.
+     */
+    private Boss[] bosses;
+
+    /**
+     * Creates the bosses, each with its own shield list and a random stream split from a seeded one.
+     *
+     * @throws InterruptedException if interrupted while starting JavaFX
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        BenchmarkSupport.startToolkit();
+        Group root = new Group();
+        BenchmarkSupport.CountingActorManager actorManager = BenchmarkSupport.countingActorManager(root);
+        SplittableRandom random = new SplittableRandom(BenchmarkSupport.SEED);
+        bosses = new Boss[actorCount];
+        for (int i = 0; i < actorCount; i++) {
+            bosses[i] = new Boss(root, new ArrayList<>(), actorManager, null, random.split());
+        }
+    }
+
+    /**
+     * Updates every boss for one frame.
+     */
+    @Benchmark
+    public void updateActor() {
+        for (Boss boss : bosses) {
+            boss.updateActor();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.levels.ActorManager;
+import com.example.demo.levels.CollisionManager;
+import com.example.demo.levels.GameEventQueue;
+import com.example.demo.projectiles.UserProjectile;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the single collision pass {@link CollisionManager#handleCollisions(ActorManager)}
+ * over a level's actors.
+ *
+ * <p>Half of the actors are user projectiles and half are enemies, scattered
+ * over the screen and registered with one actor manager, as a level holds
+ * them. No user plane is set, which the pass allows, so its layer and mask
+ * filtering, broadphase and alpha-mask narrowphase are measured without a
+ * level behind the manager. The enemies have so much health that they are
+ * never destroyed, and destroyed projectiles are never removed, so every
+ * invocation visits the same overlapping pairs.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class CollisionBenchmark {
+
+    /**
+     * The total number of actors taking part in the pass.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    public int actorCount;
+
+    /**
+     * The manager under test.
+     */
+    private CollisionManager collisionManager;
+
+    /**
+     * The manager holding the actors of the pass.
+     */
+    private ActorManager actorManager;
+
+    /**
+     * Scatters the projectiles and enemies over the screen.
+     *
+     * @throws InterruptedException if interrupted while starting JavaFX
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        BenchmarkSupport.startToolkit();
+        SplittableRandom random = new SplittableRandom(BenchmarkSupport.SEED);
+        Group root = new Group();
+        GameEventQueue events = new GameEventQueue();
+        collisionManager = new CollisionManager(events);
+        actorManager = BenchmarkSupport.countingActorManager(root);
+        int projectileCount = actorCount / 2;
+        for (int i = 0; i < projectileCount; i++) {
+            UserProjectile projectile = new UserProjectile(0, 0, root);
+            BenchmarkSupport.placeRandomly(random, projectile);
+            actorManager.addUserProjectile(projectile);
+        }
+        for (int i = projectileCount; i < actorCount; i++) {
+            actorManager.addEnemy(BenchmarkSupport.randomEnemy(random, actorManager, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Runs one collision pass.
+     */
+    @Benchmark
+    public void handleCollisions() {
+        collisionManager.handleCollisions(actorManager);
+    }
+}
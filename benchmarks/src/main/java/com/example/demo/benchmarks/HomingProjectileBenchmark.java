@@ -0,0 +1,84 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.projectiles.HomingProjectile;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HomingProjectile#updatePosition} over a swarm of projectiles tracking one target.
+ *
+ * <p>This is the per-node path, used for projectiles the projectile buffer
+ * does not move. Positions are scattered again every iteration, since the
+ * projectiles drift toward the left edge.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class HomingProjectileBenchmark {
+
+    /**
+     * The number of projectiles updated per invocation.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    public int actorCount;
+
+    /**
+     * The projectiles under test.
+     */
+    private HomingProjectile[] projectiles;
+
+    /**
+     * Creates the projectiles and their shared target.
+     *
+     * @throws InterruptedException if interrupted while starting JavaFX
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        BenchmarkSupport.startToolkit();
+        SplittableRandom random = new SplittableRandom(BenchmarkSupport.SEED);
+        EnemyPlane target = BenchmarkSupport.randomEnemy(random, BenchmarkSupport.countingActorManager(new Group()), 1);
+        projectiles = new HomingProjectile[actorCount];
+        for (int i = 0; i < actorCount; i++) {
+            projectiles[i] = new HomingProjectile(0, 0, null, target, "fireball.png");
+        }
+    }
+
+    /**
+     * Scatters the projectiles over the screen again.
+     */
+    @Setup(Level.Iteration)
+    public void scatter() {
+        SplittableRandom random = new SplittableRandom(BenchmarkSupport.SEED);
+        for (HomingProjectile projectile : projectiles) {
+            BenchmarkSupport.placeRandomly(random, projectile);
+        }
+    }
+
+    /**
+     * Moves every projectile one step toward the target.
+     */
+    @Benchmark
+    public void updatePosition() {
+        for (HomingProjectile projectile : projectiles) {
+            projectile.updatePosition();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.utilities.ImageRegistry;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the image setup in the {@link com.example.demo.actors.ActiveActor} constructor.
+ *
+ * <p>The construct case builds actors whose sprite is already available, as in
+ * a running level. Actor sprites come from the sprite atlas, which is loaded
+ * once per process. The decode case empties the image cache and decodes one
+ * sprite image on its own, which is the price paid at level start by images
+ * outside the atlas. It does not depend on the actor count.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class ImageLoadingBenchmark {
+
+    /**
+     * The number of actors constructed per invocation.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    public int actorCount;
+
+    /**
+     * The manager the constructed enemies would fire through.
+     */
+    private BenchmarkSupport.CountingActorManager actorManager;
+
+    /**
+     * The stream the constructed enemies split their own streams from.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Starts JavaFX and loads the sprite atlas through a first actor.
+     *
+     * @throws InterruptedException if interrupted while starting JavaFX
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        BenchmarkSupport.startToolkit();
+        actorManager = BenchmarkSupport.countingActorManager(new Group());
+        random = new SplittableRandom(BenchmarkSupport.SEED);
+        new EnemyPlane(0, 0, actorManager, null, 1, random.split());
+    }
+
+    /**
+     * Constructs actors whose sprite is already loaded.
+     *
+     * @param blackhole keeps the actors from being optimized away
+     */
+    @Benchmark
+    public void constructActors(Blackhole blackhole) {
+        for (int i = 0; i < actorCount; i++) {
+            blackhole.consume(new EnemyPlane(0, 0, actorManager, null, 1, random.split()));
+        }
+    }
+
+    /**
+     * Empties the image cache, then decodes the enemy image again.
+     *
+     * @param blackhole keeps the image from being optimized away
+     */
+    @Benchmark
+    public void decodeUncached(Blackhole blackhole) {
+        ImageRegistry.clear();
+        blackhole.consume(ImageRegistry.get("enemyplane.png"));
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.demo.actors;
 
-import com.example.demo.levels.LevelParent;
-import javafx.scene.image.Image;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.utilities.ImageRegistry;
+import com.example.demo.utilities.SpriteAtlas;
 import javafx.scene.image.ImageView;
+import javafx.scene.transform.Translate;
 
 /**
  * Base class for all active entities in the game, providing movement and image setup.
+ *
+ * <p>The layout and translate offsets hold the simulated position. A separate
+ * render offset, applied as an extra transform, lets the game loop draw the
+ * actor between its previous and current simulated positions without
+ * touching the simulated state.</p>
  */
 public abstract class ActiveActor extends ImageView {
 
@@ -14,6 +22,21 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	protected static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/**
+	 * The visual-only offset used to interpolate between simulation steps.
+	 */
+	private final Translate renderOffset = new Translate();
+
+	/**
+	 * The simulated X position captured before the latest simulation step.
+	 */
+	private double previousSimX;
+
+	/**
+	 * The simulated Y position captured before the latest simulation step.
+	 */
+	private double previousSimY;
+
 	/**
 	 * Constructs an ActiveActor with a specific image, size, and initial position.
 	 *
@@ -24,17 +47,110 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		try {
-			Image image = new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm());
-			this.setImage(image);
-			System.out.println("Image loaded: " + IMAGE_LOCATION + imageName);
-		} catch (NullPointerException e) {
-			System.err.println("Error: Image not found - " + IMAGE_LOCATION + imageName);
+			if (SpriteAtlas.getDefault().applyTo(this, imageName)) {
+				GameLog.debug(LogCategory.ACTOR, "Image loaded from sprite atlas: {}", imageName);
+			} else {
+				this.setImage(ImageRegistry.get(IMAGE_LOCATION + imageName));
+				GameLog.debug(LogCategory.ACTOR, "Image loaded: {}{}", IMAGE_LOCATION, imageName);
+			}
+		} catch (IllegalArgumentException e) {
+			GameLog.error(LogCategory.ACTOR, "Error: Image not found - {}{}", IMAGE_LOCATION, imageName);
 		}
 
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+
+		getTransforms().add(renderOffset);
+		captureSimState();
+	}
+
+	/**
+	 * Records the current simulated position as the starting point for interpolation.
+	 * Called before every simulation step, and whenever the actor is placed without motion.
+	 */
+	public void captureSimState() {
+		previousSimX = getLayoutX() + getTranslateX();
+		previousSimY = getLayoutY() + getTranslateY();
+		renderOffset.setX(0);
+		renderOffset.setY(0);
+	}
+
+	/**
+	 * Draws the actor between its previous and current simulated positions.
+	 *
+	 * @param alpha the fraction of a step elapsed since the latest simulation step, from 0 to 1
+	 */
+	public void interpolate(double alpha) {
+		double weight = 1.0 - alpha;
+		renderOffset.setX((previousSimX - (getLayoutX() + getTranslateX())) * weight);
+		renderOffset.setY((previousSimY - (getLayoutY() + getTranslateY())) * weight);
+	}
+
+	/**
+	 * Retrieves how far the actor has moved along X since its simulated position was last captured,
+	 * which during a simulation step is the distance covered by that step.
+	 *
+	 * @return the horizontal displacement
+	 */
+	public double getSimDeltaX() {
+		return getLayoutX() + getTranslateX() - previousSimX;
+	}
+
+	/**
+	 * Retrieves how far the actor has moved along Y since its simulated position was last captured.
+	 *
+	 * @return the vertical displacement
+	 */
+	public double getSimDeltaY() {
+		return getLayoutY() + getTranslateY() - previousSimY;
+	}
+
+	/**
+	 * Retrieves a node that is drawn with the actor and follows it, such as the boss's shield.
+	 * Renderers that do not use the scene graph draw it right after the actor.
+	 *
+	 * @return the attached node, or {@code null} if the actor has none
+	 */
+	public ImageView getAttachment() {
+		return null;
+	}
+
+	/**
+	 * Retrieves the horizontal render offset applied by the latest interpolation.
+	 *
+	 * @return the render offset along X
+	 */
+	protected double getRenderOffsetX() {
+		return renderOffset.getX();
+	}
+
+	/**
+	 * Retrieves the vertical render offset applied by the latest interpolation.
+	 *
+	 * @return the render offset along Y
+	 */
+	protected double getRenderOffsetY() {
+		return renderOffset.getY();
+	}
+
+	/**
+	 * Retrieves the X position at which the actor is drawn, including its interpolation offset.
+	 *
+	 * @return the drawn X position of the image's origin
+	 */
+	public double getRenderX() {
+		return getLayoutX() + getTranslateX() + renderOffset.getX() + getX();
+	}
+
+	/**
+	 * Retrieves the Y position at which the actor is drawn, including its interpolation offset.
+	 *
+	 * @return the drawn Y position of the image's origin
+	 */
+	public double getRenderY() {
+		return getLayoutY() + getTranslateY() + renderOffset.getY() + getY();
 	}
 
 	/**
@@ -59,18 +175,4 @@ public abstract class ActiveActor extends ImageView {
 	protected void moveVertically(double verticalMove) {
 		this.setTranslateY(getTranslateY() + verticalMove);
 	}
-
-	/**
-	 * Adjusts the position of the actor when the screen is resized.
-	 *
-	 * @param newWidth  the new width of the screen
-	 * @param newHeight the new height of the screen
-	 */
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		double widthRatio = newWidth / LevelParent.ORIGINAL_SCREEN_WIDTH;
-		double heightRatio = newHeight / LevelParent.ORIGINAL_SCREEN_HEIGHT;
-
-		setTranslateX(getTranslateX() * widthRatio);
-		setTranslateY(getTranslateY() * heightRatio);
-	}
 }
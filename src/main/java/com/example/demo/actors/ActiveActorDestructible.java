@@ -1,12 +1,16 @@
 package com.example.demo.actors;
 
 import com.example.demo.levels.LevelParentBase;
+import com.example.demo.utilities.AlphaMask;
 import com.example.demo.utilities.Destructible;
+import com.example.demo.utilities.EntityRegistry;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
 
 /**
  * Extends ActiveActor, adding destructible functionality for actors.
  */
-public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
+public abstract class ActiveActorDestructible extends ActiveActor implements Destructible, EntityRegistry.Entry {
 
 	/**
 	 * Indicates whether the actor is destroyed.
@@ -18,6 +22,61 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	private LevelParentBase parentLevel;
 
+	/**
+	 * The handle assigned by the registry currently holding this actor.
+	 */
+	private long registryHandle = EntityRegistry.NO_HANDLE;
+
+	/**
+	 * The minimum X coordinate of the actor's bounds in its parent, kept in sync with its position.
+	 */
+	private double cachedMinX;
+
+	/**
+	 * The minimum Y coordinate of the actor's bounds in its parent, kept in sync with its position.
+	 */
+	private double cachedMinY;
+
+	/**
+	 * The maximum X coordinate of the actor's bounds in its parent, kept in sync with its position.
+	 */
+	private double cachedMaxX;
+
+	/**
+	 * The maximum Y coordinate of the actor's bounds in its parent, kept in sync with its position.
+	 */
+	private double cachedMaxY;
+
+	/**
+	 * The X offset of the actor's layout bounds within its own coordinate space.
+	 */
+	private double localMinX;
+
+	/**
+	 * The Y offset of the actor's layout bounds within its own coordinate space.
+	 */
+	private double localMinY;
+
+	/**
+	 * The name of the image representing the actor, from which its alpha mask is built.
+	 */
+	private final String imageName;
+
+	/**
+	 * The opaque pixels of the actor's sprite at the size it is drawn, or {@code null} to collide by bounding box alone.
+	 */
+	private AlphaMask alphaMask;
+
+	/**
+	 * The width of the actor's layout bounds.
+	 */
+	private double localWidth;
+
+	/**
+	 * The height of the actor's layout bounds.
+	 */
+	private double localHeight;
+
 	/**
 	 * Constructs an ActiveActorDestructible with the specified properties.
 	 *
@@ -29,6 +88,173 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
+		this.imageName = imageName;
+
+		// Node's position setters are final, so the cache follows the underlying properties.
+		// Position properties only notify when their value actually changes.
+		InvalidationListener positionListener = observable -> refreshCachedPosition();
+		layoutXProperty().addListener(positionListener);
+		layoutYProperty().addListener(positionListener);
+		translateXProperty().addListener(positionListener);
+		translateYProperty().addListener(positionListener);
+		layoutBoundsProperty().addListener(observable -> refreshCachedExtent());
+		refreshCachedExtent();
+	}
+
+	/**
+	 * Re-reads the actor's size from its layout bounds and refreshes the cached bounds.
+	 * Called only when the image or fit size changes.
+	 *
+	 * <p>The alpha mask follows the drawn size too, so a sprite fitted into a box after
+	 * it was loaded, such as a homing projectile's, collides by the pixels shown.</p>
+	 */
+	private void refreshCachedExtent() {
+		Bounds local = getLayoutBounds();
+		localMinX = local.getMinX();
+		localMinY = local.getMinY();
+		localWidth = local.getWidth();
+		localHeight = local.getHeight();
+		refreshAlphaMask();
+		refreshCachedPosition();
+	}
+
+	/**
+	 * Swaps in the alpha mask of the sprite at its current drawn size, rounded to whole pixels,
+	 * if it differs from the one in use.
+	 */
+	private void refreshAlphaMask() {
+		int maskWidth = (int) Math.round(localWidth);
+		int maskHeight = (int) Math.round(localHeight);
+		if (maskWidth <= 0 || maskHeight <= 0) {
+			return;
+		}
+		if (alphaMask == null || alphaMask.getWidth() != maskWidth || alphaMask.getHeight() != maskHeight) {
+			alphaMask = AlphaMask.forSprite(imageName, maskWidth, maskHeight);
+		}
+	}
+
+	/**
+	 * Recomputes the cached bounds from the actor's layout and translate offsets.
+	 * Reading the properties here also re-arms their invalidation listeners.
+	 */
+	private void refreshCachedPosition() {
+		cachedMinX = getLayoutX() + getTranslateX() + localMinX;
+		cachedMinY = getLayoutY() + getTranslateY() + localMinY;
+		cachedMaxX = cachedMinX + localWidth;
+		cachedMaxY = cachedMinY + localHeight;
+	}
+
+	/**
+	 * Retrieves the minimum X coordinate of the actor's cached bounds in its parent.
+	 *
+	 * @return the cached minimum X coordinate
+	 */
+	public double getCachedMinX() {
+		return cachedMinX;
+	}
+
+	/**
+	 * Retrieves the minimum Y coordinate of the actor's cached bounds in its parent.
+	 *
+	 * @return the cached minimum Y coordinate
+	 */
+	public double getCachedMinY() {
+		return cachedMinY;
+	}
+
+	/**
+	 * Retrieves the maximum X coordinate of the actor's cached bounds in its parent.
+	 *
+	 * @return the cached maximum X coordinate
+	 */
+	public double getCachedMaxX() {
+		return cachedMaxX;
+	}
+
+	/**
+	 * Retrieves the maximum Y coordinate of the actor's cached bounds in its parent.
+	 *
+	 * @return the cached maximum Y coordinate
+	 */
+	public double getCachedMaxY() {
+		return cachedMaxY;
+	}
+
+	/**
+	 * Checks whether this actor's cached bounds intersect another actor's cached bounds.
+	 *
+	 * <p>Equivalent to comparing {@link #getBoundsInParent()} of both actors, but
+	 * reads primitive fields instead of allocating new {@link Bounds} objects.</p>
+	 *
+	 * @param other the other actor
+	 * @return {@code true} if the bounds overlap, edges included
+	 */
+	public boolean intersectsCachedBounds(ActiveActorDestructible other) {
+		return cachedMinX <= other.cachedMaxX && cachedMaxX >= other.cachedMinX
+				&& cachedMinY <= other.cachedMaxY && cachedMaxY >= other.cachedMinY;
+	}
+
+	/**
+	 * Retrieves the collision layer the actor belongs to.
+	 *
+	 * @return the actor's layer
+	 */
+	public abstract CollisionLayer getCollisionLayer();
+
+	/**
+	 * Retrieves the layers the actor can collide with, as a mask of {@link CollisionLayer#bit()} values.
+	 * Two actors are tested against each other only if each one's mask contains the other's layer.
+	 *
+	 * @return the actor's collision mask
+	 */
+	public abstract int getCollisionMask();
+
+	/**
+	 * Checks whether destroying this actor in a collision earns the player a kill.
+	 *
+	 * @return {@code true} if the actor counts towards the kill total; {@code false} by default
+	 */
+	public boolean countsAsKill() {
+		return false;
+	}
+
+	/**
+	 * Checks whether the opaque pixels of this actor and another touch.
+	 *
+	 * <p>Meant as the narrowphase after {@link #intersectsCachedBounds} has found the
+	 * boxes overlapping. The masks are placed at the cached bounds, rounded to
+	 * whole pixels. If either actor has no mask, the box test stands.</p>
+	 *
+	 * @param other the other actor
+	 * @return {@code true} if the sprites overlap on at least one opaque pixel, or either has no mask
+	 */
+	public boolean intersectsAlphaMask(ActiveActorDestructible other) {
+		return intersectsAlphaMask(other, other.cachedMinX - cachedMinX, other.cachedMinY - cachedMinY);
+	}
+
+	/**
+	 * Checks whether the opaque pixels of this actor and another touch when placed at a given offset,
+	 * such as their positions part-way through a step.
+	 *
+	 * @param other   the other actor
+	 * @param offsetX the X position of the other actor's bounds relative to this actor's, rounded to whole pixels
+	 * @param offsetY the Y position of the other actor's bounds relative to this actor's, rounded to whole pixels
+	 * @return {@code true} if the sprites overlap on at least one opaque pixel, or either has no mask
+	 */
+	public boolean intersectsAlphaMask(ActiveActorDestructible other, double offsetX, double offsetY) {
+		if (alphaMask == null || other.alphaMask == null) {
+			return true;
+		}
+		return alphaMask.overlaps(other.alphaMask, (int) Math.round(offsetX), (int) Math.round(offsetY));
+	}
+
+	/**
+	 * Retrieves the opaque pixels of the actor's sprite.
+	 *
+	 * @return the alpha mask, or {@code null} if the actor collides by bounding box alone
+	 */
+	public AlphaMask getAlphaMask() {
+		return alphaMask;
 	}
 
 	/**
@@ -85,23 +311,31 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	}
 
 	/**
-	 * Checks whether the actor is destroyed.
+	 * Retrieves the handle assigned by the registry currently holding this actor.
 	 *
-	 * @return {@code true} if the actor is destroyed; {@code false} otherwise.
+	 * @return The handle, or {@link EntityRegistry#NO_HANDLE} if the actor is not registered.
 	 */
-	public boolean isDestroyed() {
-		return isDestroyed;
+	@Override
+	public long getRegistryHandle() {
+		return registryHandle;
 	}
 
 	/**
-	 * Adjusts the actor's position based on the new width and height of the parent level.
+	 * Stores the handle assigned by a registry.
 	 *
-	 * @param newWidth  The new width of the parent level.
-	 * @param newHeight The new height of the parent level.
+	 * @param handle The new handle, or {@link EntityRegistry#NO_HANDLE}.
 	 */
 	@Override
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		// Call the superclass implementation to adjust position
-		super.adjustPositionForResize(newWidth, newHeight);
+	public void setRegistryHandle(long handle) {
+		this.registryHandle = handle;
+	}
+
+	/**
+	 * Checks whether the actor is destroyed.
+	 *
+	 * @return {@code true} if the actor is destroyed; {@code false} otherwise.
+	 */
+	public boolean isDestroyed() {
+		return isDestroyed;
 	}
 }
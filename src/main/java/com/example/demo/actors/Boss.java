@@ -2,12 +2,20 @@ package com.example.demo.actors;
 
 import com.example.demo.levels.ActorManager;
 import com.example.demo.levels.LevelParent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.LevelRules;
 import com.example.demo.ui.ShieldImage;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.GameRandom;
 import javafx.scene.Group;
+import javafx.scene.image.ImageView;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Implements the boss logic, including shields and movement patterns.
@@ -17,12 +25,12 @@ public class Boss extends FighterPlane {
 	/**
 	 * The name of the image file representing the boss.
 	 */
-	private static final String IMAGE_NAME = "bossplane.png";
+	private static final String IMAGE_NAME = ActorRules.BOSS_IMAGE;
 
 	/**
 	 * The initial X position of the boss.
 	 */
-	private static final double INITIAL_X_POSITION = LevelParent.ORIGINAL_SCREEN_WIDTH - 150.0;
+	private static final double INITIAL_X_POSITION = LevelParent.ORIGINAL_SCREEN_WIDTH - ActorRules.BOSS_START_X_OFFSET;
 
 	/**
 	 * The initial Y position of the boss.
@@ -37,32 +45,32 @@ public class Boss extends FighterPlane {
 	/**
 	 * The probability of the boss firing a projectile in a given frame.
 	 */
-	private static final double BOSS_FIRE_RATE = 0.04;
+	private static final double BOSS_FIRE_RATE = LevelRules.LEVEL_THREE.getBossFireRate();
 
 	/**
 	 * The probability of the boss activating a shield in a given frame.
 	 */
-	private static final double BOSS_SHIELD_PROBABILITY = 0.2;
+	private static final double BOSS_SHIELD_PROBABILITY = LevelRules.LEVEL_THREE.getBossShieldProbability();
 
 	/**
 	 * The height of the boss image.
 	 */
-	private static final int IMAGE_HEIGHT = 100;
+	private static final int IMAGE_HEIGHT = ActorRules.BOSS_HEIGHT;
 
 	/**
 	 * The vertical velocity of the boss.
 	 */
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = ActorRules.BOSS_VERTICAL_VELOCITY;
 
 	/**
 	 * The initial health of the boss.
 	 */
-	private static final int HEALTH = 20;
+	private static final int HEALTH = LevelRules.LEVEL_THREE.getBossHealth();
 
 	/**
 	 * The frequency of movements per cycle in the boss's movement pattern.
 	 */
-	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
+	private static final int MOVE_FREQUENCY_PER_CYCLE = ActorRules.BOSS_MOVE_FREQUENCY_PER_CYCLE;
 
 	/**
 	 * Constant for zero velocity.
@@ -72,22 +80,22 @@ public class Boss extends FighterPlane {
 	/**
 	 * The maximum number of consecutive frames the boss can move in the same direction.
 	 */
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
+	private static final int MAX_FRAMES_WITH_SAME_MOVE = ActorRules.BOSS_MAX_FRAMES_WITH_SAME_MOVE;
 
 	/**
 	 * The upper Y boundary for the boss's movement.
 	 */
-	private static double Y_POSITION_UPPER_BOUND = -100.0;
+	private static final double Y_POSITION_UPPER_BOUND = ActorRules.BOSS_Y_UPPER_BOUND;
 
 	/**
 	 * The lower Y boundary for the boss's movement.
 	 */
-	private static double Y_POSITION_LOWER_BOUND = LevelParent.ORIGINAL_SCREEN_HEIGHT - 100.0;
+	private static final double Y_POSITION_LOWER_BOUND = LevelParent.ORIGINAL_SCREEN_HEIGHT - ActorRules.BOSS_Y_LOWER_MARGIN;
 
 	/**
 	 * The maximum number of frames a shield can remain active.
 	 */
-	private static final int MAX_FRAMES_WITH_SHIELD = 500;
+	private static final int MAX_FRAMES_WITH_SHIELD = LevelRules.LEVEL_THREE.getMaxFramesWithShield();
 
 	/**
 	 * List of active shields for the boss.
@@ -95,9 +103,14 @@ public class Boss extends FighterPlane {
 	private List<ShieldImage> shields = new ArrayList<>();
 
 	/**
-	 * The movement pattern of the boss.
+	 * The movement pattern of the boss, reshuffled as it is consumed.
 	 */
-	private final List<Integer> movePattern;
+	private final int[] movePattern = new int[MOVE_FREQUENCY_PER_CYCLE * 3];
+
+	/**
+	 * The boss's own random stream, driving its moves, shield and firing.
+	 */
+	private final SplittableRandom random;
 
 	/**
 	 * Flag indicating whether the boss currently has a shield activated.
@@ -145,33 +158,46 @@ public class Boss extends FighterPlane {
 	private ShieldImage shieldImage;
 
 	/**
-	 * Constructs a Boss object with specified parameters.
+	 * Constructs a Boss object whose behaviour is driven by the given random stream.
 	 *
 	 * @param root        the root node of the scene graph
 	 * @param shields     the list of shields
 	 * @param actorManager the manager for managing actors
 	 * @param userPlane   the user's plane
+	 * @param random      the boss's own random stream, usually split from the level's stream
 	 */
-	public Boss(Group root, List<ShieldImage> shields, ActorManager actorManager, UserPlane userPlane) {
+	public Boss(Group root, List<ShieldImage> shields, ActorManager actorManager, UserPlane userPlane,
+				SplittableRandom random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
 		this.root = root;
+		this.random = random;
 		this.actorManager = actorManager;
-		System.out.println("ActorManager initialized in Boss: " + this.actorManager);
+		GameLog.debug(LogCategory.ACTOR, "ActorManager initialized in Boss: {}", this.actorManager);
 		this.userPlane = userPlane;
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
 		framesWithShieldActivated = 0;
 		isShielded = false;
 
-		movePattern = new ArrayList<>();
 		initializeMovePattern();
 
 		shieldImage = new ShieldImage(INITIAL_X_POSITION, INITIAL_Y_POSITION);
 		shieldImage.setVisible(false);
-		root.getChildren().add(shieldImage);
+		// Kept with the actors, so a canvas renderer draws it and a simulation thread may move it
+		actorManager.getActorLayer().getChildren().add(shieldImage);
 		shields.add(shieldImage);
 	}
 
+	/**
+	 * Retrieves the boss's shield, which follows it and is shown while the shield is up.
+	 *
+	 * @return the shield image
+	 */
+	@Override
+	public ImageView getAttachment() {
+		return shieldImage;
+	}
+
 	/**
 	 * Updates the position of the boss based on its movement pattern.
 	 */
@@ -188,6 +214,18 @@ public class Boss extends FighterPlane {
 		shieldImage.setTranslateY(this.getTranslateY());
 	}
 
+	/**
+	 * Interpolates the boss and keeps its shield drawn at the same place.
+	 *
+	 * @param alpha the fraction of a step elapsed since the latest simulation step
+	 */
+	@Override
+	public void interpolate(double alpha) {
+		super.interpolate(alpha);
+		shieldImage.setTranslateX(getTranslateX() + getRenderOffsetX());
+		shieldImage.setTranslateY(getTranslateY() + getRenderOffsetY());
+	}
+
 	/**
 	 * Updates the state of the boss, including position, shield, and firing logic.
 	 */
@@ -205,21 +243,41 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		System.out.println("Boss attempting to fire projectile...");
-		if (Math.random() < BOSS_FIRE_RATE) {
+		GameLog.trace(LogCategory.ACTOR, "Boss attempting to fire projectile...");
+		if (random.nextDouble() < BOSS_FIRE_RATE) {
 			actorManager.createEnemyProjectile(
 					this.getLayoutX(),
 					this.getLayoutY() + this.getFitHeight() / 2,
 					userPlane,
-					"/com/example/demo/images/fireball.png"
+					ActorRules.BOSS_PROJECTILE_IMAGE
 			);
-			System.out.println("Boss fired projectile.");
+			GameLog.debug(LogCategory.ACTOR, "Boss fired projectile.");
 		} else {
-			System.out.println("Boss chose not to fire this time.");
+			GameLog.trace(LogCategory.ACTOR, "Boss chose not to fire this time.");
 		}
 		return null;
 	}
 
+	/**
+	 * The boss belongs to the enemy layer.
+	 *
+	 * @return {@link CollisionLayer#ENEMY}
+	 */
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return EntityKind.BOSS.getCollisionLayer();
+	}
+
+	/**
+	 * The boss is only hit by the user's projectiles; flying into it does no harm.
+	 *
+	 * @return the collision mask
+	 */
+	@Override
+	public int getCollisionMask() {
+		return EntityKind.BOSS.getCollisionMask();
+	}
+
 	/**
 	 * Handles damage taken by the boss, considering shields.
 	 */
@@ -227,19 +285,19 @@ public class Boss extends FighterPlane {
 	public void takeDamage() {
 		if (!shields.isEmpty()) {
 			ShieldImage shield = shields.get(0);
-			System.out.println("Shield is absorbing damage...");
+			GameLog.debug(LogCategory.ACTOR, "Shield is absorbing damage...");
 			shield.reduceHealth(1);
 
 			if (shield.getHealth() <= 0) {
 				shields.remove(shield);
-				root.getChildren().remove(shield);
-				System.out.println("Shield destroyed!");
+				FxThread.removeFromParent(shield);
+				GameLog.debug(LogCategory.ACTOR, "Shield destroyed!");
 			} else {
-				System.out.println("Shield health remaining: " + shield.getHealth());
+				GameLog.debug(LogCategory.ACTOR, "Shield health remaining: {}", shield.getHealth());
 			}
 		} else {
 			super.takeDamage();
-			System.out.println("Boss took damage!");
+			GameLog.debug(LogCategory.ACTOR, "Boss took damage!");
 		}
 	}
 
@@ -257,11 +315,11 @@ public class Boss extends FighterPlane {
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
+			movePattern[i * 3] = VERTICAL_VELOCITY;
+			movePattern[i * 3 + 1] = -VERTICAL_VELOCITY;
+			movePattern[i * 3 + 2] = ZERO;
 		}
-		Collections.shuffle(movePattern);
+		GameRandom.shuffle(movePattern, random);
 	}
 
 	/**
@@ -287,16 +345,16 @@ public class Boss extends FighterPlane {
 	 * @return the next move velocity
 	 */
 	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
+		int currentMove = movePattern[indexOfCurrentMove];
 		consecutiveMovesInSameDirection++;
 
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			GameRandom.shuffle(movePattern, random);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
 
-		if (indexOfCurrentMove == movePattern.size()) {
+		if (indexOfCurrentMove == movePattern.length) {
 			indexOfCurrentMove = 0;
 		}
 
@@ -309,7 +367,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the shield should be activated, false otherwise
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return random.nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 	/**
@@ -335,24 +393,4 @@ public class Boss extends FighterPlane {
 		isShielded = false;
 		framesWithShieldActivated = 0;
 	}
-
-	/**
-	 * Adjusts the position and shield of the boss for a resized screen.
-	 *
-	 * @param newWidth  the new screen width
-	 * @param newHeight the new screen height
-	 */
-	@Override
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		double widthRatio = newWidth / LevelParent.ORIGINAL_SCREEN_WIDTH;
-		double heightRatio = newHeight / LevelParent.ORIGINAL_SCREEN_HEIGHT;
-
-		setTranslateX(getTranslateX() * widthRatio);
-		setTranslateY(getTranslateY() * heightRatio);
-
-		shieldImage.adjustPositionForResize(newWidth, newHeight);
-
-		Y_POSITION_UPPER_BOUND *= heightRatio;
-		Y_POSITION_LOWER_BOUND = newHeight - 100;
-	}
 }
@@ -0,0 +1,72 @@
+package com.example.demo.actors;
+
+/**
+ * The collision layers actors are sorted into.
+ *
+ * <p>Every actor declares the one layer it belongs to and a mask of the layers
+ * it can collide with. Two actors are tested against each other only if each
+ * one's mask contains the other's layer, so the matrix of which kinds of actor
+ * meet is defined by the actor classes rather than by the levels.</p>
+ */
+public enum CollisionLayer {
+
+    /**
+     * The user plane.
+     */
+    PLAYER,
+
+    /**
+     * Enemy planes and the boss.
+     */
+    ENEMY,
+
+    /**
+     * Projectiles fired by the user.
+     */
+    PLAYER_PROJECTILE,
+
+    /**
+     * Projectiles fired by enemies.
+     */
+    ENEMY_PROJECTILE;
+
+    /**
+     * Retrieves the bit standing for this layer in a collision mask.
+     *
+     * @return the layer's bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Checks whether a touching pair of actors from this layer and another is handled by default, with the actor
+     * of this layer passed first: enemy projectiles hit the player, player projectiles hit enemies and enemies ram
+     * the player. The collision manager registers its default responses from this, and the headless simulation
+     * handles the same pairs.
+     *
+     * @param second the layer of the actor passed second
+     * @return {@code true} if the pair is handled in this order by default
+     */
+    public boolean collidesByDefault(CollisionLayer second) {
+        return switch (this) {
+            case ENEMY_PROJECTILE, ENEMY -> second == PLAYER;
+            case PLAYER_PROJECTILE -> second == ENEMY;
+            case PLAYER -> false;
+        };
+    }
+
+    /**
+     * Builds a collision mask from layers.
+     *
+     * @param layers the layers to include
+     * @return the mask with the bit of every given layer set
+     */
+    public static int maskOf(CollisionLayer... layers) {
+        int mask = 0;
+        for (CollisionLayer layer : layers) {
+            mask |= layer.bit();
+        }
+        return mask;
+    }
+}
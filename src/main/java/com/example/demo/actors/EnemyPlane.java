@@ -1,7 +1,13 @@
 package com.example.demo.actors;
 
 import com.example.demo.levels.ActorManager;
-import com.example.demo.levels.LevelParentBase;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.LevelRules;
+
+import java.util.SplittableRandom;
 
 /**
  * Represents enemy fighter planes.
@@ -12,12 +18,17 @@ public class EnemyPlane extends FighterPlane {
 	/**
 	 * The image file name for the enemy plane.
 	 */
-	private static final String IMAGE_NAME = "enemyplane.png";  // Correct path for resource
+	private static final String IMAGE_NAME = ActorRules.ENEMY_PLANE_IMAGE;
 
 	/**
 	 * The height of the enemy plane image.
 	 */
-	private static final int IMAGE_HEIGHT = 150;
+	private static final int IMAGE_HEIGHT = ActorRules.ENEMY_PLANE_HEIGHT;
+
+	/**
+	 * The distance the enemy plane moves left per update.
+	 */
+	private static final int HORIZONTAL_VELOCITY = ActorRules.ENEMY_PLANE_VELOCITY;
 
 	/**
 	 * The horizontal offset for projectile spawning.
@@ -32,7 +43,7 @@ public class EnemyPlane extends FighterPlane {
 	/**
 	 * The probability of firing a projectile in each update.
 	 */
-	private static final double FIRE_RATE = 0.01;  // Probability of firing in each update
+	private static final double FIRE_RATE = LevelRules.DEFAULT_ENEMY_FIRE_RATE;  // Probability of firing in each update
 
 	/**
 	 * Manages the actors within the game, used for creating projectiles.
@@ -45,18 +56,26 @@ public class EnemyPlane extends FighterPlane {
 	private final UserPlane userPlane;
 
 	/**
-	 * Constructs an EnemyPlane with the specified properties.
+	 * The enemy's own random stream, deciding when it fires.
+	 */
+	private final SplittableRandom random;
+
+	/**
+	 * Constructs an EnemyPlane whose firing is driven by the given random stream.
 	 *
 	 * @param initialXPos  The initial X position of the enemy plane.
 	 * @param initialYPos  The initial Y position of the enemy plane.
 	 * @param actorManager The manager responsible for actor creation and handling.
 	 * @param userPlane    The user's plane that the enemy interacts with.
 	 * @param health       The initial health of the enemy plane.
+	 * @param random       The enemy's own random stream, usually split from the level's stream.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos, ActorManager actorManager, UserPlane userPlane, int health) {
+	public EnemyPlane(double initialXPos, double initialYPos, ActorManager actorManager, UserPlane userPlane, int health,
+					  SplittableRandom random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, health);
 		this.actorManager = actorManager; // Store ActorManager for projectile management
 		this.userPlane = userPlane;      // Initialize UserPlane reference
+		this.random = random;
 	}
 
 	/**
@@ -69,27 +88,42 @@ public class EnemyPlane extends FighterPlane {
 	}
 
 	/**
-	 * Updates the position of the enemy plane by moving it horizontally and firing projectiles.
+	 * Enemy planes belong to the enemy layer.
+	 *
+	 * @return {@link CollisionLayer#ENEMY}
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
-		fireProjectile();
+	public CollisionLayer getCollisionLayer() {
+		return EntityKind.ENEMY_PLANE.getCollisionLayer();
+	}
+
+	/**
+	 * Enemy planes collide with the user plane and its projectiles.
+	 *
+	 * @return the collision mask
+	 */
+	@Override
+	public int getCollisionMask() {
+		return EntityKind.ENEMY_PLANE.getCollisionMask();
 	}
 
 	/**
-	 * Adjusts the position of the enemy plane based on the new screen dimensions.
+	 * Enemy planes count towards the player's kill total.
 	 *
-	 * @param newWidth  The new screen width.
-	 * @param newHeight The new screen height.
+	 * @return {@code true}
 	 */
 	@Override
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		double widthRatio = newWidth / LevelParentBase.ORIGINAL_SCREEN_WIDTH;
-		double heightRatio = newHeight / LevelParentBase.ORIGINAL_SCREEN_HEIGHT;
+	public boolean countsAsKill() {
+		return EntityKind.ENEMY_PLANE.countsAsKill();
+	}
 
-		this.setTranslateX(this.getTranslateX() * widthRatio);
-		this.setTranslateY(this.getTranslateY() * heightRatio);
+	/**
+	 * Updates the position of the enemy plane by moving it horizontally and firing projectiles.
+	 */
+	@Override
+	public void updateActor() {
+		updatePosition();
+		fireProjectile();
 	}
 
 	/**
@@ -99,15 +133,15 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		System.out.println("EnemyPlane attempting to fire projectile...");
-		if (Math.random() < FIRE_RATE) { // Ensure FIRE_RATE is high enough for testing
+		GameLog.trace(LogCategory.ACTOR, "EnemyPlane attempting to fire projectile...");
+		if (random.nextDouble() < FIRE_RATE) { // Ensure FIRE_RATE is high enough for testing
 			actorManager.createEnemyProjectile(
 					this.getLayoutX(),
 					this.getLayoutY(),
 					userPlane,
-					"enemyFire.png"
+					ActorRules.ENEMY_PROJECTILE_IMAGE
 			);
-			System.out.println("Projectile fired.");
+			GameLog.debug(LogCategory.ACTOR, "Projectile fired.");
 			return null; // Return the projectile if needed
 		}
 		return null;
@@ -119,6 +153,6 @@ public class EnemyPlane extends FighterPlane {
 	@Override
 	public void updatePosition() {
 		double currentX = getTranslateX();
-		setTranslateX(currentX - 2); // Moves left by 2 units
+		setTranslateX(currentX - HORIZONTAL_VELOCITY);
 	}
 }
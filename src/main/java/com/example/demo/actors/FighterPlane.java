@@ -1,6 +1,5 @@
 package com.example.demo.actors;
 
-import com.example.demo.levels.LevelParent;
 import javafx.scene.image.ImageView;
 
 /**
@@ -87,20 +86,4 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public int getHealth() {
 		return health;
 	}
-
-	/**
-	 * Adjusts the position of the fighter plane based on the new screen dimensions.
-	 *
-	 * @param newWidth  The new screen width.
-	 * @param newHeight The new screen height.
-	 */
-	@Override
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		double widthRatio = newWidth / LevelParent.ORIGINAL_SCREEN_WIDTH;
-		double heightRatio = newHeight / LevelParent.ORIGINAL_SCREEN_HEIGHT;
-
-		// Use this to adjust the position
-		this.setTranslateX(this.getTranslateX() * widthRatio);
-		this.setTranslateY(this.getTranslateY() * heightRatio);
-	}
 }
@@ -2,8 +2,13 @@ package com.example.demo.actors;
 
 import com.example.demo.levels.ActorManager;
 import com.example.demo.levels.LevelParentBase;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
 import com.example.demo.projectiles.UserProjectile;
-import javafx.application.Platform;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.PlayerInput;
 import javafx.scene.Group;
 
 /**
@@ -14,22 +19,22 @@ public class UserPlane extends FighterPlane {
 	/**
 	 * The name of the image file representing the user plane.
 	 */
-	private static final String IMAGE_NAME = "userplane.png";
+	private static final String IMAGE_NAME = ActorRules.USER_PLANE_IMAGE;
 
 	/**
 	 * The height of the user plane image.
 	 */
-	private static final int IMAGE_HEIGHT = 20;
+	private static final int IMAGE_HEIGHT = ActorRules.USER_PLANE_HEIGHT;
 
 	/**
 	 * The vertical velocity of the user plane.
 	 */
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = ActorRules.USER_PLANE_VELOCITY;
 
 	/**
 	 * The horizontal velocity of the user plane.
 	 */
-	private static final int HORIZONTAL_VELOCITY = 8;
+	private static final int HORIZONTAL_VELOCITY = ActorRules.USER_PLANE_VELOCITY;
 
 	/**
 	 * Offset for the projectile's X position relative to the plane's position.
@@ -66,6 +71,11 @@ public class UserPlane extends FighterPlane {
 	 */
 	private int horizontalVelocityMultiplier = 0;
 
+	/**
+	 * Whether a shot was fired since the input was last polled.
+	 */
+	private boolean firedSincePoll;
+
 	/**
 	 * The number of kills achieved by the user.
 	 */
@@ -128,20 +138,17 @@ public class UserPlane extends FighterPlane {
 		if (actorManager == null) {
 			throw new IllegalArgumentException("ActorManager cannot be null");
 		}
-		System.out.println("UserPlane initialized with: ");
-		System.out.println("Initial X: " + initialXPos);
-		System.out.println("Initial Y: " + initialYPos);
-		System.out.println("ActorManager: " + actorManager);
-		System.out.println("Initial Health: " + initialHealth);
+		GameLog.log(LogLevel.DEBUG, LogCategory.ACTOR, "UserPlane initialized with: X={}, Y={}, ActorManager={}, Health={}",
+				initialXPos, initialYPos, actorManager, initialHealth);
 
 		if (level == null) {
 			throw new IllegalArgumentException("Level cannot be null");
 		}
 
 		this.yUpperBound = 0;
-		this.yLowerBound = root.getScene().getHeight() - getFitHeight();
+		this.yLowerBound = level.getWorldHeight() - getFitHeight();
 
-		System.out.println("Bounds Set: Upper = " + yUpperBound + ", Lower = " + yLowerBound);
+		GameLog.debug(LogCategory.ACTOR, "Bounds Set: Upper = {}, Lower = {}", yUpperBound, yLowerBound);
 
 		this.verticalVelocityMultiplier = 0;
 		this.horizontalVelocityMultiplier = 0;
@@ -156,7 +163,7 @@ public class UserPlane extends FighterPlane {
 	public void setBounds(double yUpperBound, double yLowerBound) {
 		this.yUpperBound = yUpperBound;
 		this.yLowerBound = yLowerBound;
-		System.out.println("Bounds updated: yUpper=" + yUpperBound + ", yLower=" + yLowerBound);
+		GameLog.debug(LogCategory.ACTOR, "Bounds updated: yUpper={}, yLower={}", yUpperBound, yLowerBound);
 
 	}
 
@@ -172,11 +179,8 @@ public class UserPlane extends FighterPlane {
 		xLeftBound = 0;
 		xRightBound = sceneWidth - getFitWidth();
 
-		System.out.println("Updated Bounds: ");
-		System.out.println("yUpperBound: " + yUpperBound);
-		System.out.println("yLowerBound: " + yLowerBound);
-		System.out.println("xLeftBound: " + xLeftBound);
-		System.out.println("xRightBound: " + xRightBound);
+		GameLog.log(LogLevel.DEBUG, LogCategory.ACTOR, "Updated Bounds: yUpperBound={}, yLowerBound={}, xLeftBound={}, xRightBound={}",
+				yUpperBound, yLowerBound, xLeftBound, xRightBound);
 	}
 
 	/**
@@ -185,7 +189,9 @@ public class UserPlane extends FighterPlane {
 	@Override
 	public void updatePosition() {
 		super.updatePosition();
-		System.out.println("UserPlane: Y=" + getLayoutY());
+		if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.ACTOR)) {
+			GameLog.trace(LogCategory.ACTOR, "UserPlane: Y={}", getLayoutY());
+		}
 
 		double newY = getLayoutY() + verticalVelocityMultiplier * VERTICAL_VELOCITY;
 		double newX = getLayoutX() + horizontalVelocityMultiplier * HORIZONTAL_VELOCITY;
@@ -195,7 +201,9 @@ public class UserPlane extends FighterPlane {
 
 		setLayoutY(newY);
 		setLayoutX(newX);
-		System.out.println("Updated Plane Position: (" + newX + ", " + newY + ")");
+		if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.ACTOR)) {
+			GameLog.trace(LogCategory.ACTOR, "Updated Plane Position: ({}, {})", newX, newY);
+		}
 
 	}
 
@@ -208,7 +216,7 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Fires a projectile from the user plane.
+	 * Fires a projectile from the user plane, reusing a pooled projectile when available.
 	 *
 	 * @return the fired UserProjectile
 	 */
@@ -217,10 +225,33 @@ public class UserPlane extends FighterPlane {
 		double projectileXPosition = getProjectileXPosition(getFitWidth() / 2.0);
 		double projectileYPosition = getProjectileYPosition(-getFitHeight() / 2.0);
 
-		UserProjectile projectile = new UserProjectile(projectileXPosition, projectileYPosition, root);
-		actorManager.addUserProjectile(projectile);
+		firedSincePoll = true;
+		return actorManager.fireUserProjectile(projectileXPosition, projectileYPosition);
+	}
 
-		return projectile;
+	/**
+	 * Retrieves the input currently steering the plane, as {@link PlayerInput} bits, and clears the fire bit.
+	 * The fire bit is set if a shot was fired since the previous poll.
+	 *
+	 * @return the input bits
+	 */
+	public int pollInput() {
+		int input = PlayerInput.NONE;
+		if (verticalVelocityMultiplier < 0) {
+			input |= PlayerInput.UP;
+		} else if (verticalVelocityMultiplier > 0) {
+			input |= PlayerInput.DOWN;
+		}
+		if (horizontalVelocityMultiplier < 0) {
+			input |= PlayerInput.LEFT;
+		} else if (horizontalVelocityMultiplier > 0) {
+			input |= PlayerInput.RIGHT;
+		}
+		if (firedSincePoll) {
+			input |= PlayerInput.FIRE;
+			firedSincePoll = false;
+		}
+		return input;
 	}
 
 	/**
@@ -291,32 +322,35 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Reduces the plane's health and updates the heart display if health is reduced.
+	 * The user plane belongs to the player layer.
+	 *
+	 * @return {@link CollisionLayer#PLAYER}
 	 */
 	@Override
-	public void takeDamage() {
-		super.takeDamage();
-
-		if (level instanceof LevelParentBase) {
-			LevelParentBase parentLevel = (LevelParentBase) level;
-			Platform.runLater(() -> parentLevel.updateHeartDisplay(getHealth()));
-		}
+	public CollisionLayer getCollisionLayer() {
+		return EntityKind.USER_PLANE.getCollisionLayer();
 	}
 
 	/**
-	 * Adjusts the position and bounds of the plane when the screen is resized.
+	 * The user plane collides with enemies and their projectiles.
 	 *
-	 * @param newWidth  the new width of the screen
-	 * @param newHeight the new height of the screen
+	 * @return the collision mask
 	 */
 	@Override
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		updateBounds(newWidth, newHeight);
+	public int getCollisionMask() {
+		return EntityKind.USER_PLANE.getCollisionMask();
+	}
 
-		double newX = Math.min(Math.max(getLayoutX(), xLeftBound), xRightBound);
-		double newY = Math.min(Math.max(getLayoutY(), yUpperBound), yLowerBound);
+	/**
+	 * Reduces the plane's health and posts the hit to the level, which updates the heart display
+	 * at the end of the step.
+	 */
+	@Override
+	public void takeDamage() {
+		super.takeDamage();
 
-		setLayoutX(newX);
-		setLayoutY(newY);
+		if (level != null) {
+			level.getEvents().postDamage(this, getHealth());
+		}
 	}
 }
@@ -1,20 +1,35 @@
 package com.example.demo.controller;
 
+import com.example.demo.diagnostics.LevelTransitionEvent;
+import com.example.demo.levels.GameEventListener;
 import com.example.demo.levels.LevelParentBase;
+import com.example.demo.levels.LevelRegistry;
+import com.example.demo.levels.WorldViewport;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
 import com.example.demo.ui.WinImage;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.ImageRegistry;
+import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Observable;
 import java.util.Observer;
 
 /**
  * Handles game state transitions between levels.
  * Observes levels to detect completion or game-over events.
+ *
+ * <p>Levels come from a {@link LevelRegistry}. Once a level starts, the
+ * registry builds the next one in the background, so a transition only swaps
+ * scenes. Transitions requested from inside the game loop are deferred to the
+ * next pulse, so the scene is never swapped in the middle of a tick.</p>
  */
 public class Controller implements Observer {
 
@@ -28,18 +43,39 @@ public class Controller implements Observer {
 	 */
 	private final Stage stage;
 
+	/**
+	 * The registry that builds levels and prepares the next one.
+	 */
+	private final LevelRegistry levelRegistry;
+
 	/**
 	 * The current level being played.
 	 */
 	private LevelParentBase currentLevel;
 
+	/**
+	 * The level a deferred transition is heading to, or {@code null} if none is pending.
+	 */
+	private String pendingLevel;
+
 	/**
 	 * Constructs the Controller with a reference to the main stage.
 	 *
 	 * @param stage the primary stage for the game
 	 */
 	public Controller(Stage stage) {
+		this(stage, LevelRegistry.createDefault());
+	}
+
+	/**
+	 * Constructs the Controller with the main stage and the registry levels are taken from.
+	 *
+	 * @param stage         the primary stage for the game
+	 * @param levelRegistry the registry of levels
+	 */
+	public Controller(Stage stage, LevelRegistry levelRegistry) {
 		this.stage = stage;
+		this.levelRegistry = levelRegistry;
 	}
 
 	/**
@@ -61,69 +97,107 @@ public class Controller implements Observer {
 	 * Transitions to the specified level.
 	 *
 	 * @param className the fully qualified class name of the level
-	 * @throws ClassNotFoundException if the level class is not found
-	 * @throws NoSuchMethodException if the constructor for the level class is not found
-	 * @throws SecurityException if a security violation occurs
-	 * @throws InstantiationException if the level class cannot be instantiated
-	 * @throws IllegalAccessException if the constructor is not accessible
-	 * @throws IllegalArgumentException if an illegal argument is provided
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @throws IllegalArgumentException if the level is not registered
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		if ("GAME_COMPLETED".equals(className)) {
-			System.out.println("Game Completed! Displaying end screen.");
+	private void goToLevel(String className) {
+		LevelTransitionEvent transition = new LevelTransitionEvent();
+		transition.begin();
+		transition.fromLevel = currentLevel != null ? currentLevel.getClass().getName() : "";
+		transition.toLevel = className;
+		transition.runSeed = levelRegistry.getRunSeed();
+
+		if (LevelRegistry.GAME_COMPLETED.equals(className)) {
+			levelRegistry.discardPreparation();
+			releaseLevelImages();
+			GameLog.info(LogCategory.GAME, "Game Completed! Displaying end screen.");
 			displayWinScreen();
+			transition.commit();
 			return;
 		}
 
-		Class<?> levelClass = Class.forName(className);
-		LevelParentBase level = (LevelParentBase) levelClass
-				.getConstructor(double.class, double.class)
-				.newInstance(stage.getWidth(), stage.getHeight());
-		level.addObserver(this::handleLevelTransition);
+		LevelParentBase level = levelRegistry.obtain(className, stage.getWidth(), stage.getHeight());
+		GameLog.info(LogCategory.GAME, "Starting {} with seed {} (run seed {})", className, level.getSeed(),
+				levelRegistry.getRunSeed());
+		// The previous level's background and other level-only images are no longer needed
+		releaseLevelImages(level.getBackgroundImageName());
+		// Only the running level may move the game on, and only once per transition
+		level.getEvents().addListener(new GameEventListener() {
+			@Override
+			public void onLevelComplete(String nextLevel) {
+				// Delivered on the level's simulation thread when it has one
+				FxThread.run(() -> {
+					if (level == currentLevel) {
+						handleLevelTransition(nextLevel);
+					}
+				});
+			}
+		});
 
 		currentLevel = level;
 
 		Scene scene = level.initializeScene();
 		stage.setScene(scene);
 		level.startGame();
+		transition.commit();
+
+		levelRegistry.prepareSuccessor(className, stage.getWidth(), stage.getHeight());
+	}
+
+	/**
+	 * Releases the images of the previous level.
+	 *
+	 * @param keep the images of the level being entered
+	 */
+	private void releaseLevelImages(String... keep) {
+		ImageRegistry.releaseLevelImages(keep);
+		if (GameLog.isEnabled(LogLevel.DEBUG, LogCategory.GAME)) {
+			GameLog.debug(LogCategory.GAME, ImageRegistry.describe());
+		}
 	}
 
 	/**
 	 * Displays the win screen when the game is completed.
 	 */
 	private void displayWinScreen() {
-		System.out.println("Congratulations! You finished the game!");
+		GameLog.info(LogCategory.GAME, "Congratulations! You finished the game!");
 
 		Group root = new Group();
-		Scene winScene = new Scene(root, stage.getWidth(), stage.getHeight());
+		Scene winScene = new Scene(new Group(root), stage.getWidth(), stage.getHeight(), Color.BLACK);
+		new WorldViewport(root, LevelParentBase.ORIGINAL_SCREEN_WIDTH, LevelParentBase.ORIGINAL_SCREEN_HEIGHT)
+				.bind(winScene);
 
 		WinImage winImage = new WinImage(
-				stage.getWidth() / 2 - 300, // Center horizontally
-				stage.getHeight() / 2 - 250 // Center vertically
+				LevelParentBase.ORIGINAL_SCREEN_WIDTH / 2 - 300, // Center horizontally
+				LevelParentBase.ORIGINAL_SCREEN_HEIGHT / 2 - 250 // Center vertically
 		);
 		winImage.showWinImage();
 		root.getChildren().add(winImage);
-		winImage.adjustPositionForResize(stage.getWidth(), stage.getHeight());
 
 		stage.setScene(winScene);
 	}
 
 	/**
 	 * Handles transitions between levels by transitioning to the next level.
+	 * Levels reach this through their event queue at the end of a tick, so the switch is deferred until the tick has finished.
 	 *
 	 * @param nextLevel the fully qualified class name of the next level
 	 */
 	public void handleLevelTransition(String nextLevel) {
-		try {
-			System.out.println("Transitioning to: " + nextLevel);
-			goToLevel(nextLevel);
-		} catch (Exception e) {
-			System.err.println("Error transitioning to level: " + e.getMessage());
-			e.printStackTrace();
-			showError(e);
+		if (pendingLevel != null) {
+			GameLog.debug(LogCategory.GAME, "Transition to {} already pending; ignoring {}", pendingLevel, nextLevel);
+			return;
 		}
+		GameLog.info(LogCategory.GAME, "Transitioning to: {}", nextLevel);
+		pendingLevel = nextLevel;
+		Platform.runLater(() -> {
+			pendingLevel = null;
+			try {
+				goToLevel(nextLevel);
+			} catch (Exception e) {
+				GameLog.error(LogCategory.GAME, "Error transitioning to level: {}", e.getMessage(), e);
+				showError(e);
+			}
+		});
 	}
 
 	/**
@@ -136,8 +210,7 @@ public class Controller implements Observer {
 	public void update(Observable arg0, Object arg1) {
 		try {
 			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+		} catch (IllegalArgumentException e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getClass().toString());
 			alert.show();
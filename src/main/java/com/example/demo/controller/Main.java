@@ -1,5 +1,7 @@
 package com.example.demo.controller;
 
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
 import com.example.demo.ui.MainMenu;
 import com.example.demo.utilities.UserSettings;
 import com.example.demo.utilities.WindowUtils;
@@ -41,7 +43,7 @@ public class Main extends Application {
 
 		// Load user's saved display mode
 		String savedMode = UserSettings.getDisplayMode();
-		System.out.println("Starting with display mode: " + savedMode);
+		GameLog.info(LogCategory.SETTINGS, "Starting with display mode: {}", savedMode);
 		WindowUtils.setStageDisplayMode(stage, savedMode);
 
 		MainMenu mainMenu = new MainMenu();
@@ -56,15 +58,15 @@ public class Main extends Application {
 			if (!UserSettings.isTransitioning()) {
 				String currentMode = UserSettings.getDisplayMode();
 				if (!isFullScreen && "Fullscreen".equals(currentMode)) {
-					System.out.println("Fullscreen exit detected but mode is Fullscreen. Reapplying fullscreen.");
+					GameLog.debug(LogCategory.SETTINGS, "Fullscreen exit detected but mode is Fullscreen. Reapplying fullscreen.");
 					WindowUtils.applyFullscreen(stage, true); // Force fullscreen back
 				} else if (!isFullScreen) {
-					System.out.println("Exiting fullscreen: reverting to Windowed mode");
+					GameLog.info(LogCategory.SETTINGS, "Exiting fullscreen: reverting to Windowed mode");
 					UserSettings.setDisplayMode("Windowed");
 					WindowUtils.setWindowed(stage);
 				}
 			} else {
-				System.out.println("Transition in progress; ignoring fullscreen exit.");
+				GameLog.debug(LogCategory.SETTINGS, "Transition in progress; ignoring fullscreen exit.");
 			}
 		});
 	}
@@ -79,10 +81,22 @@ public class Main extends Application {
 			myController = new Controller(stage);
 			myController.launchGame(); // Start the game here when called explicitly
 		} catch (Exception e) {
-			e.printStackTrace();
+			GameLog.error(LogCategory.GAME, "Failed to start the game", e);
 		}
 	}
 
+	/**
+	 * Stops the running level when the application exits, so its frame timings are dumped,
+	 * and flushes pending log messages.
+	 */
+	@Override
+	public void stop() {
+		if (myController != null && myController.getCurrentLevel() != null) {
+			myController.getCurrentLevel().stopGame();
+		}
+		GameLog.flush();
+	}
+
 	/**
 	 * Retrieves the singleton instance of the Main class.
 	 *
@@ -0,0 +1,55 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event covering one collision pass over every actor of a level.
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Category({"Sky Battle", "Collisions"})
+@Description("One collision pass over every actor of a level")
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+    /**
+     * The number of actors in the pass.
+     */
+    @Label("Actors")
+    public int actors;
+
+    /**
+     * Whether the pass went through the broadphase grid.
+     */
+    @Label("Broadphase")
+    public boolean broadphase;
+
+    /**
+     * The number of pairs whose bounds were compared.
+     */
+    @Label("Pairs Tested")
+    public int pairsTested;
+
+    /**
+     * The number of pairs found overlapping.
+     */
+    @Label("Hits")
+    public int hits;
+
+    /**
+     * The number of pairs whose bounds overlapped but whose opaque pixels did not.
+     */
+    @Label("Mask Rejects")
+    public int maskRejects;
+
+    /**
+     * The number of pairs tested with swept boxes because one of the actors moved fast.
+     */
+    @Label("Swept Pairs")
+    public int sweptPairs;
+}
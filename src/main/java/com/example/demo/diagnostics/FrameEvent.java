@@ -0,0 +1,114 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event covering one simulation step of a level.
+ *
+ * <p>The event's own duration spans the whole step. Phase durations are taken
+ * from the level's {@link FrameProfiler} and are zero if profiling is off or
+ * the level skipped that phase.</p>
+ */
+@Name("com.example.demo.Frame")
+@Label("Frame")
+@Category({"Sky Battle", "Frames"})
+@Description("One simulation step of a level, with per-phase durations and actor counts")
+@StackTrace(false)
+public class FrameEvent extends Event {
+
+    /**
+     * The level's class name.
+     */
+    @Label("Level")
+    public String level;
+
+    /**
+     * The number of steps the level has run, counting this one.
+     */
+    @Label("Tick")
+    public long tick;
+
+    /**
+     * The time spent moving actors.
+     */
+    @Label("Update Actors")
+    @Timespan(Timespan.NANOSECONDS)
+    public long updateActors;
+
+    /**
+     * The time spent spawning enemies.
+     */
+    @Label("Spawn Enemies")
+    @Timespan(Timespan.NANOSECONDS)
+    public long spawnEnemies;
+
+    /**
+     * The time spent finding and handling collisions.
+     */
+    @Label("Collisions")
+    @Timespan(Timespan.NANOSECONDS)
+    public long collisions;
+
+    /**
+     * The time spent sweeping destroyed actors.
+     */
+    @Label("Remove Destroyed")
+    @Timespan(Timespan.NANOSECONDS)
+    public long removeDestroyed;
+
+    /**
+     * The time spent checking the win and lose conditions.
+     */
+    @Label("Game State Checks")
+    @Timespan(Timespan.NANOSECONDS)
+    public long gameStateChecks;
+
+    /**
+     * The number of enemies alive after the step.
+     */
+    @Label("Enemies")
+    public int enemies;
+
+    /**
+     * The number of user projectiles in flight after the step.
+     */
+    @Label("User Projectiles")
+    public int userProjectiles;
+
+    /**
+     * The number of enemy projectiles in flight after the step.
+     */
+    @Label("Enemy Projectiles")
+    public int enemyProjectiles;
+
+    /**
+     * The number of game events the step posted and delivered.
+     */
+    @Label("Events")
+    public int events;
+
+    /**
+     * The quality level the step ran at.
+     */
+    @Label("Quality")
+    public String quality;
+
+    /**
+     * Copies the durations of the latest step's phases from a profiler.
+     *
+     * @param profiler the level's profiler
+     */
+    public void setPhases(FrameProfiler profiler) {
+        updateActors = profiler.getLastDuration(FramePhase.UPDATE_ACTORS);
+        spawnEnemies = profiler.getLastDuration(FramePhase.SPAWN_ENEMIES);
+        collisions = profiler.getLastDuration(FramePhase.COLLISIONS);
+        removeDestroyed = profiler.getLastDuration(FramePhase.REMOVE_DESTROYED);
+        gameStateChecks = profiler.getLastDuration(FramePhase.GAME_STATE_CHECKS);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.diagnostics;
+
+/**
+ * The phases of a frame timed by {@link FrameProfiler}.
+ */
+public enum FramePhase {
+
+    /**
+     * Moving every actor, including the user plane.
+     */
+    UPDATE_ACTORS("update_actors"),
+
+    /**
+     * Spawning new enemies.
+     */
+    SPAWN_ENEMIES("spawn_enemies"),
+
+    /**
+     * Finding and handling every collision in one pass.
+     */
+    COLLISIONS("collisions"),
+
+    /**
+     * Sweeping destroyed actors out of the level.
+     */
+    REMOVE_DESTROYED("remove_destroyed"),
+
+    /**
+     * Checking the win and lose conditions.
+     */
+    GAME_STATE_CHECKS("game_state_checks"),
+
+    /**
+     * One whole simulation step, covering every phase above.
+     */
+    TICK("tick"),
+
+    /**
+     * Drawing one frame: interpolating actors and, in canvas mode, drawing them.
+     */
+    RENDER("render");
+
+    /**
+     * The name written to exported files.
+     */
+    private final String label;
+
+    /**
+     * Constructs a phase.
+     *
+     * @param label the name written to exported files
+     */
+    FramePhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the name written to exported files.
+     *
+     * @return the label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Times each phase of the level update pipeline into one {@link LogHistogram} per {@link FramePhase}.
+ *
+ * <p>A frame is timed with a chain of laps: {@link #start} reads the clock once,
+ * and each {@link #lap} records the time since the previous reading and returns
+ * the new one. Each phase therefore costs one {@link System#nanoTime} call and a
+ * few counter increments, with no locks and no allocation.</p>
+ *
+ * <p>Profiling is on unless the system property {@code game.profile} is
+ * {@code false}. The histograms can be written to CSV at any time with
+ * {@link #writeCsv}. If the system property {@code game.profile.dir} names a
+ * directory, {@link #dump} also writes a file there whenever a level stops or
+ * the game exits.</p>
+ */
+public final class FrameProfiler {
+
+    /**
+     * The system property turning profiling off when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "game.profile";
+
+    /**
+     * The system property naming the directory that level dumps are written to.
+     */
+    public static final String DIRECTORY_PROPERTY = "game.profile.dir";
+
+    /**
+     * The header row of the exported CSV.
+     */
+    static final String CSV_HEADER = "phase,count,mean_ns,p50_ns,p99_ns,p999_ns,max_ns";
+
+    /**
+     * The timestamp format used in dump file names.
+     */
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    /**
+     * The phases, indexed by ordinal.
+     */
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    /**
+     * One histogram per phase, indexed by ordinal.
+     */
+    private final LogHistogram[] histograms = new LogHistogram[PHASES.length];
+
+    /**
+     * The duration of each phase in the current or latest frame, indexed by ordinal.
+     */
+    private final long[] lastDurations = new long[PHASES.length];
+
+    /**
+     * Whether timings are recorded.
+     */
+    private final boolean enabled;
+
+    /**
+     * Constructs a profiler, enabled unless turned off by system property.
+     */
+    public FrameProfiler() {
+        this(!"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY)));
+    }
+
+    /**
+     * Constructs a profiler.
+     *
+     * @param enabled whether timings are recorded
+     */
+    public FrameProfiler(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LogHistogram();
+        }
+    }
+
+    /**
+     * Checks whether timings are recorded.
+     *
+     * @return {@code true} if the profiler is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears the per-frame durations, so phases a frame skips read as zero.
+     */
+    public void beginFrame() {
+        Arrays.fill(lastDurations, 0L);
+    }
+
+    /**
+     * Reads the clock at the start of a chain of laps.
+     *
+     * @return the current time in nanoseconds, or 0 when disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since the previous reading against a phase.
+     *
+     * @param phase the phase that just finished
+     * @param since the reading returned by {@link #start} or the previous lap
+     * @return the current time in nanoseconds, for the next lap, or 0 when disabled
+     */
+    public long lap(FramePhase phase, long since) {
+        if (!enabled) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        long duration = now - since;
+        histograms[phase.ordinal()].record(duration);
+        lastDurations[phase.ordinal()] = duration;
+        return now;
+    }
+
+    /**
+     * Retrieves the histogram of a phase.
+     *
+     * @param phase the phase
+     * @return the phase's histogram
+     */
+    public LogHistogram getHistogram(FramePhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Retrieves how long a phase took in the current or latest frame.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds, or 0 if the phase did not run since {@link #beginFrame}
+     */
+    public long getLastDuration(FramePhase phase) {
+        return lastDurations[phase.ordinal()];
+    }
+
+    /**
+     * Checks whether anything has been recorded since the last reset.
+     *
+     * @return {@code true} if any phase has samples
+     */
+    public boolean hasSamples() {
+        for (LogHistogram histogram : histograms) {
+            if (histogram.getCount() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forgets every recorded timing.
+     */
+    public void reset() {
+        for (LogHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Writes one CSV row per phase: its count, mean, p50, p99, p999 and maximum in nanoseconds.
+     *
+     * @param writer the destination
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (FramePhase phase : PHASES) {
+            LogHistogram histogram = histograms[phase.ordinal()];
+            writer.write(phase.getLabel() + ',' + histogram.getCount() + ','
+                    + String.format(Locale.ROOT, "%.1f", histogram.getMean()) + ','
+                    + histogram.getPercentile(0.5) + ',' + histogram.getPercentile(0.99) + ','
+                    + histogram.getPercentile(0.999) + ',' + histogram.getMax() + '\n');
+        }
+    }
+
+    /**
+     * Writes the histograms to a CSV file, creating its directory if needed.
+     *
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(writer);
+        }
+    }
+
+    /**
+     * Writes the histograms to the dump directory, if one is configured and anything was
+     * recorded, then resets them so the next dump covers only later frames.
+     *
+     * @param label a name for the dump, such as the level's name
+     * @return the file written, or {@code null} if nothing was written
+     */
+    public Path dump(String label) {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank() || !hasSamples()) {
+            return null;
+        }
+        Path file = Path.of(directory, label + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".csv");
+        try {
+            writeCsv(file);
+            GameLog.info(LogCategory.GAME, "Frame timings written to {}", file.toAbsolutePath());
+            reset();
+            return file;
+        } catch (IOException e) {
+            GameLog.warn(LogCategory.GAME, "Could not write frame timings to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
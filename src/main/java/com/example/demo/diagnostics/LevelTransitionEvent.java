@@ -0,0 +1,36 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event covering a move from one level to the next,
+ * from releasing the old level's images until the new level's loop starts.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("Loading and starting the next level")
+public class LevelTransitionEvent extends Event {
+
+    /**
+     * The class name of the level being left, or empty when starting from the menu.
+     */
+    @Label("From Level")
+    public String fromLevel;
+
+    /**
+     * The class name of the level being entered, or the end-of-game marker.
+     */
+    @Label("To Level")
+    public String toLevel;
+
+    /**
+     * The seed of the run, from which every level's random stream is derived.
+     */
+    @Label("Run Seed")
+    public long runSeed;
+}
@@ -0,0 +1,171 @@
+package com.example.demo.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of non-negative values with logarithmic buckets.
+ *
+ * <p>Each power of two is split into {@value #SUB_BUCKETS} equal buckets, so a
+ * reported percentile is at most about six percent above the true value, across
+ * the whole range of a {@code long}. All buckets are allocated up front.
+ * Recording a value only increments counters, so it takes no locks and
+ * allocates nothing.</p>
+ *
+ * <p>A histogram is written by a single thread. Other threads may read it while
+ * it is being written, and then see a snapshot that is a few samples out of
+ * date.</p>
+ */
+public final class LogHistogram {
+
+    /**
+     * The number of bits selecting the bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets: values below {@link #SUB_BUCKETS} get one bucket each,
+     * then every power of two up to 2<sup>62</sup> gets {@link #SUB_BUCKETS}.
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /**
+     * The number of values recorded.
+     */
+    private long count;
+
+    /**
+     * The sum of the values recorded, for the mean.
+     */
+    private long sum;
+
+    /**
+     * The largest value recorded.
+     */
+    private long max;
+
+    /**
+     * Records a value. Negative values are counted as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[bucketOf(clamped)]++;
+        count++;
+        sum += clamped;
+        if (clamped > max) {
+            max = clamped;
+        }
+    }
+
+    /**
+     * Retrieves the number of values recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the largest value recorded.
+     *
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Retrieves the mean of the values recorded.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Estimates the value below which a fraction of the recorded values fall.
+     *
+     * @param quantile the fraction, from 0 to 1, such as 0.99 for the 99th percentile
+     * @return the upper edge of the bucket holding that value, never above the maximum,
+     *         or 0 if nothing was recorded
+     */
+    public long getPercentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Finds the bucket holding a value.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Finds the largest value a bucket holds.
+     *
+     * @param bucket the bucket index
+     * @return the bucket's upper edge
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Summarizes the histogram.
+     *
+     * @return the count, percentiles and maximum
+     */
+    @Override
+    public String toString() {
+        return "LogHistogram[count=" + count + ", p50=" + getPercentile(0.5) + ", p99=" + getPercentile(0.99)
+                + ", p999=" + getPercentile(0.999) + ", max=" + max + "]";
+    }
+}
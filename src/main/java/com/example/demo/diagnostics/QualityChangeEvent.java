@@ -0,0 +1,82 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event marking a level's quality governor stepping down or back up.
+ */
+@Name("com.example.demo.QualityChange")
+@Label("Quality Change")
+@Category({"Sky Battle", "Frames"})
+@Description("The adaptive quality level changed after frames overran or regained their budget")
+@StackTrace(false)
+public class QualityChangeEvent extends Event {
+
+    /**
+     * The level's class name.
+     */
+    @Label("Level")
+    public String level;
+
+    /**
+     * The number of steps the level had run when the quality changed.
+     */
+    @Label("Tick")
+    public long tick;
+
+    /**
+     * The quality level left.
+     */
+    @Label("From Quality")
+    public String fromQuality;
+
+    /**
+     * The quality level entered.
+     */
+    @Label("To Quality")
+    public String toQuality;
+
+    /**
+     * The mean cost of a step over the window that triggered the change.
+     */
+    @Label("Mean Step Cost")
+    @Timespan(Timespan.NANOSECONDS)
+    public long meanStepNanos;
+
+    /**
+     * The per-step budget the mean was compared against.
+     */
+    @Label("Budget")
+    @Timespan(Timespan.NANOSECONDS)
+    public long budgetNanos;
+
+    /**
+     * Records a quality change if the event is enabled in the running recording.
+     *
+     * @param level         the level's class name
+     * @param tick          the number of steps the level had run
+     * @param fromQuality   the quality level left
+     * @param toQuality     the quality level entered
+     * @param meanStepNanos the mean cost of a step over the triggering window
+     * @param budgetNanos   the per-step budget
+     */
+    public static void emit(String level, long tick, String fromQuality, String toQuality, long meanStepNanos,
+                            long budgetNanos) {
+        QualityChangeEvent event = new QualityChangeEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.tick = tick;
+            event.fromQuality = fromQuality;
+            event.toQuality = toQuality;
+            event.meanStepNanos = meanStepNanos;
+            event.budgetNanos = budgetNanos;
+            event.commit();
+        }
+    }
+}
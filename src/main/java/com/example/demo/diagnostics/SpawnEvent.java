@@ -0,0 +1,70 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event marking an enemy entering a level.
+ */
+@Name("com.example.demo.Spawn")
+@Label("Spawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An enemy spawned into a level")
+@StackTrace(false)
+public class SpawnEvent extends Event {
+
+    /**
+     * The level's class name.
+     */
+    @Label("Level")
+    public String level;
+
+    /**
+     * The spawned actor's class name.
+     */
+    @Label("Actor Type")
+    public String actorType;
+
+    /**
+     * The X position the actor spawned at.
+     */
+    @Label("X")
+    public double x;
+
+    /**
+     * The Y position the actor spawned at.
+     */
+    @Label("Y")
+    public double y;
+
+    /**
+     * The number of enemies alive after the spawn.
+     */
+    @Label("Enemies Alive")
+    public int enemiesAlive;
+
+    /**
+     * Records a spawn if the event is enabled in the running recording.
+     *
+     * @param level        the level's class name
+     * @param actorType    the spawned actor's class name
+     * @param x            the X position the actor spawned at
+     * @param y            the Y position the actor spawned at
+     * @param enemiesAlive the number of enemies alive after the spawn
+     */
+    public static void emit(String level, String actorType, double x, double y, int enemiesAlive) {
+        SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.actorType = actorType;
+            event.x = x;
+            event.y = y;
+            event.enemiesAlive = enemiesAlive;
+            event.commit();
+        }
+    }
+}
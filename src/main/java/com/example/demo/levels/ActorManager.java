@@ -2,53 +2,157 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
 import com.example.demo.projectiles.HomingProjectile;
 import com.example.demo.projectiles.Projectile;
+import com.example.demo.projectiles.ProjectileBuffer;
+import com.example.demo.projectiles.ProjectilePool;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.utilities.EntityRegistry;
 import javafx.scene.Group;
+import javafx.scene.Node;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Manages all active actors (enemies, projectiles, etc.) in a level.
+ *
+ * <p>Projectiles are drawn from per-type pools and returned to them once
+ * destroyed, so long fights reuse the same nodes instead of creating new ones
+ * for every shot.</p>
+ *
+ * <p>Straight and homing projectiles are moved by a shared
+ * {@link ProjectileBuffer}, which updates them all in one loop over primitive
+ * arrays and then copies the results back to their nodes.</p>
+ *
+ * <p>Actors are held in {@link EntityRegistry} lists, so adding, finding and
+ * removing an actor takes constant time. Removing an actor moves the last
+ * actor of its list into its place. Destroyed actors are detached from the
+ * scene graph in one batch per frame.</p>
+ *
+ * <p>Actor nodes are attached to an actor layer. Normally that is the level's
+ * root group. In {@link RenderMode#CANVAS} it is a group kept out of the scene,
+ * and a {@link CanvasRenderer} draws the actors instead.</p>
+ *
+ * <p>Every projectile added to the level is posted to the level's
+ * {@link GameEventQueue}.</p>
  */
 public class ActorManager {
 
     /**
-     * The root group to which all actors are added.
+     * The default maximum number of idle user projectiles kept for reuse.
+     */
+    public static final int DEFAULT_USER_PROJECTILE_POOL_CAPACITY = 64;
+
+    /**
+     * The default maximum number of idle enemy projectiles kept for reuse, per image.
+     */
+    public static final int DEFAULT_ENEMY_PROJECTILE_POOL_CAPACITY = 32;
+
+    /**
+     * The root group of the level's scene.
      */
     private final Group root;
 
+    /**
+     * The group actor nodes are attached to: the root group, or a detached group when drawn onto a canvas.
+     */
+    private final Group actorLayer;
+
     /**
      * List of all active enemy actors.
      */
-    private final List<ActiveActorDestructible> enemies;
+    private final EntityRegistry<ActiveActorDestructible> enemies;
 
     /**
      * List of all projectiles fired by the user.
      */
-    private final List<Projectile> userProjectiles;
+    private final EntityRegistry<Projectile> userProjectiles;
 
     /**
      * List of all projectiles fired by enemies.
      */
-    private final List<Projectile> enemyProjectiles;
+    private final EntityRegistry<Projectile> enemyProjectiles;
+
+    /**
+     * The nodes to detach from the actor layer in the next batched removal.
+     */
+    private final Set<Node> pendingSceneRemovals = new HashSet<>();
 
     /**
      * The user-controlled plane.
      */
     private UserPlane userPlane;
 
+    /**
+     * The pool of reusable user projectiles.
+     */
+    private final ProjectilePool<UserProjectile> userProjectilePool;
+
+    /**
+     * The pools of reusable enemy homing projectiles, keyed by image name.
+     */
+    private final Map<String, ProjectilePool<HomingProjectile>> enemyProjectilePools;
+
+    /**
+     * The buffer moving every projectile whose motion it can express.
+     */
+    private final ProjectileBuffer projectileBuffer;
+
+    /**
+     * The queue projectile spawns are posted to.
+     */
+    private final GameEventQueue events;
+
+    /**
+     * The capacity applied to every enemy projectile pool.
+     */
+    private int enemyProjectilePoolCapacity = DEFAULT_ENEMY_PROJECTILE_POOL_CAPACITY;
+
+    /**
+     * The number of enemy projectiles allowed in flight at once.
+     */
+    private int enemyProjectileCap = Integer.MAX_VALUE;
+
+    /**
+     * The number of enemy shots dropped because the cap was reached.
+     */
+    private long cappedEnemyProjectiles;
+
     /**
      * Constructs an ActorManager with the specified root group.
      *
-     * @param root The root group to which actors are added.
+     * @param root   The root group to which actors are added.
+     * @param events The queue projectile spawns are posted to.
      */
-    public ActorManager(Group root) {
+    public ActorManager(Group root, GameEventQueue events) {
+        this(root, root, events);
+    }
+
+    /**
+     * Constructs an ActorManager that attaches actor nodes to a separate layer.
+     *
+     * @param root       The root group of the level's scene.
+     * @param actorLayer The group to which actor nodes are added.
+     * @param events     The queue projectile spawns are posted to.
+     */
+    public ActorManager(Group root, Group actorLayer, GameEventQueue events) {
         this.root = root;
-        this.enemies = new ArrayList<>();
-        this.userProjectiles = new ArrayList<>();
-        this.enemyProjectiles = new ArrayList<>();
+        this.actorLayer = actorLayer;
+        this.events = events;
+        this.enemies = new EntityRegistry<>();
+        this.userProjectiles = new EntityRegistry<>();
+        this.enemyProjectiles = new EntityRegistry<>();
+        this.userProjectilePool = new ProjectilePool<>(() -> new UserProjectile(0, 0, root), DEFAULT_USER_PROJECTILE_POOL_CAPACITY);
+        this.enemyProjectilePools = new HashMap<>();
+        this.projectileBuffer = new ProjectileBuffer();
     }
 
     /**
@@ -61,32 +165,69 @@ public class ActorManager {
     }
 
     /**
-     * Adds an enemy actor to the manager and displays it in the root group.
+     * Retrieves the group actor nodes are attached to.
+     *
+     * @return The root group, or the detached actor layer in canvas mode.
+     */
+    public Group getActorLayer() {
+        return actorLayer;
+    }
+
+    /**
+     * Attaches an actor node to the actor layer if it is not already there.
+     *
+     * @param actor The actor to display.
+     */
+    public void showActor(Node actor) {
+        if (actor.getParent() != actorLayer) {
+            actorLayer.getChildren().add(actor);
+        }
+    }
+
+    /**
+     * Adds an enemy actor to the manager and displays it in the actor layer.
      *
      * @param enemy The enemy actor to add.
      */
     public void addEnemy(ActiveActorDestructible enemy) {
-        enemies.add(enemy);
-        root.getChildren().add(enemy);
+        enemies.insert(enemy);
+        showActor(enemy);
     }
 
     /**
-     * Adds a user-fired projectile to the manager and displays it in the root group.
+     * Adds a user-fired projectile to the manager and displays it in the actor layer.
      *
      * @param projectile The projectile to add.
      */
     public void addUserProjectile(Projectile projectile) {
         if (!userProjectiles.contains(projectile)) {
-            userProjectiles.add(projectile);
-            root.getChildren().add(projectile);
-            System.out.println("Projectile added to root: " + projectile);
+            userProjectiles.insert(projectile);
+            bufferProjectile(projectile);
+            actorLayer.getChildren().add(projectile);
+            events.postProjectileSpawned(projectile, true);
+            GameLog.debug(LogCategory.PROJECTILE, "Projectile added to actor layer: {}", projectile);
         } else {
-            System.err.println("Duplicate projectile ignored.");
+            GameLog.warn(LogCategory.PROJECTILE, "Duplicate projectile ignored.");
         }
     }
 
     /**
-     * Creates and adds a homing projectile fired by an enemy.
+     * Fires a user projectile from the specified position, reusing a pooled projectile when available.
+     *
+     * @param x The initial X position of the projectile.
+     * @param y The initial Y position of the projectile.
+     * @return The fired projectile.
+     */
+    public UserProjectile fireUserProjectile(double x, double y) {
+        UserProjectile projectile = userProjectilePool.obtain();
+        projectile.reset(x, y);
+        addUserProjectile(projectile);
+        return projectile;
+    }
+
+    /**
+     * Creates and adds a homing projectile fired by an enemy, reusing a pooled projectile when available.
+     * The shot is dropped if the {@linkplain #setEnemyProjectileCap cap} on projectiles in flight is reached.
      *
      * @param x         The initial X position of the projectile.
      * @param y         The initial Y position of the projectile.
@@ -94,36 +235,153 @@ public class ActorManager {
      * @param imageName The image file name for the projectile.
      */
     public void createEnemyProjectile(double x, double y, ActiveActorDestructible target, String imageName) {
-        System.out.println("Creating projectile with image: " + imageName);
-        HomingProjectile projectile = new HomingProjectile(x, y, null, target, imageName);
+        if (enemyProjectiles.size() >= enemyProjectileCap) {
+            cappedEnemyProjectiles++;
+            return;
+        }
+        GameLog.debug(LogCategory.PROJECTILE, "Creating projectile with image: {}", imageName);
+        HomingProjectile projectile = getEnemyProjectilePool(imageName).obtain();
+        projectile.reset(x, y, target);
         addEnemyProjectile(projectile);
-        System.out.println("Projectile created and added to manager.");
+        GameLog.debug(LogCategory.PROJECTILE, "Projectile created and added to manager.");
     }
 
     /**
-     * Adds an enemy-fired projectile to the manager and displays it in the root group.
+     * Adds an enemy-fired projectile to the manager and displays it in the actor layer.
      *
      * @param projectile The projectile to add.
      */
     public void addEnemyProjectile(Projectile projectile) {
         if (!enemyProjectiles.contains(projectile)) {
-            enemyProjectiles.add(projectile);
-            if (!root.getChildren().contains(projectile)) {
-                root.getChildren().add(projectile);
-                System.out.println("Projectile added to root: " + projectile);
-                root.getChildren().forEach(child -> {
-                    System.out.println("Child: " + child +
-                            ", LayoutX=" + child.getLayoutX() +
-                            ", LayoutY=" + child.getLayoutY() +
-                            ", Opacity=" + child.getOpacity() +
-                            ", Visible=" + child.isVisible());
-                });
+            enemyProjectiles.insert(projectile);
+            bufferProjectile(projectile);
+            events.postProjectileSpawned(projectile, false);
+            if (projectile.getParent() != actorLayer) {
+                actorLayer.getChildren().add(projectile);
+                GameLog.debug(LogCategory.PROJECTILE, "Projectile added to actor layer: {}", projectile);
             } else {
-                System.err.println("Duplicate projectile addition prevented: " + projectile);
+                GameLog.warn(LogCategory.PROJECTILE, "Duplicate projectile addition prevented: {}", projectile);
             }
         }
     }
 
+    /**
+     * Hands a projectile to the projectile buffer when its motion can be expressed there.
+     * Homing projectiles are buffered only when they track the user plane, which is the
+     * single target the buffer steers toward.
+     *
+     * @param projectile The projectile to buffer.
+     */
+    private void bufferProjectile(Projectile projectile) {
+        if (projectile.isBuffered()) {
+            return;
+        }
+        if (projectile instanceof HomingProjectile homingProjectile && homingProjectile.getTarget() != userPlane) {
+            return;
+        }
+        projectile.addToBuffer(projectileBuffer);
+    }
+
+    /**
+     * Retrieves the pool of enemy projectiles using the given image, creating it on first use.
+     *
+     * @param imageName The image file name, with or without the image directory prefix.
+     * @return The pool for that image.
+     */
+    private ProjectilePool<HomingProjectile> getEnemyProjectilePool(String imageName) {
+        String key = HomingProjectile.normalizeImageName(imageName);
+        ProjectilePool<HomingProjectile> pool = enemyProjectilePools.get(key);
+        if (pool == null) {
+            pool = new ProjectilePool<>(() -> new HomingProjectile(0, 0, null, null, key), enemyProjectilePoolCapacity);
+            enemyProjectilePools.put(key, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Creates enemy projectiles ahead of time so the first shots do not allocate.
+     *
+     * @param imageName The image file name, with or without the image directory prefix.
+     * @param count     The number of idle projectiles to hold, limited by the pool capacity.
+     */
+    public void prefillEnemyProjectilePool(String imageName, int count) {
+        getEnemyProjectilePool(imageName).prefill(count);
+    }
+
+    /**
+     * Retrieves the pool of reusable user projectiles.
+     *
+     * @return The user projectile pool, including its hit and miss counters.
+     */
+    public ProjectilePool<UserProjectile> getUserProjectilePool() {
+        return userProjectilePool;
+    }
+
+    /**
+     * Retrieves the buffer moving the straight and homing projectiles.
+     *
+     * @return The projectile buffer.
+     */
+    public ProjectileBuffer getProjectileBuffer() {
+        return projectileBuffer;
+    }
+
+    /**
+     * Retrieves the pools of reusable enemy projectiles, keyed by image name.
+     *
+     * @return An unmodifiable view of the enemy projectile pools.
+     */
+    public Map<String, ProjectilePool<HomingProjectile>> getEnemyProjectilePools() {
+        return Collections.unmodifiableMap(enemyProjectilePools);
+    }
+
+    /**
+     * Sets the maximum number of idle user projectiles kept for reuse.
+     *
+     * @param capacity The new capacity.
+     */
+    public void setUserProjectilePoolCapacity(int capacity) {
+        userProjectilePool.setCapacity(capacity);
+    }
+
+    /**
+     * Sets the maximum number of idle enemy projectiles kept for reuse, per image.
+     *
+     * @param capacity The new capacity.
+     */
+    public void setEnemyProjectilePoolCapacity(int capacity) {
+        enemyProjectilePoolCapacity = capacity;
+        enemyProjectilePools.values().forEach(pool -> pool.setCapacity(capacity));
+    }
+
+    /**
+     * Sets the number of enemy projectiles allowed in flight at once. Shots fired
+     * while the cap is reached are dropped; projectiles already in flight are kept.
+     *
+     * @param cap The new cap, or {@link Integer#MAX_VALUE} for none.
+     */
+    public void setEnemyProjectileCap(int cap) {
+        enemyProjectileCap = cap;
+    }
+
+    /**
+     * Retrieves the number of enemy projectiles allowed in flight at once.
+     *
+     * @return The cap, or {@link Integer#MAX_VALUE} for none.
+     */
+    public int getEnemyProjectileCap() {
+        return enemyProjectileCap;
+    }
+
+    /**
+     * Retrieves the number of enemy shots dropped because the cap was reached.
+     *
+     * @return The dropped shot count.
+     */
+    public long getCappedEnemyProjectiles() {
+        return cappedEnemyProjectiles;
+    }
+
     /**
      * Retrieves the list of active enemy actors.
      *
@@ -158,7 +416,7 @@ public class ActorManager {
      */
     public void setUserPlane(UserPlane userPlane) {
         this.userPlane = userPlane;
-        System.out.println("UserPlane set in ActorManager: " + userPlane);
+        GameLog.debug(LogCategory.ACTOR, "UserPlane set in ActorManager: {}", userPlane);
     }
 
     /**
@@ -174,43 +432,142 @@ public class ActorManager {
      * Updates all actors and projectiles managed by this class.
      */
     public void updateAll() {
-        System.out.println("Updating all projectiles and actors...");
-        userProjectiles.forEach(Projectile::updateActor);
-        enemyProjectiles.forEach(Projectile::updateActor);
+        GameLog.trace(LogCategory.GAME, "Updating all projectiles and actors...");
+        boolean targetAlive = userPlane != null && !userPlane.isDestroyed();
+        double targetY = userPlane != null ? userPlane.getLayoutY() : 0;
+        projectileBuffer.update(targetY, targetAlive, LevelParentBase.ORIGINAL_SCREEN_WIDTH);
+        projectileBuffer.syncNodes();
+
+        updateUnbuffered(userProjectiles);
+        updateUnbuffered(enemyProjectiles);
         enemies.forEach(ActiveActorDestructible::updateActor);
     }
 
     /**
-     * Removes all destroyed actors and projectiles from the manager and root group.
+     * Updates the projectiles in a list that are not moved by the projectile buffer.
+     *
+     * @param projectiles The projectiles to update.
+     */
+    private static void updateUnbuffered(List<Projectile> projectiles) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            if (!projectile.isBuffered()) {
+                projectile.updateActor();
+            }
+        }
+    }
+
+    /**
+     * Records the current position of every actor before a simulation step.
+     */
+    public void captureSimStates() {
+        if (userPlane != null) {
+            userPlane.captureSimState();
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).captureSimState();
+        }
+        for (int i = 0; i < userProjectiles.size(); i++) {
+            userProjectiles.get(i).captureSimState();
+        }
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            enemyProjectiles.get(i).captureSimState();
+        }
+    }
+
+    /**
+     * Draws every actor between its previous and current simulated positions.
+     *
+     * @param alpha The fraction of a step elapsed since the latest simulation step, from 0 to 1.
+     */
+    public void interpolateAll(double alpha) {
+        if (userPlane != null) {
+            userPlane.interpolate(alpha);
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).interpolate(alpha);
+        }
+        for (int i = 0; i < userProjectiles.size(); i++) {
+            userProjectiles.get(i).interpolate(alpha);
+        }
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            enemyProjectiles.get(i).interpolate(alpha);
+        }
+    }
+
+    /**
+     * Removes all destroyed actors and projectiles from the manager and actor layer.
      */
     public void removeDestroyedActors() {
-        removeDestroyed(enemies);
-        removeDestroyed(userProjectiles);
-        removeDestroyed(enemyProjectiles);
+        removeDestroyed(enemies, null);
+        removeDestroyed(userProjectiles, this::recycleProjectile);
+        removeDestroyed(enemyProjectiles, this::recycleProjectile);
+        flushSceneRemovals();
     }
 
     /**
-     * Removes destroyed actors from the specified list and root group.
+     * Removes destroyed actors from the specified registry and queues their nodes for detachment.
      *
-     * @param actors The list of actors to remove.
-     * @param <T>    The type of actors in the list.
+     * @param actors    The registry of actors to sweep.
+     * @param onRemoved Called with every removed actor, or {@code null}.
+     * @param <T>       The type of actors in the registry.
      */
-    private <T extends ActiveActorDestructible> void removeDestroyed(List<T> actors) {
-        List<T> destroyed = new ArrayList<>(actors.stream().filter(ActiveActorDestructible::isDestroyed).toList());
-        root.getChildren().removeAll(destroyed);
-        actors.removeAll(destroyed);
+    private <T extends ActiveActorDestructible> void removeDestroyed(EntityRegistry<T> actors, Consumer<? super T> onRemoved) {
+        // Walk backwards so the swapped-in last actor has already been checked
+        for (int i = actors.size() - 1; i >= 0; i--) {
+            T actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                actors.remove(i);
+                pendingSceneRemovals.add(actor);
+                if (onRemoved != null) {
+                    onRemoved.accept(actor);
+                }
+            }
+        }
     }
 
     /**
-     * Clears all actors and projectiles from the manager and root group.
+     * Detaches every queued node from the actor layer in a single batched removal.
+     */
+    private void flushSceneRemovals() {
+        if (!pendingSceneRemovals.isEmpty()) {
+            actorLayer.getChildren().removeAll(pendingSceneRemovals);
+            pendingSceneRemovals.clear();
+        }
+    }
+
+    /**
+     * Returns a projectile that has left play to the pool for its type.
+     *
+     * @param projectile The projectile to recycle.
+     */
+    private void recycleProjectile(Projectile projectile) {
+        projectileBuffer.remove(projectile);
+        if (projectile instanceof UserProjectile userProjectile) {
+            userProjectilePool.release(userProjectile);
+        } else if (projectile instanceof HomingProjectile homingProjectile) {
+            getEnemyProjectilePool(homingProjectile.getImageName()).release(homingProjectile);
+        }
+    }
+
+    /**
+     * Clears all actors and projectiles from the manager and actor layer.
      */
     public void clearAllActors() {
-        root.getChildren().removeAll(enemies);
-        root.getChildren().removeAll(userProjectiles);
-        root.getChildren().removeAll(enemyProjectiles);
+        pendingSceneRemovals.addAll(enemies);
+        pendingSceneRemovals.addAll(userProjectiles);
+        pendingSceneRemovals.addAll(enemyProjectiles);
+        if (userPlane != null) {
+            pendingSceneRemovals.add(userPlane);
+        }
+        flushSceneRemovals();
+
+        userProjectiles.forEach(this::recycleProjectile);
+        enemyProjectiles.forEach(this::recycleProjectile);
 
         enemies.clear();
         userProjectiles.clear();
         enemyProjectiles.clear();
+        projectileBuffer.clear();
     }
 }
@@ -0,0 +1,251 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.transform.Scale;
+
+import java.util.List;
+
+/**
+ * Draws a level's background and actors onto a single canvas.
+ *
+ * <p>Used by levels in {@link RenderMode#CANVAS}. The actors stay ordinary
+ * image views, so the game logic and collision checks are unchanged, but they
+ * live in a group that is never attached to the scene. Each frame this
+ * renderer reads their image, viewport, size and interpolated position and
+ * issues one draw call per actor into the canvas. The scene graph therefore
+ * holds one canvas however many actors are in play, and actors sharing the
+ * sprite atlas are drawn from the same texture.</p>
+ *
+ * <p>The canvas can be drawn at a fraction of the world's resolution with
+ * {@link #setRenderScale(double)}. Its backing texture then shrinks by the
+ * square of that fraction, and a scale transform on the canvas node stretches
+ * it back over the whole world.</p>
+ */
+public class CanvasRenderer {
+
+    /**
+     * The canvas the level is drawn onto.
+     */
+    private final Canvas canvas;
+
+    /**
+     * The drawing context of the canvas.
+     */
+    private final GraphicsContext graphics;
+
+    /**
+     * The background drawn under the actors, or {@code null} for none.
+     */
+    private final Image background;
+
+    /**
+     * Stretches a reduced-resolution canvas back to the size of the world.
+     */
+    private final Scale upscale = new Scale(1.0, 1.0, 0.0, 0.0);
+
+    /**
+     * The width of the area drawn, in world units.
+     */
+    private double worldWidth;
+
+    /**
+     * The height of the area drawn, in world units.
+     */
+    private double worldHeight;
+
+    /**
+     * The fraction of the world's resolution the canvas is drawn at.
+     */
+    private double renderScale = 1.0;
+
+    /**
+     * The number of actors drawn in the latest frame.
+     */
+    private int lastDrawCount;
+
+    /**
+     * Constructs a renderer with a canvas of the given size.
+     *
+     * @param background the background image, or {@code null} for none
+     * @param width      the canvas width
+     * @param height     the canvas height
+     */
+    public CanvasRenderer(Image background, double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.background = background;
+        this.worldWidth = width;
+        this.worldHeight = height;
+        canvas.getTransforms().add(upscale);
+        graphics.setImageSmoothing(true);
+    }
+
+    /**
+     * Retrieves the canvas to place in the scene graph.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Resizes the canvas to cover the screen.
+     *
+     * @param width  the new width, in world units
+     * @param height the new height, in world units
+     */
+    public void resize(double width, double height) {
+        worldWidth = width;
+        worldHeight = height;
+        canvas.setWidth(Math.ceil(width * renderScale));
+        canvas.setHeight(Math.ceil(height * renderScale));
+    }
+
+    /**
+     * Sets the fraction of the world's resolution the canvas is drawn at.
+     *
+     * @param scale the render scale, from 0 exclusive to 1
+     * @throws IllegalArgumentException if the scale is not in that range
+     */
+    public void setRenderScale(double scale) {
+        if (!(scale > 0.0 && scale <= 1.0)) {
+            throw new IllegalArgumentException("Render scale must be in (0, 1]: " + scale);
+        }
+        renderScale = scale;
+        upscale.setX(1.0 / scale);
+        upscale.setY(1.0 / scale);
+        resize(worldWidth, worldHeight);
+    }
+
+    /**
+     * Retrieves the fraction of the world's resolution the canvas is drawn at.
+     *
+     * @return the render scale
+     */
+    public double getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * Retrieves the number of actors drawn in the latest frame.
+     *
+     * @return the draw count
+     */
+    public int getLastDrawCount() {
+        return lastDrawCount;
+    }
+
+    /**
+     * Draws one frame: the background, then enemies, projectiles and the user plane on top.
+     *
+     * @param actorManager the manager holding the level's actors
+     */
+    public void render(ActorManager actorManager) {
+        drawBackground();
+        int drawn = 0;
+        drawn += drawAll(actorManager.getEnemies());
+        drawn += drawAll(actorManager.getEnemyProjectiles());
+        drawn += drawAll(actorManager.getUserProjectiles());
+        if (actorManager.getUserPlane() != null && draw(actorManager.getUserPlane())) {
+            drawn++;
+        }
+        lastDrawCount = drawn;
+    }
+
+    /**
+     * Draws one frame from a snapshot published by a simulation thread, without reading any actor.
+     *
+     * @param snapshot the latest snapshot
+     * @param alpha    the fraction of a step elapsed since the snapshot was taken, from 0 to 1
+     */
+    public void render(WorldSnapshot snapshot, double alpha) {
+        drawBackground();
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            drawImage(snapshot.getImage(i), snapshot.getViewport(i), snapshot.getX(i, alpha), snapshot.getY(i, alpha),
+                    snapshot.getWidth(i), snapshot.getHeight(i));
+        }
+        lastDrawCount = snapshot.getActorCount();
+    }
+
+    /**
+     * Clears the canvas to the background at the current render scale.
+     */
+    private void drawBackground() {
+        graphics.setTransform(renderScale, 0, 0, renderScale, 0, 0);
+        if (background != null) {
+            graphics.drawImage(background, 0, 0, worldWidth, worldHeight);
+        } else {
+            graphics.clearRect(0, 0, worldWidth, worldHeight);
+        }
+    }
+
+    /**
+     * Draws every visible actor in a list.
+     *
+     * @param actors the actors to draw
+     * @return the number of actors drawn
+     */
+    private int drawAll(List<? extends ActiveActorDestructible> actors) {
+        int drawn = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (!actor.isDestroyed() && draw(actor)) {
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    /**
+     * Draws one actor at its interpolated position and displayed size.
+     *
+     * @param actor the actor to draw
+     * @return {@code true} if the actor was drawn
+     */
+    private boolean draw(ActiveActor actor) {
+        Image image = actor.getImage();
+        if (image == null || !actor.isVisible()) {
+            return false;
+        }
+        // The layout bounds hold the displayed size after fit and preserve-ratio scaling
+        Bounds size = actor.getLayoutBounds();
+        double x = actor.getRenderX();
+        double y = actor.getRenderY();
+        drawImage(image, actor.getViewport(), x, y, size.getWidth(), size.getHeight());
+        ImageView attachment = actor.getAttachment();
+        if (attachment != null && attachment.isVisible() && attachment.getImage() != null) {
+            drawImage(attachment.getImage(), attachment.getViewport(),
+                    attachment.getLayoutX() + attachment.getTranslateX() + attachment.getX(),
+                    attachment.getLayoutY() + attachment.getTranslateY() + attachment.getY(),
+                    attachment.getLayoutBounds().getWidth(), attachment.getLayoutBounds().getHeight());
+        }
+        return true;
+    }
+
+    /**
+     * Draws an image, or the part of it within a viewport, into a rectangle of the canvas.
+     *
+     * @param image    the image
+     * @param viewport the part of the image to draw, or {@code null} for all of it
+     * @param x        the X position of the rectangle, in world units
+     * @param y        the Y position of the rectangle, in world units
+     * @param width    the width of the rectangle
+     * @param height   the height of the rectangle
+     */
+    private void drawImage(Image image, Rectangle2D viewport, double x, double y, double width, double height) {
+        if (viewport != null) {
+            graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+                    x, y, width, height);
+        } else {
+            graphics.drawImage(image, x, y, width, height);
+        }
+    }
+}
@@ -1,44 +1,456 @@
 package com.example.demo.levels;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.CollisionLayer;
+import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.CollisionPassEvent;
+import com.example.demo.utilities.SpatialHashGrid;
+import com.example.demo.utilities.SweptOverlap;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Handles collision detection between actors.
  *
- * <p>This class provides functionality to detect and handle collisions
- * between two groups of destructible actors, applying damage and
- * managing kill counts for enemies.</p>
+ * <p>Every actor declares its {@link CollisionLayer} and the mask of layers it
+ * can collide with. Once per step, {@link #handleCollisions(ActorManager)}
+ * gathers every actor of the level into one list and finds every touching
+ * pair whose masks accept each other. The pair is then handled by the
+ * {@link CollisionResponse} registered for its two layers, in that order. By
+ * default, as {@link CollisionLayer#collidesByDefault} lists, enemy
+ * projectiles hit the player, player projectiles hit enemies and enemies ram
+ * the player. Each response damages both actors and posts a kill
+ * to the level's {@link GameEventQueue} if the second one is destroyed and
+ * counts as one.</p>
+ *
+ * <p>Crowded passes go through a uniform-grid broadphase, built once per pass
+ * over all actors, so that only actors sharing a grid cell are tested. Bounds,
+ * layers and masks are read into primitive scratch arrays that are reused
+ * between passes, so a pass does not allocate.</p>
+ *
+ * <p>Overlapping boxes are only a candidate hit. The narrowphase then compares
+ * the actors' {@link com.example.demo.utilities.AlphaMask alpha masks}, so
+ * sprites only collide where opaque pixels touch.</p>
+ *
+ * <p>Fast movers, such as user projectiles covering 30 pixels a step, could
+ * otherwise pass through a thin target between two steps. A pair in which
+ * either actor moved more than {@link #SWEEP_THRESHOLD} pixels is tested with
+ * swept boxes instead, by {@link SweptOverlap}: the boxes' relative motion
+ * over the step gives the span of the step during which they overlap, and
+ * the masks are compared at one-pixel sub-steps along that span. The
+ * headless simulation uses the same test. The broadphase indexes such
+ * actors by the box covering their whole path. Displacements come from the
+ * positions captured at the start of the step, so the test needs nothing
+ * from the actors.</p>
+ *
+ * <p>Every pass counts the pairs it tested and the hits it found, and reports
+ * them as a {@link CollisionPassEvent} when Flight Recorder is recording it.</p>
  */
 public class CollisionManager {
 
     /**
-     * Detects and handles collisions between two groups of destructible actors.
-     *
-     * <p>For each pair of actors from the provided groups, this method checks
-     * if their bounding boxes intersect. If a collision is detected, both
-     * actors take damage. If the second actor is an enemy plane and is destroyed,
-     * the user's kill count is incremented.</p>
-     *
-     * @param group1 the first group of destructible actors
-     * @param group2 the second group of destructible actors
-     */
-    public void handleCollisions(List<? extends ActiveActorDestructible> group1, List<? extends ActiveActorDestructible> group2) {
-        for (ActiveActorDestructible actor1 : group1) {
-            for (ActiveActorDestructible actor2 : group2) {
-                if (actor1.getBoundsInParent().intersects(actor2.getBoundsInParent())) {
-                    actor1.takeDamage();
-                    actor2.takeDamage();
-                    // Increment kills if enemy is destroyed
-                    if (actor2.isDestroyed() && actor2 instanceof EnemyPlane) {
-                        LevelParentBase level = ((EnemyPlane) actor2).getParentLevel();
-                        level.getUserPlane().incrementKillCount();
-                        System.out.println("Kill Count: " + level.getUserPlane().getNumberOfKills());
-                    }
+     * The edge length of a broadphase grid cell, roughly the size of the largest sprites.
+     */
+    private static final double CELL_SIZE = 128.0;
+
+    /**
+     * Passes with at most this many candidate pairs are tested directly,
+     * since building the grid would cost more than it saves.
+     */
+    private static final int BRUTE_FORCE_PAIR_THRESHOLD = 64;
+
+    /**
+     * Actors moving more than this many pixels along either axis in one step are tested with swept boxes.
+     */
+    public static final double SWEEP_THRESHOLD = SweptOverlap.THRESHOLD;
+
+    /**
+     * Every collision layer, indexed by ordinal.
+     */
+    private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+
+    /**
+     * The broadphase grid, reused across passes.
+     */
+    private final SpatialHashGrid grid = new SpatialHashGrid(CELL_SIZE);
+
+    /**
+     * The queue kills are posted to.
+     */
+    private final GameEventQueue events;
+
+    /**
+     * The response for each ordered pair of layers, indexed by the layers' ordinals,
+     * or {@code null} where the pair is not handled in that order.
+     */
+    private final CollisionResponse[][] responses = new CollisionResponse[LAYERS.length][LAYERS.length];
+
+    /**
+     * Scratch buffer receiving broadphase candidates.
+     */
+    private int[] candidates = new int[16];
+
+    /**
+     * The actors of the current pass.
+     */
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[64];
+
+    /**
+     * The layer ordinal of each actor of the current pass.
+     */
+    private int[] layers = new int[64];
+
+    /**
+     * The collision mask of each actor of the current pass.
+     */
+    private int[] masks = new int[64];
+
+    /**
+     * The horizontal displacement of each actor of the current pass over the step.
+     */
+    private double[] deltasX = new double[64];
+
+    /**
+     * The vertical displacement of each actor of the current pass over the step.
+     */
+    private double[] deltasY = new double[64];
+
+    /**
+     * Whether each actor of the current pass moved far enough to be swept.
+     */
+    private boolean[] swept = new boolean[64];
+
+    /**
+     * The number of actors in the current pass.
+     */
+    private int actorCount;
+
+    /**
+     * The number of pairs tested by the latest pass.
+     */
+    private int lastPairsTested;
+
+    /**
+     * The number of colliding pairs found by the latest pass.
+     */
+    private int lastHits;
+
+    /**
+     * The number of pairs of the latest pass whose boxes overlapped but whose opaque pixels did not.
+     */
+    private int lastMaskRejects;
+
+    /**
+     * The number of pairs of the latest pass tested with swept boxes.
+     */
+    private int lastSweptPairs;
+
+    /**
+     * Constructs a collision manager with the default responses.
+     *
+     * @param events the queue kills are posted to
+     */
+    public CollisionManager(GameEventQueue events) {
+        this.events = events;
+        CollisionResponse damageBoth = this::damageBoth;
+        for (CollisionLayer first : LAYERS) {
+            for (CollisionLayer second : LAYERS) {
+                if (first.collidesByDefault(second)) {
+                    setResponse(first, second, damageBoth);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets what happens when actors from two layers touch.
+     *
+     * <p>A pair is only tested if both actors' masks accept each other; the
+     * response then decides which layer's actor is passed first. Registering a
+     * response for both orders of the same layers runs both.</p>
+     *
+     * @param first    the layer of the actor passed first
+     * @param second   the layer of the actor passed second
+     * @param response the response, or {@code null} to ignore the pair in this order
+     */
+    public void setResponse(CollisionLayer first, CollisionLayer second, CollisionResponse response) {
+        responses[first.ordinal()][second.ordinal()] = response;
+    }
+
+    /**
+     * Retrieves what happens when actors from two layers touch.
+     *
+     * @param first  the layer of the actor passed first
+     * @param second the layer of the actor passed second
+     * @return the response, or {@code null} if the pair is not handled in this order
+     */
+    public CollisionResponse getResponse(CollisionLayer first, CollisionLayer second) {
+        return responses[first.ordinal()][second.ordinal()];
+    }
+
+    /**
+     * Finds and handles every collision between the actors of a level in one pass.
+     *
+     * <p>Actors are gathered in the order enemy projectiles, user projectiles,
+     * enemies, user plane, and pairs are handled in that order of their first
+     * actor, matching the order of the separate passes levels used to make.</p>
+     *
+     * @param actorManager the level's actors
+     */
+    public void handleCollisions(ActorManager actorManager) {
+        actorCount = 0;
+        gather(actorManager.getEnemyProjectiles());
+        gather(actorManager.getUserProjectiles());
+        gather(actorManager.getEnemies());
+        UserPlane userPlane = actorManager.getUserPlane();
+        if (userPlane != null) {
+            gather(userPlane);
+        }
+        lastPairsTested = 0;
+        lastHits = 0;
+        lastMaskRejects = 0;
+        lastSweptPairs = 0;
+        if (actorCount < 2) {
+            release();
+            return;
+        }
+
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        boolean broadphase = (long) actorCount * actorCount > BRUTE_FORCE_PAIR_THRESHOLD;
+        if (!broadphase) {
+            for (int i = 0; i < actorCount; i++) {
+                for (int j = 0; j < actorCount; j++) {
+                    testPair(i, j);
+                }
+            }
+        } else {
+            buildGrid();
+            for (int i = 0; i < actorCount; i++) {
+                int count = grid.query(sweptMinX(i), sweptMinY(i), sweptMaxX(i), sweptMaxY(i), candidates);
+                for (int c = 0; c < count; c++) {
+                    testPair(i, candidates[c]);
                 }
             }
         }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.actors = actorCount;
+            event.broadphase = broadphase;
+            event.pairsTested = lastPairsTested;
+            event.hits = lastHits;
+            event.maskRejects = lastMaskRejects;
+            event.sweptPairs = lastSweptPairs;
+            event.commit();
+        }
+        release();
+    }
+
+    /**
+     * Retrieves the number of pairs whose bounds the latest pass compared.
+     *
+     * @return the pairs tested
+     */
+    public int getLastPairsTested() {
+        return lastPairsTested;
+    }
+
+    /**
+     * Retrieves the number of colliding pairs the latest pass found.
+     *
+     * @return the hits
+     */
+    public int getLastHits() {
+        return lastHits;
+    }
+
+    /**
+     * Retrieves the number of pairs the latest pass rejected because their opaque pixels did not touch.
+     *
+     * @return the pairs rejected by the narrowphase
+     */
+    public int getLastMaskRejects() {
+        return lastMaskRejects;
+    }
+
+    /**
+     * Retrieves the number of pairs the latest pass tested with swept boxes.
+     *
+     * @return the swept pairs
+     */
+    public int getLastSweptPairs() {
+        return lastSweptPairs;
+    }
+
+    /**
+     * Adds a group of actors to the current pass.
+     *
+     * @param group the actors to add
+     */
+    private void gather(List<? extends ActiveActorDestructible> group) {
+        for (int i = 0; i < group.size(); i++) {
+            gather(group.get(i));
+        }
+    }
+
+    /**
+     * Adds one actor to the current pass, recording its layer, mask and displacement over the step.
+     *
+     * @param actor the actor to add
+     */
+    private void gather(ActiveActorDestructible actor) {
+        if (actorCount == actors.length) {
+            actors = Arrays.copyOf(actors, actorCount * 2);
+            layers = Arrays.copyOf(layers, actorCount * 2);
+            masks = Arrays.copyOf(masks, actorCount * 2);
+            deltasX = Arrays.copyOf(deltasX, actorCount * 2);
+            deltasY = Arrays.copyOf(deltasY, actorCount * 2);
+            swept = Arrays.copyOf(swept, actorCount * 2);
+        }
+        double deltaX = actor.getSimDeltaX();
+        double deltaY = actor.getSimDeltaY();
+        actors[actorCount] = actor;
+        layers[actorCount] = actor.getCollisionLayer().ordinal();
+        masks[actorCount] = actor.getCollisionMask();
+        deltasX[actorCount] = deltaX;
+        deltasY[actorCount] = deltaY;
+        swept[actorCount] = Math.abs(deltaX) > SWEEP_THRESHOLD || Math.abs(deltaY) > SWEEP_THRESHOLD;
+        actorCount++;
+    }
+
+    /**
+     * Handles an ordered pair of the current pass if it has a response, both masks accept it
+     * and the actors' bounds and then opaque pixels touch, at the end of the step or, for
+     * fast movers, at any point during it.
+     *
+     * @param i the index of the first actor
+     * @param j the index of the second actor
+     */
+    private void testPair(int i, int j) {
+        int layer1 = layers[i];
+        int layer2 = layers[j];
+        CollisionResponse response = responses[layer1][layer2];
+        if (response == null || (masks[i] & (1 << layer2)) == 0 || (masks[j] & (1 << layer1)) == 0) {
+            return;
+        }
+        lastPairsTested++;
+        if (swept[i] || swept[j]) {
+            lastSweptPairs++;
+            if (!sweptPairCollides(i, j)) {
+                return;
+            }
+        } else {
+            if (!actors[i].intersectsCachedBounds(actors[j])) {
+                return;
+            }
+            if (!actors[i].intersectsAlphaMask(actors[j])) {
+                lastMaskRejects++;
+                return;
+            }
+        }
+        lastHits++;
+        response.collide(actors[i], actors[j]);
+    }
+
+    /**
+     * Tests a pair over the whole step with {@link SweptOverlap}, starting both boxes where
+     * the actors were at the start of the step.
+     *
+     * @param i the index of the first actor
+     * @param j the index of the second actor
+     * @return {@code true} if the actors touched at some point of the step
+     */
+    private boolean sweptPairCollides(int i, int j) {
+        ActiveActorDestructible first = actors[i];
+        ActiveActorDestructible second = actors[j];
+        // Offset of the second box's origin from the first's at the start of the step
+        double startOffsetX = (second.getCachedMinX() - deltasX[j]) - (first.getCachedMinX() - deltasX[i]);
+        double startOffsetY = (second.getCachedMinY() - deltasY[j]) - (first.getCachedMinY() - deltasY[i]);
+        int result = SweptOverlap.test(
+                first.getAlphaMask(), first.getCachedMaxX() - first.getCachedMinX(), first.getCachedMaxY() - first.getCachedMinY(),
+                second.getAlphaMask(), second.getCachedMaxX() - second.getCachedMinX(), second.getCachedMaxY() - second.getCachedMinY(),
+                startOffsetX, startOffsetY, deltasX[i] - deltasX[j], deltasY[i] - deltasY[j]);
+        if (result == SweptOverlap.MASK_MISS) {
+            lastMaskRejects++;
+        }
+        return result == SweptOverlap.HIT;
+    }
+
+    /**
+     * Inserts the cached bounds of every actor of the current pass into the grid.
+     */
+    private void buildGrid() {
+        if (candidates.length < actorCount) {
+            candidates = Arrays.copyOf(candidates, Math.max(actorCount, candidates.length * 2));
+        }
+
+        grid.clear();
+        for (int i = 0; i < actorCount; i++) {
+            grid.insert(i, sweptMinX(i), sweptMinY(i), sweptMaxX(i), sweptMaxY(i));
+        }
+    }
+
+    /**
+     * Retrieves the left edge of the box covering an actor's path over the step.
+     *
+     * @param i the index of the actor
+     * @return the minimum X coordinate
+     */
+    private double sweptMinX(int i) {
+        return actors[i].getCachedMinX() - Math.max(deltasX[i], 0.0);
+    }
+
+    /**
+     * Retrieves the top edge of the box covering an actor's path over the step.
+     *
+     * @param i the index of the actor
+     * @return the minimum Y coordinate
+     */
+    private double sweptMinY(int i) {
+        return actors[i].getCachedMinY() - Math.max(deltasY[i], 0.0);
+    }
+
+    /**
+     * Retrieves the right edge of the box covering an actor's path over the step.
+     *
+     * @param i the index of the actor
+     * @return the maximum X coordinate
+     */
+    private double sweptMaxX(int i) {
+        return actors[i].getCachedMaxX() - Math.min(deltasX[i], 0.0);
+    }
+
+    /**
+     * Retrieves the bottom edge of the box covering an actor's path over the step.
+     *
+     * @param i the index of the actor
+     * @return the maximum Y coordinate
+     */
+    private double sweptMaxY(int i) {
+        return actors[i].getCachedMaxY() - Math.min(deltasY[i], 0.0);
+    }
+
+    /**
+     * Drops the references to the actors of the current pass, so removed actors are not kept alive.
+     */
+    private void release() {
+        Arrays.fill(actors, 0, actorCount, null);
+        actorCount = 0;
+    }
+
+    /**
+     * The default response: damages both actors and posts a kill if the second one was destroyed and counts as one.
+     *
+     * @param first  the actor from the first layer
+     * @param second the actor from the second layer
+     */
+    private void damageBoth(ActiveActorDestructible first, ActiveActorDestructible second) {
+        first.takeDamage();
+        second.takeDamage();
+        if (second.isDestroyed() && second.countsAsKill()) {
+            events.postKill(second);
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * What happens when two actors from a given pair of collision layers touch.
+ *
+ * <p>Responses are looked up in the {@link CollisionManager}'s table by the
+ * layers of the two actors, in order, so the first actor is always from the
+ * first layer of the entry.</p>
+ */
+@FunctionalInterface
+public interface CollisionResponse {
+
+    /**
+     * Handles a collision.
+     *
+     * @param first  the actor from the entry's first layer
+     * @param second the actor from the entry's second layer
+     */
+    void collide(ActiveActorDestructible first, ActiveActorDestructible second);
+}
@@ -0,0 +1,265 @@
+package com.example.demo.levels;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Drives a level with a fixed simulation timestep on JavaFX pulse timestamps.
+ *
+ * <p>Elapsed pulse time is added to an accumulator, and the simulation is
+ * stepped once for every whole timestep it contains. When a pulse arrives
+ * late, several steps run back to back to catch up, up to a cap; time beyond
+ * the cap is dropped so a long stall cannot snowball into ever longer frames.
+ * After stepping, the render callback receives the fraction of a step left in
+ * the accumulator so it can interpolate between the last two simulation states.
+ * Simulation speed therefore no longer depends on how regularly pulses fire.</p>
+ */
+public class FixedTimestepLoop extends AnimationTimer {
+
+    /**
+     * The default simulation timestep, matching the original 16 ms key frame.
+     */
+    public static final long DEFAULT_STEP_NANOS = 16_000_000L;
+
+    /**
+     * The default maximum number of simulation steps run in a single pulse.
+     */
+    public static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+
+    /**
+     * The length of one simulation step, in nanoseconds.
+     */
+    private final long stepNanos;
+
+    /**
+     * The maximum number of simulation steps run in a single pulse.
+     */
+    private final int maxCatchUpSteps;
+
+    /**
+     * Advances the simulation by one step.
+     */
+    private final Runnable tick;
+
+    /**
+     * Renders the current state, given the interpolation factor between 0 and 1.
+     */
+    private final DoubleConsumer render;
+
+    /**
+     * Whether the loop is running; cleared when a step stops the game.
+     */
+    private boolean running;
+
+    /**
+     * The timestamp of the previous pulse, or a negative value before the first pulse.
+     */
+    private long lastPulseNanos = -1;
+
+    /**
+     * Simulation time owed but not yet stepped, in nanoseconds.
+     */
+    private long accumulatorNanos;
+
+    /**
+     * The number of pulses handled.
+     */
+    private long frames;
+
+    /**
+     * The number of simulation steps run.
+     */
+    private long ticks;
+
+    /**
+     * The number of pulses that ran more than one step to catch up.
+     */
+    private long catchUpFrames;
+
+    /**
+     * The number of pulses that ran no step at all.
+     */
+    private long idleFrames;
+
+    /**
+     * The number of steps dropped because the catch-up cap was reached.
+     */
+    private long droppedTicks;
+
+    /**
+     * The largest number of steps run in a single pulse.
+     */
+    private int maxStepsInFrame;
+
+    /**
+     * Constructs a loop with the default timestep and catch-up cap.
+     *
+     * @param tick   advances the simulation by one step
+     * @param render renders the current state with the given interpolation factor
+     */
+    public FixedTimestepLoop(Runnable tick, DoubleConsumer render) {
+        this(DEFAULT_STEP_NANOS, DEFAULT_MAX_CATCH_UP_STEPS, tick, render);
+    }
+
+    /**
+     * Constructs a loop with the specified timestep and catch-up cap.
+     *
+     * @param stepNanos       the length of one simulation step, in nanoseconds
+     * @param maxCatchUpSteps the maximum number of steps run in a single pulse
+     * @param tick            advances the simulation by one step
+     * @param render          renders the current state with the given interpolation factor
+     * @throws IllegalArgumentException if the step or the cap is not positive
+     */
+    public FixedTimestepLoop(long stepNanos, int maxCatchUpSteps, Runnable tick, DoubleConsumer render) {
+        if (stepNanos <= 0 || maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Step length and catch-up cap must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.tick = tick;
+        this.render = render;
+    }
+
+    /**
+     * Starts the loop. Time spent stopped is not simulated.
+     */
+    @Override
+    public void start() {
+        running = true;
+        lastPulseNanos = -1;
+        accumulatorNanos = 0;
+        super.start();
+    }
+
+    /**
+     * Stops the loop. A stop requested from inside a step ends the current pulse after that step.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Runs the simulation steps owed for this pulse and renders the result.
+     *
+     * @param now the pulse timestamp, in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        if (lastPulseNanos < 0) {
+            lastPulseNanos = now;
+            return;
+        }
+        accumulatorNanos += Math.max(0, now - lastPulseNanos);
+        lastPulseNanos = now;
+        frames++;
+
+        int steps = 0;
+        while (running && accumulatorNanos >= stepNanos && steps < maxCatchUpSteps) {
+            ticks++; // Counted first, so a step sees its own number
+            tick.run();
+            accumulatorNanos -= stepNanos;
+            steps++;
+        }
+
+        if (accumulatorNanos >= stepNanos) {
+            droppedTicks += accumulatorNanos / stepNanos;
+            accumulatorNanos %= stepNanos;
+        }
+        if (steps == 0) {
+            idleFrames++;
+        } else if (steps > 1) {
+            catchUpFrames++;
+        }
+        maxStepsInFrame = Math.max(maxStepsInFrame, steps);
+
+        if (running) {
+            render.accept((double) accumulatorNanos / stepNanos);
+        }
+    }
+
+    /**
+     * Checks whether the loop is running.
+     *
+     * @return {@code true} if the loop is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retrieves the length of one simulation step.
+     *
+     * @return the step length, in nanoseconds
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Retrieves the number of pulses handled.
+     *
+     * @return the frame count
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Retrieves the number of simulation steps run.
+     *
+     * @return the tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Retrieves the number of pulses that ran more than one step to catch up.
+     *
+     * @return the catch-up frame count
+     */
+    public long getCatchUpFrames() {
+        return catchUpFrames;
+    }
+
+    /**
+     * Retrieves the number of pulses that ran no step and only re-rendered.
+     *
+     * @return the idle frame count
+     */
+    public long getIdleFrames() {
+        return idleFrames;
+    }
+
+    /**
+     * Retrieves the number of steps dropped because the catch-up cap was reached.
+     *
+     * @return the dropped tick count
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Retrieves the largest number of steps run in a single pulse.
+     *
+     * @return the maximum steps per frame
+     */
+    public int getMaxStepsInFrame() {
+        return maxStepsInFrame;
+    }
+
+    /**
+     * Returns a summary of the frame and tick counters.
+     *
+     * @return the loop statistics as a string
+     */
+    @Override
+    public String toString() {
+        return "FixedTimestepLoop[frames=" + frames + ", ticks=" + ticks + ", catchUpFrames=" + catchUpFrames
+                + ", idleFrames=" + idleFrames + ", droppedTicks=" + droppedTicks + ", maxStepsInFrame=" + maxStepsInFrame + "]";
+    }
+}
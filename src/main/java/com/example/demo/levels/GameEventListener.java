@@ -0,0 +1,49 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.projectiles.Projectile;
+
+/**
+ * Receives the events a {@link GameEventQueue} delivers at the end of a simulation step.
+ *
+ * <p>Every method does nothing by default, so a listener overrides only the
+ * events it cares about. Listeners run on the thread draining the queue,
+ * which for a running level is the game loop's thread.</p>
+ */
+public interface GameEventListener {
+
+    /**
+     * Called for every enemy destroyed by a collision that counts as a kill.
+     *
+     * @param enemy the destroyed enemy
+     */
+    default void onKill(ActiveActorDestructible enemy) {
+    }
+
+    /**
+     * Called for every hit the user plane took.
+     *
+     * @param actor  the actor that was hit
+     * @param health the actor's health right after the hit
+     */
+    default void onDamage(ActiveActorDestructible actor, int health) {
+    }
+
+    /**
+     * Called for every projectile added to the level.
+     *
+     * @param projectile the projectile
+     * @param friendly   {@code true} if the user fired it, {@code false} if an enemy did
+     */
+    default void onProjectileSpawned(Projectile projectile, boolean friendly) {
+    }
+
+    /**
+     * Called when the level has ended.
+     *
+     * @param nextLevel the fully qualified class name of the level to go to, or another destination such as
+     *                  {@code "MainMenu"}
+     */
+    default void onLevelComplete(String nextLevel) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.projectiles.Projectile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the events of one simulation step and delivers them together at its end.
+ *
+ * <p>Systems post events while the step runs instead of calling into each
+ * other, so collisions need not know about kill counts and actors need not
+ * know about the heads-up display. The level drains the queue once per step,
+ * delivering every event to every {@link GameEventListener} in the fixed
+ * order of {@link GameEventType}, and in posting order within each kind.</p>
+ *
+ * <p>Each kind of event is stored in its own pair of preallocated arrays
+ * holding the event's subject and an integer value. Posting writes one slot
+ * and draining clears it, so events allocate nothing. The arrays only grow,
+ * by doubling, if a step posts more events of one kind than ever before.</p>
+ *
+ * <p>A listener may post while the queue is draining. An event of the kind
+ * being delivered, or of a later kind, is delivered by the same drain; an
+ * event of an earlier kind waits for the next one. The queue is meant for the
+ * thread running the game loop and is not thread-safe.</p>
+ */
+public class GameEventQueue {
+
+    /**
+     * The number of events of each kind the queue holds before it has to grow.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Every event kind, in delivery order.
+     */
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    /**
+     * The subject of each pending event, indexed by kind and then by posting order.
+     */
+    private final Object[][] subjects = new Object[TYPES.length][];
+
+    /**
+     * The integer value of each pending event, indexed like {@link #subjects}.
+     */
+    private final int[][] values = new int[TYPES.length][];
+
+    /**
+     * The number of pending events of each kind.
+     */
+    private final int[] counts = new int[TYPES.length];
+
+    /**
+     * The listeners events are delivered to, in registration order.
+     */
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    /**
+     * The number of events delivered by the latest drain.
+     */
+    private int lastDrained;
+
+    /**
+     * The number of events delivered since the queue was created.
+     */
+    private long totalDrained;
+
+    /**
+     * Constructs a queue holding {@link #DEFAULT_CAPACITY} events of each kind.
+     */
+    public GameEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a queue.
+     *
+     * @param capacity the number of events of each kind the queue holds before it has to grow, at least 1
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public GameEventQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        for (int i = 0; i < TYPES.length; i++) {
+            subjects[i] = new Object[capacity];
+            values[i] = new int[capacity];
+        }
+    }
+
+    /**
+     * Registers a listener for every event delivered from now on.
+     *
+     * @param listener the listener
+     */
+    public void addListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener
+     */
+    public void removeListener(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Posts the destruction of an enemy that counts as a kill.
+     *
+     * @param enemy the destroyed enemy
+     */
+    public void postKill(ActiveActorDestructible enemy) {
+        post(GameEventType.KILL, enemy, 0);
+    }
+
+    /**
+     * Posts a hit taken by the user plane.
+     *
+     * @param actor  the actor that was hit
+     * @param health the actor's health right after the hit
+     */
+    public void postDamage(ActiveActorDestructible actor, int health) {
+        post(GameEventType.DAMAGE, actor, health);
+    }
+
+    /**
+     * Posts a projectile added to the level.
+     *
+     * @param projectile the projectile
+     * @param friendly   {@code true} if the user fired it, {@code false} if an enemy did
+     */
+    public void postProjectileSpawned(Projectile projectile, boolean friendly) {
+        post(GameEventType.PROJECTILE_SPAWNED, projectile, friendly ? 1 : 0);
+    }
+
+    /**
+     * Posts the end of the level.
+     *
+     * @param nextLevel the fully qualified class name of the level to go to, or another destination
+     */
+    public void postLevelComplete(String nextLevel) {
+        post(GameEventType.LEVEL_COMPLETE, nextLevel, 0);
+    }
+
+    /**
+     * Appends an event to the slots of its kind, growing them if they are full.
+     *
+     * @param type    the kind of event
+     * @param subject the event's subject
+     * @param value   the event's integer value
+     */
+    private void post(GameEventType type, Object subject, int value) {
+        int kind = type.ordinal();
+        int count = counts[kind];
+        if (count == subjects[kind].length) {
+            subjects[kind] = Arrays.copyOf(subjects[kind], count * 2);
+            values[kind] = Arrays.copyOf(values[kind], count * 2);
+        }
+        subjects[kind][count] = subject;
+        values[kind][count] = value;
+        counts[kind] = count + 1;
+    }
+
+    /**
+     * Delivers every pending event to every listener and empties the queue.
+     *
+     * @return the number of events delivered
+     */
+    public int drain() {
+        int drained = 0;
+        for (int kind = 0; kind < TYPES.length; kind++) {
+            // Re-read the count every time, as a listener may post more events of this kind
+            for (int i = 0; i < counts[kind]; i++) {
+                deliver(TYPES[kind], subjects[kind][i], values[kind][i]);
+                subjects[kind][i] = null;
+                drained++;
+            }
+            counts[kind] = 0;
+        }
+        lastDrained = drained;
+        totalDrained += drained;
+        return drained;
+    }
+
+    /**
+     * Delivers one event to every listener.
+     *
+     * @param type    the kind of event
+     * @param subject the event's subject
+     * @param value   the event's integer value
+     */
+    private void deliver(GameEventType type, Object subject, int value) {
+        for (int i = 0; i < listeners.size(); i++) {
+            GameEventListener listener = listeners.get(i);
+            switch (type) {
+                case KILL -> listener.onKill((ActiveActorDestructible) subject);
+                case DAMAGE -> listener.onDamage((ActiveActorDestructible) subject, value);
+                case PROJECTILE_SPAWNED -> listener.onProjectileSpawned((Projectile) subject, value != 0);
+                case LEVEL_COMPLETE -> listener.onLevelComplete((String) subject);
+            }
+        }
+    }
+
+    /**
+     * Discards every pending event without delivering it.
+     */
+    public void clear() {
+        for (int kind = 0; kind < TYPES.length; kind++) {
+            Arrays.fill(subjects[kind], 0, counts[kind], null);
+            counts[kind] = 0;
+        }
+    }
+
+    /**
+     * Retrieves the number of pending events of one kind.
+     *
+     * @param type the kind of event
+     * @return the number of events waiting to be delivered
+     */
+    public int getPendingCount(GameEventType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Checks whether any event is waiting to be delivered.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        for (int count : counts) {
+            if (count > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of events delivered by the latest drain.
+     *
+     * @return the event count
+     */
+    public int getLastDrained() {
+        return lastDrained;
+    }
+
+    /**
+     * Retrieves the number of events delivered since the queue was created.
+     *
+     * @return the event count
+     */
+    public long getTotalDrained() {
+        return totalDrained;
+    }
+}
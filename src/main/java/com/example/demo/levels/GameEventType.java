@@ -0,0 +1,32 @@
+package com.example.demo.levels;
+
+/**
+ * The kinds of event a level raises during a simulation step.
+ *
+ * <p>The declaration order is the order in which a {@link GameEventQueue}
+ * delivers them at the end of the step: every kill, then every hit, then every
+ * projectile spawn, then the level's completion. Within one kind, events are
+ * delivered in the order they were posted.</p>
+ */
+public enum GameEventType {
+
+    /**
+     * An enemy worth a kill was destroyed by a collision.
+     */
+    KILL,
+
+    /**
+     * The user plane was hit and lost health.
+     */
+    DAMAGE,
+
+    /**
+     * A projectile was added to the level.
+     */
+    PROJECTILE_SPAWNED,
+
+    /**
+     * The level has ended and the game should move on.
+     */
+    LEVEL_COMPLETE
+}
@@ -0,0 +1,86 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.UserPlane;
+
+/**
+ * A player action taken from the keyboard, applied to the user plane at the start of the next step.
+ */
+public enum InputCommand {
+
+    /**
+     * Start moving up.
+     */
+    MOVE_UP {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.moveUp();
+        }
+    },
+
+    /**
+     * Start moving down.
+     */
+    MOVE_DOWN {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.moveDown();
+        }
+    },
+
+    /**
+     * Start moving left.
+     */
+    MOVE_LEFT {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.moveLeft();
+        }
+    },
+
+    /**
+     * Start moving right.
+     */
+    MOVE_RIGHT {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.moveRight();
+        }
+    },
+
+    /**
+     * Stop moving up or down.
+     */
+    STOP_VERTICAL {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.stopVertical();
+        }
+    },
+
+    /**
+     * Stop moving left or right.
+     */
+    STOP_HORIZONTAL {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.stopHorizontal();
+        }
+    },
+
+    /**
+     * Fire one projectile.
+     */
+    FIRE {
+        @Override
+        public void applyTo(UserPlane userPlane) {
+            userPlane.fireProjectile();
+        }
+    };
+
+    /**
+     * Applies the action to the user plane.
+     *
+     * @param userPlane the user plane
+     */
+    public abstract void applyTo(UserPlane userPlane);
+}
@@ -0,0 +1,103 @@
+package com.example.demo.levels;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carries player actions from the FX thread's key handlers to the step that applies them, without locks.
+ *
+ * <p>Key handlers only {@linkplain #offer offer} commands; the level applies
+ * everything offered so far at the start of its next step, whichever thread
+ * that step runs on. The queue is a fixed ring with one writer and one
+ * reader. Each side owns its own index and publishes it with an ordered
+ * write, so neither side ever waits. Far more commands fit in the ring than
+ * a player can type in one step; if it ever fills, further commands are
+ * dropped and counted.</p>
+ */
+public class InputQueue {
+
+    /**
+     * The number of commands the ring holds, a power of two.
+     */
+    public static final int CAPACITY = 64;
+
+    /**
+     * The commands, indexed by sequence number modulo {@link #CAPACITY}.
+     */
+    private final InputCommand[] ring = new InputCommand[CAPACITY];
+
+    /**
+     * The sequence number of the next command to write. Advanced only by the writer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The sequence number of the next command to read. Advanced only by the reader.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The number of commands dropped because the ring was full. Written only by the writer.
+     */
+    private volatile long droppedCount;
+
+    /**
+     * Adds a command. Called only from the writer thread, normally the FX thread.
+     *
+     * @param command the command
+     * @return {@code true} if the command was queued, {@code false} if the ring was full
+     */
+    public boolean offer(InputCommand command) {
+        long sequence = tail.get();
+        if (sequence - head.get() >= CAPACITY) {
+            droppedCount++;
+            return false;
+        }
+        ring[(int) sequence & (CAPACITY - 1)] = command;
+        tail.lazySet(sequence + 1); // Publishes the slot written above
+        return true;
+    }
+
+    /**
+     * Removes the oldest command. Called only from the reader thread.
+     *
+     * @return the command, or {@code null} if the queue is empty
+     */
+    public InputCommand poll() {
+        long sequence = head.get();
+        if (sequence == tail.get()) {
+            return null;
+        }
+        int index = (int) sequence & (CAPACITY - 1);
+        InputCommand command = ring[index];
+        ring[index] = null;
+        head.lazySet(sequence + 1); // Hands the slot back to the writer
+        return command;
+    }
+
+    /**
+     * Discards every queued command. Called only from the reader thread.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Discard
+        }
+    }
+
+    /**
+     * Counts the commands waiting to be applied.
+     *
+     * @return the queued command count
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Retrieves the number of commands dropped because the ring was full.
+     *
+     * @return the dropped command count
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
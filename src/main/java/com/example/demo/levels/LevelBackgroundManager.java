@@ -1,5 +1,7 @@
 package com.example.demo.levels;
 
+import com.example.demo.utilities.ImageRegistry;
+
 import javafx.scene.Group;
 import javafx.scene.image.ImageView;
 
@@ -26,7 +28,7 @@ public class LevelBackgroundManager {
      * @param screenHeight        the initial height of the screen
      */
     public LevelBackgroundManager(String backgroundImageName, Group root, double screenWidth, double screenHeight) {
-        this.background = new ImageView(getClass().getResource(backgroundImageName).toExternalForm());
+        this.background = new ImageView(ImageRegistry.get(backgroundImageName));
         background.setFitWidth(screenWidth);
         background.setFitHeight(screenHeight);
         root.getChildren().add(background);
@@ -2,13 +2,20 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.EnemyPlane;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.FramePhase;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.diagnostics.SpawnEvent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.LevelRules;
 import com.example.demo.ui.GameOverUI;
 import com.example.demo.ui.HeartDisplay;
 import com.example.demo.ui.MainMenu;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.ImageRegistry;
 import javafx.scene.Scene;
 
-import java.util.List;
-
 /**
  * Implements the first level's logic, including enemy spawning, health tracking,
  * and game-over mechanics. Uses `GameOverUI` for modular game-over UI management.
@@ -20,25 +27,40 @@ public class LevelOne extends LevelParentBase {
 	 */
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
+	/**
+	 * The enemy images decoded before the level starts.
+	 */
+	private static final String[] ENEMY_IMAGES = {"enemyplane.png", "enemyFire.png"};
+
 	/**
 	 * The total number of enemies allowed in the level at any time.
 	 */
-	private static final int TOTAL_ENEMIES = 3;
+	private static final int TOTAL_ENEMIES = LevelRules.LEVEL_ONE.getTotalEnemies();
 
 	/**
 	 * The number of kills required to advance to the next level.
 	 */
-	private static final int KILLS_TO_ADVANCE = 5;
+	private static final int KILLS_TO_ADVANCE = LevelRules.LEVEL_ONE.getKillsToAdvance();
 
 	/**
 	 * The probability of spawning an enemy in each update cycle.
 	 */
-	private static final double ENEMY_SPAWN_PROBABILITY = 0.10;
+	private static final double ENEMY_SPAWN_PROBABILITY = LevelRules.LEVEL_ONE.getEnemySpawnProbability();
+
+	/**
+	 * The horizontal distance between enemies spawned in the same update.
+	 */
+	private static final double ENEMY_SPAWN_SPACING = LevelRules.LEVEL_ONE.getEnemySpawnSpacing();
+
+	/**
+	 * The initial health of each enemy.
+	 */
+	private static final int ENEMY_HEALTH = LevelRules.LEVEL_ONE.getEnemyHealth();
 
 	/**
 	 * The initial health of the player.
 	 */
-	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final int PLAYER_INITIAL_HEALTH = LevelRules.LEVEL_ONE.getPlayerInitialHealth();
 
 	/**
 	 * Displays the player's health using heart icons.
@@ -58,7 +80,17 @@ public class LevelOne extends LevelParentBase {
 	 */
 	public LevelOne(double screenWidth, double screenHeight) {
 		super(BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, PLAYER_INITIAL_HEALTH);
-		System.out.println("LevelOne initialized.");
+		ImageRegistry.preload(ENEMY_IMAGES);
+		GameLog.info(LogCategory.LEVEL, "LevelOne initialized.");
+	}
+
+	/**
+	 * Also creates the enemy projectiles ahead of time.
+	 */
+	@Override
+	public void warmUp() {
+		super.warmUp();
+		getActorManager().prefillEnemyProjectilePool("enemyFire.png", WARM_UP_PROJECTILES);
 	}
 
 	/**
@@ -66,46 +98,46 @@ public class LevelOne extends LevelParentBase {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		System.out.println("Initializing Friendly Units...");
+		GameLog.debug(LogCategory.LEVEL, "Initializing Friendly Units...");
 
-		// Position the UserPlane based on screen dimensions
-		double sceneHeight = (getScene() != null) ? getScene().getHeight() : 0;
-		double initialXPos = 50.0; // Near the left edge
-		double initialYPos = (sceneHeight > 0) ? sceneHeight / 2.0 : 200.0; // Fallback if dimensions are unavailable
+		// Position the UserPlane based on world dimensions
+		double worldHeight = getWorldHeight();
+		double initialXPos = ActorRules.USER_START_X; // Near the left edge
+		double initialYPos = (worldHeight > 0) ? worldHeight / 2.0 : 200.0; // Fallback if dimensions are unavailable
 
 		// Create and configure UserPlane
 		UserPlane userPlane = new UserPlane(initialXPos, initialYPos, getRoot(), getActorManager(), PLAYER_INITIAL_HEALTH, this);
-		userPlane.setBounds(0, getScene().getHeight() - userPlane.getFitHeight());
-		userPlane.updateBounds(getScene().getWidth(), getScene().getHeight());
+		userPlane.setBounds(0, getWorldHeight() - userPlane.getFitHeight());
+		userPlane.updateBounds(getWorldWidth(), getWorldHeight());
 		setUserPlane(userPlane);
 		getActorManager().setUserPlane(userPlane);
-		getRoot().getChildren().add(userPlane);
+		getActorManager().showActor(userPlane);
 
 		// Initialize HeartDisplay for player health
 		heartDisplay = new HeartDisplay(5.0, 25.0, PLAYER_INITIAL_HEALTH);
 		getRoot().getChildren().add(heartDisplay.getContainer());
 
 		// Initialize GameOverUI for modular game-over handling
-		gameOverUI = new GameOverUI(getRoot(), getScene().getWidth(), getScene().getHeight());
+		gameOverUI = new GameOverUI(getRoot(), getWorldWidth(), getWorldHeight());
 
 		// Set action for "Return to Main Menu" button
 		gameOverUI.getReturnToMainMenuButton().setOnAction(e -> {
-			System.out.println("Main Menu button clicked.");
+			GameLog.debug(LogCategory.UI, "Main Menu button clicked.");
 			returnToMainMenu();
 		});
 
 		// Set action for "Restart" button
 		gameOverUI.getRestartButton().setOnAction(e -> restartLevel());
 
-		System.out.println("Friendly Units and UI initialized successfully.");
+		GameLog.debug(LogCategory.LEVEL, "Friendly Units and UI initialized successfully.");
 	}
 
 	/**
 	 * Returns the player to the main menu.
 	 */
 	private void returnToMainMenu() {
-		System.out.println("Returning to Main Menu...");
-		stopGame(); // Stop the game timeline
+		GameLog.info(LogCategory.LEVEL, "Returning to Main Menu...");
+		stopGame(); // Stop the game loop
 
 		// Retrieve the stage from the current scene
 		if (getScene().getWindow() instanceof javafx.stage.Stage stage) {
@@ -113,11 +145,10 @@ public class LevelOne extends LevelParentBase {
 			try {
 				mainMenu.start(stage); // Load the main menu onto the same stage
 			} catch (Exception e) {
-				e.printStackTrace();
-				System.err.println("Error returning to main menu: " + e.getMessage());
+				GameLog.error(LogCategory.LEVEL, "Error returning to main menu: {}", e.getMessage(), e);
 			}
 		} else {
-			System.err.println("Stage reference is null. Cannot return to Main Menu.");
+			GameLog.warn(LogCategory.LEVEL, "Stage reference is null. Cannot return to Main Menu.");
 		}
 	}
 
@@ -126,23 +157,26 @@ public class LevelOne extends LevelParentBase {
 	 */
 	@Override
 	protected void update() {
+		FrameProfiler profiler = getFrameProfiler();
+		long lap = profiler.start();
 		getActorManager().updateAll(); // Update all actors
 		getUserPlane().updatePosition(); // Update user plane's position
+		lap = profiler.lap(FramePhase.UPDATE_ACTORS, lap);
 
 		// Spawn enemy units dynamically
 		spawnEnemyUnits();
+		lap = profiler.lap(FramePhase.SPAWN_ENEMIES, lap);
 
 		// Handle collisions
-		if (getUserPlane() != null) {
-			getCollisionManager().handleCollisions(getActorManager().getEnemyProjectiles(), List.of(getUserPlane()));
-			getCollisionManager().handleCollisions(getActorManager().getUserProjectiles(), getActorManager().getEnemies());
-			getCollisionManager().handleCollisions(getActorManager().getEnemies(), List.of(getUserPlane()));
-		}
+		getCollisionManager().handleCollisions(getActorManager());
+		lap = profiler.lap(FramePhase.COLLISIONS, lap);
 
 		// Remove destroyed actors and check game conditions
 		getActorManager().removeDestroyedActors();
+		lap = profiler.lap(FramePhase.REMOVE_DESTROYED, lap);
 		checkWinCondition();
 		checkLoseCondition();
+		profiler.lap(FramePhase.GAME_STATE_CHECKS, lap);
 	}
 
 	/**
@@ -150,23 +184,26 @@ public class LevelOne extends LevelParentBase {
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
-		System.out.println("Spawning enemy units...");
+		GameLog.trace(LogCategory.LEVEL, "Spawning enemy units...");
 		int currentNumberOfEnemies = getActorManager().getEnemies().size();
 
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				System.out.println("Creating new EnemyPlane...");
-				double newEnemyInitialYPosition = Math.random() * getScene().getHeight();
+			if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+				GameLog.debug(LogCategory.LEVEL, "Creating new EnemyPlane...");
+				double newEnemyInitialYPosition = getRandom().nextDouble() * getWorldHeight();
 
 				EnemyPlane newEnemy = new EnemyPlane(
-						getScene().getWidth()- i * 200,
+						getWorldWidth() - i * ENEMY_SPAWN_SPACING,
 						newEnemyInitialYPosition,
 						getActorManager(),
 						getUserPlane(),
-						1
+						ENEMY_HEALTH,
+						getRandom().split()
 				);
 				newEnemy.setParentLevel(this); // Set parent level
 				getActorManager().addEnemy(newEnemy);
+				SpawnEvent.emit(getClass().getSimpleName(), newEnemy.getClass().getSimpleName(),
+						newEnemy.getLayoutX(), newEnemy.getLayoutY(), getActorManager().getEnemies().size());
 
 				// Optional: Fire a projectile during enemy spawn for debugging
 				getActorManager().createEnemyProjectile(
@@ -184,9 +221,9 @@ public class LevelOne extends LevelParentBase {
 	 */
 	private void checkWinCondition() {
 		if (getUserPlane().getNumberOfKills() >= KILLS_TO_ADVANCE) {
-			System.out.println("Congratulations! Moving to Level Two.");
+			GameLog.info(LogCategory.LEVEL, "Congratulations! Moving to Level Two.");
 			stopGame(); // Stop the current level
-			notifyObservers("com.example.demo.levels.LevelTwo");
+			completeLevel("com.example.demo.levels.LevelTwo");
 		}
 	}
 
@@ -195,9 +232,9 @@ public class LevelOne extends LevelParentBase {
 	 */
 	private void checkLoseCondition() {
 		if (getUserPlane().getHealth() <= 0) {
-			System.out.println("Game Over!");
-			stopGame(); // Stop the game timeline
-			gameOverUI.showGameOverUI(); // Display the Game Over UI
+			GameLog.info(LogCategory.LEVEL, "Game Over!");
+			stopGame(); // Stop the game loop
+			FxThread.run(gameOverUI::showGameOverUI); // Display the Game Over UI
 		}
 	}
 
@@ -205,21 +242,22 @@ public class LevelOne extends LevelParentBase {
 	 * Restarts the level by reinitializing game state and UI elements.
 	 */
 	private void restartLevel() {
-		stopGame(); // Stop the game timeline
+		stopGame(); // Stop the game loop
+		prepareRestart();
 
 		// Clear all actors and UI elements
 		getRoot().getChildren().clear();
 		getActorManager().clearAllActors();
 
 		// Reinitialize background and friendly units
-		initializeBackground(getScene().getWidth(), getScene().getHeight());
+		initializeBackground(getWorldWidth(), getWorldHeight());
 		initializeFriendlyUnits();
 
 		// Hide Game Over UI and restart the game
 		gameOverUI.hideGameOverUI();
 		startGame();
 
-		System.out.println("Level restarted!");
+		GameLog.info(LogCategory.LEVEL, "Level restarted!");
 	}
 
 	/**
@@ -228,7 +266,7 @@ public class LevelOne extends LevelParentBase {
 	 * @param newHealth The new health value to display.
 	 */
 	public void updateHeartDisplay(int newHealth) {
-		System.out.println("Updating Heart Display. Current Health: " + newHealth);
+		GameLog.debug(LogCategory.UI, "Updating Heart Display. Current Health: {}", newHealth);
 
 		if (heartDisplay != null) {
 			while (heartDisplay.getContainer().getChildren().size() > newHealth) {
@@ -247,66 +285,40 @@ public class LevelOne extends LevelParentBase {
 		super.initializeScene();
 		Scene scene = getScene();
 
-		// Handle resizing events
-		scene.heightProperty().addListener((obs, oldHeight, newHeight) -> {
-			if (getUserPlane() != null) {
-				getUserPlane().setBounds(0, newHeight.doubleValue() - getUserPlane().getFitHeight());
-			}
-		});
-
 		// Configure key press actions
 		scene.setOnKeyPressed(event -> {
 			switch (event.getCode()) {
-				case W -> getUserPlane().moveUp();
-				case S -> getUserPlane().moveDown();
-				case A -> getUserPlane().moveLeft();
-				case D -> getUserPlane().moveRight();
-				case SPACE -> getUserPlane().fireProjectile();
+				case W -> queueInput(InputCommand.MOVE_UP);
+				case S -> queueInput(InputCommand.MOVE_DOWN);
+				case A -> queueInput(InputCommand.MOVE_LEFT);
+				case D -> queueInput(InputCommand.MOVE_RIGHT);
+				case SPACE -> queueInput(InputCommand.FIRE);
 			}
 		});
 
 		// Configure key release actions
 		scene.setOnKeyReleased(event -> {
 			switch (event.getCode()) {
-				case W, S -> getUserPlane().stopVertical();
-				case A, D -> getUserPlane().stopHorizontal();
+				case W, S -> queueInput(InputCommand.STOP_VERTICAL);
+				case A, D -> queueInput(InputCommand.STOP_HORIZONTAL);
 			}
 		});
 
 		return scene;
 	}
 
-	/**
-	 * Resizes all elements to adapt to the new screen dimensions.
-	 *
-	 * @param newWidth  The new width of the screen.
-	 * @param newHeight The new height of the screen.
-	 */
-	@Override
-	public void resizeElements(double newWidth, double newHeight) {
-		super.resizeElements(newWidth, newHeight);
-
-		if (heartDisplay != null) {
-			heartDisplay.adjustPositionForResize(newWidth, newHeight);
-		}
-
-		if (gameOverUI != null) {
-			gameOverUI.adjustPositionForResize(newWidth, newHeight);
-		}
-	}
-
 	/**
 	 * Checks if the game is over due to the player losing all health or meeting the win condition.
 	 */
 	@Override
 	protected void checkIfGameOver() {
 		if (getUserPlane().getHealth() <= 0) {
-			System.out.println("Game Over!");
+			GameLog.info(LogCategory.LEVEL, "Game Over!");
 			stopGame();
-			gameOverUI.showGameOverUI();
+			FxThread.run(gameOverUI::showGameOverUI);
 		} else if (getUserPlane().getNumberOfKills() >= KILLS_TO_ADVANCE) {
-			System.out.println("Congratulations! Moving to the next level.");
-			notifyObservers("com.example.demo.levels.LevelTwo");
+			GameLog.info(LogCategory.LEVEL, "Congratulations! Moving to the next level.");
+			completeLevel("com.example.demo.levels.LevelTwo");
 		}
 	}
 }
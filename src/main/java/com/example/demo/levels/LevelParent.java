@@ -3,8 +3,6 @@ package com.example.demo.levels;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
-import java.util.List;
-
 /**
  * Refactored LevelParent class using modular components.
  *
@@ -40,8 +38,8 @@ public abstract class LevelParent extends LevelParentBase {
 	public LevelParent(Stage stage, String backgroundImageName, int playerInitialHealth) {
 		super(backgroundImageName, ORIGINAL_SCREEN_WIDTH, ORIGINAL_SCREEN_HEIGHT, playerInitialHealth);
 
-		this.actorManager = new ActorManager(root);
-		this.collisionManager = new CollisionManager();
+		this.actorManager = new ActorManager(root, getEvents());
+		this.collisionManager = new CollisionManager(getEvents());
 		this.gameStateManager = new LevelGameStateManager(this);
 	}
 
@@ -52,11 +50,7 @@ public abstract class LevelParent extends LevelParentBase {
 	protected void update() {
 		actorManager.updateAll(); // Update all actors (player, enemies, projectiles)
 
-		// Handle collisions between user projectiles and enemies
-		collisionManager.handleCollisions(actorManager.getUserProjectiles(), actorManager.getEnemies());
-
-		// Handle collisions between enemies and the user plane
-		collisionManager.handleCollisions(actorManager.getEnemies(), List.of(userPlane));
+		collisionManager.handleCollisions(actorManager); // Handle every collision in one pass
 
 		actorManager.removeDestroyedActors(); // Remove destroyed actors
 		gameStateManager.checkWinCondition(); // Check if the level is won
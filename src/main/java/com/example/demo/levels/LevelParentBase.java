@@ -1,18 +1,29 @@
 package com.example.demo.levels;
 
+import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.FrameEvent;
+import com.example.demo.diagnostics.FramePhase;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.simulation.InputRecorder;
 import com.example.demo.ui.HeartDisplay;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.ImageRegistry;
+import com.example.demo.utilities.TripleBuffer;
+import javafx.animation.AnimationTimer;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
-import javafx.util.Duration;
+import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.SplittableRandom;
 
 /**
  * Base class for shared level functionality.
@@ -20,6 +31,33 @@ import java.util.function.Consumer;
  * <p>This class provides the foundational structure for game levels,
  * including managing actors, collisions, user interface elements,
  * and the game loop.</p>
+ *
+ * <p>A level renders in one of two {@link RenderMode}s. In node mode the
+ * background and every actor are nodes under the root group. In canvas mode a
+ * {@link CanvasRenderer} draws them onto one canvas at the bottom of the root
+ * group, and only the user interface remains as separate nodes.</p>
+ *
+ * <p>Kills, hits, projectile spawns and the end of the level are posted to the
+ * level's {@link GameEventQueue} while a step runs, and delivered together
+ * once the step has finished. The level itself listens for kills and hits to
+ * keep the kill count and heart display current; the controller listens for
+ * the end of the level.</p>
+ *
+ * <p>A {@link QualityGovernor} watches what each step and render costs. When
+ * frames overrun it lowers the level's {@link QualityLevel}: nodes registered
+ * with {@link #addCosmeticNode(Node)} are hidden, interpolation is skipped,
+ * logging is quietened, the canvas is drawn at lower resolution and enemy
+ * fire is capped, in that order. Each is restored as headroom returns.</p>
+ *
+ * <p>Key handlers never touch the user plane directly: they
+ * {@linkplain #queueInput queue} commands, which the next step applies
+ * before anything moves. A canvas-rendered level can therefore run its steps
+ * on a {@link SimulationThread} when configured to. Each step then ends by
+ * filling a {@link WorldSnapshot} and publishing it through a
+ * {@link TripleBuffer}; the JavaFX Application Thread only draws the latest
+ * snapshot and keeps the heart display in step with it. The few scene
+ * changes a step makes, such as showing the game-over screen, go through
+ * {@link FxThread}.</p>
  */
 public abstract class LevelParentBase {
 
@@ -34,25 +72,100 @@ public abstract class LevelParentBase {
     public static final double ORIGINAL_SCREEN_HEIGHT = 750.0;
 
     /**
-     * The root group containing all elements of the level.
+     * The images used by every level, decoded before the level is shown.
+     */
+    private static final String[] SHARED_IMAGES = {"userplane.png", "userfire.png", "heart.png", "gameover.png"};
+
+    /**
+     * The number of projectiles of each kind created ahead of time by {@link #warmUp()}.
+     */
+    protected static final int WARM_UP_PROJECTILES = 16;
+
+    /**
+     * The file name of the background image.
+     */
+    private final String backgroundImageName;
+
+    /**
+     * The seed of the level's random stream.
+     */
+    private long seed;
+
+    /**
+     * Records the player's input every tick, or {@code null} when recording is not configured.
+     */
+    private final InputRecorder inputRecorder = InputRecorder.isEnabled() ? new InputRecorder() : null;
+
+    /**
+     * The level's random stream, driving spawning and split by every actor it spawns.
+     */
+    private SplittableRandom random;
+
+    /**
+     * The root group containing all elements of the level, in world coordinates.
      */
     protected final Group root;
 
     /**
-     * The game loop timeline.
+     * The fixed-timestep game loop driving the level.
      */
-    protected final Timeline timeline;
+    protected final FixedTimestepLoop gameLoop;
+
+    /**
+     * The per-phase timers of the level update pipeline.
+     */
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+
+    /**
+     * Runs the level's steps on a dedicated thread, or {@code null} when they run in {@link #gameLoop}.
+     */
+    private final SimulationThread simulationThread;
+
+    /**
+     * Hands snapshots from the simulation thread to the FX thread, or {@code null} without a simulation thread.
+     */
+    private final TripleBuffer<WorldSnapshot> snapshots;
+
+    /**
+     * Draws the latest snapshot every pulse, or {@code null} without a simulation thread.
+     */
+    private final AnimationTimer snapshotRenderer;
+
+    /**
+     * The player actions queued by the key handlers for the next step.
+     */
+    private final InputQueue inputQueue = new InputQueue();
+
+    /**
+     * The player health the heart display last showed from a snapshot. Touched only by the FX thread.
+     */
+    private int shownHealth = Integer.MAX_VALUE;
 
     /**
      * The scene representing the level.
      */
     protected final Scene scene;
 
+    /**
+     * Fits the fixed-size world held by {@link #root} into the scene.
+     */
+    private final WorldViewport viewport;
+
     /**
      * The background image of the level.
      */
     protected final ImageView background;
 
+    /**
+     * How the level puts its background and actors on screen.
+     */
+    private final RenderMode renderMode;
+
+    /**
+     * The renderer drawing the level in canvas mode, or {@code null} in node mode.
+     */
+    private final CanvasRenderer canvasRenderer;
+
     /**
      * The user's plane (player-controlled actor).
      */
@@ -69,9 +182,34 @@ public abstract class LevelParentBase {
     protected final CollisionManager collisionManager;
 
     /**
-     * A list of observers notified about level transitions.
+     * The events posted during the current step, delivered when it finishes.
+     */
+    private final GameEventQueue events = new GameEventQueue();
+
+    /**
+     * Whether a simulation step is running, so that posted events wait for its end.
+     */
+    private boolean ticking;
+
+    /**
+     * Lowers and restores the level's quality as its frames overrun or regain their budget.
+     */
+    private final QualityGovernor qualityGovernor;
+
+    /**
+     * The decorative nodes hidden at reduced quality.
+     */
+    private final List<Node> cosmeticNodes = new ArrayList<>();
+
+    /**
+     * Whether actors are drawn between their last two simulated positions.
      */
-    private final List<Consumer<String>> observers = new ArrayList<>();
+    private volatile boolean interpolating = true;
+
+    /**
+     * The configured log levels, indexed by category, while logging is quietened; otherwise {@code null}.
+     */
+    private LogLevel[] savedLogLevels;
 
     /**
      * The heart display for representing the player's health.
@@ -87,32 +225,101 @@ public abstract class LevelParentBase {
      * @param playerInitialHealth the initial health of the player
      */
     public LevelParentBase(String backgroundImageName, double screenWidth, double screenHeight, int playerInitialHealth) {
-        this.root = new Group();
-        this.scene = new Scene(root, screenWidth, screenHeight);
-        this.background = new ImageView(getClass().getResource(backgroundImageName).toExternalForm());
-        this.actorManager = new ActorManager(root);
-        this.collisionManager = new CollisionManager();
+        this(backgroundImageName, screenWidth, screenHeight, playerInitialHealth, null);
+    }
 
-        this.timeline = new Timeline();
-        this.timeline.setCycleCount(Timeline.INDEFINITE);
-        this.timeline.getKeyFrames().add(new KeyFrame(Duration.millis(16), e -> update()));
+    /**
+     * Constructs a LevelParentBase that renders in the given mode.
+     *
+     * @param backgroundImageName the file name of the background image
+     * @param screenWidth         the width of the screen
+     * @param screenHeight        the height of the screen
+     * @param playerInitialHealth the initial health of the player
+     * @param renderMode          the render mode, or {@code null} to use the mode configured for this level
+     */
+    protected LevelParentBase(String backgroundImageName, double screenWidth, double screenHeight, int playerInitialHealth,
+                              RenderMode renderMode) {
+        this.backgroundImageName = backgroundImageName;
+        setSeed(GameRandom.newSeed());
+        this.root = new Group();
+        this.scene = new Scene(new Group(root), screenWidth, screenHeight, Color.BLACK);
+        this.viewport = new WorldViewport(root, ORIGINAL_SCREEN_WIDTH, ORIGINAL_SCREEN_HEIGHT);
+        viewport.bind(scene);
+        ImageRegistry.beginLevel(backgroundImageName);
+        ImageRegistry.preload(SHARED_IMAGES);
+        this.background = new ImageView(ImageRegistry.get(backgroundImageName));
+        this.renderMode = renderMode != null ? renderMode : RenderMode.configuredFor(getClass().getSimpleName());
+        if (this.renderMode == RenderMode.CANVAS) {
+            this.canvasRenderer = new CanvasRenderer(background.getImage(), ORIGINAL_SCREEN_WIDTH, ORIGINAL_SCREEN_HEIGHT);
+            this.actorManager = new ActorManager(root, new Group(), events);
+        } else {
+            this.canvasRenderer = null;
+            this.actorManager = new ActorManager(root, events);
+        }
+        GameLog.info(LogCategory.LEVEL, "{} renders with {}", getClass().getSimpleName(), this.renderMode);
+        this.collisionManager = new CollisionManager(events);
+        events.addListener(new GameEventListener() {
+            @Override
+            public void onKill(ActiveActorDestructible enemy) {
+                if (userPlane != null) {
+                    userPlane.incrementKillCount();
+                    GameLog.debug(LogCategory.COLLISION, "Kill Count: {}", userPlane.getNumberOfKills());
+                }
+            }
+
+            @Override
+            public void onDamage(ActiveActorDestructible actor, int health) {
+                // With a simulation thread the hearts follow the published snapshots instead
+                if (actor == userPlane && simulationThread == null) {
+                    updateHeartDisplay(health);
+                }
+            }
+        });
+
+        this.gameLoop = new FixedTimestepLoop(this::tick, this::render);
+        boolean threaded = SimulationThread.isConfiguredFor(getClass().getSimpleName());
+        if (threaded && canvasRenderer == null) {
+            GameLog.warn(LogCategory.LEVEL, "{} needs canvas mode for a simulation thread; simulating on the FX thread",
+                    getClass().getSimpleName());
+            threaded = false;
+        }
+        if (threaded) {
+            this.simulationThread = new SimulationThread(getClass().getSimpleName() + "-simulation", this::tick);
+            this.snapshots = new TripleBuffer<>(WorldSnapshot::new);
+            this.snapshotRenderer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    renderSnapshot();
+                }
+            };
+            GameLog.info(LogCategory.LEVEL, "{} simulates on its own thread", getClass().getSimpleName());
+        } else {
+            this.simulationThread = null;
+            this.snapshots = null;
+            this.snapshotRenderer = null;
+        }
+        this.qualityGovernor = new QualityGovernor(getClass().getSimpleName(), this::applyQuality);
 
-        System.out.println("LevelParentBase initialized:");
-        System.out.println("Root: " + root);
-        System.out.println("Scene: " + scene);
-        System.out.println("ActorManager: " + actorManager);
+        GameLog.debug(LogCategory.LEVEL, "LevelParentBase initialized: Root={}, Scene={}, ActorManager={}", root, scene, actorManager);
 
-        initializeBackground(screenWidth, screenHeight);
+        initializeBackground(ORIGINAL_SCREEN_WIDTH, ORIGINAL_SCREEN_HEIGHT);
         root.getChildren().add(new Group()); // Add player to the root
     }
 
     /**
-     * Initializes the background image.
+     * Initializes the background image, or in canvas mode the canvas the level is drawn onto.
      *
-     * @param screenWidth  the width of the screen
-     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the world
+     * @param screenHeight the height of the world
      */
     protected void initializeBackground(double screenWidth, double screenHeight) {
+        if (canvasRenderer != null) {
+            canvasRenderer.resize(screenWidth, screenHeight);
+            if (!root.getChildren().contains(canvasRenderer.getCanvas())) {
+                root.getChildren().add(0, canvasRenderer.getCanvas()); // The canvas replaces the background node
+            }
+            return;
+        }
         background.setFitWidth(screenWidth);
         background.setFitHeight(screenHeight);
         if (!root.getChildren().contains(background)) {
@@ -120,6 +327,34 @@ public abstract class LevelParentBase {
         }
     }
 
+    /**
+     * Retrieves the width of the world the level is played in, in virtual units.
+     * The world keeps this size whatever the size of the window.
+     *
+     * @return the world width
+     */
+    public double getWorldWidth() {
+        return viewport.getWorldWidth();
+    }
+
+    /**
+     * Retrieves the height of the world the level is played in, in virtual units.
+     *
+     * @return the world height
+     */
+    public double getWorldHeight() {
+        return viewport.getWorldHeight();
+    }
+
+    /**
+     * Retrieves the viewport fitting the world into the scene.
+     *
+     * @return the viewport
+     */
+    public WorldViewport getViewport() {
+        return viewport;
+    }
+
     /**
      * Retrieves the heart display for managing player's health.
      *
@@ -146,9 +381,9 @@ public abstract class LevelParentBase {
     public void updateHeartDisplay(int health) {
         if (heartDisplay != null) {
             heartDisplay.updateHealth(health);
-            System.out.println("Heart display updated: Health = " + health);
+            GameLog.debug(LogCategory.UI, "Heart display updated: Health = {}", health);
         }else {
-            System.out.println("Heart display is not initialized.");
+            GameLog.warn(LogCategory.UI, "Heart display is not initialized.");
         }
     }
 
@@ -206,21 +441,333 @@ public abstract class LevelParentBase {
         return scene;
     }
 
+    /**
+     * Retrieves how the level puts its background and actors on screen.
+     *
+     * @return the render mode
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Retrieves the renderer drawing the level onto a canvas.
+     *
+     * @return the canvas renderer, or {@code null} in node mode
+     */
+    public CanvasRenderer getCanvasRenderer() {
+        return canvasRenderer;
+    }
+
+    /**
+     * Retrieves the queue the level's systems post their events to.
+     *
+     * @return the event queue
+     */
+    public GameEventQueue getEvents() {
+        return events;
+    }
+
+    /**
+     * Retrieves the per-phase timers of the level update pipeline.
+     *
+     * @return the frame profiler
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
+    /**
+     * Retrieves the governor lowering and restoring the level's quality.
+     *
+     * @return the quality governor
+     */
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Registers a decorative node, hidden while the level runs at reduced quality.
+     *
+     * @param node the node, already part of the level's scene
+     */
+    protected void addCosmeticNode(Node node) {
+        cosmeticNodes.add(node);
+        node.setVisible(qualityGovernor.getLevel().showsCosmetics());
+    }
+
+    /**
+     * Applies a quality level to the level's rendering, logging and enemy fire.
+     *
+     * @param quality the quality level
+     */
+    private void applyQuality(QualityLevel quality) {
+        FxThread.run(() -> {
+            for (Node node : cosmeticNodes) {
+                node.setVisible(quality.showsCosmetics());
+            }
+            if (canvasRenderer != null) {
+                canvasRenderer.setRenderScale(quality.getRenderScale());
+            }
+        });
+        interpolating = quality.interpolates();
+        setVerboseLogging(quality.logsVerbosely());
+        actorManager.setEnemyProjectileCap(quality.getEnemyProjectileCap());
+    }
+
+    /**
+     * Raises every log category other than {@link LogCategory#GAME} to at least warnings,
+     * or restores the levels they had before.
+     *
+     * @param verbose {@code true} to restore the configured levels
+     */
+    private void setVerboseLogging(boolean verbose) {
+        LogCategory[] categories = LogCategory.values();
+        if (!verbose && savedLogLevels == null) {
+            savedLogLevels = new LogLevel[categories.length];
+            for (LogCategory category : categories) {
+                LogLevel level = GameLog.getLevel(category);
+                savedLogLevels[category.ordinal()] = level;
+                if (category != LogCategory.GAME && level.compareTo(LogLevel.WARN) < 0) {
+                    GameLog.setLevel(category, LogLevel.WARN);
+                }
+            }
+        } else if (verbose && savedLogLevels != null) {
+            for (LogCategory category : categories) {
+                GameLog.setLevel(category, savedLogLevels[category.ordinal()]);
+            }
+            savedLogLevels = null;
+        }
+    }
+
+    /**
+     * Queues a player action for the start of the next step. Called by the key handlers on the FX thread.
+     *
+     * @param command the action
+     */
+    protected void queueInput(InputCommand command) {
+        inputQueue.offer(command);
+    }
+
+    /**
+     * Applies the player actions queued since the previous step.
+     */
+    private void applyQueuedInput() {
+        InputCommand command;
+        while ((command = inputQueue.poll()) != null) {
+            if (userPlane != null) {
+                command.applyTo(userPlane);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the thread running the level's steps.
+     *
+     * @return the simulation thread, or {@code null} when steps run on the FX thread
+     */
+    public SimulationThread getSimulationThread() {
+        return simulationThread;
+    }
+
+    /**
+     * Retrieves the number of steps the level has run, on whichever thread runs them.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return simulationThread != null ? simulationThread.getTicks() : gameLoop.getTicks();
+    }
+
+    /**
+     * Retrieves the game loop, including its frame and tick statistics.
+     *
+     * @return the game loop
+     */
+    public FixedTimestepLoop getGameLoop() {
+        return gameLoop;
+    }
+
+    /**
+     * Retrieves the file name of the background image.
+     *
+     * @return the background image name
+     */
+    public String getBackgroundImageName() {
+        return backgroundImageName;
+    }
+
+    /**
+     * Restarts the level's random stream from a seed. Called before the level starts,
+     * so that the same seed always produces the same game.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Retrieves the seed of the level's random stream.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the level's random stream. Actors take their own stream from it with {@link SplittableRandom#split()}.
+     *
+     * @return the random stream
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Creates objects the level will need early, so the first frames do not pay for them.
+     *
+     * <p>Called by the {@link LevelRegistry} right after construction, usually on
+     * its background thread while the previous level is still running. The
+     * level's scene is not shown yet, so only its own nodes may be touched here.
+     * Subclasses extending this method should call the superclass version.</p>
+     */
+    public void warmUp() {
+        actorManager.getUserProjectilePool().prefill(WARM_UP_PROJECTILES);
+    }
+
     /**
      * Starts the game by initializing friendly units and starting the game loop.
      */
     public void startGame() {
-        System.out.println("Starting the game...");
+        GameLog.info(LogCategory.GAME, "Starting the game...");
         initializeFriendlyUnits(); // Initialize friendly units
-        timeline.play(); // Start game loop
-        System.out.println("Game timeline started.");
+        if (simulationThread != null) {
+            shownHealth = Integer.MAX_VALUE;
+            simulationThread.start();
+            snapshotRenderer.start();
+        } else {
+            gameLoop.start(); // Start game loop
+        }
+        GameLog.info(LogCategory.GAME, "Game loop started.");
     }
 
     /**
-     * Stops the game loop.
+     * Stops the game loop, returns the level to full quality, and writes the level's
+     * frame timings and input recording where directories are configured.
+     * With a simulation thread this waits for the current step to finish, unless called from that step.
      */
     public void stopGame() {
-        timeline.stop();
+        if (simulationThread != null) {
+            simulationThread.stop();
+            FxThread.run(snapshotRenderer::stop);
+        } else {
+            gameLoop.stop();
+        }
+        qualityGovernor.reset();
+        frameProfiler.dump(getClass().getSimpleName());
+        if (inputRecorder != null) {
+            inputRecorder.dump(getClass().getSimpleName(), seed, getWorldWidth(), getWorldHeight());
+        }
+    }
+
+    /**
+     * Readies a stopped level to be played again from the start. The random stream restarts
+     * from the level's seed, so a retry plays out the same way and a recording of it replays,
+     * and input recorded or queued during the previous attempt is discarded.
+     * Levels call this right after {@link #stopGame()}, before rebuilding their actors.
+     */
+    protected void prepareRestart() {
+        setSeed(getSeed());
+        inputQueue.clear();
+        if (inputRecorder != null) {
+            inputRecorder.reset();
+        }
+    }
+
+    /**
+     * Advances the simulation by one fixed step and delivers the events it posted,
+     * recording a {@link FrameEvent} when Flight Recorder asks for one.
+     * With a simulation thread the step ends by publishing a snapshot for the FX thread.
+     */
+    private void tick() {
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        long tickStart = System.nanoTime();
+        frameProfiler.beginFrame();
+        long start = frameProfiler.start();
+        applyQueuedInput();
+        if (inputRecorder != null && userPlane != null) {
+            inputRecorder.record(userPlane.pollInput());
+        }
+        getActorManager().captureSimStates();
+        ticking = true;
+        try {
+            update();
+        } finally {
+            ticking = false;
+        }
+        events.drain();
+        frameProfiler.lap(FramePhase.TICK, start);
+        qualityGovernor.recordTick(System.nanoTime() - tickStart, getTickCount());
+        if (snapshots != null) {
+            snapshots.getWriteSlot().capture(actorManager, getTickCount());
+            snapshots.publish();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.level = getClass().getSimpleName();
+            event.tick = getTickCount();
+            event.setPhases(frameProfiler);
+            event.enemies = actorManager.getEnemies().size();
+            event.userProjectiles = actorManager.getUserProjectiles().size();
+            event.enemyProjectiles = actorManager.getEnemyProjectiles().size();
+            event.events = events.getLastDrained();
+            event.quality = qualityGovernor.getLevel().name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Draws actors between their last two simulated positions.
+     *
+     * @param alpha the fraction of a step elapsed since the latest simulation step
+     */
+    private void render(double alpha) {
+        long renderStart = System.nanoTime();
+        long start = frameProfiler.start();
+        if (interpolating) {
+            getActorManager().interpolateAll(alpha);
+        }
+        if (canvasRenderer != null) {
+            canvasRenderer.render(getActorManager());
+        }
+        frameProfiler.lap(FramePhase.RENDER, start);
+        qualityGovernor.recordRender(System.nanoTime() - renderStart);
+    }
+
+    /**
+     * Draws the latest snapshot published by the simulation thread, between its step's start and end
+     * by the time elapsed since it was taken, and brings the heart display up to date with it.
+     * The profiler and the quality governor belong to the simulation thread and are not fed from here.
+     */
+    private void renderSnapshot() {
+        WorldSnapshot snapshot = snapshots.getLatest();
+        if (snapshot.getTick() == 0) {
+            return;
+        }
+        double alpha = 1.0;
+        if (interpolating) {
+            double elapsed = (double) (System.nanoTime() - snapshot.getCapturedNanos()) / simulationThread.getStepNanos();
+            alpha = Math.min(1.0, Math.max(0.0, elapsed));
+        }
+        canvasRenderer.render(snapshot, alpha);
+        if (snapshot.getPlayerHealth() != shownHealth) {
+            shownHealth = snapshot.getPlayerHealth();
+            updateHeartDisplay(shownHealth);
+        }
     }
 
     /**
@@ -228,35 +775,45 @@ public abstract class LevelParentBase {
      * and checking win/lose conditions.
      */
     protected void update() {
-        System.out.println("Root children count: " + root.getChildren().size());
-        for (Node child : root.getChildren()) {
-            System.out.println("Child: " + child + " at X=" + child.getLayoutX() + ", Y=" + child.getLayoutY());
+        if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.LEVEL)) {
+            logSceneGraph();
         }
+        long lap = frameProfiler.start();
         getUserPlane().updatePosition();
         getActorManager().updateAll(); // Update all actors
+        lap = frameProfiler.lap(FramePhase.UPDATE_ACTORS, lap);
         spawnEnemyUnits();             // Spawn new enemies
+        lap = frameProfiler.lap(FramePhase.SPAWN_ENEMIES, lap);
         checkIfGameOver();             // Check win/lose conditions
+        lap = frameProfiler.lap(FramePhase.GAME_STATE_CHECKS, lap);
         getActorManager().removeDestroyedActors(); // Remove destroyed actors
-        System.out.println("Root children count: " + root.getChildren().size());
+        frameProfiler.lap(FramePhase.REMOVE_DESTROYED, lap);
+        if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.LEVEL)) {
+            logSceneGraph();
+        }
+    }
+
+    /**
+     * Logs every child of the root group with its position and visibility, at TRACE level.
+     */
+    private void logSceneGraph() {
+        GameLog.trace(LogCategory.LEVEL, "Root children count: {}", root.getChildren().size());
         for (Node child : root.getChildren()) {
-            System.out.println("Child: " + child +
-                    ", LayoutX=" + child.getLayoutX() +
-                    ", LayoutY=" + child.getLayoutY() +
-                    ", Opacity=" + child.getOpacity() +
-                    ", Visible=" + child.isVisible());
-        }}
+            GameLog.trace(LogCategory.LEVEL, "Child: {} at X={}, Y={}", child, child.getLayoutX(), child.getLayoutY());
+            GameLog.trace(LogCategory.LEVEL, "Child: {}, Opacity={}, Visible={}", child, child.getOpacity(), child.isVisible());
+        }
+    }
 
     /**
-     * Resizes elements in the level to match new screen dimensions.
+     * Fits the level to new screen dimensions. Only the viewport transform changes;
+     * the world and every actor in it keep their virtual coordinates.
+     * The scene's own size changes are picked up without calling this.
      *
      * @param newWidth  the new width of the screen
      * @param newHeight the new height of the screen
      */
     public void resizeElements(double newWidth, double newHeight) {
-        if (background != null) {
-            background.setFitWidth(newWidth);
-            background.setFitHeight(newHeight);
-        }
+        viewport.fit(newWidth, newHeight);
     }
 
     /**
@@ -275,21 +832,19 @@ public abstract class LevelParentBase {
     protected abstract void spawnEnemyUnits();
 
     /**
-     * Adds an observer to be notified of level transitions.
+     * Posts the end of the level. During a step the event is delivered when the step
+     * finishes; otherwise, such as from a button, it is delivered at once.
      *
-     * @param observer the observer to add
+     * @param nextLevel the fully qualified class name of the next level, or another destination
      */
-    public void addObserver(Consumer<String> observer) {
-        observers.add(observer);
-    }
-
-    /**
-     * Notifies all observers of a level transition.
-     *
-     * @param nextLevel the next level to transition to
-     */
-    protected void notifyObservers(String nextLevel) {
-        observers.forEach(observer -> observer.accept(nextLevel));
+    protected void completeLevel(String nextLevel) {
+        if (simulationThread != null && !simulationThread.isCurrentThread()) {
+            simulationThread.stop(); // The event queue belongs to the simulation thread while it runs
+        }
+        events.postLevelComplete(nextLevel);
+        if (!ticking) {
+            events.drain();
+        }
     }
 
     /**
@@ -0,0 +1,303 @@
+package com.example.demo.levels;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.utilities.GameRandom;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Knows every level, the level that follows it, and how to build it, and prepares the next level ahead of time.
+ *
+ * <p>While a level runs, {@link #prepareSuccessor} builds the level after it on a
+ * low-priority background thread. Building a level decodes its images, creates
+ * its scene and root group, which are not yet shown, and warms its projectile
+ * pools through {@link LevelParentBase#warmUp}. When the transition comes,
+ * {@link #obtain} hands over the prepared level, so the FX thread only swaps
+ * scenes. A level that was not prepared is built on the spot. The window size
+ * at preparation time does not matter: every level plays in the same fixed
+ * world, and its {@link WorldViewport} refits the world to the window once the
+ * scene is shown, so a level prepared before a resize or a fullscreen toggle is
+ * still used.</p>
+ *
+ * <p>Levels are created through registered factories, not by reflection.
+ * Registration and {@link #obtain} happen on the FX thread. Only the factory
+ * and {@link LevelParentBase#warmUp} run on the background thread, and the
+ * finished level is handed back through a {@link Future}.</p>
+ *
+ * <p>The registry holds the run seed. Every level it hands out is seeded with
+ * {@link GameRandom#deriveSeed} of the run seed and the level's name, so a
+ * level plays the same way in every run with the same seed, whether or not it
+ * was prepared in the background.</p>
+ */
+public final class LevelRegistry {
+
+    /**
+     * The name passed on by the last level when the game is won.
+     */
+    public static final String GAME_COMPLETED = "GAME_COMPLETED";
+
+    /**
+     * Builds a level for a screen size.
+     */
+    @FunctionalInterface
+    public interface LevelFactory {
+
+        /**
+         * Creates the level.
+         *
+         * @param screenWidth  the width of the screen
+         * @param screenHeight the height of the screen
+         * @return the new level, not yet started
+         */
+        LevelParentBase create(double screenWidth, double screenHeight);
+    }
+
+    /**
+     * A registered level.
+     *
+     * @param factory   builds the level
+     * @param successor the name of the level that follows, or {@link #GAME_COMPLETED}
+     */
+    private record Entry(LevelFactory factory, String successor) {
+    }
+
+    /**
+     * A level being built in the background.
+     *
+     * @param name  the level's name
+     * @param level the level, once built
+     */
+    private record Preparation(String name, Future<LevelParentBase> level) {
+    }
+
+    /**
+     * The seed every level's random stream is derived from.
+     */
+    private final long runSeed;
+
+    /**
+     * The registered levels, keyed by fully qualified class name, in play order.
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * The single background thread that builds levels.
+     */
+    private final ExecutorService preparer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "level-preparer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * The level being prepared or ready, or {@code null} if none.
+     */
+    private Preparation preparation;
+
+    /**
+     * Constructs an empty registry.
+     *
+     * @param runSeed the seed every level's random stream is derived from
+     */
+    public LevelRegistry(long runSeed) {
+        this.runSeed = runSeed;
+    }
+
+    /**
+     * Creates a registry of the game's three levels, in play order, seeded from {@link GameRandom#configuredRunSeed()}.
+     *
+     * @return the registry
+     */
+    public static LevelRegistry createDefault() {
+        return createDefault(GameRandom.configuredRunSeed());
+    }
+
+    /**
+     * Creates a registry of the game's three levels, in play order.
+     *
+     * @param runSeed the seed every level's random stream is derived from
+     * @return the registry
+     */
+    public static LevelRegistry createDefault(long runSeed) {
+        LevelRegistry registry = new LevelRegistry(runSeed);
+        registry.register(LevelOne.class.getName(), LevelOne::new, LevelTwo.class.getName());
+        registry.register(LevelTwo.class.getName(), LevelTwo::new, LevelThree.class.getName());
+        registry.register(LevelThree.class.getName(), LevelThree::new, GAME_COMPLETED);
+        return registry;
+    }
+
+    /**
+     * Registers a level.
+     *
+     * @param name      the level's name; the levels pass their fully qualified class name
+     * @param factory   builds the level
+     * @param successor the name of the level that follows, or {@link #GAME_COMPLETED}
+     */
+    public void register(String name, LevelFactory factory, String successor) {
+        entries.put(name, new Entry(factory, successor));
+    }
+
+    /**
+     * Retrieves the seed every level's random stream is derived from.
+     *
+     * @return the run seed
+     */
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    /**
+     * Checks whether a level is registered.
+     *
+     * @param name the level's name
+     * @return {@code true} if the level is registered
+     */
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * Retrieves the level that follows another.
+     *
+     * @param name the level's name
+     * @return the successor's name, {@link #GAME_COMPLETED}, or {@code null} if the level is not registered
+     */
+    public String getSuccessor(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry.successor() : null;
+    }
+
+    /**
+     * Starts building the level that follows another, unless it is already being built.
+     *
+     * @param name         the current level's name
+     * @param screenWidth  the width of the screen, which only sizes the scene until it is shown
+     * @param screenHeight the height of the screen, which only sizes the scene until it is shown
+     */
+    public void prepareSuccessor(String name, double screenWidth, double screenHeight) {
+        String successor = getSuccessor(name);
+        if (successor != null && entries.containsKey(successor)) {
+            prepare(successor, screenWidth, screenHeight);
+        }
+    }
+
+    /**
+     * Starts building a level in the background, unless it is already being built.
+     *
+     * @param name         the level's name
+     * @param screenWidth  the width of the screen, which only sizes the scene until it is shown
+     * @param screenHeight the height of the screen, which only sizes the scene until it is shown
+     * @throws IllegalArgumentException if the level is not registered
+     */
+    public void prepare(String name, double screenWidth, double screenHeight) {
+        Entry entry = requireEntry(name);
+        if (matches(preparation, name)) {
+            return;
+        }
+        discardPreparation();
+        GameLog.debug(LogCategory.LEVEL, "Preparing {} in the background", name);
+        Future<LevelParentBase> level = preparer.submit(() -> {
+            long start = System.nanoTime();
+            LevelParentBase built = build(name, entry, screenWidth, screenHeight);
+            GameLog.info(LogCategory.LEVEL, "Prepared {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+            return built;
+        });
+        preparation = new Preparation(name, level);
+    }
+
+    /**
+     * Retrieves a level ready to start: the prepared one if it is the same level, otherwise a newly built one.
+     * Waits if the matching level is still being prepared.
+     *
+     * @param name         the level's name
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     * @return the level, not yet started
+     * @throws IllegalArgumentException if the level is not registered
+     */
+    public LevelParentBase obtain(String name, double screenWidth, double screenHeight) {
+        Entry entry = requireEntry(name);
+        Preparation ready = preparation;
+        preparation = null;
+        if (matches(ready, name)) {
+            try {
+                return ready.level().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                GameLog.warn(LogCategory.LEVEL, "Interrupted while waiting for {}; building it now", name);
+            } catch (ExecutionException e) {
+                GameLog.warn(LogCategory.LEVEL, "Preparing {} failed ({}); building it now", name, e.getCause());
+            }
+        } else if (ready != null) {
+            ready.level().cancel(false);
+        }
+        return build(name, entry, screenWidth, screenHeight);
+    }
+
+    /**
+     * Builds, seeds and warms up a level.
+     *
+     * @param name         the level's name
+     * @param entry        the level's entry
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     * @return the level, not yet started
+     */
+    private LevelParentBase build(String name, Entry entry, double screenWidth, double screenHeight) {
+        LevelParentBase level = entry.factory().create(screenWidth, screenHeight);
+        level.setSeed(GameRandom.deriveSeed(runSeed, name));
+        level.warmUp();
+        return level;
+    }
+
+    /**
+     * Drops the level being prepared, if any.
+     */
+    public void discardPreparation() {
+        if (preparation != null) {
+            preparation.level().cancel(false);
+            preparation = null;
+        }
+    }
+
+    /**
+     * Stops the background thread. Levels can still be obtained, but are then built on the calling thread.
+     */
+    public void shutdown() {
+        discardPreparation();
+        preparer.shutdownNow();
+    }
+
+    /**
+     * Finds a registered level.
+     *
+     * @param name the level's name
+     * @return the level's entry
+     * @throws IllegalArgumentException if the level is not registered
+     */
+    private Entry requireEntry(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown level: " + name);
+        }
+        return entry;
+    }
+
+    /**
+     * Checks whether a preparation is for the given level.
+     *
+     * @param preparation the preparation, or {@code null}
+     * @param name        the level's name
+     * @return {@code true} if it matches and has not been cancelled
+     */
+    private static boolean matches(Preparation preparation, String name) {
+        return preparation != null && preparation.name().equals(name) && !preparation.level().isCancelled();
+    }
+}
@@ -2,10 +2,19 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.Boss;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.FramePhase;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.diagnostics.SpawnEvent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.LevelRules;
 import com.example.demo.ui.GameOverUI;
 import com.example.demo.ui.HeartDisplay;
 import com.example.demo.ui.ShieldImage;
 import com.example.demo.ui.WinImage;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.ImageRegistry;
 import javafx.scene.Scene;
 
 import java.util.ArrayList;
@@ -21,15 +30,20 @@ public class LevelThree extends LevelParentBase {
 	 */
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
+	/**
+	 * The boss images decoded before the level starts.
+	 */
+	private static final String[] BOSS_IMAGES = {"bossplane.png", "fireball.png", "shield.png"};
+
 	/**
 	 * The initial health of the player.
 	 */
-	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final int PLAYER_INITIAL_HEALTH = LevelRules.LEVEL_THREE.getPlayerInitialHealth();
 
 	/**
 	 * The initial health of the boss.
 	 */
-	private static final int BOSS_INITIAL_HEALTH = 20;
+	private static final int BOSS_INITIAL_HEALTH = LevelRules.LEVEL_THREE.getBossHealth();
 
 	/**
 	 * Displays the player's health using heart icons.
@@ -54,7 +68,17 @@ public class LevelThree extends LevelParentBase {
 	 */
 	public LevelThree(double screenWidth, double screenHeight) {
 		super(BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, PLAYER_INITIAL_HEALTH);
-		System.out.println("LevelThree initialized.");
+		ImageRegistry.preload(BOSS_IMAGES);
+		GameLog.info(LogCategory.LEVEL, "LevelThree initialized.");
+	}
+
+	/**
+	 * Also creates the boss projectiles ahead of time.
+	 */
+	@Override
+	public void warmUp() {
+		super.warmUp();
+		getActorManager().prefillEnemyProjectilePool("fireball.png", WARM_UP_PROJECTILES);
 	}
 
 	/**
@@ -62,35 +86,35 @@ public class LevelThree extends LevelParentBase {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		System.out.println("Initializing Friendly Units...");
+		GameLog.debug(LogCategory.LEVEL, "Initializing Friendly Units...");
 
 		if (getScene() == null || getRoot() == null) {
-			System.err.println("Scene or Root is null. Cannot initialize friendly units.");
+			GameLog.warn(LogCategory.LEVEL, "Scene or Root is null. Cannot initialize friendly units.");
 			return;
 		}
 
 		// Initialize UserPlane
-		double sceneHeight = getScene().getHeight();
-		double initialXPos = 50.0;
-		double initialYPos = sceneHeight / 2.0;
+		double worldHeight = getWorldHeight();
+		double initialXPos = ActorRules.USER_START_X;
+		double initialYPos = worldHeight / 2.0;
 
 		UserPlane userPlane = new UserPlane(initialXPos, initialYPos, getRoot(), getActorManager(), PLAYER_INITIAL_HEALTH, this);
-		userPlane.setBounds(0, getScene().getHeight() - userPlane.getFitHeight());
-		userPlane.updateBounds(getScene().getWidth(), getScene().getHeight());
+		userPlane.setBounds(0, getWorldHeight() - userPlane.getFitHeight());
+		userPlane.updateBounds(getWorldWidth(), getWorldHeight());
 		setUserPlane(userPlane);
 		getActorManager().setUserPlane(userPlane);
-		getRoot().getChildren().add(userPlane);
+		getActorManager().showActor(userPlane);
 
 		// Initialize HeartDisplay
 		heartDisplay = new HeartDisplay(5.0, 25.0, PLAYER_INITIAL_HEALTH);
 		getRoot().getChildren().add(heartDisplay.getContainer());
 
 		// Initialize GameOverUI
-		gameOverUI = new GameOverUI(getRoot(), getScene().getWidth(), getScene().getHeight());
+		gameOverUI = new GameOverUI(getRoot(), getWorldWidth(), getWorldHeight());
 		gameOverUI.getReturnToMainMenuButton().setOnAction(e -> returnToMainMenu());
 		gameOverUI.getRestartButton().setOnAction(e -> restartLevel());
 
-		System.out.println("Friendly Units and UI initialized successfully.");
+		GameLog.debug(LogCategory.LEVEL, "Friendly Units and UI initialized successfully.");
 
 		spawnEnemyUnits();
 	}
@@ -100,21 +124,19 @@ public class LevelThree extends LevelParentBase {
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
-		System.out.println("Spawning boss...");
+		GameLog.debug(LogCategory.LEVEL, "Spawning boss...");
 
 		if (boss == null) {
-			List<ShieldImage> shields = createShieldImages(3); // Create 3 shields
-			boss = new Boss(getRoot(), shields, getActorManager(), getUserPlane());
+			List<ShieldImage> shields = createShieldImages(ActorRules.BOSS_EXTRA_SHIELDS);
+			boss = new Boss(getRoot(), shields, getActorManager(), getUserPlane(), getRandom().split());
 
-			// Add boss to actor manager and root
+			// Add boss to actor manager, which also displays it
 			getActorManager().addEnemy(boss);
-
-			if (!getRoot().getChildren().contains(boss)) {
-				getRoot().getChildren().add(boss);
-				System.out.println("Boss added to root.");
-			}
+			SpawnEvent.emit(getClass().getSimpleName(), boss.getClass().getSimpleName(),
+					boss.getLayoutX(), boss.getLayoutY(), getActorManager().getEnemies().size());
+			GameLog.debug(LogCategory.LEVEL, "Boss added to actor layer.");
 		} else {
-			System.out.println("Boss already exists: " + boss);
+			GameLog.debug(LogCategory.LEVEL, "Boss already exists: {}", boss);
 		}
 	}
 
@@ -128,7 +150,7 @@ public class LevelThree extends LevelParentBase {
 		List<ShieldImage> shields = new ArrayList<>();
 
 		if (getRoot() == null) {
-			System.err.println("Root is null. Cannot create shields.");
+			GameLog.warn(LogCategory.LEVEL, "Root is null. Cannot create shields.");
 			return shields;
 		}
 
@@ -142,6 +164,7 @@ public class LevelThree extends LevelParentBase {
 			if (!getRoot().getChildren().contains(shield)) {
 				getRoot().getChildren().add(shield);
 			}
+			addCosmeticNode(shield); // The boss tracks shield health itself; the icons are only decoration
 		}
 		return shields;
 	}
@@ -152,28 +175,28 @@ public class LevelThree extends LevelParentBase {
 	@Override
 	protected void update() {
 		try {
-			System.out.println("Updating LevelThree...");
+			GameLog.trace(LogCategory.LEVEL, "Updating LevelThree...");
 			if (getActorManager() == null || getUserPlane() == null) {
-				System.err.println("ActorManager or UserPlane is null.");
+				GameLog.warn(LogCategory.LEVEL, "ActorManager or UserPlane is null.");
 				return;
 			}
 
+			FrameProfiler profiler = getFrameProfiler();
+			long lap = profiler.start();
 			getActorManager().updateAll();
 			getUserPlane().updatePosition();
+			lap = profiler.lap(FramePhase.UPDATE_ACTORS, lap);
 
-			if (boss != null) {
-				System.out.println("Handling collisions with boss...");
-				getCollisionManager().handleCollisions(getActorManager().getEnemyProjectiles(), List.of(getUserPlane()));
-				getCollisionManager().handleCollisions(getActorManager().getUserProjectiles(), List.of(boss));
-			} else {
-				System.err.println("Boss is null during update.");
-			}
+			// The boss's collision mask keeps it from ramming the player
+			getCollisionManager().handleCollisions(getActorManager());
+			lap = profiler.lap(FramePhase.COLLISIONS, lap);
 
 			getActorManager().removeDestroyedActors();
+			lap = profiler.lap(FramePhase.REMOVE_DESTROYED, lap);
 			checkIfGameOver();
+			profiler.lap(FramePhase.GAME_STATE_CHECKS, lap);
 		} catch (Exception e) {
-			System.err.println("Error during update: " + e.getMessage());
-			e.printStackTrace();
+			GameLog.error(LogCategory.LEVEL, "Error during update: {}", e.getMessage(), e);
 		}
 	}
 
@@ -183,20 +206,22 @@ public class LevelThree extends LevelParentBase {
 	@Override
 	protected void checkIfGameOver() {
 		if (getUserPlane().getHealth() <= 0) {
-			System.out.println("Game Over!");
+			GameLog.info(LogCategory.LEVEL, "Game Over!");
 			stopGame();
-			if (gameOverUI != null) gameOverUI.showGameOverUI();
+			if (gameOverUI != null) FxThread.run(gameOverUI::showGameOverUI);
 		} else if (boss != null && boss.isDestroyed()) {
-			System.out.println("Boss defeated! Congratulations!");
+			GameLog.info(LogCategory.LEVEL, "Boss defeated! Congratulations!");
 			stopGame();
 
-			WinImage winImage = new WinImage(getScene().getWidth() / 2 - 200, getScene().getHeight() / 2 - 100);
-			if (!getRoot().getChildren().contains(winImage)) {
-				getRoot().getChildren().add(winImage);
-				System.out.println("Win image added to root.");
-			} else {
-				System.out.println("Win image already exists in root.");
-			}
+			WinImage winImage = new WinImage(getWorldWidth() / 2 - 200, getWorldHeight() / 2 - 100);
+			FxThread.run(() -> {
+				if (!getRoot().getChildren().contains(winImage)) {
+					getRoot().getChildren().add(winImage);
+					GameLog.debug(LogCategory.UI, "Win image added to root.");
+				} else {
+					GameLog.debug(LogCategory.UI, "Win image already exists in root.");
+				}
+			});
 		}
 	}
 
@@ -204,9 +229,9 @@ public class LevelThree extends LevelParentBase {
 	 * Returns the player to the main menu.
 	 */
 	private void returnToMainMenu() {
-		System.out.println("Returning to Main Menu...");
+		GameLog.info(LogCategory.LEVEL, "Returning to Main Menu...");
 		stopGame();
-		notifyObservers("MainMenu");
+		completeLevel("MainMenu");
 	}
 
 	/**
@@ -214,11 +239,12 @@ public class LevelThree extends LevelParentBase {
 	 */
 	private void restartLevel() {
 		stopGame();
+		prepareRestart();
 
 		getRoot().getChildren().clear();
 		getActorManager().clearAllActors();
 
-		initializeBackground(getScene().getWidth(), getScene().getHeight());
+		initializeBackground(getWorldWidth(), getWorldHeight());
 		initializeFriendlyUnits();
 
 		boss = null;
@@ -229,7 +255,7 @@ public class LevelThree extends LevelParentBase {
 		}
 		startGame();
 
-		System.out.println("LevelThree restarted!");
+		GameLog.info(LogCategory.LEVEL, "LevelThree restarted!");
 	}
 
 
@@ -243,51 +269,25 @@ public class LevelThree extends LevelParentBase {
 		super.initializeScene();
 		Scene scene = getScene();
 
-		// Configure resizing behavior for the user plane
-		scene.heightProperty().addListener((obs, oldHeight, newHeight) -> {
-			if (getUserPlane() != null) {
-				getUserPlane().setBounds(0, newHeight.doubleValue() - getUserPlane().getFitHeight());
-			}
-		});
-
 		// Configure key press actions for controlling the user plane
 		scene.setOnKeyPressed(event -> {
 			switch (event.getCode()) {
-				case W -> getUserPlane().moveUp();
-				case S -> getUserPlane().moveDown();
-				case A -> getUserPlane().moveLeft();
-				case D -> getUserPlane().moveRight();
-				case SPACE -> getUserPlane().fireProjectile();
+				case W -> queueInput(InputCommand.MOVE_UP);
+				case S -> queueInput(InputCommand.MOVE_DOWN);
+				case A -> queueInput(InputCommand.MOVE_LEFT);
+				case D -> queueInput(InputCommand.MOVE_RIGHT);
+				case SPACE -> queueInput(InputCommand.FIRE);
 			}
 		});
 
 		// Configure key release actions for stopping the user plane
 		scene.setOnKeyReleased(event -> {
 			switch (event.getCode()) {
-				case W, S -> getUserPlane().stopVertical();
-				case A, D -> getUserPlane().stopHorizontal();
+				case W, S -> queueInput(InputCommand.STOP_VERTICAL);
+				case A, D -> queueInput(InputCommand.STOP_HORIZONTAL);
 			}
 		});
 
 		return scene;
 	}
-
-	/**
-	 * Resizes all elements in the level to adapt to the new screen dimensions.
-	 *
-	 * @param newWidth  The new width of the screen.
-	 * @param newHeight The new height of the screen.
-	 */
-	@Override
-	public void resizeElements(double newWidth, double newHeight) {
-		super.resizeElements(newWidth, newHeight);
-
-		if (heartDisplay != null) {
-			heartDisplay.adjustPositionForResize(newWidth, newHeight);
-		}
-
-		if (gameOverUI != null) {
-			gameOverUI.adjustPositionForResize(newWidth, newHeight);
-		}
-	}
 }
@@ -2,12 +2,20 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.EnemyPlane;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.FramePhase;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.diagnostics.SpawnEvent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.LevelRules;
 import com.example.demo.ui.GameOverUI;
 import com.example.demo.ui.HeartDisplay;
+import com.example.demo.utilities.FxThread;
+import com.example.demo.utilities.ImageRegistry;
 import javafx.scene.Scene;
 
-import java.util.List;
-
 /**
  * Implements Level Two logic with tougher enemies and win conditions.
  *
@@ -24,30 +32,35 @@ public class LevelTwo extends LevelParentBase {
      */
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
+    /**
+     * The enemy images decoded before the level starts.
+     */
+    private static final String[] ENEMY_IMAGES = {"enemyplane.png", "enemyFire.png"};
+
     /**
      * The total number of enemies to maintain on the screen.
      */
-    private static final int TOTAL_ENEMIES = 5;
+    private static final int TOTAL_ENEMIES = LevelRules.LEVEL_TWO.getTotalEnemies();
 
     /**
      * The number of kills required to advance to the next level.
      */
-    private static final int KILLS_TO_ADVANCE = 20;
+    private static final int KILLS_TO_ADVANCE = LevelRules.LEVEL_TWO.getKillsToAdvance();
 
     /**
      * The probability of spawning an enemy in each update cycle.
      */
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.15;
+    private static final double ENEMY_SPAWN_PROBABILITY = LevelRules.LEVEL_TWO.getEnemySpawnProbability();
 
     /**
      * The health of each enemy in Level Two.
      */
-    private static final int ENEMY_HEALTH = 2;
+    private static final int ENEMY_HEALTH = LevelRules.LEVEL_TWO.getEnemyHealth();
 
     /**
      * The initial health of the player in Level Two.
      */
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final int PLAYER_INITIAL_HEALTH = LevelRules.LEVEL_TWO.getPlayerInitialHealth();
 
     /**
      * The display for the player's health.
@@ -67,7 +80,17 @@ public class LevelTwo extends LevelParentBase {
      */
     public LevelTwo(double screenWidth, double screenHeight) {
         super(BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, PLAYER_INITIAL_HEALTH);
-        System.out.println("LevelTwo initialized.");
+        ImageRegistry.preload(ENEMY_IMAGES);
+        GameLog.info(LogCategory.LEVEL, "LevelTwo initialized.");
+    }
+
+    /**
+     * Also creates the enemy projectiles ahead of time.
+     */
+    @Override
+    public void warmUp() {
+        super.warmUp();
+        getActorManager().prefillEnemyProjectilePool("enemyFire.png", WARM_UP_PROJECTILES);
     }
 
     /**
@@ -75,25 +98,25 @@ public class LevelTwo extends LevelParentBase {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        System.out.println("Initializing Friendly Units for Level Two...");
-        double sceneHeight = (getScene() != null) ? getScene().getHeight() : 0;
-        double initialXPos = 50.0;
-        double initialYPos = (sceneHeight > 0) ? sceneHeight / 2.0 : 200.0;
+        GameLog.debug(LogCategory.LEVEL, "Initializing Friendly Units for Level Two...");
+        double worldHeight = getWorldHeight();
+        double initialXPos = ActorRules.USER_START_X;
+        double initialYPos = (worldHeight > 0) ? worldHeight / 2.0 : 200.0;
 
         UserPlane userPlane = new UserPlane(initialXPos, initialYPos, getRoot(), getActorManager(), PLAYER_INITIAL_HEALTH, this);
-        userPlane.setBounds(0, getScene().getHeight() - userPlane.getFitHeight());
-        userPlane.updateBounds(getScene().getWidth(), getScene().getHeight());
+        userPlane.setBounds(0, getWorldHeight() - userPlane.getFitHeight());
+        userPlane.updateBounds(getWorldWidth(), getWorldHeight());
         setUserPlane(userPlane);
         getActorManager().setUserPlane(userPlane);
-        getRoot().getChildren().add(userPlane);
+        getActorManager().showActor(userPlane);
 
         heartDisplay = new HeartDisplay(5.0, 25.0, PLAYER_INITIAL_HEALTH);
         getRoot().getChildren().add(heartDisplay.getContainer());
 
-        gameOverUI = new GameOverUI(getRoot(), getScene().getWidth(), getScene().getHeight());
+        gameOverUI = new GameOverUI(getRoot(), getWorldWidth(), getWorldHeight());
         gameOverUI.getReturnToMainMenuButton().setOnAction(e -> returnToMainMenu());
         gameOverUI.getRestartButton().setOnAction(e -> restartLevel());
-        System.out.println("Friendly Units and UI initialized successfully.");
+        GameLog.debug(LogCategory.LEVEL, "Friendly Units and UI initialized successfully.");
     }
 
     /**
@@ -102,22 +125,27 @@ public class LevelTwo extends LevelParentBase {
     @Override
     protected void spawnEnemyUnits() {
         int currentNumberOfEnemies = getActorManager().getEnemies().size();
-        System.out.println("Current enemies: " + currentNumberOfEnemies);
+        if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.LEVEL)) {
+            GameLog.trace(LogCategory.LEVEL, "Current enemies: {}", currentNumberOfEnemies);
+        }
 
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getScene().getHeight();
+            if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+                double newEnemyInitialYPosition = getRandom().nextDouble() * getWorldHeight();
                 EnemyPlane newEnemy = new EnemyPlane(
-                        getScene().getWidth(),
+                        getWorldWidth(),
                         newEnemyInitialYPosition,
                         getActorManager(),
                         getUserPlane(),
-                        ENEMY_HEALTH
+                        ENEMY_HEALTH,
+                        getRandom().split()
                 );
-                System.out.println("Spawning enemy at Y: " + newEnemyInitialYPosition);
+                GameLog.debug(LogCategory.LEVEL, "Spawning enemy at Y: {}", newEnemyInitialYPosition);
 
                 newEnemy.setParentLevel(this);
                 getActorManager().addEnemy(newEnemy);
+                SpawnEvent.emit(getClass().getSimpleName(), newEnemy.getClass().getSimpleName(),
+                        newEnemy.getLayoutX(), newEnemy.getLayoutY(), getActorManager().getEnemies().size());
 
                 getActorManager().createEnemyProjectile(
                         newEnemy.getLayoutX(),
@@ -139,26 +167,20 @@ public class LevelTwo extends LevelParentBase {
         super.initializeScene();
         Scene scene = getScene();
 
-        scene.heightProperty().addListener((obs, oldHeight, newHeight) -> {
-            if (getUserPlane() != null) {
-                getUserPlane().setBounds(0, newHeight.doubleValue() - getUserPlane().getFitHeight());
-            }
-        });
-
         scene.setOnKeyPressed(event -> {
             switch (event.getCode()) {
-                case W -> getUserPlane().moveUp();
-                case S -> getUserPlane().moveDown();
-                case A -> getUserPlane().moveLeft();
-                case D -> getUserPlane().moveRight();
-                case SPACE -> getUserPlane().fireProjectile();
+                case W -> queueInput(InputCommand.MOVE_UP);
+                case S -> queueInput(InputCommand.MOVE_DOWN);
+                case A -> queueInput(InputCommand.MOVE_LEFT);
+                case D -> queueInput(InputCommand.MOVE_RIGHT);
+                case SPACE -> queueInput(InputCommand.FIRE);
             }
         });
 
         scene.setOnKeyReleased(event -> {
             switch (event.getCode()) {
-                case W, S -> getUserPlane().stopVertical();
-                case A, D -> getUserPlane().stopHorizontal();
+                case W, S -> queueInput(InputCommand.STOP_VERTICAL);
+                case A, D -> queueInput(InputCommand.STOP_HORIZONTAL);
             }
         });
 
@@ -171,7 +193,7 @@ public class LevelTwo extends LevelParentBase {
      * @param newHealth the player's current health
      */
     public void updateHeartDisplay(int newHealth) {
-        System.out.println("Updating Heart Display. Current Health: " + newHealth);
+        GameLog.debug(LogCategory.UI, "Updating Heart Display. Current Health: {}", newHealth);
 
         if (heartDisplay != null) {
             while (heartDisplay.getContainer().getChildren().size() > newHealth) {
@@ -185,20 +207,23 @@ public class LevelTwo extends LevelParentBase {
      */
     @Override
     protected void update() {
+        FrameProfiler profiler = getFrameProfiler();
+        long lap = profiler.start();
         getActorManager().updateAll();
         getUserPlane().updatePosition();
+        lap = profiler.lap(FramePhase.UPDATE_ACTORS, lap);
 
         spawnEnemyUnits();
+        lap = profiler.lap(FramePhase.SPAWN_ENEMIES, lap);
 
-        if (getUserPlane() != null) {
-            getCollisionManager().handleCollisions(getActorManager().getEnemyProjectiles(), List.of(getUserPlane()));
-            getCollisionManager().handleCollisions(getActorManager().getUserProjectiles(), getActorManager().getEnemies());
-            getCollisionManager().handleCollisions(getActorManager().getEnemies(), List.of(getUserPlane()));
-        }
+        getCollisionManager().handleCollisions(getActorManager());
+        lap = profiler.lap(FramePhase.COLLISIONS, lap);
 
         getActorManager().removeDestroyedActors();
+        lap = profiler.lap(FramePhase.REMOVE_DESTROYED, lap);
         checkWinCondition();
         checkLoseCondition();
+        profiler.lap(FramePhase.GAME_STATE_CHECKS, lap);
     }
 
     /**
@@ -207,13 +232,13 @@ public class LevelTwo extends LevelParentBase {
     @Override
     protected void checkIfGameOver() {
         if (getUserPlane().getHealth() <= 0) {
-            System.out.println("Game Over!");
+            GameLog.info(LogCategory.LEVEL, "Game Over!");
             stopGame();
-            if (gameOverUI != null) gameOverUI.showGameOverUI();
+            if (gameOverUI != null) FxThread.run(gameOverUI::showGameOverUI);
         } else if (getUserPlane().getNumberOfKills() >= KILLS_TO_ADVANCE) {
-            System.out.println("LevelTwo cleared! Transitioning to LevelThree...");
+            GameLog.info(LogCategory.LEVEL, "LevelTwo cleared! Transitioning to LevelThree...");
             stopGame();
-            notifyObservers("com.example.demo.levels.LevelThree");
+            completeLevel("com.example.demo.levels.LevelThree");
         }
     }
 
@@ -222,9 +247,9 @@ public class LevelTwo extends LevelParentBase {
      */
     private void checkWinCondition() {
         if (getUserPlane().getNumberOfKills() >= KILLS_TO_ADVANCE) {
-            System.out.println("LevelTwo cleared! Transitioning to LevelThree...");
+            GameLog.info(LogCategory.LEVEL, "LevelTwo cleared! Transitioning to LevelThree...");
             stopGame();
-            notifyObservers("com.example.demo.levels.LevelThree");
+            completeLevel("com.example.demo.levels.LevelThree");
         }
     }
 
@@ -233,9 +258,9 @@ public class LevelTwo extends LevelParentBase {
      */
     private void checkLoseCondition() {
         if (getUserPlane().getHealth() <= 0) {
-            System.out.println("Game Over!");
+            GameLog.info(LogCategory.LEVEL, "Game Over!");
             stopGame();
-            gameOverUI.showGameOverUI();
+            FxThread.run(gameOverUI::showGameOverUI);
         }
     }
 
@@ -243,9 +268,9 @@ public class LevelTwo extends LevelParentBase {
      * Returns to the main menu.
      */
     private void returnToMainMenu() {
-        System.out.println("Returning to Main Menu...");
+        GameLog.info(LogCategory.LEVEL, "Returning to Main Menu...");
         stopGame();
-        notifyObservers("MainMenu");
+        completeLevel("MainMenu");
     }
 
     /**
@@ -254,10 +279,11 @@ public class LevelTwo extends LevelParentBase {
     private void restartLevel() {
         try {
             stopGame();
+            prepareRestart();
             getRoot().getChildren().clear();
             getActorManager().clearAllActors();
 
-            initializeBackground(getScene().getWidth(), getScene().getHeight());
+            initializeBackground(getWorldWidth(), getWorldHeight());
             initializeFriendlyUnits();
 
             if (gameOverUI != null) {
@@ -265,10 +291,9 @@ public class LevelTwo extends LevelParentBase {
             }
 
             startGame();
-            System.out.println("LevelTwo restarted successfully!");
+            GameLog.info(LogCategory.LEVEL, "LevelTwo restarted successfully!");
         } catch (Exception e) {
-            System.err.println("Error restarting LevelTwo: " + e.getMessage());
-            e.printStackTrace();
+            GameLog.error(LogCategory.LEVEL, "Error restarting LevelTwo: {}", e.getMessage(), e);
         }
     }
 }
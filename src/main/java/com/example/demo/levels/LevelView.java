@@ -206,6 +206,5 @@ public class LevelView {
 		heartDisplay.adjustPositionForResize(newWidth, newHeight);
 		winImage.adjustPositionForResize(newWidth, newHeight);
 		gameOverImage.adjustPositionForResize(newWidth, newHeight);
-		shieldImage.adjustPositionForResize(newWidth, newHeight);
 	}
 }
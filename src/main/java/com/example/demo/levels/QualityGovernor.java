@@ -0,0 +1,280 @@
+package com.example.demo.levels;
+
+import com.example.demo.diagnostics.QualityChangeEvent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.util.function.Consumer;
+
+/**
+ * Steps a level's {@link QualityLevel} down while its frames overrun and back up when headroom returns.
+ *
+ * <p>The level reports what each simulation step and each render costs. The
+ * governor averages that cost per step over windows of {@link #WINDOW_TICKS}
+ * steps. A window whose mean exceeds the budget drops one quality level at
+ * once; only after {@link #RECOVERY_WINDOWS} windows in a row under half the
+ * budget does it climb one level back. The gap between the two thresholds
+ * and the longer wait on the way up keep the level from flapping when the
+ * cost sits near the budget.</p>
+ *
+ * <p>The budget is set in milliseconds per step with the system property
+ * {@code game.quality.budget}, and defaults to half of the
+ * {@link FixedTimestepLoop#DEFAULT_STEP_NANOS fixed step}, leaving the other
+ * half to JavaFX's own pulse work. A budget of 0 turns the governor off.
+ * Every change is logged, counted and recorded as a
+ * {@link QualityChangeEvent}.</p>
+ */
+public class QualityGovernor {
+
+    /**
+     * The system property setting the per-step budget in milliseconds.
+     */
+    public static final String BUDGET_PROPERTY = "game.quality.budget";
+
+    /**
+     * The per-step budget used when none is configured, in milliseconds.
+     */
+    public static final double DEFAULT_BUDGET_MILLIS = FixedTimestepLoop.DEFAULT_STEP_NANOS / 2_000_000.0;
+
+    /**
+     * The number of steps averaged before the quality is reconsidered.
+     */
+    public static final int WINDOW_TICKS = 30;
+
+    /**
+     * The number of calm windows in a row needed to climb one quality level.
+     */
+    public static final int RECOVERY_WINDOWS = 4;
+
+    /**
+     * The fraction of the budget a window's mean must stay under to count as calm.
+     */
+    private static final double HEADROOM_FRACTION = 0.5;
+
+    /**
+     * The name the governor's changes are reported under.
+     */
+    private final String name;
+
+    /**
+     * The per-step budget in nanoseconds, or 0 when the governor is off.
+     */
+    private final long budgetNanos;
+
+    /**
+     * Applies a quality level to the level being governed.
+     */
+    private final Consumer<QualityLevel> applier;
+
+    /**
+     * The current quality level.
+     */
+    private QualityLevel level = QualityLevel.FULL;
+
+    /**
+     * The number of steps in the current window.
+     */
+    private int windowTicks;
+
+    /**
+     * The cost of the steps and renders in the current window, in nanoseconds.
+     */
+    private long windowNanos;
+
+    /**
+     * The number of calm windows in a row.
+     */
+    private int calmWindows;
+
+    /**
+     * The mean cost per step of the latest complete window, in nanoseconds.
+     */
+    private long lastWindowMeanNanos;
+
+    /**
+     * The number of times the quality dropped.
+     */
+    private long degradeCount;
+
+    /**
+     * The number of times the quality climbed.
+     */
+    private long recoverCount;
+
+    /**
+     * Constructs a governor with the configured budget.
+     *
+     * @param name    the name changes are reported under, usually the level's class name
+     * @param applier applies a quality level to the level being governed
+     */
+    public QualityGovernor(String name, Consumer<QualityLevel> applier) {
+        this(name, configuredBudgetNanos(), applier);
+    }
+
+    /**
+     * Constructs a governor.
+     *
+     * @param name        the name changes are reported under, usually the level's class name
+     * @param budgetNanos the per-step budget in nanoseconds, or 0 to turn the governor off
+     * @param applier     applies a quality level to the level being governed
+     */
+    public QualityGovernor(String name, long budgetNanos, Consumer<QualityLevel> applier) {
+        this.name = name;
+        this.budgetNanos = Math.max(0L, budgetNanos);
+        this.applier = applier;
+    }
+
+    /**
+     * Reads the per-step budget from {@link #BUDGET_PROPERTY}.
+     *
+     * @return the budget in nanoseconds, or 0 when the governor is turned off
+     */
+    public static long configuredBudgetNanos() {
+        String value = System.getProperty(BUDGET_PROPERTY);
+        double millis = DEFAULT_BUDGET_MILLIS;
+        if (value != null) {
+            try {
+                millis = Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                GameLog.warn(LogCategory.LEVEL, "Invalid {}: {}; using the default", BUDGET_PROPERTY, value);
+            }
+        }
+        return millis > 0 ? (long) (millis * 1_000_000.0) : 0L;
+    }
+
+    /**
+     * Adds the cost of rendering a frame to the current window.
+     *
+     * @param nanos the time the render took
+     */
+    public void recordRender(long nanos) {
+        if (budgetNanos > 0) {
+            windowNanos += nanos;
+        }
+    }
+
+    /**
+     * Adds the cost of a simulation step to the current window, and reconsiders the quality when the window is full.
+     *
+     * @param nanos the time the step took
+     * @param tick  the number of steps the level has run
+     */
+    public void recordTick(long nanos, long tick) {
+        if (budgetNanos == 0) {
+            return;
+        }
+        windowNanos += nanos;
+        if (++windowTicks < WINDOW_TICKS) {
+            return;
+        }
+        lastWindowMeanNanos = windowNanos / windowTicks;
+        windowTicks = 0;
+        windowNanos = 0;
+
+        if (lastWindowMeanNanos > budgetNanos) {
+            calmWindows = 0;
+            if (level != level.degrade()) {
+                degradeCount++;
+                change(level.degrade(), tick);
+            }
+        } else if (lastWindowMeanNanos < budgetNanos * HEADROOM_FRACTION) {
+            if (++calmWindows >= RECOVERY_WINDOWS && level != QualityLevel.FULL) {
+                calmWindows = 0;
+                recoverCount++;
+                change(level.recover(), tick);
+            }
+        } else {
+            calmWindows = 0;
+        }
+    }
+
+    /**
+     * Returns to full quality and forgets the current window, such as when the level stops.
+     */
+    public void reset() {
+        windowTicks = 0;
+        windowNanos = 0;
+        calmWindows = 0;
+        if (level != QualityLevel.FULL) {
+            recoverCount++;
+            change(QualityLevel.FULL, -1);
+        }
+    }
+
+    /**
+     * Moves to a quality level, applying it and reporting the change.
+     *
+     * @param next the level to move to
+     * @param tick the number of steps the level has run, or -1 if it is not running
+     */
+    private void change(QualityLevel next, long tick) {
+        QualityLevel previous = level;
+        level = next;
+        applier.accept(next);
+        GameLog.info(LogCategory.GAME, "{} quality {} -> {}", name, previous, next);
+        QualityChangeEvent.emit(name, tick, previous.name(), next.name(), lastWindowMeanNanos, budgetNanos);
+    }
+
+    /**
+     * Checks whether the governor can change the quality.
+     *
+     * @return {@code true} if a budget is set
+     */
+    public boolean isEnabled() {
+        return budgetNanos > 0;
+    }
+
+    /**
+     * Retrieves the current quality level.
+     *
+     * @return the quality level
+     */
+    public QualityLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Retrieves the per-step budget.
+     *
+     * @return the budget in nanoseconds, or 0 when the governor is off
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Retrieves the mean cost per step of the latest complete window.
+     *
+     * @return the mean cost in nanoseconds
+     */
+    public long getLastWindowMeanNanos() {
+        return lastWindowMeanNanos;
+    }
+
+    /**
+     * Retrieves the number of times the quality dropped.
+     *
+     * @return the degrade count
+     */
+    public long getDegradeCount() {
+        return degradeCount;
+    }
+
+    /**
+     * Retrieves the number of times the quality climbed, including resets to full quality.
+     *
+     * @return the recover count
+     */
+    public long getRecoverCount() {
+        return recoverCount;
+    }
+
+    /**
+     * Retrieves the number of quality changes in either direction.
+     *
+     * @return the change count
+     */
+    public long getChangeCount() {
+        return degradeCount + recoverCount;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.levels;
+
+/**
+ * The steps a {@link QualityGovernor} degrades a level through when its frames overrun.
+ *
+ * <p>Each step keeps the savings of the steps before it and gives up one more
+ * thing the player is least likely to miss: first cosmetic nodes and render
+ * interpolation, then verbose logging, then canvas resolution, and last the
+ * number of enemy projectiles in flight. Only the last step changes what
+ * happens in the game, so it is tried only when everything else has not
+ * brought the frames back under budget.</p>
+ */
+public enum QualityLevel {
+
+    /**
+     * Everything on.
+     */
+    FULL(true, true, true, 1.0, Integer.MAX_VALUE),
+
+    /**
+     * Cosmetic nodes hidden and actors drawn at their latest simulated position.
+     */
+    REDUCED_EFFECTS(false, false, true, 1.0, Integer.MAX_VALUE),
+
+    /**
+     * Every log category other than {@link com.example.demo.logging.LogCategory#GAME} raised to warnings.
+     */
+    QUIET_LOGGING(false, false, false, 1.0, Integer.MAX_VALUE),
+
+    /**
+     * In canvas mode, the level drawn at half resolution and scaled up.
+     */
+    LOW_RESOLUTION(false, false, false, 0.5, Integer.MAX_VALUE),
+
+    /**
+     * Enemy projectiles in flight capped; further shots are dropped.
+     */
+    CAPPED_FIRE(false, false, false, 0.5, 12);
+
+    /**
+     * Whether nodes registered as cosmetic are shown.
+     */
+    private final boolean cosmetics;
+
+    /**
+     * Whether actors are drawn between their last two simulated positions.
+     */
+    private final boolean interpolation;
+
+    /**
+     * Whether log categories keep their configured levels.
+     */
+    private final boolean verboseLogging;
+
+    /**
+     * The fraction of the world's resolution the canvas is drawn at.
+     */
+    private final double renderScale;
+
+    /**
+     * The number of enemy projectiles allowed in flight at once.
+     */
+    private final int enemyProjectileCap;
+
+    /**
+     * Constructs a quality level.
+     *
+     * @param cosmetics          whether nodes registered as cosmetic are shown
+     * @param interpolation      whether actors are drawn between their last two simulated positions
+     * @param verboseLogging     whether log categories keep their configured levels
+     * @param renderScale        the fraction of the world's resolution the canvas is drawn at
+     * @param enemyProjectileCap the number of enemy projectiles allowed in flight at once
+     */
+    QualityLevel(boolean cosmetics, boolean interpolation, boolean verboseLogging, double renderScale,
+                 int enemyProjectileCap) {
+        this.cosmetics = cosmetics;
+        this.interpolation = interpolation;
+        this.verboseLogging = verboseLogging;
+        this.renderScale = renderScale;
+        this.enemyProjectileCap = enemyProjectileCap;
+    }
+
+    /**
+     * Checks whether nodes registered as cosmetic are shown.
+     *
+     * @return {@code true} if cosmetic nodes are visible
+     */
+    public boolean showsCosmetics() {
+        return cosmetics;
+    }
+
+    /**
+     * Checks whether actors are drawn between their last two simulated positions.
+     *
+     * @return {@code true} if rendering interpolates
+     */
+    public boolean interpolates() {
+        return interpolation;
+    }
+
+    /**
+     * Checks whether log categories keep their configured levels.
+     *
+     * @return {@code true} if logging is left alone
+     */
+    public boolean logsVerbosely() {
+        return verboseLogging;
+    }
+
+    /**
+     * Retrieves the fraction of the world's resolution the canvas is drawn at.
+     *
+     * @return the render scale, from 0 exclusive to 1
+     */
+    public double getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * Retrieves the number of enemy projectiles allowed in flight at once.
+     *
+     * @return the cap, or {@link Integer#MAX_VALUE} for none
+     */
+    public int getEnemyProjectileCap() {
+        return enemyProjectileCap;
+    }
+
+    /**
+     * Retrieves the next lower quality.
+     *
+     * @return the next level, or this one if it is already the lowest
+     */
+    public QualityLevel degrade() {
+        QualityLevel[] levels = values();
+        return levels[Math.min(ordinal() + 1, levels.length - 1)];
+    }
+
+    /**
+     * Retrieves the next higher quality.
+     *
+     * @return the previous level, or this one if it is already {@link #FULL}
+     */
+    public QualityLevel recover() {
+        return values()[Math.max(ordinal() - 1, 0)];
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.levels;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.util.Locale;
+
+/**
+ * How a level puts its background and actors on screen.
+ *
+ * <p>The mode can be chosen per level through the system property
+ * {@code game.render.mode.<level>}, where {@code <level>} is the level's class
+ * name in lower case, such as {@code game.render.mode.levelthree=canvas}. The
+ * property {@code game.render.mode} sets the default for every level. Levels
+ * without a setting use {@link #NODES}.</p>
+ */
+public enum RenderMode {
+
+    /**
+     * Every actor is its own image node in the scene graph. The cost of each
+     * JavaFX pulse grows with the number of actors.
+     */
+    NODES,
+
+    /**
+     * The background and every actor are drawn onto one canvas each frame, so
+     * the scene graph keeps the same size however many projectiles are in flight.
+     */
+    CANVAS;
+
+    /**
+     * The system property setting the default render mode.
+     */
+    public static final String PROPERTY = "game.render.mode";
+
+    /**
+     * Retrieves the render mode configured for a level.
+     *
+     * @param levelName the level's name, matched case-insensitively
+     * @return the mode set for the level, else the default mode, else {@link #NODES}
+     */
+    public static RenderMode configuredFor(String levelName) {
+        String value = System.getProperty(PROPERTY + "." + levelName.toLowerCase(Locale.ROOT));
+        if (value == null) {
+            value = System.getProperty(PROPERTY);
+        }
+        if (value == null) {
+            return NODES;
+        }
+        try {
+            return parse(value);
+        } catch (IllegalArgumentException e) {
+            GameLog.warn(LogCategory.LEVEL, "{}; rendering {} with nodes", e.getMessage(), levelName);
+            return NODES;
+        }
+    }
+
+    /**
+     * Converts a name into a render mode.
+     *
+     * @param value the mode's name, in any case
+     * @return the render mode
+     * @throws IllegalArgumentException if the name is not a render mode
+     */
+    public static RenderMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown render mode: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.demo.levels;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a level's simulation steps at a fixed rate on a dedicated thread.
+ *
+ * <p>This is the off-thread counterpart of {@link FixedTimestepLoop}: the
+ * same step length and the same cap on steps run back to back to catch up,
+ * with the ticks beyond the cap dropped and counted. Between steps the thread
+ * parks until the next one is due, so the JavaFX Application Thread keeps
+ * layout, input and drawing to itself and the two can use separate cores.</p>
+ *
+ * <p>Whether a level simulates on its own thread is set with the system
+ * property {@code game.sim.thread.<level>}, where {@code <level>} is the
+ * level's class name in lower case, falling back to {@code game.sim.thread}.
+ * Only levels in {@link RenderMode#CANVAS} can use it: their actors live
+ * outside the showing scene, so the simulation may change them from another
+ * thread.</p>
+ */
+public class SimulationThread {
+
+    /**
+     * The system property turning the simulation thread on by default.
+     */
+    public static final String PROPERTY = "game.sim.thread";
+
+    /**
+     * How long {@link #stop()} waits for the thread to finish its current step, in milliseconds.
+     */
+    private static final long JOIN_TIMEOUT_MILLIS = 1000L;
+
+    /**
+     * The name given to the thread.
+     */
+    private final String name;
+
+    /**
+     * The length of one step in nanoseconds.
+     */
+    private final long stepNanos;
+
+    /**
+     * The most steps run back to back before the backlog is dropped.
+     */
+    private final int maxCatchUpSteps;
+
+    /**
+     * The step to run.
+     */
+    private final Runnable step;
+
+    /**
+     * The thread running the steps, or {@code null} before the first start.
+     */
+    private volatile Thread thread;
+
+    /**
+     * Whether steps should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * The number of steps run since construction.
+     */
+    private volatile long ticks;
+
+    /**
+     * The number of steps skipped because the thread fell too far behind.
+     */
+    private volatile long droppedTicks;
+
+    /**
+     * Constructs a simulation thread with the default step length and catch-up cap.
+     *
+     * @param name the name given to the thread
+     * @param step the step to run
+     */
+    public SimulationThread(String name, Runnable step) {
+        this(name, FixedTimestepLoop.DEFAULT_STEP_NANOS, FixedTimestepLoop.DEFAULT_MAX_CATCH_UP_STEPS, step);
+    }
+
+    /**
+     * Constructs a simulation thread.
+     *
+     * @param name            the name given to the thread
+     * @param stepNanos       the length of one step in nanoseconds
+     * @param maxCatchUpSteps the most steps run back to back before the backlog is dropped
+     * @param step            the step to run
+     * @throws IllegalArgumentException if the step length or the catch-up cap is not positive
+     */
+    public SimulationThread(String name, long stepNanos, int maxCatchUpSteps, Runnable step) {
+        if (stepNanos <= 0 || maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Step length and catch-up cap must be positive");
+        }
+        this.name = name;
+        this.stepNanos = stepNanos;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.step = step;
+    }
+
+    /**
+     * Checks whether a level is configured to simulate on its own thread.
+     *
+     * @param levelName the level's name, matched case-insensitively
+     * @return the setting for the level, else the default setting, else {@code false}
+     */
+    public static boolean isConfiguredFor(String levelName) {
+        String value = System.getProperty(PROPERTY + "." + levelName.toLowerCase(Locale.ROOT));
+        if (value == null) {
+            value = System.getProperty(PROPERTY);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Starts a new thread running steps. Does nothing if steps are already running.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread started = new Thread(this::run, name);
+        started.setDaemon(true);
+        thread = started;
+        started.start();
+        GameLog.debug(LogCategory.GAME, "Simulation thread {} started", name);
+    }
+
+    /**
+     * Stops running steps. Called from another thread, it waits for the current step to finish;
+     * called from a step, the thread ends once that step returns.
+     */
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current == null || current == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join(JOIN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            GameLog.warn(LogCategory.GAME, "Simulation thread {} did not stop within {} ms", name, JOIN_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Runs steps at the fixed rate until stopped.
+     */
+    private void run() {
+        long nextStep = System.nanoTime() + stepNanos;
+        try {
+            while (running) {
+                long wait = nextStep - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                    continue;
+                }
+                int steps = 0;
+                while (running && nextStep - System.nanoTime() <= 0 && steps < maxCatchUpSteps) {
+                    ticks++; // Counted first, so a step sees its own number
+                    step.run();
+                    nextStep += stepNanos;
+                    steps++;
+                }
+                long behind = System.nanoTime() - nextStep;
+                if (behind >= stepNanos) {
+                    droppedTicks += behind / stepNanos;
+                    nextStep += behind / stepNanos * stepNanos;
+                }
+            }
+        } catch (RuntimeException e) {
+            running = false;
+            GameLog.error(LogCategory.GAME, "Simulation thread failed: {}", e.getMessage(), e);
+        }
+        GameLog.debug(LogCategory.GAME, "Simulation thread {} stopped after {} ticks", name, ticks);
+    }
+
+    /**
+     * Checks whether the calling code runs on this simulation thread.
+     *
+     * @return {@code true} if called from a step
+     */
+    public boolean isCurrentThread() {
+        return thread == Thread.currentThread();
+    }
+
+    /**
+     * Checks whether steps are running.
+     *
+     * @return {@code true} between {@link #start()} and {@link #stop()}
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retrieves the length of one step.
+     *
+     * @return the step length in nanoseconds
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Retrieves the number of steps run.
+     *
+     * @return the tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Retrieves the number of steps skipped because the thread fell too far behind.
+     *
+     * @return the dropped tick count
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Returns a summary of the thread's statistics.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return "SimulationThread[" + name + ", ticks=" + ticks + ", droppedTicks=" + droppedTicks + "]";
+    }
+}
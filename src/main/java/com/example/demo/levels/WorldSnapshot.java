@@ -0,0 +1,330 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.UserPlane;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What the player sees of a level after one simulation step: every sprite to draw, and the player's health and kills.
+ *
+ * <p>A level simulating on its own thread fills one snapshot after each step
+ * and hands it to the FX thread through a
+ * {@link com.example.demo.utilities.TripleBuffer}. The FX thread draws from the
+ * snapshot alone and never reads an actor, so the two threads share no mutable
+ * state. Each sprite keeps its position before and after the step, so the
+ * renderer can interpolate between them as the node-based loop does.</p>
+ *
+ * <p>Snapshots are reused: once published a snapshot is not written again
+ * until the reader has moved on to a newer one, so to the reader it is
+ * immutable. Sprites are stored in parallel arrays, in drawing order, which
+ * grow as needed and are never shrunk.</p>
+ */
+public final class WorldSnapshot {
+
+    /**
+     * The number of sprites a new snapshot has room for.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The images of the sprites.
+     */
+    private Image[] images = new Image[INITIAL_CAPACITY];
+
+    /**
+     * The parts of the images to draw, {@code null} for the whole image.
+     */
+    private Rectangle2D[] viewports = new Rectangle2D[INITIAL_CAPACITY];
+
+    /**
+     * The X positions of the sprites before the step.
+     */
+    private double[] fromX = new double[INITIAL_CAPACITY];
+
+    /**
+     * The Y positions of the sprites before the step.
+     */
+    private double[] fromY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The X positions of the sprites after the step.
+     */
+    private double[] toX = new double[INITIAL_CAPACITY];
+
+    /**
+     * The Y positions of the sprites after the step.
+     */
+    private double[] toY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The displayed widths of the sprites.
+     */
+    private double[] widths = new double[INITIAL_CAPACITY];
+
+    /**
+     * The displayed heights of the sprites.
+     */
+    private double[] heights = new double[INITIAL_CAPACITY];
+
+    /**
+     * The number of sprites.
+     */
+    private int count;
+
+    /**
+     * The number of actors the sprites were taken from, not counting attachments.
+     */
+    private int actorCount;
+
+    /**
+     * The step the snapshot was taken after, or 0 if it has never been filled.
+     */
+    private long tick;
+
+    /**
+     * The {@link System#nanoTime()} at which the snapshot was filled.
+     */
+    private long capturedNanos;
+
+    /**
+     * The player's health after the step.
+     */
+    private int playerHealth;
+
+    /**
+     * The player's kills after the step.
+     */
+    private int playerKills;
+
+    /**
+     * Fills the snapshot from a level's actors, in the order {@link CanvasRenderer} draws them:
+     * enemies, enemy projectiles, user projectiles, then the user plane.
+     *
+     * @param actorManager the manager holding the level's actors
+     * @param tick         the step just finished
+     */
+    public void capture(ActorManager actorManager, long tick) {
+        int previousCount = count;
+        count = 0;
+        actorCount = 0;
+        addAll(actorManager.getEnemies());
+        addAll(actorManager.getEnemyProjectiles());
+        addAll(actorManager.getUserProjectiles());
+        UserPlane userPlane = actorManager.getUserPlane();
+        if (userPlane != null) {
+            add(userPlane);
+            playerHealth = userPlane.getHealth();
+            playerKills = userPlane.getNumberOfKills();
+        }
+        // Stale references would keep released images and actors alive
+        if (previousCount > count) {
+            Arrays.fill(images, count, previousCount, null);
+            Arrays.fill(viewports, count, previousCount, null);
+        }
+        this.tick = tick;
+        this.capturedNanos = System.nanoTime();
+    }
+
+    /**
+     * Adds every live actor in a list.
+     *
+     * @param actors the actors
+     */
+    private void addAll(List<? extends ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (!actor.isDestroyed()) {
+                add(actor);
+            }
+        }
+    }
+
+    /**
+     * Adds one visible actor and its visible attachment.
+     *
+     * @param actor the actor
+     */
+    private void add(ActiveActor actor) {
+        if (actor.getImage() == null || !actor.isVisible()) {
+            return;
+        }
+        double x = actor.getLayoutX() + actor.getTranslateX() + actor.getX();
+        double y = actor.getLayoutY() + actor.getTranslateY() + actor.getY();
+        double deltaX = actor.getSimDeltaX();
+        double deltaY = actor.getSimDeltaY();
+        add(actor.getImage(), actor.getViewport(), x - deltaX, y - deltaY, x, y, actor.getLayoutBounds());
+        actorCount++;
+
+        ImageView attachment = actor.getAttachment();
+        if (attachment != null && attachment.isVisible() && attachment.getImage() != null) {
+            double attachedX = attachment.getLayoutX() + attachment.getTranslateX() + attachment.getX();
+            double attachedY = attachment.getLayoutY() + attachment.getTranslateY() + attachment.getY();
+            add(attachment.getImage(), attachment.getViewport(), attachedX - deltaX, attachedY - deltaY,
+                    attachedX, attachedY, attachment.getLayoutBounds());
+        }
+    }
+
+    /**
+     * Appends one sprite.
+     *
+     * @param image    the image
+     * @param viewport the part of the image to draw, or {@code null}
+     * @param x0       the X position before the step
+     * @param y0       the Y position before the step
+     * @param x1       the X position after the step
+     * @param y1       the Y position after the step
+     * @param size     the displayed size
+     */
+    private void add(Image image, Rectangle2D viewport, double x0, double y0, double x1, double y1, Bounds size) {
+        if (count == images.length) {
+            grow();
+        }
+        images[count] = image;
+        viewports[count] = viewport;
+        fromX[count] = x0;
+        fromY[count] = y0;
+        toX[count] = x1;
+        toY[count] = y1;
+        widths[count] = size.getWidth();
+        heights[count] = size.getHeight();
+        count++;
+    }
+
+    /**
+     * Doubles the room for sprites.
+     */
+    private void grow() {
+        int capacity = images.length * 2;
+        images = Arrays.copyOf(images, capacity);
+        viewports = Arrays.copyOf(viewports, capacity);
+        fromX = Arrays.copyOf(fromX, capacity);
+        fromY = Arrays.copyOf(fromY, capacity);
+        toX = Arrays.copyOf(toX, capacity);
+        toY = Arrays.copyOf(toY, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    /**
+     * Retrieves the number of sprites.
+     *
+     * @return the sprite count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the number of actors the sprites were taken from.
+     *
+     * @return the actor count
+     */
+    public int getActorCount() {
+        return actorCount;
+    }
+
+    /**
+     * Retrieves the image of a sprite.
+     *
+     * @param index the sprite's index
+     * @return the image
+     */
+    public Image getImage(int index) {
+        return images[index];
+    }
+
+    /**
+     * Retrieves the part of a sprite's image to draw.
+     *
+     * @param index the sprite's index
+     * @return the viewport, or {@code null} for the whole image
+     */
+    public Rectangle2D getViewport(int index) {
+        return viewports[index];
+    }
+
+    /**
+     * Retrieves a sprite's X position part way through the step.
+     *
+     * @param index the sprite's index
+     * @param alpha the fraction of the step, from 0 (before) to 1 (after)
+     * @return the X position
+     */
+    public double getX(int index, double alpha) {
+        return fromX[index] + (toX[index] - fromX[index]) * alpha;
+    }
+
+    /**
+     * Retrieves a sprite's Y position part way through the step.
+     *
+     * @param index the sprite's index
+     * @param alpha the fraction of the step, from 0 (before) to 1 (after)
+     * @return the Y position
+     */
+    public double getY(int index, double alpha) {
+        return fromY[index] + (toY[index] - fromY[index]) * alpha;
+    }
+
+    /**
+     * Retrieves a sprite's displayed width.
+     *
+     * @param index the sprite's index
+     * @return the width
+     */
+    public double getWidth(int index) {
+        return widths[index];
+    }
+
+    /**
+     * Retrieves a sprite's displayed height.
+     *
+     * @param index the sprite's index
+     * @return the height
+     */
+    public double getHeight(int index) {
+        return heights[index];
+    }
+
+    /**
+     * Retrieves the step the snapshot was taken after.
+     *
+     * @return the tick, or 0 if the snapshot has never been filled
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retrieves the time at which the snapshot was filled.
+     *
+     * @return the {@link System#nanoTime()} of the capture
+     */
+    public long getCapturedNanos() {
+        return capturedNanos;
+    }
+
+    /**
+     * Retrieves the player's health after the step.
+     *
+     * @return the health
+     */
+    public int getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * Retrieves the player's kills after the step.
+     *
+     * @return the kill count
+     */
+    public int getPlayerKills() {
+        return playerKills;
+    }
+}
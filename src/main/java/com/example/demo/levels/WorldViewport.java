@@ -0,0 +1,185 @@
+package com.example.demo.levels;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+/**
+ * Fits a fixed-size game world into a scene of any size.
+ *
+ * <p>The world group holds everything in virtual coordinates, by default
+ * {@link LevelParentBase#ORIGINAL_SCREEN_WIDTH} x
+ * {@link LevelParentBase#ORIGINAL_SCREEN_HEIGHT}. One uniform scale and one
+ * centring offset on that group map it onto the scene. The leftover space
+ * becomes letterbox bars in the scene's fill colour, and a clip hides actors
+ * outside the world. Resizing the window or toggling fullscreen therefore
+ * touches two transforms, however many actors are in play.</p>
+ *
+ * <p>A resize usually changes the width and the height separately, and may
+ * fire several times in one pulse. The viewport coalesces these into one
+ * recompute, run on the FX thread after the current event has been
+ * handled.</p>
+ */
+public class WorldViewport {
+
+    /**
+     * The group holding the world in virtual coordinates.
+     */
+    private final Group world;
+
+    /**
+     * The width of the world in virtual units.
+     */
+    private final double worldWidth;
+
+    /**
+     * The height of the world in virtual units.
+     */
+    private final double worldHeight;
+
+    /**
+     * The offset centring the scaled world in the scene.
+     */
+    private final Translate offset = new Translate();
+
+    /**
+     * The uniform scale from virtual units to scene pixels.
+     */
+    private final Scale scale = new Scale(1.0, 1.0, 0.0, 0.0);
+
+    /**
+     * Whether a recompute has been scheduled and has not run yet.
+     */
+    private boolean updatePending;
+
+    /**
+     * The number of times the transforms were recomputed.
+     */
+    private long recomputeCount;
+
+    /**
+     * Attaches a viewport to a world group.
+     *
+     * @param world       the group holding the world in virtual coordinates
+     * @param worldWidth  the width of the world in virtual units
+     * @param worldHeight the height of the world in virtual units
+     */
+    public WorldViewport(Group world, double worldWidth, double worldHeight) {
+        this.world = world;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        world.getTransforms().addAll(offset, scale);
+        world.setClip(new Rectangle(worldWidth, worldHeight));
+    }
+
+    /**
+     * Fits the world into a scene now and again whenever the scene is resized.
+     *
+     * @param scene the scene showing the world
+     */
+    public void bind(Scene scene) {
+        scene.widthProperty().addListener(observable -> requestUpdate(scene));
+        scene.heightProperty().addListener(observable -> requestUpdate(scene));
+        fit(scene.getWidth(), scene.getHeight());
+    }
+
+    /**
+     * Schedules one recompute for the scene's current size, unless one is already scheduled.
+     *
+     * @param scene the scene showing the world
+     */
+    private void requestUpdate(Scene scene) {
+        if (updatePending) {
+            return;
+        }
+        updatePending = true;
+        Platform.runLater(() -> {
+            updatePending = false;
+            fit(scene.getWidth(), scene.getHeight());
+        });
+    }
+
+    /**
+     * Scales and centres the world to fit a view of the given size.
+     *
+     * @param viewWidth  the width of the view in pixels
+     * @param viewHeight the height of the view in pixels
+     */
+    public void fit(double viewWidth, double viewHeight) {
+        double factor = Math.min(viewWidth / worldWidth, viewHeight / worldHeight);
+        if (!(factor > 0) || Double.isInfinite(factor)) {
+            return;
+        }
+        scale.setX(factor);
+        scale.setY(factor);
+        offset.setX((viewWidth - worldWidth * factor) / 2.0);
+        offset.setY((viewHeight - worldHeight * factor) / 2.0);
+        recomputeCount++;
+    }
+
+    /**
+     * Retrieves the group holding the world.
+     *
+     * @return the world group
+     */
+    public Group getWorld() {
+        return world;
+    }
+
+    /**
+     * Retrieves the width of the world in virtual units.
+     *
+     * @return the world width
+     */
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * Retrieves the height of the world in virtual units.
+     *
+     * @return the world height
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Retrieves the current scale from virtual units to scene pixels.
+     *
+     * @return the scale factor
+     */
+    public double getScale() {
+        return scale.getX();
+    }
+
+    /**
+     * Retrieves the width of the bars to the left and right of the world.
+     *
+     * @return the horizontal offset in pixels
+     */
+    public double getOffsetX() {
+        return offset.getX();
+    }
+
+    /**
+     * Retrieves the height of the bars above and below the world.
+     *
+     * @return the vertical offset in pixels
+     */
+    public double getOffsetY() {
+        return offset.getY();
+    }
+
+    /**
+     * Retrieves the number of times the transforms were recomputed.
+     *
+     * @return the recompute count
+     */
+    public long getRecomputeCount() {
+        return recomputeCount;
+    }
+}
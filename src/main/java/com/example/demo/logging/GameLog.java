@@ -0,0 +1,626 @@
+package com.example.demo.logging;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The game's logger: leveled, switchable per category, optionally sampled and asynchronous.
+ *
+ * <p>A logging call first compares its level with the category's threshold,
+ * which is a single field read. A disabled call returns at once, so it builds no
+ * string and touches no shared state. An enabled call queues the raw pattern and
+ * arguments in a lock-free ring buffer. A daemon thread formats and prints them,
+ * so the game thread never waits on {@code System.out}. Patterns use {@code {}}
+ * as the argument placeholder. If the last argument is a {@link Throwable} with
+ * no placeholder left for it, its stack trace is printed after the message.</p>
+ *
+ * <p>Call sites that would box primitives or compute arguments on every frame
+ * should guard the call with {@link #isEnabled}, so a disabled message costs
+ * nothing at all.</p>
+ *
+ * <p>Levels and sampling can be set at startup with system properties:
+ * {@code game.log.level} sets every category, {@code game.log.level.<category>}
+ * sets one category, and {@code game.log.sample.<category>} keeps one in N TRACE
+ * and DEBUG messages of a category. Category names are case-insensitive. The
+ * default level is INFO.</p>
+ */
+public final class GameLog {
+
+    /**
+     * The number of messages the ring buffer holds before new ones are dropped.
+     */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    /**
+     * How long the drain thread sleeps when the buffer is empty.
+     */
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+
+    /**
+     * The format of the timestamp at the start of every line.
+     */
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    /**
+     * The queue between logging threads and the drain thread.
+     */
+    private static final LogRingBuffer BUFFER = new LogRingBuffer(BUFFER_CAPACITY);
+
+    /**
+     * The number of messages dropped because the buffer was full.
+     */
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    /**
+     * The number of messages skipped by sampling.
+     */
+    private static final AtomicLong SAMPLED_OUT = new AtomicLong();
+
+    /**
+     * The number of messages printed. Only updated by the thread printing them.
+     */
+    private static volatile long written;
+
+    /**
+     * Lines for standard output, collected during one drain pass.
+     */
+    private static final StringBuilder OUT_BATCH = new StringBuilder();
+
+    /**
+     * Lines for standard error, collected during one drain pass.
+     */
+    private static final StringBuilder ERR_BATCH = new StringBuilder();
+
+    /**
+     * The stream receiving TRACE to INFO messages.
+     */
+    private static final PrintStream OUT = System.out;
+
+    /**
+     * The stream receiving WARN and ERROR messages.
+     */
+    private static final PrintStream ERR = System.err;
+
+    static {
+        applySystemProperties();
+        Thread drainThread = new Thread(GameLog::drainLoop, "game-log-drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::flush, "game-log-flush"));
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private GameLog() {
+    }
+
+    /**
+     * Checks whether messages of a level are currently logged for a category.
+     *
+     * @param level    the level of the message
+     * @param category the category of the message
+     * @return {@code true} if such a message would be logged
+     */
+    public static boolean isEnabled(LogLevel level, LogCategory category) {
+        return level.ordinal() >= category.threshold;
+    }
+
+    /**
+     * Sets the least severe level logged for a category.
+     *
+     * @param category the category to configure
+     * @param level    the new threshold; {@link LogLevel#OFF} silences the category
+     */
+    public static void setLevel(LogCategory category, LogLevel level) {
+        category.threshold = level.ordinal();
+    }
+
+    /**
+     * Sets the least severe level logged for every category.
+     *
+     * @param level the new threshold
+     */
+    public static void setLevel(LogLevel level) {
+        for (LogCategory category : LogCategory.values()) {
+            setLevel(category, level);
+        }
+    }
+
+    /**
+     * Retrieves the least severe level logged for a category.
+     *
+     * @param category the category
+     * @return the threshold
+     */
+    public static LogLevel getLevel(LogCategory category) {
+        return LogLevel.values()[category.threshold];
+    }
+
+    /**
+     * Keeps only one in {@code interval} TRACE and DEBUG messages of a category.
+     *
+     * @param category the category to configure
+     * @param interval the sampling interval; 1 keeps every message
+     * @throws IllegalArgumentException if the interval is less than 1
+     */
+    public static void setSampleInterval(LogCategory category, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Sample interval must be at least 1: " + interval);
+        }
+        category.sampleInterval = interval;
+    }
+
+    /**
+     * Retrieves the number of messages dropped because the buffer was full.
+     *
+     * @return the dropped message count
+     */
+    public static long getDroppedCount() {
+        return DROPPED.get();
+    }
+
+    /**
+     * Retrieves the number of messages skipped by sampling.
+     *
+     * @return the sampled-out message count
+     */
+    public static long getSampledOutCount() {
+        return SAMPLED_OUT.get();
+    }
+
+    /**
+     * Retrieves the number of messages printed so far.
+     *
+     * @return the written message count
+     */
+    public static long getWrittenCount() {
+        return written;
+    }
+
+    /**
+     * Logs a TRACE message.
+     *
+     * @param category the category
+     * @param message  the message
+     */
+    public static void trace(LogCategory category, String message) {
+        if (isEnabled(LogLevel.TRACE, category)) {
+            enqueue(LogLevel.TRACE, category, message, 0, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a TRACE message with one argument.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the argument
+     */
+    public static void trace(LogCategory category, String pattern, Object argument1) {
+        if (isEnabled(LogLevel.TRACE, category)) {
+            enqueue(LogLevel.TRACE, category, pattern, 1, argument1, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a TRACE message with two arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     */
+    public static void trace(LogCategory category, String pattern, Object argument1, Object argument2) {
+        if (isEnabled(LogLevel.TRACE, category)) {
+            enqueue(LogLevel.TRACE, category, pattern, 2, argument1, argument2, null, null);
+        }
+    }
+
+    /**
+     * Logs a TRACE message with three arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     * @param argument3 the third argument
+     */
+    public static void trace(LogCategory category, String pattern, Object argument1, Object argument2, Object argument3) {
+        if (isEnabled(LogLevel.TRACE, category)) {
+            enqueue(LogLevel.TRACE, category, pattern, 3, argument1, argument2, argument3, null);
+        }
+    }
+
+    /**
+     * Logs a DEBUG message.
+     *
+     * @param category the category
+     * @param message  the message
+     */
+    public static void debug(LogCategory category, String message) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            enqueue(LogLevel.DEBUG, category, message, 0, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a DEBUG message with one argument.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the argument
+     */
+    public static void debug(LogCategory category, String pattern, Object argument1) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            enqueue(LogLevel.DEBUG, category, pattern, 1, argument1, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a DEBUG message with two arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     */
+    public static void debug(LogCategory category, String pattern, Object argument1, Object argument2) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            enqueue(LogLevel.DEBUG, category, pattern, 2, argument1, argument2, null, null);
+        }
+    }
+
+    /**
+     * Logs a DEBUG message with three arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     * @param argument3 the third argument
+     */
+    public static void debug(LogCategory category, String pattern, Object argument1, Object argument2, Object argument3) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            enqueue(LogLevel.DEBUG, category, pattern, 3, argument1, argument2, argument3, null);
+        }
+    }
+
+    /**
+     * Logs an INFO message.
+     *
+     * @param category the category
+     * @param message  the message
+     */
+    public static void info(LogCategory category, String message) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            enqueue(LogLevel.INFO, category, message, 0, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs an INFO message with one argument.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the argument
+     */
+    public static void info(LogCategory category, String pattern, Object argument1) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            enqueue(LogLevel.INFO, category, pattern, 1, argument1, null, null, null);
+        }
+    }
+
+    /**
+     * Logs an INFO message with two arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     */
+    public static void info(LogCategory category, String pattern, Object argument1, Object argument2) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            enqueue(LogLevel.INFO, category, pattern, 2, argument1, argument2, null, null);
+        }
+    }
+
+    /**
+     * Logs an INFO message with three arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     * @param argument3 the third argument
+     */
+    public static void info(LogCategory category, String pattern, Object argument1, Object argument2, Object argument3) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            enqueue(LogLevel.INFO, category, pattern, 3, argument1, argument2, argument3, null);
+        }
+    }
+
+    /**
+     * Logs a WARN message.
+     *
+     * @param category the category
+     * @param message  the message
+     */
+    public static void warn(LogCategory category, String message) {
+        if (isEnabled(LogLevel.WARN, category)) {
+            enqueue(LogLevel.WARN, category, message, 0, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a WARN message with one argument.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the argument
+     */
+    public static void warn(LogCategory category, String pattern, Object argument1) {
+        if (isEnabled(LogLevel.WARN, category)) {
+            enqueue(LogLevel.WARN, category, pattern, 1, argument1, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a WARN message with two arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     */
+    public static void warn(LogCategory category, String pattern, Object argument1, Object argument2) {
+        if (isEnabled(LogLevel.WARN, category)) {
+            enqueue(LogLevel.WARN, category, pattern, 2, argument1, argument2, null, null);
+        }
+    }
+
+    /**
+     * Logs an ERROR message.
+     *
+     * @param category the category
+     * @param message  the message
+     */
+    public static void error(LogCategory category, String message) {
+        if (isEnabled(LogLevel.ERROR, category)) {
+            enqueue(LogLevel.ERROR, category, message, 0, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs an ERROR message with one argument.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the argument
+     */
+    public static void error(LogCategory category, String pattern, Object argument1) {
+        if (isEnabled(LogLevel.ERROR, category)) {
+            enqueue(LogLevel.ERROR, category, pattern, 1, argument1, null, null, null);
+        }
+    }
+
+    /**
+     * Logs an ERROR message with two arguments.
+     *
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     */
+    public static void error(LogCategory category, String pattern, Object argument1, Object argument2) {
+        if (isEnabled(LogLevel.ERROR, category)) {
+            enqueue(LogLevel.ERROR, category, pattern, 2, argument1, argument2, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with any number of arguments.
+     *
+     * @param level     the severity
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param arguments the arguments
+     */
+    public static void log(LogLevel level, LogCategory category, String pattern, Object... arguments) {
+        if (level != LogLevel.OFF && isEnabled(level, category)) {
+            if (arguments.length <= 3) {
+                enqueue(level, category, pattern, arguments.length,
+                        arguments.length > 0 ? arguments[0] : null,
+                        arguments.length > 1 ? arguments[1] : null,
+                        arguments.length > 2 ? arguments[2] : null, null);
+            } else {
+                enqueue(level, category, pattern, arguments.length, null, null, null, arguments);
+            }
+        }
+    }
+
+    /**
+     * Applies sampling and queues an enabled message. When the buffer is full,
+     * WARN and ERROR messages are printed on the calling thread instead of being dropped.
+     *
+     * @param level     the severity
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param count     the number of arguments
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     * @param argument3 the third argument
+     * @param arguments all arguments when there are more than three, otherwise {@code null}
+     */
+    private static void enqueue(LogLevel level, LogCategory category, String pattern, int count,
+                                Object argument1, Object argument2, Object argument3, Object[] arguments) {
+        if (level.compareTo(LogLevel.INFO) < 0) {
+            int interval = category.sampleInterval;
+            if (interval > 1 && category.sampleCounter++ % interval != 0) {
+                SAMPLED_OUT.incrementAndGet();
+                return;
+            }
+        }
+        if (BUFFER.offer(level, category, pattern, count, argument1, argument2, argument3, arguments)) {
+            return;
+        }
+        if (level.compareTo(LogLevel.WARN) >= 0) {
+            LogRecord record = new LogRecord();
+            record.level = level;
+            record.category = category;
+            record.timestampMillis = System.currentTimeMillis();
+            record.threadName = Thread.currentThread().getName();
+            record.pattern = pattern;
+            record.argumentCount = count;
+            record.argument1 = argument1;
+            record.argument2 = argument2;
+            record.argument3 = argument3;
+            record.arguments = arguments;
+            synchronized (GameLog.class) {
+                ERR.print(format(record));
+                ERR.flush();
+                written++;
+            }
+        } else {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    /**
+     * Prints every queued message. Called by the drain thread and at shutdown.
+     */
+    public static void flush() {
+        synchronized (GameLog.class) {
+            BUFFER.drain(GameLog::append);
+            writeBatches();
+        }
+    }
+
+    /**
+     * Drains the buffer until the JVM exits, sleeping briefly whenever it is empty.
+     */
+    private static void drainLoop() {
+        while (true) {
+            int drained;
+            synchronized (GameLog.class) {
+                drained = BUFFER.drain(GameLog::append);
+                writeBatches();
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Formats a record into the batch for its stream.
+     *
+     * @param record the record to format
+     */
+    private static void append(LogRecord record) {
+        StringBuilder batch = record.level.compareTo(LogLevel.WARN) >= 0 ? ERR_BATCH : OUT_BATCH;
+        batch.append(format(record));
+        written++;
+    }
+
+    /**
+     * Prints and clears the pending batches.
+     */
+    private static void writeBatches() {
+        if (!OUT_BATCH.isEmpty()) {
+            OUT.print(OUT_BATCH);
+            OUT.flush();
+            OUT_BATCH.setLength(0);
+        }
+        if (!ERR_BATCH.isEmpty()) {
+            ERR.print(ERR_BATCH);
+            ERR.flush();
+            ERR_BATCH.setLength(0);
+        }
+    }
+
+    /**
+     * Formats a record as one or more lines: time, level, category, thread and message,
+     * followed by a stack trace when the last argument is an unused throwable.
+     *
+     * @param record the record to format
+     * @return the formatted text, ending with a line separator
+     */
+    private static String format(LogRecord record) {
+        StringBuilder line = new StringBuilder(96);
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(record.timestampMillis), ZoneId.systemDefault());
+        TIME_FORMAT.formatTo(time, line);
+        line.append(' ').append(record.level);
+        if (record.level.name().length() < 5) {
+            line.append(' ');
+        }
+        line.append(" [").append(record.category).append("] ")
+                .append(record.threadName).append(": ");
+
+        String pattern = record.pattern;
+        int used = 0;
+        int start = 0;
+        int placeholder;
+        while (used < record.argumentCount && (placeholder = pattern.indexOf("{}", start)) >= 0) {
+            line.append(pattern, start, placeholder).append(record.argument(used++));
+            start = placeholder + 2;
+        }
+        line.append(pattern, start, pattern.length()).append(System.lineSeparator());
+
+        if (used < record.argumentCount && record.argument(record.argumentCount - 1) instanceof Throwable thrown) {
+            StringWriter trace = new StringWriter();
+            thrown.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Reads the logging system properties.
+     */
+    private static void applySystemProperties() {
+        String global = System.getProperty("game.log.level");
+        if (global != null) {
+            setLevel(parseLevel(global, LogLevel.INFO));
+        }
+        for (LogCategory category : LogCategory.values()) {
+            String key = category.name().toLowerCase(Locale.ROOT);
+            String level = System.getProperty("game.log.level." + key);
+            if (level != null) {
+                setLevel(category, parseLevel(level, getLevel(category)));
+            }
+            String sample = System.getProperty("game.log.sample." + key);
+            if (sample != null) {
+                try {
+                    setSampleInterval(category, Integer.parseInt(sample.trim()));
+                } catch (IllegalArgumentException e) {
+                    ERR.println("Ignoring invalid game.log.sample." + key + ": " + sample);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses a level name, falling back to a default for unknown names.
+     *
+     * @param name     the level name, in any case
+     * @param fallback the level used when the name is not recognised
+     * @return the parsed level
+     */
+    private static LogLevel parseLevel(String name, LogLevel fallback) {
+        try {
+            return LogLevel.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            ERR.println("Ignoring unknown log level: " + name);
+            return fallback;
+        }
+    }
+}
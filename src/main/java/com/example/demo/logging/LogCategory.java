@@ -0,0 +1,61 @@
+package com.example.demo.logging;
+
+/**
+ * The areas of the game that can be logged and switched independently.
+ *
+ * <p>Each category carries its own threshold and sampling interval, read on
+ * every logging call. Both are changed through {@link GameLog}.</p>
+ */
+public enum LogCategory {
+
+    /**
+     * Application startup, level transitions and the game loop.
+     */
+    GAME,
+
+    /**
+     * Level setup, spawning and win/lose checks.
+     */
+    LEVEL,
+
+    /**
+     * Planes and their movement, firing and damage.
+     */
+    ACTOR,
+
+    /**
+     * Projectile creation, movement and removal.
+     */
+    PROJECTILE,
+
+    /**
+     * Collision handling and kill counting.
+     */
+    COLLISION,
+
+    /**
+     * Menus, overlays and other UI elements.
+     */
+    UI,
+
+    /**
+     * Display modes and persisted user settings.
+     */
+    SETTINGS;
+
+    /**
+     * The ordinal of the least severe level currently logged.
+     */
+    volatile int threshold = LogLevel.INFO.ordinal();
+
+    /**
+     * Only one in this many TRACE and DEBUG messages is kept; 1 keeps every message.
+     */
+    volatile int sampleInterval = 1;
+
+    /**
+     * The number of TRACE and DEBUG messages seen, used for sampling. Updated without
+     * synchronization, so sampling is approximate when several threads log at once.
+     */
+    int sampleCounter;
+}
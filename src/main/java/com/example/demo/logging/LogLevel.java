@@ -0,0 +1,37 @@
+package com.example.demo.logging;
+
+/**
+ * The severity of a log message, from the most verbose to the most severe.
+ */
+public enum LogLevel {
+
+    /**
+     * Per-frame detail, such as positions and per-tick decisions.
+     */
+    TRACE,
+
+    /**
+     * Per-event detail, such as spawns, shots and hits.
+     */
+    DEBUG,
+
+    /**
+     * Lifecycle milestones, such as level starts and transitions.
+     */
+    INFO,
+
+    /**
+     * Recoverable problems.
+     */
+    WARN,
+
+    /**
+     * Failures that stop an operation.
+     */
+    ERROR,
+
+    /**
+     * A threshold that disables every message.
+     */
+    OFF
+}
@@ -0,0 +1,89 @@
+package com.example.demo.logging;
+
+/**
+ * A reusable slot of the log ring buffer, holding one message until it is written.
+ *
+ * <p>Arguments are kept as objects and only formatted by the drain thread.</p>
+ */
+final class LogRecord {
+
+    /**
+     * The severity of the message.
+     */
+    LogLevel level;
+
+    /**
+     * The category of the message.
+     */
+    LogCategory category;
+
+    /**
+     * The wall-clock time the message was logged, in milliseconds since the epoch.
+     */
+    long timestampMillis;
+
+    /**
+     * The name of the thread that logged the message.
+     */
+    String threadName;
+
+    /**
+     * The message, with {@code {}} marking where arguments go.
+     */
+    String pattern;
+
+    /**
+     * The number of arguments supplied.
+     */
+    int argumentCount;
+
+    /**
+     * The first argument.
+     */
+    Object argument1;
+
+    /**
+     * The second argument.
+     */
+    Object argument2;
+
+    /**
+     * The third argument.
+     */
+    Object argument3;
+
+    /**
+     * All arguments, when more than three were supplied.
+     */
+    Object[] arguments;
+
+    /**
+     * Retrieves an argument by position.
+     *
+     * @param index the position of the argument
+     * @return the argument
+     */
+    Object argument(int index) {
+        if (arguments != null) {
+            return arguments[index];
+        }
+        return switch (index) {
+            case 0 -> argument1;
+            case 1 -> argument2;
+            default -> argument3;
+        };
+    }
+
+    /**
+     * Drops every reference held by the record so written messages can be collected.
+     */
+    void clear() {
+        category = null;
+        threadName = null;
+        pattern = null;
+        argument1 = null;
+        argument2 = null;
+        argument3 = null;
+        arguments = null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue of log records for many producers and one consumer.
+ *
+ * <p>Records are preallocated and reused. Each slot has a sequence number that
+ * says whose turn it is. A producer claims the next position with one
+ * compare-and-set, fills the record, then publishes it by advancing the slot's
+ * sequence. The consumer reads published slots in order and hands them back by
+ * advancing the sequence a full lap. When the buffer is full, {@link #offer}
+ * fails instead of waiting, so logging never blocks the game loop.</p>
+ */
+final class LogRingBuffer {
+
+    /**
+     * The number of slots minus one, used to wrap positions.
+     */
+    private final int mask;
+
+    /**
+     * The reusable records, one per slot.
+     */
+    private final LogRecord[] records;
+
+    /**
+     * The sequence number of each slot.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The next position producers will claim.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position the consumer will read. Only touched by the consumer thread.
+     */
+    private long head;
+
+    /**
+     * Constructs a ring buffer with at least the requested number of slots.
+     *
+     * @param capacity the minimum number of slots; rounded up to a power of two
+     */
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        records = new LogRecord[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            records[i] = new LogRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes a message if a slot is free.
+     *
+     * @param level     the severity
+     * @param category  the category
+     * @param pattern   the message pattern
+     * @param count     the number of arguments
+     * @param argument1 the first argument
+     * @param argument2 the second argument
+     * @param argument3 the third argument
+     * @param arguments all arguments when there are more than three, otherwise {@code null}
+     * @return {@code false} if the buffer was full and the message was not queued
+     */
+    boolean offer(LogLevel level, LogCategory category, String pattern, int count,
+                  Object argument1, Object argument2, Object argument3, Object[] arguments) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed this position first; retry with the new tail
+        }
+
+        LogRecord record = records[index];
+        record.level = level;
+        record.category = category;
+        record.timestampMillis = System.currentTimeMillis();
+        record.threadName = Thread.currentThread().getName();
+        record.pattern = pattern;
+        record.argumentCount = count;
+        record.argument1 = argument1;
+        record.argument2 = argument2;
+        record.argument3 = argument3;
+        record.arguments = arguments;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Passes every published record to the handler, oldest first, then frees its slot.
+     * Must only be called from the single consumer thread.
+     *
+     * @param handler receives each record; must not keep a reference to it
+     * @return the number of records drained
+     */
+    int drain(Consumer<LogRecord> handler) {
+        int drained = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return drained;
+            }
+            LogRecord record = records[index];
+            handler.accept(record);
+            record.clear();
+            sequences.lazySet(index, head + records.length);
+            head++;
+            drained++;
+        }
+    }
+
+    /**
+     * Retrieves the number of slots.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return records.length;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.simulation.ActorRules;
 import javafx.scene.Group;
 
 /**
@@ -8,10 +12,30 @@ import javafx.scene.Group;
  */
 public class HomingProjectile extends Projectile {
 
+    /**
+     * The base directory prefix stripped from image names passed to the constructor.
+     */
+    private static final String IMAGE_DIRECTORY_PREFIX = "/com/example/demo/images/";
+
+    /**
+     * The distance the projectile moves left per update.
+     */
+    private static final double HORIZONTAL_SPEED = ActorRules.HOMING_HORIZONTAL_SPEED;
+
+    /**
+     * The largest distance the projectile moves toward its target's Y position per update.
+     */
+    private static final double VERTICAL_SPEED = ActorRules.HOMING_VERTICAL_SPEED;
+
     /**
      * The target actor that the projectile is tracking.
      */
-    private final ActiveActorDestructible target;
+    private ActiveActorDestructible target;
+
+    /**
+     * The image file name of the projectile, relative to the image directory.
+     */
+    private final String imageName;
 
     /**
      * The angle deviation to make the projectile less accurate.
@@ -28,12 +52,13 @@ public class HomingProjectile extends Projectile {
      * @param imageName The image file name for the projectile.
      */
     public HomingProjectile(double x, double y, Group root, ActiveActorDestructible target, String imageName) {
-        super(imageName.replace("/com/example/demo/images/", ""), 20, x, y); // Remove base path if necessary
+        super(normalizeImageName(imageName), ActorRules.HOMING_IMAGE_HEIGHT, x, y); // Remove base path if necessary
         this.target = target;
+        this.imageName = normalizeImageName(imageName);
 
         // Set dimensions
-        this.setFitHeight(50); // Height
-        this.setFitWidth(50);  // Width
+        this.setFitHeight(ActorRules.HOMING_FIT_SIZE); // Height
+        this.setFitWidth(ActorRules.HOMING_FIT_SIZE);  // Width
 
         // Ensure visibility and layering
         this.setOpacity(1.0);  // Fully visible
@@ -44,8 +69,39 @@ public class HomingProjectile extends Projectile {
             root.getChildren().add(this); // Add to the scene
         }
 
-        System.out.println("HomingProjectile initialized with image: " + imageName +
-                ", Width: " + getFitWidth() + ", Height: " + getFitHeight());
+        GameLog.debug(LogCategory.PROJECTILE, "HomingProjectile initialized with image: {}, Width: {}, Height: {}",
+                imageName, getFitWidth(), getFitHeight());
+    }
+
+    /**
+     * Strips the image directory prefix from an image name, if present.
+     *
+     * @param imageName the image name, with or without the directory prefix
+     * @return the image file name relative to the image directory
+     */
+    public static String normalizeImageName(String imageName) {
+        return imageName.replace(IMAGE_DIRECTORY_PREFIX, "");
+    }
+
+    /**
+     * Retrieves the image file name of the projectile, relative to the image directory.
+     *
+     * @return the image file name
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * Prepares a pooled projectile to be fired again at a new target.
+     *
+     * @param x      the new X position of the projectile
+     * @param y      the new Y position of the projectile
+     * @param target the target actor for the projectile to track
+     */
+    public void reset(double x, double y, ActiveActorDestructible target) {
+        reset(x, y);
+        this.target = target;
     }
 
     /**
@@ -59,25 +115,48 @@ public class HomingProjectile extends Projectile {
             double currentX = getLayoutX();
 
             // Move horizontally left (towards the screen center)
-            double horizontalSpeed = 8.0;
-            setLayoutX(currentX - horizontalSpeed);
+            setLayoutX(currentX - HORIZONTAL_SPEED);
 
             // Homing vertically
-            double verticalSpeed = 0.5;
-            if (Math.abs(targetY - currentY) > verticalSpeed) {
-                setLayoutY(currentY + Math.signum(targetY - currentY) * verticalSpeed);
+            if (Math.abs(targetY - currentY) > VERTICAL_SPEED) {
+                setLayoutY(currentY + Math.signum(targetY - currentY) * VERTICAL_SPEED);
             } else {
                 setLayoutY(targetY);
             }
 
             // Debug log for position
-            System.out.println("Projectile moved to X=" + getLayoutX() + ", Y=" + getLayoutY());
+            if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.PROJECTILE)) {
+                GameLog.trace(LogCategory.PROJECTILE, "Projectile moved to X={}, Y={}", getLayoutX(), getLayoutY());
+            }
         } else {
-            System.out.println("Projectile has no valid target.");
+            GameLog.trace(LogCategory.PROJECTILE, "Projectile has no valid target.");
         }
         setLayoutX(Math.max(0, getLayoutX())); // Prevent moving off-screen
     }
 
+    /**
+     * Retrieves the target actor that the projectile is tracking.
+     *
+     * @return the target, or {@code null} if there is none
+     */
+    public ActiveActorDestructible getTarget() {
+        return target;
+    }
+
+    /**
+     * Adds this projectile to a buffer as a homing shot. The buffer steers every
+     * homing shot toward a single target, so callers only buffer projectiles
+     * aimed at that target.
+     *
+     * @param buffer the buffer to join
+     * @return {@code true}, as homing motion is always expressible by the buffer
+     */
+    @Override
+    public boolean addToBuffer(ProjectileBuffer buffer) {
+        buffer.addHoming(this, getLayoutX(), getLayoutY(), HORIZONTAL_SPEED, VERTICAL_SPEED);
+        return true;
+    }
+
     /**
      * Updates the state of the projectile, including its position.
      */
@@ -1,6 +1,10 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.CollisionLayer;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.EntityKind;
 import javafx.geometry.Point2D;
 
 /**
@@ -18,6 +22,12 @@ public abstract class Projectile extends ActiveActorDestructible {
 	 */
 	private ActiveActorDestructible target;
 
+	/**
+	 * The slot this projectile occupies in a {@link ProjectileBuffer}, or -1 if it is not buffered.
+	 * Maintained by the buffer.
+	 */
+	int bufferSlot = -1;
+
 	/**
 	 * Constructs a Projectile with specified image, size, and initial position.
 	 *
@@ -32,7 +42,7 @@ public abstract class Projectile extends ActiveActorDestructible {
 		setLayoutX(initialXPos);
 		setLayoutY(initialYPos);
 
-		System.out.println("Projectile initialized at LayoutX: " + initialXPos + ", LayoutY: " + initialYPos);
+		GameLog.debug(LogCategory.PROJECTILE, "Projectile initialized at LayoutX: {}, LayoutY: {}", initialXPos, initialYPos);
 	}
 
 	/**
@@ -43,7 +53,69 @@ public abstract class Projectile extends ActiveActorDestructible {
 	public void enableHoming(ActiveActorDestructible target) {
 		this.isHoming = true;
 		this.target = target;
-		System.out.println("Homing enabled for target: " + target);
+		GameLog.debug(LogCategory.PROJECTILE, "Homing enabled for target: {}", target);
+	}
+
+	/**
+	 * Prepares a pooled projectile to be fired again from the specified position.
+	 *
+	 * <p>Clears the destroyed flag, any accumulated translation and the hidden
+	 * state left behind by its previous flight.</p>
+	 *
+	 * @param initialXPos the new X position of the projectile
+	 * @param initialYPos the new Y position of the projectile
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		setDestroyed(false);
+		setTranslateX(0);
+		setTranslateY(0);
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setVisible(true);
+		captureSimState();
+	}
+
+	/**
+	 * Adds this projectile to a buffer that moves it from then on.
+	 *
+	 * <p>The base implementation adds nothing, so the projectile keeps moving
+	 * through {@link #updateActor()}. Subclasses whose motion the buffer can
+	 * express override this.</p>
+	 *
+	 * @param buffer the buffer to join
+	 * @return {@code true} if the projectile was added
+	 */
+	public boolean addToBuffer(ProjectileBuffer buffer) {
+		return false;
+	}
+
+	/**
+	 * Checks whether this projectile is currently moved by a {@link ProjectileBuffer}.
+	 *
+	 * @return {@code true} if the projectile occupies a buffer slot
+	 */
+	public boolean isBuffered() {
+		return bufferSlot >= 0;
+	}
+
+	/**
+	 * Projectiles are fired by enemies unless a subclass says otherwise.
+	 *
+	 * @return {@link CollisionLayer#ENEMY_PROJECTILE}
+	 */
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return EntityKind.ENEMY_PROJECTILE.getCollisionLayer();
+	}
+
+	/**
+	 * Enemy projectiles collide with the user plane.
+	 *
+	 * @return the collision mask
+	 */
+	@Override
+	public int getCollisionMask() {
+		return EntityKind.ENEMY_PROJECTILE.getCollisionMask();
 	}
 
 	/**
@@ -85,7 +157,7 @@ public abstract class Projectile extends ActiveActorDestructible {
 
 		// Check for parent
 		if (getParent() == null) {
-			System.out.println("Warning: Projectile has no parent!");
+			GameLog.warn(LogCategory.PROJECTILE, "Warning: Projectile has no parent!");
 		}
 	}
 }
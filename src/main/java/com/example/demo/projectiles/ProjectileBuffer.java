@@ -0,0 +1,434 @@
+package com.example.demo.projectiles;
+
+import java.util.Arrays;
+
+/**
+ * Stores the motion state of many projectiles in parallel primitive arrays.
+ *
+ * <p>Each live projectile occupies one slot, and slot {@code i} of every array
+ * describes the same projectile. {@link #update} advances all slots in one
+ * straight loop over the arrays, with no virtual calls or per-projectile
+ * objects, so the JIT can unroll it and use vector instructions. A slot may
+ * have an owning {@link Projectile} node. {@link #syncNodes} copies the
+ * positions back to those nodes after each update. Slots without an owner
+ * let benchmarks and headless runs move bullets without any scene graph.</p>
+ *
+ * <p>Removal swaps the last slot into the freed one, so the live slots always
+ * form the prefix {@code [0, size())}. Slot indices are not stable.</p>
+ */
+public class ProjectileBuffer {
+
+    /**
+     * A projectile that moves by a constant velocity every update.
+     */
+    public static final byte TYPE_STRAIGHT = 0;
+
+    /**
+     * A projectile that moves by a constant velocity and turns toward the target's Y position.
+     */
+    public static final byte TYPE_HOMING = 1;
+
+    /**
+     * The number of slots allocated by the default constructor.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /**
+     * The X positions of the projectiles.
+     */
+    private double[] x;
+
+    /**
+     * The Y positions of the projectiles.
+     */
+    private double[] y;
+
+    /**
+     * The distances moved along X per update.
+     */
+    private double[] vx;
+
+    /**
+     * The distances moved along Y per update, before steering.
+     */
+    private double[] vy;
+
+    /**
+     * The largest vertical correction per update toward the target; zero for straight shots.
+     */
+    private double[] turnRate;
+
+    /**
+     * The smallest X position allowed for each projectile.
+     */
+    private double[] minX;
+
+    /**
+     * The type of each projectile.
+     */
+    private byte[] type;
+
+    /**
+     * Whether each projectile is still in play.
+     */
+    private boolean[] alive;
+
+    /**
+     * The node displaying each projectile, or {@code null} for headless slots.
+     */
+    private Projectile[] owners;
+
+    /**
+     * The number of occupied slots.
+     */
+    private int size;
+
+    /**
+     * The largest number of occupied slots seen since construction.
+     */
+    private int peakSize;
+
+    /**
+     * Constructs a buffer with the default initial capacity.
+     */
+    public ProjectileBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a buffer with the specified initial capacity. The buffer grows as needed.
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ProjectileBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        vx = new double[initialCapacity];
+        vy = new double[initialCapacity];
+        turnRate = new double[initialCapacity];
+        minX = new double[initialCapacity];
+        type = new byte[initialCapacity];
+        alive = new boolean[initialCapacity];
+        owners = new Projectile[initialCapacity];
+    }
+
+    /**
+     * Adds a projectile moving in a straight line. It leaves play once it passes
+     * the right bound given to {@link #update}.
+     *
+     * @param owner the node displaying the projectile, or {@code null}
+     * @param x     the initial X position
+     * @param y     the initial Y position
+     * @param vx    the distance moved along X per update
+     * @param vy    the distance moved along Y per update
+     * @return the slot of the new projectile
+     */
+    public int addStraight(Projectile owner, double x, double y, double vx, double vy) {
+        return add(owner, TYPE_STRAIGHT, x, y, vx, vy, 0, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Adds a homing projectile. It moves left by {@code speed} per update and turns
+     * toward the target's Y position by at most {@code turnRate}, stopping at the left edge.
+     *
+     * @param owner    the node displaying the projectile, or {@code null}
+     * @param x        the initial X position
+     * @param y        the initial Y position
+     * @param speed    the distance moved left per update
+     * @param turnRate the largest vertical correction per update
+     * @return the slot of the new projectile
+     */
+    public int addHoming(Projectile owner, double x, double y, double speed, double turnRate) {
+        return add(owner, TYPE_HOMING, x, y, -speed, 0, turnRate, 0);
+    }
+
+    /**
+     * Fills the next free slot, growing the arrays if they are full.
+     *
+     * @param owner     the node displaying the projectile, or {@code null}
+     * @param kind      the projectile type
+     * @param initialX  the initial X position
+     * @param initialY  the initial Y position
+     * @param velocityX the distance moved along X per update
+     * @param velocityY the distance moved along Y per update
+     * @param turn      the largest vertical correction per update
+     * @param leftBound the smallest X position allowed
+     * @return the slot of the new projectile
+     * @throws IllegalStateException if the owner already occupies a slot
+     */
+    private int add(Projectile owner, byte kind, double initialX, double initialY,
+                    double velocityX, double velocityY, double turn, double leftBound) {
+        if (owner != null && owner.bufferSlot >= 0) {
+            throw new IllegalStateException("Projectile is already buffered: " + owner);
+        }
+        if (size == x.length) {
+            grow();
+        }
+        int slot = size++;
+        x[slot] = initialX;
+        y[slot] = initialY;
+        vx[slot] = velocityX;
+        vy[slot] = velocityY;
+        turnRate[slot] = turn;
+        minX[slot] = leftBound;
+        type[slot] = kind;
+        alive[slot] = true;
+        owners[slot] = owner;
+        if (owner != null) {
+            owner.bufferSlot = slot;
+        }
+        peakSize = Math.max(peakSize, size);
+        return slot;
+    }
+
+    /**
+     * Doubles the length of every array.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        turnRate = Arrays.copyOf(turnRate, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        type = Arrays.copyOf(type, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    /**
+     * Advances every projectile by one update.
+     *
+     * <p>Homing projectiles only move while their target is alive. Straight
+     * projectiles past {@code rightBound} are marked dead, and
+     * {@link #compact} or {@link #syncNodes} then removes them.</p>
+     *
+     * @param targetY     the Y position homing projectiles steer toward
+     * @param targetAlive whether the homing target is still in play
+     * @param rightBound  the X position beyond which straight projectiles leave play
+     */
+    public void update(double targetY, boolean targetAlive, double rightBound) {
+        int n = size;
+        double[] px = x;
+        double[] py = y;
+        double[] pvx = vx;
+        double[] pvy = vy;
+        double[] turn = turnRate;
+
+        if (targetAlive) {
+            // Straight shots have a turn rate of zero, so the clamp leaves them unsteered
+            for (int i = 0; i < n; i++) {
+                double steer = Math.max(-turn[i], Math.min(turn[i], targetY - py[i]));
+                px[i] += pvx[i];
+                py[i] += pvy[i] + steer;
+            }
+        } else {
+            byte[] kinds = type;
+            for (int i = 0; i < n; i++) {
+                if (kinds[i] == TYPE_STRAIGHT) {
+                    px[i] += pvx[i];
+                    py[i] += pvy[i];
+                }
+            }
+        }
+
+        double[] left = minX;
+        byte[] kinds = type;
+        boolean[] live = alive;
+        for (int i = 0; i < n; i++) {
+            px[i] = Math.max(px[i], left[i]);
+            if (px[i] > rightBound && kinds[i] == TYPE_STRAIGHT) {
+                live[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Copies every position to its owning node, then removes projectiles that
+     * left play. Their owners are hidden and destroyed so the normal cleanup
+     * pass recycles them.
+     */
+    public void syncNodes() {
+        for (int i = 0; i < size; i++) {
+            Projectile owner = owners[i];
+            if (owner != null) {
+                owner.setLayoutX(x[i]);
+                owner.setLayoutY(y[i]);
+            }
+        }
+        compact();
+    }
+
+    /**
+     * Removes every projectile marked dead, hiding and destroying its owner.
+     *
+     * @return the number of projectiles removed
+     */
+    public int compact() {
+        int removed = 0;
+        int i = 0;
+        while (i < size) {
+            if (alive[i]) {
+                i++;
+                continue;
+            }
+            Projectile owner = owners[i];
+            removeSlot(i);
+            removed++;
+            if (owner != null) {
+                owner.setVisible(false);
+                owner.destroy();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the slot owned by a projectile, if it has one.
+     *
+     * @param owner the projectile to remove
+     * @return {@code true} if the projectile was buffered
+     */
+    public boolean remove(Projectile owner) {
+        int slot = owner.bufferSlot;
+        if (slot < 0 || slot >= size || owners[slot] != owner) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    /**
+     * Removes a slot by moving the last slot into it.
+     *
+     * @param slot the slot to remove
+     */
+    private void removeSlot(int slot) {
+        Projectile removed = owners[slot];
+        if (removed != null) {
+            removed.bufferSlot = -1;
+        }
+
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            vx[slot] = vx[last];
+            vy[slot] = vy[last];
+            turnRate[slot] = turnRate[last];
+            minX[slot] = minX[last];
+            type[slot] = type[last];
+            alive[slot] = alive[last];
+            owners[slot] = owners[last];
+            if (owners[slot] != null) {
+                owners[slot].bufferSlot = slot;
+            }
+        }
+        owners[last] = null;
+    }
+
+    /**
+     * Removes every projectile without touching the owners' nodes.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (owners[i] != null) {
+                owners[i].bufferSlot = -1;
+                owners[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Retrieves the number of projectiles in the buffer.
+     *
+     * @return the number of occupied slots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of slots currently allocated.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return x.length;
+    }
+
+    /**
+     * Retrieves the largest number of projectiles held at once.
+     *
+     * @return the peak size
+     */
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Retrieves the X position of a slot.
+     *
+     * @param slot the slot index
+     * @return the X position
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Retrieves the Y position of a slot.
+     *
+     * @param slot the slot index
+     * @return the Y position
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Retrieves the type of a slot.
+     *
+     * @param slot the slot index
+     * @return {@link #TYPE_STRAIGHT} or {@link #TYPE_HOMING}
+     */
+    public byte getType(int slot) {
+        return type[slot];
+    }
+
+    /**
+     * Checks whether the projectile in a slot is still in play.
+     *
+     * @param slot the slot index
+     * @return {@code true} if alive
+     */
+    public boolean isAlive(int slot) {
+        return alive[slot];
+    }
+
+    /**
+     * Retrieves the node displaying a slot.
+     *
+     * @param slot the slot index
+     * @return the owning projectile, or {@code null} for a headless slot
+     */
+    public Projectile getOwner(int slot) {
+        return owners[slot];
+    }
+
+    /**
+     * Returns a summary of the buffer's occupancy.
+     *
+     * @return the buffer as a string
+     */
+    @Override
+    public String toString() {
+        return "ProjectileBuffer[size=" + size + ", capacity=" + x.length + ", peak=" + peakSize + "]";
+    }
+}
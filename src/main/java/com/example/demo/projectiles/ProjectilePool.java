@@ -0,0 +1,178 @@
+package com.example.demo.projectiles;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of reusable projectiles of a single type.
+ *
+ * <p>Destroyed projectiles are released back into the pool instead of being
+ * discarded, and later handed out again by {@link #obtain()}. Callers must
+ * {@link Projectile#reset(double, double) reset} an obtained projectile before
+ * using it. The pool keeps at most {@code capacity} idle projectiles; anything
+ * released beyond that is left to the garbage collector. Hit and miss counters
+ * report how often a request could be served from the pool.</p>
+ *
+ * @param <T> the projectile type held by this pool
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    /**
+     * Creates a new projectile when the pool is empty.
+     */
+    private final Supplier<T> factory;
+
+    /**
+     * Idle projectiles waiting to be reused.
+     */
+    private final ArrayDeque<T> idle;
+
+    /**
+     * The maximum number of idle projectiles retained.
+     */
+    private int capacity;
+
+    /**
+     * The number of requests served by reusing an idle projectile.
+     */
+    private long hits;
+
+    /**
+     * The number of requests that required creating a new projectile.
+     */
+    private long misses;
+
+    /**
+     * The number of released projectiles dropped because the pool was full.
+     */
+    private long discarded;
+
+    /**
+     * Constructs a pool with the specified factory and capacity.
+     *
+     * @param factory  creates a new projectile when no idle one is available
+     * @param capacity the maximum number of idle projectiles retained
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ProjectilePool(Supplier<T> factory, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.idle = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Takes an idle projectile from the pool, or creates one if the pool is empty.
+     *
+     * @return a projectile that must be reset before use
+     */
+    public T obtain() {
+        T projectile = idle.pollLast();
+        if (projectile != null) {
+            hits++;
+            return projectile;
+        }
+        misses++;
+        return factory.get();
+    }
+
+    /**
+     * Returns a projectile to the pool once it is no longer in play.
+     *
+     * @param projectile the projectile to release
+     */
+    public void release(T projectile) {
+        if (idle.size() < capacity) {
+            idle.addLast(projectile);
+        } else {
+            discarded++;
+        }
+    }
+
+    /**
+     * Creates projectiles until the pool holds the requested number of idle instances.
+     *
+     * @param count the number of idle projectiles to hold, limited by the capacity
+     */
+    public void prefill(int count) {
+        int target = Math.min(count, capacity);
+        while (idle.size() < target) {
+            idle.addLast(factory.get());
+        }
+    }
+
+    /**
+     * Retrieves the maximum number of idle projectiles retained.
+     *
+     * @return the pool capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of idle projectiles retained, dropping any excess.
+     *
+     * @param capacity the new capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        while (idle.size() > capacity) {
+            idle.pollFirst();
+            discarded++;
+        }
+    }
+
+    /**
+     * Retrieves the number of idle projectiles currently held.
+     *
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Retrieves the number of requests served by reusing an idle projectile.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of requests that required creating a new projectile.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of released projectiles dropped because the pool was full.
+     *
+     * @return the discard count
+     */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Returns a summary of the pool counters.
+     *
+     * @return the pool statistics as a string
+     */
+    @Override
+    public String toString() {
+        return "ProjectilePool[idle=" + idle.size() + "/" + capacity
+                + ", hits=" + hits + ", misses=" + misses + ", discarded=" + discarded + "]";
+    }
+}
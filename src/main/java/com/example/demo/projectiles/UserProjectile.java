@@ -1,5 +1,13 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.actors.CollisionLayer;
+import com.example.demo.levels.LevelParentBase;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.simulation.EntityKind;
+
 import javafx.scene.Group;
 
 /**
@@ -10,17 +18,17 @@ public class UserProjectile extends Projectile {
 	/**
 	 * The image file name for the user projectile.
 	 */
-	private static final String IMAGE_NAME = "userfire.png";
+	private static final String IMAGE_NAME = ActorRules.USER_PROJECTILE_IMAGE;
 
 	/**
 	 * The height of the projectile image.
 	 */
-	private static final int IMAGE_HEIGHT = 15;
+	private static final int IMAGE_HEIGHT = ActorRules.USER_PROJECTILE_HEIGHT;
 
 	/**
 	 * The horizontal velocity of the projectile.
 	 */
-	private static final int HORIZONTAL_VELOCITY = 30;
+	private static final int HORIZONTAL_VELOCITY = ActorRules.USER_PROJECTILE_VELOCITY;
 
 	/**
 	 * The root group where the projectile is added.
@@ -43,6 +51,26 @@ public class UserProjectile extends Projectile {
 		this.root = root;
 	}
 
+	/**
+	 * User projectiles belong to the player's projectile layer.
+	 *
+	 * @return {@link CollisionLayer#PLAYER_PROJECTILE}
+	 */
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return EntityKind.USER_PROJECTILE.getCollisionLayer();
+	}
+
+	/**
+	 * User projectiles collide with enemies.
+	 *
+	 * @return the collision mask
+	 */
+	@Override
+	public int getCollisionMask() {
+		return EntityKind.USER_PROJECTILE.getCollisionMask();
+	}
+
 	/**
 	 * Updates the position of the projectile by moving it horizontally.
 	 * If the projectile moves out of bounds, it is removed from the scene.
@@ -51,20 +79,34 @@ public class UserProjectile extends Projectile {
 	public void updatePosition() {
 		double newX = getLayoutX() + HORIZONTAL_VELOCITY;
 
-		System.out.println("Projectile moving from X: " + getLayoutX() + " to X: " + newX);
+		if (GameLog.isEnabled(LogLevel.TRACE, LogCategory.PROJECTILE)) {
+			GameLog.trace(LogCategory.PROJECTILE, "Projectile moving from X: {} to X: {}", getLayoutX(), newX);
+		}
 
 		// Update position
 		setLayoutX(newX);
 
-		// Get the actual scene width dynamically
-		double sceneWidth = root.getScene().getWidth(); // Dynamically fetch scene width
-		if (newX > sceneWidth) {
-			System.out.println("Projectile out of bounds at X: " + newX + ". Removing from scene.");
+		// The world keeps its virtual width whatever the window size
+		if (newX > LevelParentBase.ORIGINAL_SCREEN_WIDTH) {
+			GameLog.debug(LogCategory.PROJECTILE, "Projectile out of bounds at X: {}. Removing from scene.", newX);
 			setVisible(false); // Hide the projectile when it goes off-screen
 			destroy();
 		}
 	}
 
+	/**
+	 * Adds this projectile to a buffer as a straight shot moving right. The buffer
+	 * destroys it once it passes the right edge of the scene.
+	 *
+	 * @param buffer the buffer to join
+	 * @return {@code true}, as user projectiles always move in a straight line
+	 */
+	@Override
+	public boolean addToBuffer(ProjectileBuffer buffer) {
+		buffer.addStraight(this, getLayoutX(), getLayoutY(), HORIZONTAL_VELOCITY, 0);
+		return true;
+	}
+
 	/**
 	 * Updates the state of the projectile, including its position.
 	 */
@@ -0,0 +1,150 @@
+package com.example.demo.simulation;
+
+/**
+ * Fixed values describing how each kind of actor looks and moves.
+ *
+ * <p>Where {@link LevelRules} holds the numbers tuned per level, this class
+ * holds the ones every level shares: sprite files and drawn heights, speeds,
+ * spawn points and the boss's movement pattern. The JavaFX actors and the
+ * headless {@link GameSimulation} both read them from here instead of keeping
+ * copies, though each side still has its own code applying them. All values
+ * are compile-time constants, so reading them loads no JavaFX class.</p>
+ */
+public final class ActorRules {
+
+    /**
+     * The sprite of the player plane.
+     */
+    public static final String USER_PLANE_IMAGE = "userplane.png";
+
+    /**
+     * The height the player plane is drawn at.
+     */
+    public static final int USER_PLANE_HEIGHT = 20;
+
+    /**
+     * The X position where the player plane starts.
+     */
+    public static final double USER_START_X = 50.0;
+
+    /**
+     * The distance the player plane moves per tick along each axis.
+     */
+    public static final int USER_PLANE_VELOCITY = 8;
+
+    /**
+     * The sprite of a player projectile.
+     */
+    public static final String USER_PROJECTILE_IMAGE = "userfire.png";
+
+    /**
+     * The height a player projectile is drawn at.
+     */
+    public static final int USER_PROJECTILE_HEIGHT = 15;
+
+    /**
+     * The distance a player projectile moves right per tick.
+     */
+    public static final int USER_PROJECTILE_VELOCITY = 30;
+
+    /**
+     * The sprite of an enemy plane.
+     */
+    public static final String ENEMY_PLANE_IMAGE = "enemyplane.png";
+
+    /**
+     * The height an enemy plane is drawn at.
+     */
+    public static final int ENEMY_PLANE_HEIGHT = 150;
+
+    /**
+     * The distance an enemy plane moves left per tick.
+     */
+    public static final int ENEMY_PLANE_VELOCITY = 2;
+
+    /**
+     * The sprite of an enemy plane's homing projectile.
+     */
+    public static final String ENEMY_PROJECTILE_IMAGE = "enemyFire.png";
+
+    /**
+     * The sprite of the boss's homing projectile.
+     */
+    public static final String BOSS_PROJECTILE_IMAGE = "fireball.png";
+
+    /**
+     * The height a homing projectile's sprite is loaded at, before it is fitted into a square for display.
+     */
+    public static final int HOMING_IMAGE_HEIGHT = 20;
+
+    /**
+     * The size of the square a homing projectile is then fitted into for display.
+     */
+    public static final int HOMING_FIT_SIZE = 50;
+
+    /**
+     * The distance a homing projectile moves left per tick.
+     */
+    public static final double HOMING_HORIZONTAL_SPEED = 8.0;
+
+    /**
+     * The largest distance a homing projectile moves toward its target's Y position per tick.
+     */
+    public static final double HOMING_VERTICAL_SPEED = 0.5;
+
+    /**
+     * The sprite of the boss.
+     */
+    public static final String BOSS_IMAGE = "bossplane.png";
+
+    /**
+     * The height the boss is drawn at.
+     */
+    public static final int BOSS_HEIGHT = 100;
+
+    /**
+     * The distance from the right edge of the world to the boss's starting X position.
+     */
+    public static final double BOSS_START_X_OFFSET = 150.0;
+
+    /**
+     * The distance the boss moves per tick when moving vertically.
+     */
+    public static final int BOSS_VERTICAL_VELOCITY = 8;
+
+    /**
+     * The number of times each move appears in the boss's move pattern.
+     */
+    public static final int BOSS_MOVE_FREQUENCY_PER_CYCLE = 5;
+
+    /**
+     * The number of consecutive ticks the boss keeps the same move.
+     */
+    public static final int BOSS_MAX_FRAMES_WITH_SAME_MOVE = 10;
+
+    /**
+     * How far above the world the boss may move.
+     */
+    public static final double BOSS_Y_UPPER_BOUND = -100.0;
+
+    /**
+     * How far from the bottom of the world the boss stops moving down.
+     */
+    public static final double BOSS_Y_LOWER_MARGIN = 100.0;
+
+    /**
+     * The number of shields the third level gives the boss, besides the one it shows itself.
+     */
+    public static final int BOSS_EXTRA_SHIELDS = 3;
+
+    /**
+     * The number of hits each boss shield absorbs.
+     */
+    public static final int BOSS_SHIELD_HEALTH = 3;
+
+    /**
+     * Prevents instantiation of this constants class.
+     */
+    private ActorRules() {
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The aggregated outcome of many simulations of one set of rules.
+ *
+ * <p>Holds how many runs were won, lost or hit the tick limit, together with
+ * the distributions of time to clear (won runs only), damage taken and kills
+ * over the runs. Percentiles are exact, computed from the sorted per-run
+ * values.</p>
+ */
+public final class BatchResult {
+
+    /**
+     * The header row matching {@link #toCsvRow()}.
+     */
+    public static final String CSV_HEADER = "level,total_enemies,kills_to_advance,enemy_spawn_probability,"
+            + "boss_fire_rate,max_frames_with_shield,runs,wins,losses,timeouts,"
+            + "clear_ticks_mean,clear_ticks_p50,clear_ticks_p90,damage_mean,damage_p50,damage_p90,kills_mean";
+
+    /**
+     * The rules that were simulated.
+     */
+    private final LevelRules rules;
+
+    /**
+     * The number of runs won.
+     */
+    private final int wins;
+
+    /**
+     * The number of runs lost.
+     */
+    private final int losses;
+
+    /**
+     * The number of runs still going when the tick limit was reached.
+     */
+    private final int timeouts;
+
+    /**
+     * The ticks taken by each won run, sorted.
+     */
+    private final long[] clearTicks;
+
+    /**
+     * The damage taken in each run, sorted.
+     */
+    private final int[] damageTaken;
+
+    /**
+     * The kills made in each run, sorted.
+     */
+    private final int[] kills;
+
+    /**
+     * The total number of ticks simulated over all runs.
+     */
+    private final long totalTicks;
+
+    /**
+     * The wall-clock time the batch took, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Aggregates per-run outcomes. The arrays are sorted in place and kept.
+     *
+     * @param rules        the rules that were simulated
+     * @param statuses     the final status of each run
+     * @param ticks        the number of ticks each run lasted
+     * @param damageTaken  the damage taken in each run
+     * @param kills        the kills made in each run
+     * @param elapsedNanos the wall-clock time the batch took
+     */
+    BatchResult(LevelRules rules, SimulationStatus[] statuses, long[] ticks, int[] damageTaken, int[] kills,
+                long elapsedNanos) {
+        this.rules = rules;
+        this.elapsedNanos = elapsedNanos;
+        int won = 0;
+        int lost = 0;
+        long total = 0;
+        long[] cleared = new long[statuses.length];
+        for (int i = 0; i < statuses.length; i++) {
+            total += ticks[i];
+            if (statuses[i] == SimulationStatus.WON) {
+                cleared[won++] = ticks[i];
+            } else if (statuses[i] == SimulationStatus.LOST) {
+                lost++;
+            }
+        }
+        this.wins = won;
+        this.losses = lost;
+        this.timeouts = statuses.length - won - lost;
+        this.totalTicks = total;
+        this.clearTicks = Arrays.copyOf(cleared, won);
+        Arrays.sort(clearTicks);
+        Arrays.sort(damageTaken);
+        Arrays.sort(kills);
+        this.damageTaken = damageTaken;
+        this.kills = kills;
+    }
+
+    /**
+     * Retrieves the rules that were simulated.
+     *
+     * @return the rules
+     */
+    public LevelRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Retrieves the number of runs.
+     *
+     * @return the run count
+     */
+    public int getRuns() {
+        return damageTaken.length;
+    }
+
+    /**
+     * Retrieves the number of runs won.
+     *
+     * @return the win count
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Retrieves the number of runs lost.
+     *
+     * @return the loss count
+     */
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * Retrieves the number of runs still going when the tick limit was reached.
+     *
+     * @return the timeout count
+     */
+    public int getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Retrieves the share of runs won.
+     *
+     * @return the win rate, from 0 to 1
+     */
+    public double getWinRate() {
+        return getRuns() == 0 ? 0.0 : (double) wins / getRuns();
+    }
+
+    /**
+     * Retrieves the mean number of ticks taken by won runs.
+     *
+     * @return the mean time to clear in ticks, or 0 if no run was won
+     */
+    public double getMeanClearTicks() {
+        long sum = 0;
+        for (long value : clearTicks) {
+            sum += value;
+        }
+        return clearTicks.length == 0 ? 0.0 : (double) sum / clearTicks.length;
+    }
+
+    /**
+     * Retrieves a percentile of the ticks taken by won runs.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the time to clear in ticks, or 0 if no run was won
+     */
+    public long getClearTicksPercentile(double quantile) {
+        return clearTicks.length == 0 ? 0 : clearTicks[index(clearTicks.length, quantile)];
+    }
+
+    /**
+     * Retrieves the mean damage taken per run.
+     *
+     * @return the mean damage
+     */
+    public double getMeanDamage() {
+        return mean(damageTaken);
+    }
+
+    /**
+     * Retrieves a percentile of the damage taken per run.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the damage taken
+     */
+    public int getDamagePercentile(double quantile) {
+        return damageTaken.length == 0 ? 0 : damageTaken[index(damageTaken.length, quantile)];
+    }
+
+    /**
+     * Counts the runs by damage taken.
+     *
+     * @return an array whose element {@code i} is the number of runs that took {@code i} hits
+     */
+    public int[] getDamageDistribution() {
+        return distribution(damageTaken);
+    }
+
+    /**
+     * Retrieves the mean number of kills per run.
+     *
+     * @return the mean kills
+     */
+    public double getMeanKills() {
+        return mean(kills);
+    }
+
+    /**
+     * Counts the runs by kills made.
+     *
+     * @return an array whose element {@code i} is the number of runs with {@code i} kills
+     */
+    public int[] getKillDistribution() {
+        return distribution(kills);
+    }
+
+    /**
+     * Retrieves the total number of ticks simulated over all runs.
+     *
+     * @return the tick count
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Retrieves the wall-clock time the batch took.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Formats the result as a row matching {@link #CSV_HEADER}.
+     *
+     * @return the CSV row
+     */
+    public String toCsvRow() {
+        return String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%d,%d,%d,%d,%d,%.1f,%d,%d,%.3f,%d,%d,%.3f",
+                rules.getName(), rules.getTotalEnemies(), rules.getKillsToAdvance(), rules.getEnemySpawnProbability(),
+                rules.getBossFireRate(), rules.getMaxFramesWithShield(), getRuns(), wins, losses, timeouts,
+                getMeanClearTicks(), getClearTicksPercentile(0.5), getClearTicksPercentile(0.9),
+                getMeanDamage(), getDamagePercentile(0.5), getDamagePercentile(0.9), getMeanKills());
+    }
+
+    /**
+     * Returns a readable summary of the result.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: %d runs, %.1f%% won, %d lost, %d timed out, clear p50=%d p90=%d ticks, "
+                        + "damage mean=%.2f p90=%d, kills mean=%.2f",
+                rules, getRuns(), getWinRate() * 100.0, losses, timeouts, getClearTicksPercentile(0.5),
+                getClearTicksPercentile(0.9), getMeanDamage(), getDamagePercentile(0.9), getMeanKills());
+    }
+
+    /**
+     * Converts a quantile to an index into a sorted array.
+     *
+     * @param length   the array length, at least 1
+     * @param quantile the quantile, from 0 to 1
+     * @return the index of the value at that quantile
+     */
+    private static int index(int length, double quantile) {
+        int index = (int) Math.ceil(Math.min(Math.max(quantile, 0.0), 1.0) * length) - 1;
+        return Math.max(0, Math.min(length - 1, index));
+    }
+
+    /**
+     * Computes the mean of a set of values.
+     *
+     * @param values the values
+     * @return the mean, or 0 if there are none
+     */
+    private static double mean(int[] values) {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return values.length == 0 ? 0.0 : (double) sum / values.length;
+    }
+
+    /**
+     * Counts how often each value occurs in a sorted set of non-negative values.
+     *
+     * @param sorted the values, sorted
+     * @return the counts indexed by value
+     */
+    private static int[] distribution(int[] sorted) {
+        int[] counts = new int[sorted.length == 0 ? 0 : sorted[sorted.length - 1] + 1];
+        for (int value : sorted) {
+            counts[value]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.demo.simulation;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many independent headless simulations in parallel and aggregates their outcomes.
+ *
+ * <p>Every run is a {@link GameSimulation} steered by a shared {@link Pilot}
+ * until the level is won, lost or the tick limit is reached. Runs are spread
+ * over a fork-join pool, by default the common pool, which uses every core.
+ * Each simulation owns its random stream, so runs share no mutable state. Run
+ * {@code i} of a batch always gets the same seed for the same base seed, so
+ * every variant in a {@link #sweep} is measured against the same sequence of
+ * games and differences come from the rules alone.</p>
+ *
+ * <p>From the command line it sweeps a grid of rule values and writes one CSV
+ * row per combination:</p>
+ *
+ * <pre>
+ * java -cp target/classes com.example.demo.simulation.BatchRunner LevelOne runs=2000 \
+ *     totalEnemies=3,5,7 enemySpawnProbability=0.05,0.1,0.2 out=sweep.csv
+ * </pre>
+ */
+public final class BatchRunner {
+
+    /**
+     * The tick limit used by {@link #BatchRunner(Pilot)}: about 15 minutes of play at 16 ms per tick.
+     */
+    public static final long DEFAULT_MAX_TICKS = 56_250L;
+
+    /**
+     * The number of runs per variant used by the command line when none is given.
+     */
+    private static final int DEFAULT_RUNS = 1000;
+
+    /**
+     * The pilot steering every run.
+     */
+    private final Pilot pilot;
+
+    /**
+     * The number of ticks after which a run is stopped as a timeout.
+     */
+    private final long maxTicks;
+
+    /**
+     * The pool the runs are spread over.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a runner with the default tick limit on the common fork-join pool.
+     *
+     * @param pilot the pilot steering every run
+     */
+    public BatchRunner(Pilot pilot) {
+        this(pilot, DEFAULT_MAX_TICKS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a runner.
+     *
+     * @param pilot    the pilot steering every run; shared between threads
+     * @param maxTicks the number of ticks after which a run is stopped as a timeout
+     * @param pool     the pool the runs are spread over
+     */
+    public BatchRunner(Pilot pilot, long maxTicks, ForkJoinPool pool) {
+        this.pilot = pilot;
+        this.maxTicks = maxTicks;
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates one set of rules many times in parallel.
+     *
+     * @param rules    the rules to simulate
+     * @param runs     the number of runs
+     * @param baseSeed the seed the runs' seeds are drawn from
+     * @return the aggregated outcome
+     */
+    public BatchResult run(LevelRules rules, int runs, long baseSeed) {
+        long[] seeds = new SplittableRandom(baseSeed).longs(runs).toArray();
+        SimulationStatus[] statuses = new SimulationStatus[runs];
+        long[] ticks = new long[runs];
+        int[] damage = new int[runs];
+        int[] kills = new int[runs];
+
+        long start = System.nanoTime();
+        // Each run writes only its own slots, and join() publishes them to this thread
+        pool.submit(() -> IntStream.range(0, runs).parallel().forEach(i -> {
+            GameSimulation simulation = play(rules, seeds[i]);
+            statuses[i] = simulation.getStatus();
+            ticks[i] = simulation.getTickCount();
+            damage[i] = simulation.getDamageTaken();
+            kills[i] = simulation.getKills();
+        })).join();
+        return new BatchResult(rules, statuses, ticks, damage, kills, System.nanoTime() - start);
+    }
+
+    /**
+     * Simulates each set of rules with the same seeds.
+     *
+     * @param variants the rules to compare
+     * @param runs     the number of runs per variant
+     * @param baseSeed the seed the runs' seeds are drawn from
+     * @return one result per variant, in the same order
+     */
+    public List<BatchResult> sweep(List<LevelRules> variants, int runs, long baseSeed) {
+        List<BatchResult> results = new ArrayList<>(variants.size());
+        for (LevelRules variant : variants) {
+            results.add(run(variant, runs, baseSeed));
+        }
+        return results;
+    }
+
+    /**
+     * Plays one simulation to its end or the tick limit.
+     *
+     * @param rules the rules to simulate
+     * @param seed  the simulation's seed
+     * @return the finished simulation
+     */
+    public GameSimulation play(LevelRules rules, long seed) {
+        GameSimulation simulation = new GameSimulation(rules, seed);
+        while (simulation.getStatus() == SimulationStatus.RUNNING && simulation.getTickCount() < maxTicks) {
+            simulation.tick(pilot.decide(simulation));
+        }
+        return simulation;
+    }
+
+    /**
+     * Expands a grid of rule values into every combination.
+     *
+     * @param base   the rules the variants start from
+     * @param name   the name of the rule to vary: {@code totalEnemies}, {@code killsToAdvance},
+     *               {@code enemySpawnProbability}, {@code bossFireRate} or {@code maxFramesWithShield}
+     * @param values the values to try
+     * @param grid   the variants so far, each combined with every value
+     * @return the expanded variants
+     * @throws IllegalArgumentException if the rule name is unknown
+     */
+    public static List<LevelRules> vary(LevelRules base, String name, double[] values, List<LevelRules> grid) {
+        List<LevelRules> source = grid.isEmpty() ? List.of(base) : grid;
+        List<LevelRules> expanded = new ArrayList<>(source.size() * values.length);
+        for (LevelRules rules : source) {
+            for (double value : values) {
+                expanded.add(switch (name) {
+                    case "totalEnemies" -> rules.withTotalEnemies((int) value);
+                    case "killsToAdvance" -> rules.withKillsToAdvance((int) value);
+                    case "enemySpawnProbability" -> rules.withEnemySpawnProbability(value);
+                    case "bossFireRate" -> rules.withBossFireRate(value);
+                    case "maxFramesWithShield" -> rules.withMaxFramesWithShield((int) value);
+                    default -> throw new IllegalArgumentException("Unknown rule: " + name);
+                });
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Runs a sweep from the command line.
+     *
+     * <p>The first argument is the level, such as {@code LevelOne}. The others are
+     * {@code runs=}, {@code seed=}, {@code maxTicks=}, {@code out=} for a CSV file,
+     * and any rule accepted by {@link #vary} followed by comma-separated values.</p>
+     *
+     * @param args the command-line arguments
+     * @throws IOException if the CSV file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            GameLog.error(LogCategory.GAME, "Usage: BatchRunner <level> [runs=N] [seed=S] [maxTicks=T] [out=file.csv] "
+                    + "[rule=v1,v2,...]...");
+            GameLog.flush();
+            return;
+        }
+        LevelRules base = LevelRules.forLevel(args[0]);
+        int runs = DEFAULT_RUNS;
+        long seed = 1L;
+        long maxTicks = DEFAULT_MAX_TICKS;
+        Path out = null;
+        List<LevelRules> variants = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            int separator = args[i].indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + args[i]);
+            }
+            String name = args[i].substring(0, separator);
+            String value = args[i].substring(separator + 1);
+            switch (name) {
+                case "runs" -> runs = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "maxTicks" -> maxTicks = Long.parseLong(value);
+                case "out" -> out = Path.of(value);
+                default -> variants = vary(base, name, parseValues(value), variants);
+            }
+        }
+        if (variants.isEmpty()) {
+            variants.add(base);
+        }
+
+        BatchRunner runner = new BatchRunner(new ScriptedPilot(), maxTicks, ForkJoinPool.commonPool());
+        GameLog.info(LogCategory.GAME, "Simulating {} variants x {} runs on {} threads", variants.size(), runs,
+                ForkJoinPool.commonPool().getParallelism());
+        long start = System.nanoTime();
+        List<BatchResult> results = runner.sweep(variants, runs, seed);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long ticks = 0;
+        for (BatchResult result : results) {
+            GameLog.info(LogCategory.GAME, "{}", result);
+            ticks += result.getTotalTicks();
+        }
+        GameLog.info(LogCategory.GAME, "{} ticks in {} ms", ticks, elapsedMillis);
+        if (out != null) {
+            try (Writer writer = Files.newBufferedWriter(out)) {
+                writer.write(BatchResult.CSV_HEADER);
+                writer.write(System.lineSeparator());
+                for (BatchResult result : results) {
+                    writer.write(result.toCsvRow());
+                    writer.write(System.lineSeparator());
+                }
+            }
+            GameLog.info(LogCategory.GAME, "Sweep written to {}", out.toAbsolutePath());
+        }
+        GameLog.flush();
+    }
+
+    /**
+     * Parses a comma-separated list of numbers.
+     *
+     * @param value the list
+     * @return the numbers
+     */
+    private static double[] parseValues(String value) {
+        String[] parts = value.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+}
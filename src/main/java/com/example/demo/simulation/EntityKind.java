@@ -0,0 +1,192 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.CollisionLayer;
+import com.example.demo.utilities.ImageRegistry;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The kinds of entity tracked by the headless simulation, with the sprite, drawn size and collision
+ * layers of the JavaFX actor each one stands for.
+ *
+ * <p>The drawn size is derived from the sprite file the way the actor's image
+ * view sizes it: scaled to the height in {@link ActorRules} with its aspect
+ * ratio kept, or, for homing projectiles, fitted into a square. The layers
+ * are the ones the actors declare, read from here by both sides, so the
+ * simulation's collision pass meets the same pairs as the collision
+ * manager's.</p>
+ */
+public enum EntityKind {
+
+    /**
+     * The player-controlled plane.
+     */
+    USER_PLANE(ActorRules.USER_PLANE_IMAGE, ActorRules.USER_PLANE_HEIGHT, 0, CollisionLayer.PLAYER,
+            CollisionLayer.maskOf(CollisionLayer.ENEMY, CollisionLayer.ENEMY_PROJECTILE), false),
+
+    /**
+     * A regular enemy plane.
+     */
+    ENEMY_PLANE(ActorRules.ENEMY_PLANE_IMAGE, ActorRules.ENEMY_PLANE_HEIGHT, 0, CollisionLayer.ENEMY,
+            CollisionLayer.maskOf(CollisionLayer.PLAYER, CollisionLayer.PLAYER_PROJECTILE), true),
+
+    /**
+     * The boss of the final level, which only the player's projectiles can hit.
+     */
+    BOSS(ActorRules.BOSS_IMAGE, ActorRules.BOSS_HEIGHT, 0, CollisionLayer.ENEMY,
+            CollisionLayer.PLAYER_PROJECTILE.bit(), false),
+
+    /**
+     * A projectile fired by the player.
+     */
+    USER_PROJECTILE(ActorRules.USER_PROJECTILE_IMAGE, ActorRules.USER_PROJECTILE_HEIGHT, 0,
+            CollisionLayer.PLAYER_PROJECTILE, CollisionLayer.ENEMY.bit(), false),
+
+    /**
+     * A homing projectile fired by an enemy plane.
+     */
+    ENEMY_PROJECTILE(ActorRules.ENEMY_PROJECTILE_IMAGE, ActorRules.HOMING_IMAGE_HEIGHT, ActorRules.HOMING_FIT_SIZE,
+            CollisionLayer.ENEMY_PROJECTILE, CollisionLayer.PLAYER.bit(), false),
+
+    /**
+     * A homing projectile fired by the boss.
+     */
+    BOSS_PROJECTILE(ActorRules.BOSS_PROJECTILE_IMAGE, ActorRules.HOMING_IMAGE_HEIGHT, ActorRules.HOMING_FIT_SIZE,
+            CollisionLayer.ENEMY_PROJECTILE, CollisionLayer.PLAYER.bit(), false);
+
+    /**
+     * The sprite file of the matching JavaFX actor.
+     */
+    private final String spriteName;
+
+    /**
+     * The width the actor's sprite is drawn at.
+     */
+    private final double width;
+
+    /**
+     * The height the actor's sprite is drawn at.
+     */
+    private final double height;
+
+    /**
+     * The collision layer the actor belongs to.
+     */
+    private final CollisionLayer collisionLayer;
+
+    /**
+     * The mask of the layers the actor can collide with.
+     */
+    private final int collisionMask;
+
+    /**
+     * Whether destroying the actor counts towards the player's kill total.
+     */
+    private final boolean countsAsKill;
+
+    /**
+     * Constructs a kind of entity, reading its sprite's size.
+     *
+     * @param spriteName     the sprite file of the matching JavaFX actor
+     * @param imageHeight    the height the actor loads and draws its sprite at
+     * @param fitSize        the side of the square the sprite is then fitted into, or 0 if it is not
+     * @param collisionLayer the collision layer the actor belongs to
+     * @param collisionMask  the mask of the layers the actor can collide with
+     * @param countsAsKill   whether destroying the actor counts towards the player's kill total
+     * @throws IllegalStateException if the sprite cannot be read
+     */
+    EntityKind(String spriteName, int imageHeight, int fitSize, CollisionLayer collisionLayer, int collisionMask,
+               boolean countsAsKill) {
+        this.spriteName = spriteName;
+        this.collisionLayer = collisionLayer;
+        this.collisionMask = collisionMask;
+        this.countsAsKill = countsAsKill;
+
+        BufferedImage sprite = readSprite(spriteName);
+        if (fitSize > 0) {
+            double scale = Math.min((double) fitSize / sprite.getWidth(), (double) fitSize / sprite.getHeight());
+            this.width = sprite.getWidth() * scale;
+            this.height = sprite.getHeight() * scale;
+        } else {
+            this.width = (double) sprite.getWidth() * imageHeight / sprite.getHeight();
+            this.height = imageHeight;
+        }
+    }
+
+    /**
+     * Reads a sprite from the image directory with ImageIO, so no JavaFX is needed.
+     *
+     * @param name the file name inside the image directory
+     * @return the sprite
+     * @throws IllegalStateException if the sprite is missing or cannot be read
+     */
+    private static BufferedImage readSprite(String name) {
+        String path = ImageRegistry.IMAGE_DIRECTORY + name;
+        try (InputStream input = EntityKind.class.getResourceAsStream(path)) {
+            BufferedImage sprite = input != null ? ImageIO.read(input) : null;
+            if (sprite == null) {
+                throw new IllegalStateException("Cannot read sprite " + path);
+            }
+            return sprite;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read sprite " + path, e);
+        }
+    }
+
+    /**
+     * Retrieves the sprite file of the matching JavaFX actor.
+     *
+     * @return the file name inside the image directory
+     */
+    public String getSpriteName() {
+        return spriteName;
+    }
+
+    /**
+     * Retrieves the width the matching JavaFX actor is drawn at, which is the width of its bounding box.
+     *
+     * @return the drawn width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height the matching JavaFX actor is drawn at, which is the height of its bounding box.
+     *
+     * @return the drawn height
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the collision layer the matching JavaFX actor belongs to.
+     *
+     * @return the layer
+     */
+    public CollisionLayer getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    /**
+     * Retrieves the mask of the layers the matching JavaFX actor can collide with.
+     *
+     * @return the collision mask
+     */
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Checks whether destroying an entity of this kind counts towards the player's kill total.
+     *
+     * @return {@code true} for enemy planes
+     */
+    public boolean countsAsKill() {
+        return countsAsKill;
+    }
+}
@@ -0,0 +1,747 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.CollisionLayer;
+import com.example.demo.utilities.AlphaMask;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.SpatialHashGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A headless model of one level, independent of the JavaFX toolkit.
+ *
+ * <p>The JavaFX levels and actors remain the game; this class mirrors their
+ * per-tick rules closely enough to stand in for them where no display is
+ * available: actor movement and firing, enemy spawning, the collision pass,
+ * removal of destroyed entities and the win/lose checks, in that order. Tests,
+ * benchmarks, batch runs and replays can advance it thousands of times per
+ * second. The same rules, seed and inputs always produce the same game.</p>
+ *
+ * <p>Its numbers are shared with the actors rather than copied. Per-level
+ * tuning comes from {@link LevelRules} and per-actor sprites, heights and
+ * speeds from {@link ActorRules}; drawn sizes and collision layers come from
+ * {@link EntityKind}, which derives the sizes from the same sprite files, and
+ * entities collide by the same alpha masks the actors build. The code that
+ * applies those numbers is still separate from the levels' code, so a change
+ * to how an actor moves or fires must be made on both sides. {@code GameSimulationParityTest} checks the shared values, not the
+ * behaviour.</p>
+ *
+ * <p>The collision pass follows {@code CollisionManager}: every entity is
+ * gathered into one list in the same order as the actors, each ordered pair
+ * the layers handle by default and both masks accept is tested, and each
+ * hit damages both entities.</p>
+ */
+public class GameSimulation {
+
+    /**
+     * The number of shields absorbing hits before the boss takes damage: the level's, plus the one the boss shows.
+     */
+    static final int BOSS_SHIELD_COUNT = ActorRules.BOSS_EXTRA_SHIELDS + 1;
+
+    /**
+     * Passes with at most this many candidate pairs are tested directly.
+     */
+    private static final int BRUTE_FORCE_PAIR_THRESHOLD = 64;
+
+    /**
+     * The edge length of a broadphase grid cell.
+     */
+    private static final double CELL_SIZE = 128.0;
+
+    /**
+     * The alpha masks of the entity kinds, indexed by ordinal, shared by every simulation.
+     */
+    private static final AlphaMask[] MASKS = loadMasks();
+
+    /**
+     * Every collision layer, indexed by ordinal.
+     */
+    private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+
+    /**
+     * Whether a touching pair is handled, indexed by the ordinals of the first and second entity's layers.
+     */
+    private static final boolean[][] HANDLED_PAIRS = loadHandledPairs();
+
+    /**
+     * The rules of the simulated level.
+     */
+    private final LevelRules rules;
+
+    /**
+     * The seed of the random stream.
+     */
+    private final long seed;
+
+    /**
+     * The level's random stream, deciding spawns; each enemy plane and the boss
+     * split their own stream from it, as in the JavaFX levels.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The player plane.
+     */
+    private final SimEntity userPlane;
+
+    /**
+     * The live enemies, including the boss on boss levels.
+     */
+    private final List<SimEntity> enemies = new ArrayList<>();
+
+    /**
+     * The live projectiles fired by the player.
+     */
+    private final List<SimEntity> userProjectiles = new ArrayList<>();
+
+    /**
+     * The live projectiles fired by enemies and the boss.
+     */
+    private final List<SimEntity> enemyProjectiles = new ArrayList<>();
+
+    /**
+     * The broadphase grid used by large collision passes.
+     */
+    private final SpatialHashGrid grid = new SpatialHashGrid(CELL_SIZE);
+
+    /**
+     * Scratch buffer receiving broadphase candidates.
+     */
+    private int[] candidates = new int[16];
+
+    /**
+     * The entities of the current collision pass.
+     */
+    private SimEntity[] passEntities = new SimEntity[64];
+
+    /**
+     * The number of entities in the current collision pass.
+     */
+    private int passCount;
+
+    /**
+     * The boss, or {@code null} on regular levels.
+     */
+    private SimEntity boss;
+
+    /**
+     * The boss's movement pattern, reshuffled as it is consumed.
+     */
+    private final int[] bossMovePattern = new int[ActorRules.BOSS_MOVE_FREQUENCY_PER_CYCLE * 3];
+
+    /**
+     * The index of the boss's current move.
+     */
+    private int bossMoveIndex;
+
+    /**
+     * The number of consecutive frames the boss has kept the current move.
+     */
+    private int bossConsecutiveMoves;
+
+    /**
+     * Whether the boss shield is currently shown.
+     */
+    private boolean bossShielded;
+
+    /**
+     * The number of frames the boss shield has been shown.
+     */
+    private int bossFramesWithShield;
+
+    /**
+     * The number of hits the boss shields can still absorb.
+     */
+    private int bossShieldHitsRemaining;
+
+    /**
+     * The identifier assigned to the next spawned entity.
+     */
+    private int nextEntityId;
+
+    /**
+     * The number of ticks simulated.
+     */
+    private long tickCount;
+
+    /**
+     * The number of enemies destroyed by the player.
+     */
+    private int kills;
+
+    /**
+     * The number of hits the player has taken.
+     */
+    private int damageTaken;
+
+    /**
+     * The number of projectiles the player has fired.
+     */
+    private int shotsFired;
+
+    /**
+     * The outcome so far.
+     */
+    private SimulationStatus status = SimulationStatus.RUNNING;
+
+    /**
+     * Constructs a simulation of the given level.
+     *
+     * @param rules the rules of the level
+     * @param seed  the seed of the random stream
+     */
+    public GameSimulation(LevelRules rules, long seed) {
+        this.rules = rules;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.userPlane = spawn(EntityKind.USER_PLANE, ActorRules.USER_START_X, rules.getWorldHeight() / 2.0,
+                rules.getPlayerInitialHealth());
+
+        if (rules.isBossLevel()) {
+            spawnBoss();
+        }
+    }
+
+    /**
+     * Advances the simulation by one tick.
+     *
+     * @param input the player's input for this tick, as {@link PlayerInput} bits
+     */
+    public void tick(int input) {
+        if (status != SimulationStatus.RUNNING) {
+            return;
+        }
+        tickCount++;
+        captureStarts();
+
+        if (PlayerInput.isFiring(input)) {
+            fireUserProjectile();
+        }
+
+        updateProjectiles();
+        updateEnemies();
+        moveUserPlane(input);
+
+        if (!rules.isBossLevel()) {
+            spawnEnemies();
+        }
+
+        handleCollisions();
+
+        removeDestroyed(enemies);
+        removeDestroyed(userProjectiles);
+        removeDestroyed(enemyProjectiles);
+
+        updateStatus();
+    }
+
+    /**
+     * Records where every entity starts the tick, so fast movers can be tested over the whole tick.
+     */
+    private void captureStarts() {
+        userPlane.captureStart();
+        captureStarts(enemies);
+        captureStarts(userProjectiles);
+        captureStarts(enemyProjectiles);
+    }
+
+    /**
+     * Records where every entity of a group starts the tick.
+     *
+     * @param group the group
+     */
+    private static void captureStarts(List<SimEntity> group) {
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).captureStart();
+        }
+    }
+
+    /**
+     * Creates a new entity with the next free identifier, sized as its actor is drawn.
+     *
+     * @param kind   the kind of entity
+     * @param x      the initial X position
+     * @param y      the initial Y position
+     * @param health the initial health
+     * @return the new entity
+     */
+    private SimEntity spawn(EntityKind kind, double x, double y, int health) {
+        return new SimEntity(nextEntityId++, kind, x, y, kind.getWidth(), kind.getHeight(), MASKS[kind.ordinal()],
+                health);
+    }
+
+    /**
+     * Loads the alpha mask of every entity kind from the sprite its JavaFX actor uses, at the size it is drawn.
+     *
+     * @return the masks, indexed by ordinal; a sprite that cannot be read leaves its kind colliding by box
+     */
+    private static AlphaMask[] loadMasks() {
+        EntityKind[] kinds = EntityKind.values();
+        AlphaMask[] masks = new AlphaMask[kinds.length];
+        for (EntityKind kind : kinds) {
+            masks[kind.ordinal()] = AlphaMask.forSprite(kind.getSpriteName(), (int) Math.round(kind.getWidth()),
+                    (int) Math.round(kind.getHeight()));
+        }
+        return masks;
+    }
+
+    /**
+     * Builds the table of the pairs of layers the collision manager handles by default.
+     *
+     * @return the table, indexed by the ordinals of the first and second layer
+     */
+    private static boolean[][] loadHandledPairs() {
+        boolean[][] handled = new boolean[LAYERS.length][LAYERS.length];
+        for (CollisionLayer first : LAYERS) {
+            for (CollisionLayer second : LAYERS) {
+                handled[first.ordinal()][second.ordinal()] = first.collidesByDefault(second);
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * Spawns the boss with its shields and shuffled movement pattern.
+     */
+    private void spawnBoss() {
+        boss = spawn(EntityKind.BOSS, rules.getWorldWidth() - ActorRules.BOSS_START_X_OFFSET, rules.getWorldHeight() / 2.0,
+                rules.getBossHealth());
+        boss.random = random.split();
+        enemies.add(boss);
+        bossShieldHitsRemaining = BOSS_SHIELD_COUNT * ActorRules.BOSS_SHIELD_HEALTH;
+
+        int index = 0;
+        for (int i = 0; i < ActorRules.BOSS_MOVE_FREQUENCY_PER_CYCLE; i++) {
+            bossMovePattern[index++] = ActorRules.BOSS_VERTICAL_VELOCITY;
+            bossMovePattern[index++] = -ActorRules.BOSS_VERTICAL_VELOCITY;
+            bossMovePattern[index++] = 0;
+        }
+        shuffleBossMovePattern();
+    }
+
+    /**
+     * Fires a projectile from the player plane.
+     */
+    private void fireUserProjectile() {
+        userProjectiles.add(spawn(EntityKind.USER_PROJECTILE, userPlane.x, userPlane.y - userPlane.getHeight() / 2.0, 1));
+        shotsFired++;
+    }
+
+    /**
+     * Fires a homing projectile at the player.
+     *
+     * @param kind the kind of projectile
+     * @param x    the initial X position
+     * @param y    the initial Y position
+     */
+    private void fireHomingProjectile(EntityKind kind, double x, double y) {
+        enemyProjectiles.add(spawn(kind, x, y, 1));
+    }
+
+    /**
+     * Moves every projectile. Player projectiles leaving the world are destroyed;
+     * homing projectiles close in on the player's Y position and stop at the left edge.
+     */
+    private void updateProjectiles() {
+        double worldWidth = rules.getWorldWidth();
+        for (int i = 0; i < userProjectiles.size(); i++) {
+            SimEntity projectile = userProjectiles.get(i);
+            projectile.x += ActorRules.USER_PROJECTILE_VELOCITY;
+            if (projectile.x > worldWidth) {
+                projectile.destroyed = true;
+            }
+        }
+
+        boolean targetAlive = !userPlane.destroyed;
+        double targetY = userPlane.y;
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            SimEntity projectile = enemyProjectiles.get(i);
+            if (targetAlive) {
+                projectile.x -= ActorRules.HOMING_HORIZONTAL_SPEED;
+                double deltaY = targetY - projectile.y;
+                if (Math.abs(deltaY) > ActorRules.HOMING_VERTICAL_SPEED) {
+                    projectile.y += Math.signum(deltaY) * ActorRules.HOMING_VERTICAL_SPEED;
+                } else {
+                    projectile.y = targetY;
+                }
+            }
+            projectile.x = Math.max(0, projectile.x);
+        }
+    }
+
+    /**
+     * Moves every enemy and lets it fire. Enemy planes fire from their spawn
+     * position, and the boss from its starting position, as in the JavaFX actors.
+     */
+    private void updateEnemies() {
+        // Iterate over the enemies present at the start of the tick only
+        int count = enemies.size();
+        for (int i = 0; i < count; i++) {
+            SimEntity enemy = enemies.get(i);
+            if (enemy == boss) {
+                updateBoss();
+                continue;
+            }
+            enemy.x -= ActorRules.ENEMY_PLANE_VELOCITY;
+            if (enemy.random.nextDouble() < rules.getEnemyFireRate()) {
+                fireHomingProjectile(EntityKind.ENEMY_PROJECTILE, enemy.getOriginX(), enemy.getOriginY());
+            }
+        }
+    }
+
+    /**
+     * Moves the boss along its pattern, updates its shield and lets it fire.
+     */
+    private void updateBoss() {
+        double previousY = boss.y;
+        boss.y += nextBossMove();
+        if (boss.y < ActorRules.BOSS_Y_UPPER_BOUND || boss.y > rules.getWorldHeight() - ActorRules.BOSS_Y_LOWER_MARGIN) {
+            boss.y = previousY;
+        }
+
+        if (bossShielded) {
+            bossFramesWithShield++;
+        } else if (boss.random.nextDouble() < rules.getBossShieldProbability()) {
+            bossShielded = true;
+        }
+        if (bossFramesWithShield == rules.getMaxFramesWithShield()) {
+            bossShielded = false;
+            bossFramesWithShield = 0;
+        }
+
+        if (boss.random.nextDouble() < rules.getBossFireRate()) {
+            fireHomingProjectile(EntityKind.BOSS_PROJECTILE, boss.getOriginX(), boss.getOriginY() + boss.getHeight() / 2.0);
+        }
+    }
+
+    /**
+     * Retrieves the boss's next vertical move, reshuffling the pattern periodically.
+     *
+     * @return the vertical distance to move
+     */
+    private int nextBossMove() {
+        int move = bossMovePattern[bossMoveIndex];
+        bossConsecutiveMoves++;
+        if (bossConsecutiveMoves == ActorRules.BOSS_MAX_FRAMES_WITH_SAME_MOVE) {
+            shuffleBossMovePattern();
+            bossConsecutiveMoves = 0;
+            bossMoveIndex++;
+        }
+        if (bossMoveIndex == bossMovePattern.length) {
+            bossMoveIndex = 0;
+        }
+        return move;
+    }
+
+    /**
+     * Shuffles the boss's movement pattern in place.
+     */
+    private void shuffleBossMovePattern() {
+        GameRandom.shuffle(bossMovePattern, boss.random);
+    }
+
+    /**
+     * Moves the player plane according to the input, keeping it inside the world.
+     *
+     * @param input the player's input bits
+     */
+    private void moveUserPlane(int input) {
+        double newX = userPlane.x + PlayerInput.horizontalMultiplier(input) * ActorRules.USER_PLANE_VELOCITY;
+        double newY = userPlane.y + PlayerInput.verticalMultiplier(input) * ActorRules.USER_PLANE_VELOCITY;
+        userPlane.x = Math.min(Math.max(newX, 0), rules.getWorldWidth() - userPlane.getWidth());
+        userPlane.y = Math.min(Math.max(newY, 0), rules.getWorldHeight() - userPlane.getHeight());
+    }
+
+    /**
+     * Spawns enemies up to the level's limit, each with the level's spawn probability.
+     * Every new enemy fires once as it appears.
+     */
+    private void spawnEnemies() {
+        int missing = rules.getTotalEnemies() - enemies.size();
+        for (int i = 0; i < missing; i++) {
+            if (random.nextDouble() < rules.getEnemySpawnProbability()) {
+                double y = random.nextDouble() * rules.getWorldHeight();
+                double x = rules.getWorldWidth() - i * rules.getEnemySpawnSpacing();
+                SimEntity enemy = spawn(EntityKind.ENEMY_PLANE, x, y, rules.getEnemyHealth());
+                enemy.random = random.split();
+                enemies.add(enemy);
+                fireHomingProjectile(EntityKind.ENEMY_PROJECTILE, x, y);
+            }
+        }
+    }
+
+    /**
+     * Finds and handles every collision of the tick in one pass, as the collision manager does.
+     *
+     * <p>Entities are gathered in the order enemy projectiles, player projectiles,
+     * enemies, player plane, and pairs are handled in that order of their first
+     * entity. Small passes test every pair; larger ones go through the grid
+     * broadphase, which yields candidates in the same order.</p>
+     */
+    private void handleCollisions() {
+        passCount = 0;
+        gather(enemyProjectiles);
+        gather(userProjectiles);
+        gather(enemies);
+        gather(userPlane);
+        if (passCount < 2) {
+            release();
+            return;
+        }
+
+        if ((long) passCount * passCount <= BRUTE_FORCE_PAIR_THRESHOLD) {
+            for (int i = 0; i < passCount; i++) {
+                for (int j = 0; j < passCount; j++) {
+                    testPair(passEntities[i], passEntities[j]);
+                }
+            }
+        } else {
+            if (candidates.length < passCount) {
+                candidates = Arrays.copyOf(candidates, Math.max(passCount, candidates.length * 2));
+            }
+            grid.clear();
+            for (int i = 0; i < passCount; i++) {
+                SimEntity entity = passEntities[i];
+                grid.insert(i, entity.getSweptMinX(), entity.getSweptMinY(), entity.getSweptMaxX(), entity.getSweptMaxY());
+            }
+            for (int i = 0; i < passCount; i++) {
+                SimEntity first = passEntities[i];
+                int count = grid.query(first.getSweptMinX(), first.getSweptMinY(), first.getSweptMaxX(),
+                        first.getSweptMaxY(), candidates);
+                for (int c = 0; c < count; c++) {
+                    testPair(first, passEntities[candidates[c]]);
+                }
+            }
+        }
+        release();
+    }
+
+    /**
+     * Adds a group of entities to the current collision pass.
+     *
+     * @param group the entities to add
+     */
+    private void gather(List<SimEntity> group) {
+        for (int i = 0; i < group.size(); i++) {
+            gather(group.get(i));
+        }
+    }
+
+    /**
+     * Adds one entity to the current collision pass.
+     *
+     * @param entity the entity to add
+     */
+    private void gather(SimEntity entity) {
+        if (passCount == passEntities.length) {
+            passEntities = Arrays.copyOf(passEntities, passCount * 2);
+        }
+        passEntities[passCount++] = entity;
+    }
+
+    /**
+     * Clears the references held by the current collision pass.
+     */
+    private void release() {
+        Arrays.fill(passEntities, 0, passCount, null);
+        passCount = 0;
+    }
+
+    /**
+     * Handles an ordered pair if its layers are handled in that order, both masks accept it and the
+     * entities touched during the tick: damages both, and counts a kill if the second is destroyed
+     * and counts as one.
+     *
+     * @param first  the entity passed first
+     * @param second the entity passed second
+     */
+    private void testPair(SimEntity first, SimEntity second) {
+        EntityKind kind1 = first.getKind();
+        EntityKind kind2 = second.getKind();
+        CollisionLayer layer1 = kind1.getCollisionLayer();
+        CollisionLayer layer2 = kind2.getCollisionLayer();
+        if (!HANDLED_PAIRS[layer1.ordinal()][layer2.ordinal()]
+                || (kind1.getCollisionMask() & layer2.bit()) == 0 || (kind2.getCollisionMask() & layer1.bit()) == 0) {
+            return;
+        }
+        if (!first.collidesWith(second)) {
+            return;
+        }
+        damage(first);
+        damage(second);
+        if (second.destroyed && kind2.countsAsKill()) {
+            kills++;
+        }
+    }
+
+    /**
+     * Applies one hit to an entity, letting the boss shields absorb it first.
+     *
+     * @param entity the entity being hit
+     */
+    private void damage(SimEntity entity) {
+        if (entity == boss && bossShieldHitsRemaining > 0) {
+            bossShieldHitsRemaining--;
+            return;
+        }
+        if (entity == userPlane) {
+            damageTaken++;
+        }
+        entity.takeDamage();
+    }
+
+    /**
+     * Removes destroyed entities from a group, keeping the order of the rest.
+     *
+     * @param group the group to compact
+     */
+    private static void removeDestroyed(List<SimEntity> group) {
+        int kept = 0;
+        int size = group.size();
+        for (int i = 0; i < size; i++) {
+            SimEntity entity = group.get(i);
+            if (!entity.destroyed) {
+                group.set(kept++, entity);
+            }
+        }
+        group.subList(kept, size).clear();
+    }
+
+    /**
+     * Applies the level's win and lose conditions.
+     */
+    private void updateStatus() {
+        if (rules.isBossLevel()) {
+            if (userPlane.health <= 0) {
+                status = SimulationStatus.LOST;
+            } else if (boss.destroyed) {
+                status = SimulationStatus.WON;
+            }
+        } else if (kills >= rules.getKillsToAdvance()) {
+            status = SimulationStatus.WON;
+        } else if (userPlane.health <= 0) {
+            status = SimulationStatus.LOST;
+        }
+    }
+
+    /**
+     * Retrieves the rules of the simulated level.
+     *
+     * @return the level rules
+     */
+    public LevelRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Retrieves the seed of the random stream.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the outcome so far.
+     *
+     * @return the simulation status
+     */
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Retrieves the number of ticks simulated.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieves the number of enemies destroyed by the player.
+     *
+     * @return the kill count
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Retrieves the number of hits the player has taken.
+     *
+     * @return the damage taken
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    /**
+     * Retrieves the number of projectiles the player has fired.
+     *
+     * @return the shot count
+     */
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    /**
+     * Retrieves the player plane.
+     *
+     * @return the player plane
+     */
+    public SimEntity getUserPlane() {
+        return userPlane;
+    }
+
+    /**
+     * Retrieves the boss.
+     *
+     * @return the boss, or {@code null} on regular levels
+     */
+    public SimEntity getBoss() {
+        return boss;
+    }
+
+    /**
+     * Checks whether the boss shield is currently shown.
+     *
+     * @return {@code true} if the shield is active
+     */
+    public boolean isBossShielded() {
+        return bossShielded;
+    }
+
+    /**
+     * Retrieves the live enemies, including the boss on boss levels.
+     *
+     * @return an unmodifiable view of the enemies
+     */
+    public List<SimEntity> getEnemies() {
+        return Collections.unmodifiableList(enemies);
+    }
+
+    /**
+     * Retrieves the live projectiles fired by the player.
+     *
+     * @return an unmodifiable view of the player's projectiles
+     */
+    public List<SimEntity> getUserProjectiles() {
+        return Collections.unmodifiableList(userProjectiles);
+    }
+
+    /**
+     * Retrieves the live projectiles fired by enemies and the boss.
+     *
+     * @return an unmodifiable view of the enemy projectiles
+     */
+    public List<SimEntity> getEnemyProjectiles() {
+        return Collections.unmodifiableList(enemyProjectiles);
+    }
+}
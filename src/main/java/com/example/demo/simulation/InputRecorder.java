@@ -0,0 +1,142 @@
+package com.example.demo.simulation;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Collects the player's input tick by tick as runs of unchanged input.
+ *
+ * <p>Levels create a recorder when the system property {@code game.record.dir}
+ * names a directory. They record one value per simulation tick, and
+ * {@link #dump} writes an {@link InputRecording} there when the level stops.
+ * Recording a tick only compares two integers and usually increments a
+ * counter, so it costs nothing noticeable in the game loop.</p>
+ */
+public final class InputRecorder {
+
+    /**
+     * The system property naming the directory that recordings are written to.
+     */
+    public static final String DIRECTORY_PROPERTY = "game.record.dir";
+
+    /**
+     * The timestamp format used in recording file names.
+     */
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    /**
+     * The number of runs the buffers start with.
+     */
+    private static final int INITIAL_RUNS = 256;
+
+    /**
+     * The number of ticks in each run.
+     */
+    private int[] runLengths = new int[INITIAL_RUNS];
+
+    /**
+     * The input bits of each run.
+     */
+    private int[] runInputs = new int[INITIAL_RUNS];
+
+    /**
+     * The number of runs recorded.
+     */
+    private int runCount;
+
+    /**
+     * Checks whether recording is configured for this run of the game.
+     *
+     * @return {@code true} if a recording directory is set
+     */
+    public static boolean isEnabled() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory != null && !directory.isBlank();
+    }
+
+    /**
+     * Records the input of one tick.
+     *
+     * @param input the {@link PlayerInput} bits
+     */
+    public void record(int input) {
+        input &= PlayerInput.ALL;
+        int last = runCount - 1;
+        if (last >= 0 && runInputs[last] == input && runLengths[last] < Integer.MAX_VALUE) {
+            runLengths[last]++;
+            return;
+        }
+        if (runCount == runLengths.length) {
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+            runInputs = Arrays.copyOf(runInputs, runCount * 2);
+        }
+        runLengths[runCount] = 1;
+        runInputs[runCount] = input;
+        runCount++;
+    }
+
+    /**
+     * Checks whether any tick has been recorded since the last reset.
+     *
+     * @return {@code true} if there is input to write
+     */
+    public boolean hasInput() {
+        return runCount > 0;
+    }
+
+    /**
+     * Discards the recorded input.
+     */
+    public void reset() {
+        runCount = 0;
+    }
+
+    /**
+     * Creates a recording of the input so far.
+     *
+     * @param levelName   the simple class name of the level
+     * @param seed        the seed of the level's random stream
+     * @param worldWidth  the width of the world
+     * @param worldHeight the height of the world
+     * @return the recording
+     */
+    public InputRecording toRecording(String levelName, long seed, double worldWidth, double worldHeight) {
+        return new InputRecording(levelName, seed, (int) Math.round(worldWidth), (int) Math.round(worldHeight),
+                Arrays.copyOf(runLengths, runCount), Arrays.copyOf(runInputs, runCount), runCount);
+    }
+
+    /**
+     * Writes the input so far to the recording directory, if one is configured and anything was
+     * recorded, then resets the recorder.
+     *
+     * @param levelName   the simple class name of the level
+     * @param seed        the seed of the level's random stream
+     * @param worldWidth  the width of the world
+     * @param worldHeight the height of the world
+     * @return the file written, or {@code null} if nothing was written
+     */
+    public Path dump(String levelName, long seed, double worldWidth, double worldHeight) {
+        if (!isEnabled() || !hasInput()) {
+            return null;
+        }
+        InputRecording recording = toRecording(levelName, seed, worldWidth, worldHeight);
+        Path file = Path.of(System.getProperty(DIRECTORY_PROPERTY),
+                levelName + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + InputRecording.FILE_EXTENSION);
+        try {
+            recording.write(file);
+            GameLog.info(LogCategory.GAME, "Input of {} ticks recorded to {}", recording.getTickCount(),
+                    file.toAbsolutePath());
+            reset();
+            return file;
+        } catch (IOException e) {
+            GameLog.warn(LogCategory.GAME, "Could not write input recording to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
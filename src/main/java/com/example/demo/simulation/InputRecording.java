@@ -0,0 +1,332 @@
+package com.example.demo.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The player's input for every tick of one level, with the seed and world size it was played at.
+ *
+ * <p>Input rarely changes from one tick to the next, so it is stored as runs:
+ * each run is a number of ticks with the same {@link PlayerInput} bits. In the
+ * file every run is one variable-length integer holding the run length and
+ * the bits that changed from the previous run, which comes to one or two bytes
+ * per key press or release. The file layout is:</p>
+ *
+ * <pre>
+ * magic "SBIR", version     (varint)
+ * level name                (varint length, UTF-8 bytes)
+ * seed                      (zig-zag varlong)
+ * world width, height       (varint, rounded to whole pixels)
+ * tick count, run count     (varlong, varint)
+ * runs                      (varlong: length &lt;&lt; 5 | input XOR previous input)
+ * </pre>
+ */
+public final class InputRecording {
+
+    /**
+     * The file name extension of recordings.
+     */
+    public static final String FILE_EXTENSION = ".sbir";
+
+    /**
+     * The first four bytes of every recording: "SBIR".
+     */
+    private static final int MAGIC = 0x53424952;
+
+    /**
+     * The version of the file layout.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The number of bits the input takes in an encoded run.
+     */
+    private static final int INPUT_BITS = 5;
+
+    /**
+     * The simple class name of the recorded level, such as {@code "LevelOne"}.
+     */
+    private final String levelName;
+
+    /**
+     * The seed of the level's random stream.
+     */
+    private final long seed;
+
+    /**
+     * The width of the world the level was played in.
+     */
+    private final int worldWidth;
+
+    /**
+     * The height of the world the level was played in.
+     */
+    private final int worldHeight;
+
+    /**
+     * The number of ticks in each run.
+     */
+    private final int[] runLengths;
+
+    /**
+     * The input bits of each run.
+     */
+    private final int[] runInputs;
+
+    /**
+     * The number of runs.
+     */
+    private final int runCount;
+
+    /**
+     * The total number of ticks recorded.
+     */
+    private final long tickCount;
+
+    /**
+     * Constructs a recording from runs of input. The arrays are used as given, not copied.
+     *
+     * @param levelName   the simple class name of the level
+     * @param seed        the seed of the level's random stream
+     * @param worldWidth  the width of the world
+     * @param worldHeight the height of the world
+     * @param runLengths  the number of ticks in each run
+     * @param runInputs   the input bits of each run
+     * @param runCount    the number of runs used in the arrays
+     */
+    public InputRecording(String levelName, long seed, int worldWidth, int worldHeight,
+                          int[] runLengths, int[] runInputs, int runCount) {
+        this.levelName = levelName;
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.runLengths = runLengths;
+        this.runInputs = runInputs;
+        this.runCount = runCount;
+        long ticks = 0;
+        for (int i = 0; i < runCount; i++) {
+            ticks += runLengths[i];
+        }
+        this.tickCount = ticks;
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file to read
+     * @return the recording
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static InputRecording read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param stream the stream to read
+     * @return the recording
+     * @throws IOException if the stream cannot be read or does not hold a recording
+     */
+    public static InputRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = (int) readVarLong(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version: " + version);
+        }
+        byte[] name = new byte[(int) readVarLong(in)];
+        in.readFully(name);
+        long encodedSeed = readVarLong(in);
+        long seed = (encodedSeed >>> 1) ^ -(encodedSeed & 1);
+        int width = (int) readVarLong(in);
+        int height = (int) readVarLong(in);
+        long expectedTicks = readVarLong(in);
+        int runCount = (int) readVarLong(in);
+
+        int[] lengths = new int[runCount];
+        int[] inputs = new int[runCount];
+        int input = PlayerInput.NONE;
+        for (int i = 0; i < runCount; i++) {
+            long run = readVarLong(in);
+            input ^= (int) (run & PlayerInput.ALL);
+            lengths[i] = (int) (run >>> INPUT_BITS);
+            inputs[i] = input;
+        }
+        InputRecording recording = new InputRecording(new String(name, StandardCharsets.UTF_8), seed, width, height,
+                lengths, inputs, runCount);
+        if (recording.getTickCount() != expectedTicks) {
+            throw new IOException("Input recording is corrupt: expected " + expectedTicks + " ticks, found "
+                    + recording.getTickCount());
+        }
+        return recording;
+    }
+
+    /**
+     * Writes the recording to a file, replacing it if it exists.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the recording to a stream.
+     *
+     * @param stream the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        writeVarLong(out, VERSION);
+        byte[] name = levelName.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, name.length);
+        out.write(name);
+        writeVarLong(out, (seed << 1) ^ (seed >> 63));
+        writeVarLong(out, worldWidth);
+        writeVarLong(out, worldHeight);
+        writeVarLong(out, tickCount);
+        writeVarLong(out, runCount);
+
+        int previous = PlayerInput.NONE;
+        for (int i = 0; i < runCount; i++) {
+            writeVarLong(out, ((long) runLengths[i] << INPUT_BITS) | (runInputs[i] ^ previous));
+            previous = runInputs[i];
+        }
+        out.flush();
+    }
+
+    /**
+     * Retrieves the simple class name of the recorded level.
+     *
+     * @return the level name
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Retrieves the seed of the level's random stream.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the width of the world the level was played in.
+     *
+     * @return the world width
+     */
+    public int getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * Retrieves the height of the world the level was played in.
+     *
+     * @return the world height
+     */
+    public int getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Retrieves the number of runs of unchanged input.
+     *
+     * @return the run count
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Retrieves the number of ticks in a run.
+     *
+     * @param index the run's index
+     * @return the run length
+     */
+    public int getRunLength(int index) {
+        return runLengths[index];
+    }
+
+    /**
+     * Retrieves the input bits of a run.
+     *
+     * @param index the run's index
+     * @return the {@link PlayerInput} bits
+     */
+    public int getRunInput(int index) {
+        return runInputs[index];
+    }
+
+    /**
+     * Retrieves the total number of ticks recorded.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Writes an unsigned variable-length integer, seven bits per byte, least significant first.
+     *
+     * @param out   the stream to write to
+     * @param value the value, treated as unsigned
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer written by {@link #writeVarLong}.
+     *
+     * @param in the stream to read
+     * @return the value
+     * @throws IOException if the stream ends early or the value is too long
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Input recording ends in the middle of a value");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Input recording holds a malformed value");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.simulation;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays recorded input back through a headless {@link GameSimulation} as fast as it can tick.
+ *
+ * <p>The simulation is built from the recorded level's rules, world size and
+ * seed, then fed one recorded input per tick with no frame pacing. The same
+ * recording always produces the same simulated game, so sessions become
+ * repeatable workloads for profiling and regression checks.</p>
+ *
+ * <p>Recordings of {@link GameSimulation} sessions, made by calling
+ * {@link InputRecorder#record} with each tick's input, replay exactly. A
+ * recording of a JavaFX session replays into a game like it, not the game
+ * itself: the simulation mirrors the levels' rules and draws from its random
+ * streams as the levels do, but it is a separate implementation of those
+ * rules, and a recording does not hold everything the session saw. Several
+ * shots fired within one tick are recorded as one, and enemy shots dropped
+ * while the {@code QualityGovernor} capped fire are not recorded at all.</p>
+ *
+ * <p>Run it from the command line with the recording files as arguments:</p>
+ *
+ * <pre>
+ * java -cp target/classes com.example.demo.simulation.InputReplay recordings/LevelOne-*.sbir
+ * </pre>
+ */
+public final class InputReplay {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private InputReplay() {
+    }
+
+    /**
+     * Creates the simulation a recording was played against.
+     *
+     * @param recording the recording
+     * @return a new simulation of the recorded level, world size and seed
+     * @throws IllegalArgumentException if the recorded level is unknown
+     */
+    public static GameSimulation newSimulation(InputRecording recording) {
+        LevelRules rules = LevelRules.forLevel(recording.getLevelName());
+        if (recording.getWorldWidth() > 0 && recording.getWorldHeight() > 0) {
+            rules = rules.withWorldSize(recording.getWorldWidth(), recording.getWorldHeight());
+        }
+        return new GameSimulation(rules, recording.getSeed());
+    }
+
+    /**
+     * Plays a recording from the start until its input runs out or the level ends.
+     *
+     * @param recording the recording
+     * @return the simulation after the last tick played
+     * @throws IllegalArgumentException if the recorded level is unknown
+     */
+    public static GameSimulation play(InputRecording recording) {
+        GameSimulation simulation = newSimulation(recording);
+        play(recording, simulation);
+        return simulation;
+    }
+
+    /**
+     * Feeds a recording into a simulation until its input runs out or the level ends.
+     *
+     * @param recording  the recording
+     * @param simulation the simulation to drive
+     * @return the number of ticks played
+     */
+    public static long play(InputRecording recording, GameSimulation simulation) {
+        long played = 0;
+        for (int run = 0; run < recording.getRunCount(); run++) {
+            int input = recording.getRunInput(run);
+            for (int tick = recording.getRunLength(run); tick > 0; tick--) {
+                if (simulation.getStatus() != SimulationStatus.RUNNING) {
+                    return played;
+                }
+                simulation.tick(input);
+                played++;
+            }
+        }
+        return played;
+    }
+
+    /**
+     * Replays each recording named on the command line and logs its outcome and tick rate.
+     *
+     * @param args the recording files
+     * @throws IOException if a recording cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            GameLog.error(LogCategory.GAME, "Usage: InputReplay <recording.sbir>...");
+            GameLog.flush();
+            return;
+        }
+        for (String arg : args) {
+            InputRecording recording = InputRecording.read(Path.of(arg));
+            long start = System.nanoTime();
+            GameSimulation simulation = play(recording);
+            long elapsed = Math.max(1, System.nanoTime() - start);
+            GameLog.info(LogCategory.GAME, "{}: {} seed {}", arg, recording.getLevelName(), recording.getSeed());
+            GameLog.info(LogCategory.GAME, "  {} after {} of {} ticks", simulation.getStatus(),
+                    simulation.getTickCount(), recording.getTickCount());
+            GameLog.info(LogCategory.GAME, "  {} kills, {} hits taken, {} ticks/s",
+                    simulation.getKills(), simulation.getDamageTaken(), simulation.getTickCount() * 1_000_000_000L / elapsed);
+        }
+        GameLog.flush();
+    }
+}
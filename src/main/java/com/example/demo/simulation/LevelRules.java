@@ -0,0 +1,416 @@
+package com.example.demo.simulation;
+
+/**
+ * Immutable tuning values for a single level.
+ *
+ * <p>These are the numbers designers adjust between play sessions: enemy
+ * counts, spawn and fire probabilities, kill targets and boss shield timing.
+ * Both the JavaFX levels and the headless {@link GameSimulation} read them
+ * from here, so a balance change applies to both. The {@code with...} methods
+ * return modified copies for parameter sweeps.</p>
+ */
+public final class LevelRules {
+
+    /**
+     * The width of the game world, matching the original screen width.
+     */
+    public static final double DEFAULT_WORLD_WIDTH = 1350.0;
+
+    /**
+     * The height of the game world, matching the original screen height.
+     */
+    public static final double DEFAULT_WORLD_HEIGHT = 750.0;
+
+    /**
+     * The probability of a regular enemy plane firing in a given frame.
+     */
+    public static final double DEFAULT_ENEMY_FIRE_RATE = 0.01;
+
+    /**
+     * Rules for the first level: a few weak enemies and a short kill target.
+     */
+    public static final LevelRules LEVEL_ONE = new LevelRules("LevelOne", DEFAULT_WORLD_WIDTH, DEFAULT_WORLD_HEIGHT,
+            5, 3, 5, 0.10, 1, 200.0, DEFAULT_ENEMY_FIRE_RATE,
+            false, 0, 0, 0, 0, "com.example.demo.levels.LevelTwo");
+
+    /**
+     * Rules for the second level: more, tougher enemies and a longer kill target.
+     */
+    public static final LevelRules LEVEL_TWO = new LevelRules("LevelTwo", DEFAULT_WORLD_WIDTH, DEFAULT_WORLD_HEIGHT,
+            5, 5, 20, 0.15, 2, 0.0, DEFAULT_ENEMY_FIRE_RATE,
+            false, 0, 0, 0, 0, "com.example.demo.levels.LevelThree");
+
+    /**
+     * Rules for the third level: a single shielded boss.
+     */
+    public static final LevelRules LEVEL_THREE = new LevelRules("LevelThree", DEFAULT_WORLD_WIDTH, DEFAULT_WORLD_HEIGHT,
+            5, 0, 0, 0.0, 0, 0.0, DEFAULT_ENEMY_FIRE_RATE,
+            true, 20, 0.04, 0.2, 500, null);
+
+    /**
+     * The name of the level these rules describe.
+     */
+    private final String name;
+
+    /**
+     * The width of the game world.
+     */
+    private final double worldWidth;
+
+    /**
+     * The height of the game world.
+     */
+    private final double worldHeight;
+
+    /**
+     * The initial health of the player.
+     */
+    private final int playerInitialHealth;
+
+    /**
+     * The total number of enemies allowed in the level at any time.
+     */
+    private final int totalEnemies;
+
+    /**
+     * The number of kills required to advance to the next level.
+     */
+    private final int killsToAdvance;
+
+    /**
+     * The probability of spawning each missing enemy in an update cycle.
+     */
+    private final double enemySpawnProbability;
+
+    /**
+     * The health of each regular enemy.
+     */
+    private final int enemyHealth;
+
+    /**
+     * The horizontal spacing between enemies spawned in the same update cycle.
+     */
+    private final double enemySpawnSpacing;
+
+    /**
+     * The probability of a regular enemy firing in a given frame.
+     */
+    private final double enemyFireRate;
+
+    /**
+     * Whether the level is a boss fight instead of an enemy wave.
+     */
+    private final boolean bossLevel;
+
+    /**
+     * The initial health of the boss.
+     */
+    private final int bossHealth;
+
+    /**
+     * The probability of the boss firing in a given frame.
+     */
+    private final double bossFireRate;
+
+    /**
+     * The probability of the boss activating its shield in a given frame.
+     */
+    private final double bossShieldProbability;
+
+    /**
+     * The maximum number of frames the boss shield stays active.
+     */
+    private final int maxFramesWithShield;
+
+    /**
+     * The fully qualified class name of the next level, or {@code null} for the last level.
+     */
+    private final String nextLevel;
+
+    /**
+     * Constructs a set of level rules.
+     *
+     * @param name                  the name of the level
+     * @param worldWidth            the width of the game world
+     * @param worldHeight           the height of the game world
+     * @param playerInitialHealth   the initial health of the player
+     * @param totalEnemies          the total number of enemies allowed at any time
+     * @param killsToAdvance        the number of kills required to advance
+     * @param enemySpawnProbability the probability of spawning each missing enemy per update
+     * @param enemyHealth           the health of each regular enemy
+     * @param enemySpawnSpacing     the horizontal spacing between enemies spawned together
+     * @param enemyFireRate         the probability of a regular enemy firing per frame
+     * @param bossLevel             whether the level is a boss fight
+     * @param bossHealth            the initial health of the boss
+     * @param bossFireRate          the probability of the boss firing per frame
+     * @param bossShieldProbability the probability of the boss activating its shield per frame
+     * @param maxFramesWithShield   the maximum number of frames the boss shield stays active
+     * @param nextLevel             the class name of the next level, or {@code null}
+     */
+    private LevelRules(String name, double worldWidth, double worldHeight, int playerInitialHealth,
+                       int totalEnemies, int killsToAdvance, double enemySpawnProbability, int enemyHealth,
+                       double enemySpawnSpacing, double enemyFireRate, boolean bossLevel, int bossHealth,
+                       double bossFireRate, double bossShieldProbability, int maxFramesWithShield, String nextLevel) {
+        this.name = name;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.playerInitialHealth = playerInitialHealth;
+        this.totalEnemies = totalEnemies;
+        this.killsToAdvance = killsToAdvance;
+        this.enemySpawnProbability = enemySpawnProbability;
+        this.enemyHealth = enemyHealth;
+        this.enemySpawnSpacing = enemySpawnSpacing;
+        this.enemyFireRate = enemyFireRate;
+        this.bossLevel = bossLevel;
+        this.bossHealth = bossHealth;
+        this.bossFireRate = bossFireRate;
+        this.bossShieldProbability = bossShieldProbability;
+        this.maxFramesWithShield = maxFramesWithShield;
+        this.nextLevel = nextLevel;
+    }
+
+    /**
+     * Looks up the built-in rules for a level by its simple name.
+     *
+     * @param name the level name, such as {@code "LevelOne"}
+     * @return the matching rules
+     * @throws IllegalArgumentException if no level has that name
+     */
+    public static LevelRules forLevel(String name) {
+        return switch (name) {
+            case "LevelOne" -> LEVEL_ONE;
+            case "LevelTwo" -> LEVEL_TWO;
+            case "LevelThree" -> LEVEL_THREE;
+            default -> throw new IllegalArgumentException("Unknown level: " + name);
+        };
+    }
+
+    /**
+     * Returns a copy of these rules with a different world size.
+     *
+     * @param width  the new world width
+     * @param height the new world height
+     * @return the modified rules
+     */
+    public LevelRules withWorldSize(double width, double height) {
+        return new LevelRules(name, width, height, playerInitialHealth, totalEnemies, killsToAdvance,
+                enemySpawnProbability, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                bossFireRate, bossShieldProbability, maxFramesWithShield, nextLevel);
+    }
+
+    /**
+     * Returns a copy of these rules with a different enemy limit.
+     *
+     * @param value the new total number of enemies
+     * @return the modified rules
+     */
+    public LevelRules withTotalEnemies(int value) {
+        return new LevelRules(name, worldWidth, worldHeight, playerInitialHealth, value, killsToAdvance,
+                enemySpawnProbability, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                bossFireRate, bossShieldProbability, maxFramesWithShield, nextLevel);
+    }
+
+    /**
+     * Returns a copy of these rules with a different kill target.
+     *
+     * @param value the new number of kills required to advance
+     * @return the modified rules
+     */
+    public LevelRules withKillsToAdvance(int value) {
+        return new LevelRules(name, worldWidth, worldHeight, playerInitialHealth, totalEnemies, value,
+                enemySpawnProbability, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                bossFireRate, bossShieldProbability, maxFramesWithShield, nextLevel);
+    }
+
+    /**
+     * Returns a copy of these rules with a different spawn probability.
+     *
+     * @param value the new enemy spawn probability
+     * @return the modified rules
+     */
+    public LevelRules withEnemySpawnProbability(double value) {
+        return new LevelRules(name, worldWidth, worldHeight, playerInitialHealth, totalEnemies, killsToAdvance,
+                value, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                bossFireRate, bossShieldProbability, maxFramesWithShield, nextLevel);
+    }
+
+    /**
+     * Returns a copy of these rules with a different boss fire rate.
+     *
+     * @param value the new boss fire probability per frame
+     * @return the modified rules
+     */
+    public LevelRules withBossFireRate(double value) {
+        return new LevelRules(name, worldWidth, worldHeight, playerInitialHealth, totalEnemies, killsToAdvance,
+                enemySpawnProbability, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                value, bossShieldProbability, maxFramesWithShield, nextLevel);
+    }
+
+    /**
+     * Returns a copy of these rules with a different boss shield duration.
+     *
+     * @param value the new maximum number of frames the shield stays active
+     * @return the modified rules
+     */
+    public LevelRules withMaxFramesWithShield(int value) {
+        return new LevelRules(name, worldWidth, worldHeight, playerInitialHealth, totalEnemies, killsToAdvance,
+                enemySpawnProbability, enemyHealth, enemySpawnSpacing, enemyFireRate, bossLevel, bossHealth,
+                bossFireRate, bossShieldProbability, value, nextLevel);
+    }
+
+    /**
+     * Retrieves the name of the level.
+     *
+     * @return the level name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the width of the game world.
+     *
+     * @return the world width
+     */
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * Retrieves the height of the game world.
+     *
+     * @return the world height
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Retrieves the initial health of the player.
+     *
+     * @return the player's initial health
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Retrieves the total number of enemies allowed at any time.
+     *
+     * @return the enemy limit
+     */
+    public int getTotalEnemies() {
+        return totalEnemies;
+    }
+
+    /**
+     * Retrieves the number of kills required to advance.
+     *
+     * @return the kill target
+     */
+    public int getKillsToAdvance() {
+        return killsToAdvance;
+    }
+
+    /**
+     * Retrieves the probability of spawning each missing enemy per update.
+     *
+     * @return the spawn probability
+     */
+    public double getEnemySpawnProbability() {
+        return enemySpawnProbability;
+    }
+
+    /**
+     * Retrieves the health of each regular enemy.
+     *
+     * @return the enemy health
+     */
+    public int getEnemyHealth() {
+        return enemyHealth;
+    }
+
+    /**
+     * Retrieves the horizontal spacing between enemies spawned in the same update.
+     *
+     * @return the spawn spacing
+     */
+    public double getEnemySpawnSpacing() {
+        return enemySpawnSpacing;
+    }
+
+    /**
+     * Retrieves the probability of a regular enemy firing per frame.
+     *
+     * @return the enemy fire rate
+     */
+    public double getEnemyFireRate() {
+        return enemyFireRate;
+    }
+
+    /**
+     * Checks whether the level is a boss fight.
+     *
+     * @return {@code true} for a boss level
+     */
+    public boolean isBossLevel() {
+        return bossLevel;
+    }
+
+    /**
+     * Retrieves the initial health of the boss.
+     *
+     * @return the boss health
+     */
+    public int getBossHealth() {
+        return bossHealth;
+    }
+
+    /**
+     * Retrieves the probability of the boss firing per frame.
+     *
+     * @return the boss fire rate
+     */
+    public double getBossFireRate() {
+        return bossFireRate;
+    }
+
+    /**
+     * Retrieves the probability of the boss activating its shield per frame.
+     *
+     * @return the shield probability
+     */
+    public double getBossShieldProbability() {
+        return bossShieldProbability;
+    }
+
+    /**
+     * Retrieves the maximum number of frames the boss shield stays active.
+     *
+     * @return the shield duration in frames
+     */
+    public int getMaxFramesWithShield() {
+        return maxFramesWithShield;
+    }
+
+    /**
+     * Retrieves the class name of the next level.
+     *
+     * @return the next level's class name, or {@code null} for the last level
+     */
+    public String getNextLevel() {
+        return nextLevel;
+    }
+
+    /**
+     * Returns a readable summary of the rules.
+     *
+     * @return the rules as a string
+     */
+    @Override
+    public String toString() {
+        return "LevelRules[" + name + ", totalEnemies=" + totalEnemies + ", killsToAdvance=" + killsToAdvance
+                + ", enemySpawnProbability=" + enemySpawnProbability + ", bossFireRate=" + bossFireRate
+                + ", maxFramesWithShield=" + maxFramesWithShield + "]";
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.simulation;
+
+/**
+ * Chooses the player's input for each tick of a headless simulation.
+ *
+ * <p>A pilot stands in for the player in batch runs. It may read the whole
+ * simulation state but must not change it. Pilots used by the
+ * {@link BatchRunner} are shared between threads, so they should keep no
+ * state of their own and derive any timing from
+ * {@link GameSimulation#getTickCount()}.</p>
+ */
+@FunctionalInterface
+public interface Pilot {
+
+    /**
+     * A pilot that never moves or fires.
+     */
+    Pilot IDLE = simulation -> PlayerInput.NONE;
+
+    /**
+     * Chooses the input for the next tick.
+     *
+     * @param simulation the simulation about to tick
+     * @return the {@link PlayerInput} bits
+     */
+    int decide(GameSimulation simulation);
+}
@@ -0,0 +1,89 @@
+package com.example.demo.simulation;
+
+/**
+ * Bit flags describing the player's input for one simulation tick.
+ *
+ * <p>The movement bits mirror the velocity multipliers set by the key
+ * handlers: at most one of {@link #UP}/{@link #DOWN} and one of
+ * {@link #LEFT}/{@link #RIGHT} is set. {@link #FIRE} is set when the fire key
+ * was pressed since the previous tick.</p>
+ */
+public final class PlayerInput {
+
+    /**
+     * No input.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Moving up.
+     */
+    public static final int UP = 1;
+
+    /**
+     * Moving down.
+     */
+    public static final int DOWN = 1 << 1;
+
+    /**
+     * Moving left.
+     */
+    public static final int LEFT = 1 << 2;
+
+    /**
+     * Moving right.
+     */
+    public static final int RIGHT = 1 << 3;
+
+    /**
+     * Firing a projectile.
+     */
+    public static final int FIRE = 1 << 4;
+
+    /**
+     * All defined input bits.
+     */
+    public static final int ALL = UP | DOWN | LEFT | RIGHT | FIRE;
+
+    /**
+     * Prevents instantiation of this constants class.
+     */
+    private PlayerInput() {
+    }
+
+    /**
+     * Converts input bits to a vertical velocity multiplier.
+     *
+     * @param input the input bits
+     * @return -1 for up, 1 for down, 0 otherwise
+     */
+    public static int verticalMultiplier(int input) {
+        if ((input & UP) != 0) {
+            return -1;
+        }
+        return (input & DOWN) != 0 ? 1 : 0;
+    }
+
+    /**
+     * Converts input bits to a horizontal velocity multiplier.
+     *
+     * @param input the input bits
+     * @return -1 for left, 1 for right, 0 otherwise
+     */
+    public static int horizontalMultiplier(int input) {
+        if ((input & LEFT) != 0) {
+            return -1;
+        }
+        return (input & RIGHT) != 0 ? 1 : 0;
+    }
+
+    /**
+     * Checks whether the input requests a shot.
+     *
+     * @param input the input bits
+     * @return {@code true} if the fire bit is set
+     */
+    public static boolean isFiring(int input) {
+        return (input & FIRE) != 0;
+    }
+}
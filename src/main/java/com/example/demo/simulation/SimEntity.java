@@ -0,0 +1,335 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utilities.AlphaMask;
+import com.example.demo.utilities.SweptOverlap;
+
+import java.util.SplittableRandom;
+
+/**
+ * The plain-Java state of a single entity in the headless simulation.
+ *
+ * <p>Positions refer to the top-left corner of the entity's bounding box, in
+ * the same world coordinates as the JavaFX levels. Like the actors, an entity
+ * collides by its bounding box and then by the alpha mask of its sprite, over
+ * the whole tick if it moved fast, with the same {@link SweptOverlap} test. Only
+ * {@link GameSimulation} mutates entities; everything else reads them.</p>
+ */
+public class SimEntity {
+
+    /**
+     * The identifier of the entity, unique within one simulation.
+     */
+    private final int id;
+
+    /**
+     * The kind of entity.
+     */
+    private final EntityKind kind;
+
+    /**
+     * The width of the entity's bounding box.
+     */
+    private final double width;
+
+    /**
+     * The height of the entity's bounding box.
+     */
+    private final double height;
+
+    /**
+     * The opaque pixels of the entity's sprite, or {@code null} to collide by bounding box alone.
+     */
+    private final AlphaMask mask;
+
+    /**
+     * The X position where the entity was spawned.
+     */
+    private final double originX;
+
+    /**
+     * The Y position where the entity was spawned.
+     */
+    private final double originY;
+
+    /**
+     * The current X position.
+     */
+    double x;
+
+    /**
+     * The current Y position.
+     */
+    double y;
+
+    /**
+     * The X position at the start of the current tick.
+     */
+    double startX;
+
+    /**
+     * The Y position at the start of the current tick.
+     */
+    double startY;
+
+    /**
+     * The remaining health.
+     */
+    int health;
+
+    /**
+     * Whether the entity has been destroyed.
+     */
+    boolean destroyed;
+
+    /**
+     * The entity's own random stream, split from the simulation's as the level splits one
+     * for each enemy plane and the boss, or {@code null} for entities making no random choices.
+     */
+    SplittableRandom random;
+
+    /**
+     * Constructs an entity at the specified position.
+     *
+     * @param id     the identifier of the entity
+     * @param kind   the kind of entity
+     * @param x      the initial X position
+     * @param y      the initial Y position
+     * @param width  the width of the bounding box
+     * @param height the height of the bounding box
+     * @param mask   the alpha mask of the entity's sprite, or {@code null} to collide by bounding box alone
+     * @param health the initial health
+     */
+    SimEntity(int id, EntityKind kind, double x, double y, double width, double height, AlphaMask mask, int health) {
+        this.id = id;
+        this.kind = kind;
+        this.x = x;
+        this.y = y;
+        this.originX = x;
+        this.originY = y;
+        this.startX = x;
+        this.startY = y;
+        this.width = width;
+        this.height = height;
+        this.mask = mask;
+        this.health = health;
+    }
+
+    /**
+     * Reduces health by one and destroys the entity when it reaches zero.
+     */
+    void takeDamage() {
+        health--;
+        if (health <= 0) {
+            destroyed = true;
+        }
+    }
+
+    /**
+     * Records the current position as the start of a tick.
+     */
+    void captureStart() {
+        startX = x;
+        startY = y;
+    }
+
+    /**
+     * Checks whether the entity moved far enough this tick to be tested over the whole tick.
+     *
+     * @return {@code true} if it moved more than {@link SweptOverlap#THRESHOLD} along either axis
+     */
+    boolean isSwept() {
+        return Math.abs(x - startX) > SweptOverlap.THRESHOLD || Math.abs(y - startY) > SweptOverlap.THRESHOLD;
+    }
+
+    /**
+     * Checks whether this entity touched another during the tick, as the collision manager
+     * checks two actors: over the whole tick if either moved fast, else at its end.
+     *
+     * @param other the other entity
+     * @return {@code true} if the entities touched
+     */
+    boolean collidesWith(SimEntity other) {
+        if (!isSwept() && !other.isSwept()) {
+            return intersects(other);
+        }
+        return SweptOverlap.test(mask, width, height, other.mask, other.width, other.height,
+                other.startX - startX, other.startY - startY,
+                (x - startX) - (other.x - other.startX), (y - startY) - (other.y - other.startY)) == SweptOverlap.HIT;
+    }
+
+    /**
+     * Retrieves the left edge of the box covering the entity's path over the tick.
+     *
+     * @return the minimum X coordinate
+     */
+    double getSweptMinX() {
+        return Math.min(x, startX);
+    }
+
+    /**
+     * Retrieves the top edge of the box covering the entity's path over the tick.
+     *
+     * @return the minimum Y coordinate
+     */
+    double getSweptMinY() {
+        return Math.min(y, startY);
+    }
+
+    /**
+     * Retrieves the right edge of the box covering the entity's path over the tick.
+     *
+     * @return the maximum X coordinate
+     */
+    double getSweptMaxX() {
+        return Math.max(x, startX) + width;
+    }
+
+    /**
+     * Retrieves the bottom edge of the box covering the entity's path over the tick.
+     *
+     * @return the maximum Y coordinate
+     */
+    double getSweptMaxY() {
+        return Math.max(y, startY) + height;
+    }
+
+    /**
+     * Checks whether this entity touches another, as the collision manager checks two actors:
+     * the bounding boxes must overlap, edges included, and then the alpha masks, placed at
+     * the boxes rounded to whole pixels, must share an opaque pixel.
+     *
+     * @param other the other entity
+     * @return {@code true} if the entities touch
+     */
+    boolean intersects(SimEntity other) {
+        if (x > other.x + other.width || x + width < other.x
+                || y > other.y + other.height || y + height < other.y) {
+            return false;
+        }
+        return overlapsMask(other, other.x - x, other.y - y);
+    }
+
+    /**
+     * Checks whether the opaque pixels of this entity and another touch when placed at a given offset.
+     *
+     * @param other   the other entity
+     * @param offsetX the X position of the other entity's box relative to this one's, rounded to whole pixels
+     * @param offsetY the Y position of the other entity's box relative to this one's, rounded to whole pixels
+     * @return {@code true} if the sprites share an opaque pixel, or either has no mask
+     */
+    boolean overlapsMask(SimEntity other, double offsetX, double offsetY) {
+        if (mask == null || other.mask == null) {
+            return true;
+        }
+        return mask.overlaps(other.mask, (int) Math.round(offsetX), (int) Math.round(offsetY));
+    }
+
+    /**
+     * Retrieves the identifier of the entity.
+     *
+     * @return the entity identifier
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the kind of entity.
+     *
+     * @return the entity kind
+     */
+    public EntityKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the current X position.
+     *
+     * @return the X position
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Retrieves the current Y position.
+     *
+     * @return the Y position
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Retrieves the width of the bounding box.
+     *
+     * @return the width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the bounding box.
+     *
+     * @return the height
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the alpha mask the entity collides by.
+     *
+     * @return the mask, or {@code null} if the entity collides by bounding box alone
+     */
+    public AlphaMask getMask() {
+        return mask;
+    }
+
+    /**
+     * Retrieves the X position where the entity was spawned.
+     *
+     * @return the spawn X position
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Retrieves the Y position where the entity was spawned.
+     *
+     * @return the spawn Y position
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Retrieves the remaining health.
+     *
+     * @return the health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Checks whether the entity has been destroyed.
+     *
+     * @return {@code true} if destroyed
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * Returns a readable description of the entity.
+     *
+     * @return the entity as a string
+     */
+    @Override
+    public String toString() {
+        return kind + "#" + id + "[x=" + x + ", y=" + y + ", health=" + health + "]";
+    }
+}
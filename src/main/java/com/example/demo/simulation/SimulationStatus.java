@@ -0,0 +1,22 @@
+package com.example.demo.simulation;
+
+/**
+ * The outcome of a headless simulation so far.
+ */
+public enum SimulationStatus {
+
+    /**
+     * The level is still in play.
+     */
+    RUNNING,
+
+    /**
+     * The player met the level's win condition.
+     */
+    WON,
+
+    /**
+     * The player ran out of health.
+     */
+    LOST
+}
@@ -1,7 +1,7 @@
 package com.example.demo.ui;
 
 import com.example.demo.levels.LevelParent;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.ImageRegistry;
 import javafx.scene.image.ImageView;
 
 /**
@@ -42,7 +42,7 @@ public class GameOverImage extends ImageView {
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
 		// Load and set the game-over image
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(ImageRegistry.get(IMAGE_NAME));
 
 		// Scale the image
 		setFitWidth(400);  // Set the desired width
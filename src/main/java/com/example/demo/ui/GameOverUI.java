@@ -1,5 +1,7 @@
 package com.example.demo.ui;
 
+import com.example.demo.utilities.ImageRegistry;
+
 import javafx.scene.Group;
 import javafx.scene.control.Button;
 import javafx.scene.image.ImageView;
@@ -33,7 +35,7 @@ public class GameOverUI {
      */
     public GameOverUI(Group root, double screenWidth, double screenHeight) {
         // Initialize GameOverImage
-        gameOverImage = new ImageView(getClass().getResource("/com/example/demo/images/gameover.png").toExternalForm());
+        gameOverImage = new ImageView(ImageRegistry.get("gameover.png"));
         gameOverImage.setFitWidth(320); // Set desired width
         gameOverImage.setPreserveRatio(true); // Maintain aspect ratio
         gameOverImage.setLayoutX(screenWidth / 2.0 - 160.0); // Center horizontally
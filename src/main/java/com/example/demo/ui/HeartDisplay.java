@@ -1,7 +1,8 @@
 package com.example.demo.ui;
 
 import com.example.demo.levels.LevelParent;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.ImageRegistry;
+import com.example.demo.utilities.SpriteAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -19,6 +20,11 @@ public class HeartDisplay {
 	 */
 	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
 
+	/**
+	 * The name of the heart sprite in the sprite atlas.
+	 */
+	private static final String HEART_SPRITE_NAME = "heart.png";
+
 	/**
 	 * The height of the heart image.
 	 */
@@ -88,10 +94,7 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
-			heart.setFitHeight(HEART_HEIGHT);
-			heart.setPreserveRatio(true);
-			container.getChildren().add(heart);
+			container.getChildren().add(createHeart());
 		}
 	}
 
@@ -113,14 +116,26 @@ public class HeartDisplay {
 			// Add missing hearts
 			int heartsToAdd = currentHealth - displayedHearts;
 			for (int i = 0; i < heartsToAdd; i++) {
-				ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
-				heart.setFitHeight(HEART_HEIGHT);
-				heart.setPreserveRatio(true);
-				container.getChildren().add(heart);
+				container.getChildren().add(createHeart());
 			}
 		}
 	}
 
+	/**
+	 * Creates one heart icon, drawn from the sprite atlas when it holds the heart sprite.
+	 *
+	 * @return the heart icon
+	 */
+	private ImageView createHeart() {
+		ImageView heart = new ImageView();
+		if (!SpriteAtlas.getDefault().applyTo(heart, HEART_SPRITE_NAME)) {
+			heart.setImage(ImageRegistry.get(HEART_IMAGE_NAME));
+		}
+		heart.setFitHeight(HEART_HEIGHT);
+		heart.setPreserveRatio(true);
+		return heart;
+	}
+
 	/**
 	 * Removes one heart from the display.
 	 */
@@ -1,6 +1,9 @@
 package com.example.demo.ui;
 
 import com.example.demo.controller.Main;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.utilities.ImageRegistry;
 import com.example.demo.utilities.UserSettings;
 import com.example.demo.utilities.WindowUtils;
 import javafx.application.Application;
@@ -8,7 +11,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -40,7 +42,7 @@ public class MainMenu extends Application {
         primaryStage.setTitle("Main Menu");
 
         // Load and configure the background image
-        ImageView backgroundImage = new ImageView(new Image(getClass().getResource("/com/example/demo/images/menu_background.png").toExternalForm()));
+        ImageView backgroundImage = new ImageView(ImageRegistry.get("menu_background.png"));
         backgroundImage.setPreserveRatio(false);
         backgroundImage.setFitWidth(primaryStage.getWidth());
         backgroundImage.setFitHeight(primaryStage.getHeight());
@@ -100,17 +102,17 @@ public class MainMenu extends Application {
             String currentMode = UserSettings.getDisplayMode();
 
             if (!selectedMode.equals(currentMode)) {
-                System.out.println("Changing display mode to: " + selectedMode);
+                GameLog.info(LogCategory.SETTINGS, "Changing display mode to: {}", selectedMode);
                 UserSettings.setDisplayMode(selectedMode); // Save mode
                 WindowUtils.setStageDisplayMode(primaryStage, selectedMode); // Apply mode
             } else {
-                System.out.println("Display mode unchanged: " + currentMode);
+                GameLog.debug(LogCategory.SETTINGS, "Display mode unchanged: {}", currentMode);
             }
         });
 
         // Configure back button action
         backButton.setOnAction(event -> {
-            System.out.println("Returning to main menu, mode remains unchanged: " + UserSettings.getDisplayMode());
+            GameLog.debug(LogCategory.SETTINGS, "Returning to main menu, mode remains unchanged: {}", UserSettings.getDisplayMode());
             primaryStage.setScene(mainMenuScene); // Reuse the stored main menu scene
 
             // Reapply fullscreen state if necessary
@@ -1,5 +1,11 @@
 package com.example.demo.ui;
 
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utilities.ImageRegistry;
+import com.example.demo.utilities.SpriteAtlas;
+
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -11,7 +17,12 @@ public class ShieldImage extends ImageView {
 	/**
 	 * The current health of the shield.
 	 */
-	private int health = 3; // Default shield health
+	private int health = ActorRules.BOSS_SHIELD_HEALTH;
+
+	/**
+	 * The file name of the shield image.
+	 */
+	private static final String SHIELD_IMAGE_NAME = "shield.png";
 
 	/**
 	 * Constructs a ShieldImage with the specified position.
@@ -20,12 +31,14 @@ public class ShieldImage extends ImageView {
 	 * @param yPosition The y-coordinate of the shield.
 	 */
 	public ShieldImage(double xPosition, double yPosition) {
-		super(loadShieldImage()); // Call the utility method
+		if (!SpriteAtlas.getDefault().applyTo(this, SHIELD_IMAGE_NAME)) {
+			setImage(loadShieldImage());
+		}
 		setFitWidth(50);  // Explicitly set the width
 		setFitHeight(50); // Explicitly set the height
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
-		System.out.println("Shield created at X: " + xPosition + ", Y: " + yPosition);
+		GameLog.debug(LogCategory.UI, "Shield created at X: {}, Y: {}", xPosition, yPosition);
 	}
 
 	/**
@@ -35,10 +48,10 @@ public class ShieldImage extends ImageView {
 	 */
 	private static Image loadShieldImage() {
 		try {
-			return new Image(ShieldImage.class.getResource("/com/example/demo/images/shield.png").toExternalForm());
-		} catch (NullPointerException e) {
-			System.err.println("Error: Shield image not found. Using placeholder.");
-			return new Image(ShieldImage.class.getResource("/com/example/demo/images/placeholder.png").toExternalForm());
+			return ImageRegistry.get(SHIELD_IMAGE_NAME);
+		} catch (IllegalArgumentException e) {
+			GameLog.warn(LogCategory.UI, "Error: Shield image not found. Using placeholder.");
+			return ImageRegistry.get("placeholder.png");
 		}
 	}
 
@@ -52,7 +65,7 @@ public class ShieldImage extends ImageView {
 		if (health < 0) {
 			health = 0;
 		}
-		System.out.println("Shield health reduced. Current health: " + health);
+		GameLog.debug(LogCategory.UI, "Shield health reduced. Current health: {}", health);
 	}
 
 	/**
@@ -69,7 +82,7 @@ public class ShieldImage extends ImageView {
 	 */
 	public void showShield() {
 		setVisible(true);
-		System.out.println("Shield is now visible.");
+		GameLog.debug(LogCategory.UI, "Shield is now visible.");
 	}
 
 	/**
@@ -77,23 +90,7 @@ public class ShieldImage extends ImageView {
 	 */
 	public void hideShield() {
 		setVisible(false);
-		System.out.println("Shield is now hidden.");
-	}
-
-	/**
-	 * Adjusts the position of the shield when the screen is resized.
-	 *
-	 * @param newWidth  The new width of the screen.
-	 * @param newHeight The new height of the screen.
-	 */
-	public void adjustPositionForResize(double newWidth, double newHeight) {
-		double xRatio = newWidth / 1920.0; // Assuming original width is 1920
-		double yRatio = newHeight / 1080.0; // Assuming original height is 1080
-
-		setLayoutX(getLayoutX() * xRatio);
-		setLayoutY(getLayoutY() * yRatio);
-
-		System.out.println("Shield resized to X: " + getLayoutX() + ", Y: " + getLayoutY());
+		GameLog.debug(LogCategory.UI, "Shield is now hidden.");
 	}
 
 	/**
@@ -106,6 +103,6 @@ public class ShieldImage extends ImageView {
 		setLayoutX(getLayoutX() + offsetX);
 		setLayoutY(getLayoutY() + offsetY);
 
-		System.out.println("Shield position adjusted to X: " + getLayoutX() + ", Y: " + getLayoutY());
+		GameLog.debug(LogCategory.UI, "Shield position adjusted to X: {}, Y: {}", getLayoutX(), getLayoutY());
 	}
 }
@@ -1,7 +1,7 @@
 package com.example.demo.ui;
 
 import com.example.demo.levels.LevelParent;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.ImageRegistry;
 import javafx.scene.image.ImageView;
 
 /**
@@ -44,7 +44,7 @@ public class WinImage extends ImageView {
 		this.originalXPosition = xPosition;
 		this.originalYPosition = yPosition;
 
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(ImageRegistry.get(IMAGE_NAME));
 		this.setVisible(false);
 		this.setFitHeight(ORIGINAL_HEIGHT);
 		this.setFitWidth(ORIGINAL_WIDTH);
@@ -0,0 +1,267 @@
+package com.example.demo.utilities;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The opaque pixels of a sprite at the size it is drawn, one bit per pixel.
+ *
+ * <p>Bounding boxes of sprites with large transparent areas, such as the
+ * enemy plane or the boss, overlap well before anything visible touches. A
+ * mask records which pixels of the drawn sprite are opaque enough to count,
+ * packed into 64-bit words row by row. Two masks are compared by ANDing the
+ * overlapping words of each shared row, so a precise test costs a few long
+ * operations per row instead of one test per pixel.</p>
+ *
+ * <p>Masks are built once per sprite and drawn size from the PNG's alpha
+ * channel with ImageIO, so they need no JavaFX, and are shared by every
+ * actor using that sprite at that size. The size is the one the sprite is
+ * actually drawn at, which for an image view fitted into a box is not the
+ * height it was loaded at, and each mask pixel averages the alpha of the
+ * source pixels it covers.</p>
+ */
+public final class AlphaMask {
+
+    /**
+     * The average alpha, from 0 to 255, at which a drawn pixel counts as opaque.
+     */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    /**
+     * The masks built so far, keyed by resource path and drawn size, or {@code null} where a sprite could not be read.
+     */
+    private static final Map<String, AlphaMask> cache = new HashMap<>();
+
+    /**
+     * The width of the mask in pixels.
+     */
+    private final int width;
+
+    /**
+     * The height of the mask in pixels.
+     */
+    private final int height;
+
+    /**
+     * The number of 64-bit words holding one row.
+     */
+    private final int wordsPerRow;
+
+    /**
+     * The opaque pixels, row by row; bit {@code x & 63} of word {@code y * wordsPerRow + (x >> 6)} is pixel (x, y).
+     * Bits past the width of a row are always clear.
+     */
+    private final long[] bits;
+
+    /**
+     * Constructs an empty mask.
+     *
+     * @param width  the width of the mask in pixels
+     * @param height the height of the mask in pixels
+     */
+    private AlphaMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Retrieves the mask of a sprite drawn at a given height with its aspect ratio kept, building it on first use.
+     *
+     * @param name       the resource path, or a file name inside {@link ImageRegistry#IMAGE_DIRECTORY}
+     * @param drawHeight the height the sprite is drawn at, in pixels
+     * @return the mask, or {@code null} if the sprite cannot be read
+     */
+    public static AlphaMask forSprite(String name, int drawHeight) {
+        return forSprite(name, 0, drawHeight);
+    }
+
+    /**
+     * Retrieves the mask of a sprite drawn at a given size, building it on first use.
+     *
+     * @param name       the resource path, or a file name inside {@link ImageRegistry#IMAGE_DIRECTORY}
+     * @param drawWidth  the width the sprite is drawn at, in pixels, or 0 to keep its aspect ratio
+     * @param drawHeight the height the sprite is drawn at, in pixels
+     * @return the mask, or {@code null} if the sprite cannot be read
+     */
+    public static synchronized AlphaMask forSprite(String name, int drawWidth, int drawHeight) {
+        String path = name.startsWith("/") ? name : ImageRegistry.IMAGE_DIRECTORY + name;
+        String key = path + '@' + drawWidth + 'x' + drawHeight;
+        if (cache.containsKey(key)) {
+            return cache.get(key);
+        }
+        AlphaMask mask = null;
+        try (InputStream input = AlphaMask.class.getResourceAsStream(path)) {
+            BufferedImage image = input != null ? ImageIO.read(input) : null;
+            if (image != null && drawHeight > 0) {
+                mask = drawWidth > 0 ? fromAlpha(image, drawWidth, drawHeight) : fromAlpha(image, drawHeight);
+                GameLog.debug(LogCategory.COLLISION, "Built {}x{} alpha mask for {}", mask.width, mask.height, path);
+            } else {
+                GameLog.warn(LogCategory.COLLISION, "No alpha mask for {}; using its bounding box", path);
+            }
+        } catch (IOException e) {
+            GameLog.warn(LogCategory.COLLISION, "Cannot read {} for its alpha mask: {}", path, e.getMessage());
+        }
+        cache.put(key, mask);
+        return mask;
+    }
+
+    /**
+     * Builds the mask of an image scaled to a given height with its aspect ratio kept.
+     *
+     * @param image      the image
+     * @param drawHeight the height the image is drawn at, in pixels, at least 1
+     * @return the mask
+     */
+    public static AlphaMask fromAlpha(BufferedImage image, int drawHeight) {
+        double scale = (double) drawHeight / image.getHeight();
+        return fromAlpha(image, Math.max(1, (int) Math.round(image.getWidth() * scale)), drawHeight);
+    }
+
+    /**
+     * Builds the mask of an image scaled to a given size.
+     *
+     * @param image      the image
+     * @param drawWidth  the width the image is drawn at, in pixels, at least 1
+     * @param drawHeight the height the image is drawn at, in pixels, at least 1
+     * @return the mask
+     */
+    public static AlphaMask fromAlpha(BufferedImage image, int drawWidth, int drawHeight) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        double scaleX = (double) drawWidth / sourceWidth;
+        double scaleY = (double) drawHeight / sourceHeight;
+        AlphaMask mask = new AlphaMask(drawWidth, drawHeight);
+
+        int[] alpha = new int[sourceWidth * sourceHeight];
+        image.getRGB(0, 0, sourceWidth, sourceHeight, alpha, 0, sourceWidth);
+        for (int i = 0; i < alpha.length; i++) {
+            alpha[i] >>>= 24;
+        }
+
+        for (int y = 0; y < mask.height; y++) {
+            int top = Math.min(sourceHeight - 1, (int) (y / scaleY));
+            int bottom = Math.min(sourceHeight, Math.max(top + 1, (int) ((y + 1) / scaleY)));
+            for (int x = 0; x < mask.width; x++) {
+                int left = Math.min(sourceWidth - 1, (int) (x / scaleX));
+                int right = Math.min(sourceWidth, Math.max(left + 1, (int) ((x + 1) / scaleX)));
+                long sum = 0;
+                for (int sy = top; sy < bottom; sy++) {
+                    for (int sx = left; sx < right; sx++) {
+                        sum += alpha[sy * sourceWidth + sx];
+                    }
+                }
+                if (sum >= (long) ALPHA_THRESHOLD * (bottom - top) * (right - left)) {
+                    mask.bits[y * mask.wordsPerRow + (x >> 6)] |= 1L << x;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether this mask and another share an opaque pixel.
+     *
+     * @param other   the other mask
+     * @param offsetX the X position of the other mask's origin relative to this one's
+     * @param offsetY the Y position of the other mask's origin relative to this one's
+     * @return {@code true} if at least one pixel is opaque in both
+     */
+    public boolean overlaps(AlphaMask other, int offsetX, int offsetY) {
+        int firstRow = Math.max(0, offsetY);
+        int lastRow = Math.min(height, offsetY + other.height);
+        int firstColumn = Math.max(0, offsetX);
+        int lastColumn = Math.min(width, offsetX + other.width);
+        if (firstRow >= lastRow || firstColumn >= lastColumn) {
+            return false;
+        }
+        int firstWord = firstColumn >> 6;
+        int lastWord = (lastColumn - 1) >> 6;
+        for (int y = firstRow; y < lastRow; y++) {
+            int row = y * wordsPerRow;
+            int otherRow = (y - offsetY) * other.wordsPerRow;
+            for (int word = firstWord; word <= lastWord; word++) {
+                if ((bits[row + word] & other.extract(otherRow, (word << 6) - offsetX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads 64 consecutive bits of one row, starting at any column; columns outside the row read as clear.
+     *
+     * @param row    the index of the row's first word
+     * @param column the column of the first bit, possibly negative
+     * @return the bits, the first column in the lowest bit
+     */
+    private long extract(int row, int column) {
+        int word = column >> 6;
+        int shift = column & 63;
+        long low = word(row, word) >>> shift;
+        return shift == 0 ? low : low | word(row, word + 1) << (64 - shift);
+    }
+
+    /**
+     * Reads one word of a row.
+     *
+     * @param row  the index of the row's first word
+     * @param word the word within the row
+     * @return the word, or 0 if it lies outside the row
+     */
+    private long word(int row, int word) {
+        return word >= 0 && word < wordsPerRow ? bits[row + word] : 0L;
+    }
+
+    /**
+     * Checks whether a pixel is opaque.
+     *
+     * @param x the column
+     * @param y the row
+     * @return {@code true} if the pixel lies inside the mask and is opaque
+     */
+    public boolean isOpaque(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height
+                && (bits[y * wordsPerRow + (x >> 6)] & 1L << x) != 0;
+    }
+
+    /**
+     * Counts the opaque pixels.
+     *
+     * @return the opaque pixel count
+     */
+    public int getOpaqueCount() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the width of the mask.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the mask.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+}
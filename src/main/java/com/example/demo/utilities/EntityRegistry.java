@@ -0,0 +1,385 @@
+package com.example.demo.utilities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * A densely packed list of entities with constant-time insertion, membership
+ * tests and removal.
+ *
+ * <p>Entities are stored contiguously, so indexed iteration is as cheap as
+ * with an {@code ArrayList}. Removal moves the last entity into the freed
+ * position instead of shifting the tail, so the order of the remaining
+ * entities is not preserved. Every insertion returns a handle that combines a
+ * slot number with a generation counter. A handle stays valid until its
+ * entity is removed. After that, {@link #get(long)} returns {@code null} for
+ * it, even if the slot has been reused.</p>
+ *
+ * <p>Each entity remembers its own handle through {@link Entry}, which is what
+ * makes {@link #contains} and {@link #remove(Object)} constant-time. An entity
+ * may belong to at most one registry at a time.</p>
+ *
+ * @param <T> the type of entity stored
+ */
+public class EntityRegistry<T extends EntityRegistry.Entry> extends AbstractList<T> {
+
+    /**
+     * The handle of an entity that is not in any registry.
+     */
+    public static final long NO_HANDLE = -1L;
+
+    /**
+     * The number of slots allocated by the default constructor.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * An entity that can be stored in an {@link EntityRegistry}.
+     */
+    public interface Entry {
+
+        /**
+         * Retrieves the handle assigned by the registry holding this entity.
+         *
+         * @return the handle, or {@link EntityRegistry#NO_HANDLE} if the entity is not registered
+         */
+        long getRegistryHandle();
+
+        /**
+         * Stores the handle assigned by a registry. Only called by {@link EntityRegistry}.
+         *
+         * @param handle the new handle, or {@link EntityRegistry#NO_HANDLE}
+         */
+        void setRegistryHandle(long handle);
+    }
+
+    /**
+     * The entities, packed into {@code [0, size)}.
+     */
+    private Entry[] dense;
+
+    /**
+     * The slot owning each dense position.
+     */
+    private int[] denseToSlot;
+
+    /**
+     * The dense position of each slot's entity, or -1 for a free slot.
+     */
+    private int[] slotToDense;
+
+    /**
+     * The current generation of each slot, bumped whenever its entity is removed.
+     */
+    private int[] slotGeneration;
+
+    /**
+     * The stack of slots available for reuse.
+     */
+    private int[] freeSlots;
+
+    /**
+     * The number of slots on the free stack.
+     */
+    private int freeCount;
+
+    /**
+     * The number of slots ever allocated.
+     */
+    private int slotCount;
+
+    /**
+     * The number of entities stored.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty registry with the default initial capacity.
+     */
+    public EntityRegistry() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty registry with the specified initial capacity. The registry grows as needed.
+     *
+     * @param initialCapacity the number of entities to allocate room for
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public EntityRegistry(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        dense = new Entry[initialCapacity];
+        denseToSlot = new int[initialCapacity];
+        slotToDense = new int[initialCapacity];
+        slotGeneration = new int[initialCapacity];
+        freeSlots = new int[initialCapacity];
+    }
+
+    /**
+     * Adds an entity and returns its handle.
+     *
+     * @param entity the entity to add
+     * @return the handle of the entity
+     * @throws IllegalArgumentException if the entity is null
+     * @throws IllegalStateException    if the entity already belongs to a registry
+     */
+    public long insert(T entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity cannot be null");
+        }
+        if (entity.getRegistryHandle() != NO_HANDLE) {
+            throw new IllegalStateException("Entity is already registered: " + entity);
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == slotToDense.length) {
+                growSlots();
+            }
+            slot = slotCount++;
+        }
+        if (size == dense.length) {
+            growDense();
+        }
+
+        int index = size++;
+        dense[index] = entity;
+        denseToSlot[index] = slot;
+        slotToDense[slot] = index;
+
+        long handle = toHandle(slot, slotGeneration[slot]);
+        entity.setRegistryHandle(handle);
+        modCount++;
+        return handle;
+    }
+
+    /**
+     * Adds an entity to the registry.
+     *
+     * @param entity the entity to add
+     * @return {@code true}, as the registry always changes
+     * @throws IllegalStateException if the entity already belongs to a registry
+     */
+    @Override
+    public boolean add(T entity) {
+        insert(entity);
+        return true;
+    }
+
+    /**
+     * Retrieves the entity at a dense position.
+     *
+     * @param index the position, from 0 to {@code size() - 1}
+     * @return the entity
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (T) dense[index];
+    }
+
+    /**
+     * Retrieves the entity a handle refers to.
+     *
+     * @param handle the handle returned by {@link #insert}
+     * @return the entity, or {@code null} if it has since been removed
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long handle) {
+        int index = denseIndexOf(handle);
+        return index < 0 ? null : (T) dense[index];
+    }
+
+    /**
+     * Checks whether a handle still refers to an entity in this registry.
+     *
+     * @param handle the handle to check
+     * @return {@code true} if the entity has not been removed
+     */
+    public boolean isValid(long handle) {
+        return denseIndexOf(handle) >= 0;
+    }
+
+    /**
+     * Retrieves the number of entities stored.
+     *
+     * @return the size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether an entity is in this registry.
+     *
+     * @param o the object to look for
+     * @return {@code true} if it is registered here
+     */
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Entry entry && indexOfEntry(entry) >= 0;
+    }
+
+    /**
+     * Removes an entity from this registry.
+     *
+     * @param o the entity to remove
+     * @return {@code true} if it was registered here
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Entry entry)) {
+            return false;
+        }
+        int index = indexOfEntry(entry);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the entity a handle refers to.
+     *
+     * @param handle the handle of the entity
+     * @return the removed entity, or {@code null} if the handle was stale
+     */
+    public T remove(long handle) {
+        int index = denseIndexOf(handle);
+        return index < 0 ? null : removeAt(index);
+    }
+
+    /**
+     * Removes the entity at a dense position, moving the last entity into its place.
+     *
+     * @param index the position to remove
+     * @return the removed entity
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return removeAt(index);
+    }
+
+    /**
+     * Removes every entity and invalidates all handles.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int slot = denseToSlot[i];
+            releaseSlot(slot);
+            dense[i].setRegistryHandle(NO_HANDLE);
+            dense[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the entity at a dense position without bounds checks.
+     *
+     * @param index the position to remove
+     * @return the removed entity
+     */
+    @SuppressWarnings("unchecked")
+    private T removeAt(int index) {
+        T removed = (T) dense[index];
+        releaseSlot(denseToSlot[index]);
+
+        int last = --size;
+        if (index != last) {
+            dense[index] = dense[last];
+            denseToSlot[index] = denseToSlot[last];
+            slotToDense[denseToSlot[index]] = index;
+        }
+        dense[last] = null;
+
+        removed.setRegistryHandle(NO_HANDLE);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Frees a slot and advances its generation so outstanding handles go stale.
+     *
+     * @param slot the slot to free
+     */
+    private void releaseSlot(int slot) {
+        slotToDense[slot] = -1;
+        slotGeneration[slot]++;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Resolves an entity's own handle to its dense position in this registry.
+     *
+     * @param entry the entity
+     * @return the position, or -1 if the entity is not registered here
+     */
+    private int indexOfEntry(Entry entry) {
+        int index = denseIndexOf(entry.getRegistryHandle());
+        return index >= 0 && dense[index] == entry ? index : -1;
+    }
+
+    /**
+     * Resolves a handle to a dense position.
+     *
+     * @param handle the handle to resolve
+     * @return the position, or -1 if the handle is stale or foreign
+     */
+    private int denseIndexOf(long handle) {
+        if (handle == NO_HANDLE) {
+            return -1;
+        }
+        int slot = (int) handle;
+        int generation = (int) (handle >>> 32);
+        if (slot < 0 || slot >= slotCount || slotGeneration[slot] != generation) {
+            return -1;
+        }
+        return slotToDense[slot];
+    }
+
+    /**
+     * Packs a slot and generation into a handle.
+     *
+     * @param slot       the slot number
+     * @param generation the slot's generation
+     * @return the handle
+     */
+    private static long toHandle(int slot, int generation) {
+        return ((long) generation << 32) | (slot & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Doubles the room for slots.
+     */
+    private void growSlots() {
+        int capacity = slotToDense.length * 2;
+        slotToDense = Arrays.copyOf(slotToDense, capacity);
+        slotGeneration = Arrays.copyOf(slotGeneration, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    /**
+     * Doubles the room for entities.
+     */
+    private void growDense() {
+        int capacity = dense.length * 2;
+        dense = Arrays.copyOf(dense, capacity);
+        denseToSlot = Arrays.copyOf(denseToSlot, capacity);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.utilities;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * Runs scene graph changes on the JavaFX Application Thread from code that may run elsewhere.
+ *
+ * <p>A level may simulate on its own thread. Most of what a step touches,
+ * such as the actors of a canvas-rendered level, lives outside the showing
+ * scene and may be changed from that thread. The few changes that reach the
+ * showing scene, such as the game-over screen or a heart icon, go through
+ * this class: they run at once on the FX thread, and are queued for it from
+ * any other thread.</p>
+ */
+public final class FxThread {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private FxThread() {
+    }
+
+    /**
+     * Runs an action on the FX thread, at once if already there, otherwise as soon as the thread is free.
+     *
+     * @param action the action
+     */
+    public static void run(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    /**
+     * Removes a node from its parent group. A node outside any scene is removed at once;
+     * one in a scene is removed on the FX thread.
+     *
+     * @param node the node to remove
+     */
+    public static void removeFromParent(Node node) {
+        if (!(node.getParent() instanceof Group parent)) {
+            return;
+        }
+        if (node.getScene() == null) {
+            parent.getChildren().remove(node);
+        } else {
+            run(() -> parent.getChildren().remove(node));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.utilities;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeds and helpers for the game's random streams.
+ *
+ * <p>Nothing in the game draws from the shared generator behind
+ * {@link Math#random()}. Each run has one seed, taken from the system property
+ * {@code game.seed} or chosen at random and logged, so any run can be played
+ * again. Every level derives its own seed from the run seed and its name, and
+ * every actor splits its stream from its level's stream when it spawns. The
+ * same run seed therefore always produces the same game, and no two streams
+ * share state across threads.</p>
+ */
+public final class GameRandom {
+
+    /**
+     * The system property fixing the run seed.
+     */
+    public static final String SEED_PROPERTY = "game.seed";
+
+    /**
+     * The golden-ratio increment used to spread seeds apart.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private GameRandom() {
+    }
+
+    /**
+     * Retrieves the seed for a new run: the configured seed if one is set, otherwise a random one.
+     *
+     * @return the run seed
+     */
+    public static long configuredRunSeed() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value != null) {
+            try {
+                long seed = Long.parseLong(value.trim());
+                GameLog.info(LogCategory.GAME, "Run seed: {} (from {})", seed, SEED_PROPERTY);
+                return seed;
+            } catch (NumberFormatException e) {
+                GameLog.warn(LogCategory.GAME, "Ignoring invalid {}: {}", SEED_PROPERTY, value);
+            }
+        }
+        long seed = newSeed();
+        GameLog.info(LogCategory.GAME, "Run seed: {}", seed);
+        return seed;
+    }
+
+    /**
+     * Creates an unpredictable seed, for streams that do not need to be reproduced.
+     *
+     * @return the seed
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Derives the seed of a named stream from a run seed.
+     *
+     * @param runSeed the run seed
+     * @param name    the stream's name, such as a level's class name
+     * @return the stream's seed
+     */
+    public static long deriveSeed(long runSeed, String name) {
+        return mix(runSeed + GOLDEN_GAMMA * mix(name.hashCode()));
+    }
+
+    /**
+     * Shuffles an array in place with the Fisher-Yates algorithm.
+     *
+     * @param values the values to shuffle
+     * @param random the stream choosing the order
+     */
+    public static void shuffle(int[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Scrambles the bits of a value, as the finaliser of the SplitMix64 generator does.
+     *
+     * @param value the value to scramble
+     * @return the scrambled value
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
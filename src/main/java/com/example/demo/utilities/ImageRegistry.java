@@ -0,0 +1,288 @@
+package com.example.demo.utilities;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A shared cache of decoded images, so each asset is decoded once and reused by every node.
+ *
+ * <p>Images are keyed by resource path. Plain file names are looked up in the
+ * game's image directory. Decoded images are kept in least-recently-used order
+ * under a byte budget, estimated at four bytes per pixel. When an insertion
+ * exceeds the budget, the least recently used images are released.</p>
+ *
+ * <p>Images used by only one level, such as its background, are registered
+ * through {@link #beginLevel}. They cannot be evicted while that level is
+ * running. {@link #releaseLevelImages} drops them when the game moves on, so
+ * the previous level's backgrounds do not outlive it.</p>
+ */
+public final class ImageRegistry {
+
+    /**
+     * The resource directory holding the game's images.
+     */
+    public static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+
+    /**
+     * The default limit on the estimated size of the decoded images kept in the cache.
+     */
+    public static final long DEFAULT_BYTE_BUDGET = 48L * 1024 * 1024;
+
+    /**
+     * The decoded images, in least-recently-used order.
+     */
+    private static final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(32, 0.75f, true);
+
+    /**
+     * The resource paths of the images belonging to the current level.
+     */
+    private static final Set<String> levelImages = new HashSet<>();
+
+    /**
+     * The limit on the estimated size of the cached images.
+     */
+    private static long byteBudget = DEFAULT_BYTE_BUDGET;
+
+    /**
+     * The estimated size of the cached images.
+     */
+    private static long cachedBytes;
+
+    /**
+     * The number of requests served from the cache.
+     */
+    private static long hits;
+
+    /**
+     * The number of requests that decoded an image.
+     */
+    private static long misses;
+
+    /**
+     * The number of images released to stay within the budget or at the end of a level.
+     */
+    private static long evictions;
+
+    /**
+     * A decoded image together with its estimated size.
+     *
+     * @param image the decoded image
+     * @param bytes the estimated size in bytes
+     */
+    private record Entry(Image image, long bytes) {
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ImageRegistry() {
+    }
+
+    /**
+     * Retrieves an image, decoding it on first use.
+     *
+     * @param name the resource path, or a file name inside {@link #IMAGE_DIRECTORY}
+     * @return the decoded image
+     * @throws IllegalArgumentException if no such image resource exists
+     */
+    public static synchronized Image get(String name) {
+        String path = resolve(name);
+        Entry entry = cache.get(path);
+        if (entry != null) {
+            hits++;
+            return entry.image();
+        }
+
+        misses++;
+        URL url = ImageRegistry.class.getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("Image not found: " + path);
+        }
+        Image image = new Image(url.toExternalForm());
+        long bytes = (long) image.getWidth() * (long) image.getHeight() * 4L;
+        cache.put(path, new Entry(image, bytes));
+        cachedBytes += bytes;
+        GameLog.debug(LogCategory.UI, "Decoded image {} ({} bytes)", path, bytes);
+        evictOverBudget(path);
+        return image;
+    }
+
+    /**
+     * Decodes images ahead of time so the first node using them does not pay for it.
+     *
+     * @param names the resource paths or file names of the images
+     */
+    public static synchronized void preload(String... names) {
+        for (String name : names) {
+            get(name);
+        }
+    }
+
+    /**
+     * Registers and preloads the images belonging to a level that is starting.
+     * They are kept until {@link #releaseLevelImages} is called.
+     *
+     * @param names the resource paths or file names of the level's images
+     */
+    public static synchronized void beginLevel(String... names) {
+        for (String name : names) {
+            levelImages.add(resolve(name));
+        }
+        preload(names);
+    }
+
+    /**
+     * Releases the images registered by the previous level.
+     *
+     * <p>A level prepared in the background registers its images while the
+     * previous one is still running, so the images of the level being entered
+     * can be named to keep them cached and registered.</p>
+     *
+     * @param keep the resource paths or file names of images to keep
+     */
+    public static synchronized void releaseLevelImages(String... keep) {
+        Set<String> kept = new HashSet<>();
+        for (String name : keep) {
+            kept.add(resolve(name));
+        }
+        for (String path : levelImages) {
+            if (kept.contains(path)) {
+                continue;
+            }
+            Entry entry = cache.remove(path);
+            if (entry != null) {
+                cachedBytes -= entry.bytes();
+                evictions++;
+                GameLog.debug(LogCategory.UI, "Released level image {}", path);
+            }
+        }
+        levelImages.retainAll(kept);
+    }
+
+    /**
+     * Releases every cached image.
+     */
+    public static synchronized void clear() {
+        evictions += cache.size();
+        cache.clear();
+        levelImages.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Sets the limit on the estimated size of the cached images, evicting images if needed.
+     *
+     * @param bytes the new budget in bytes
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public static synchronized void setByteBudget(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Byte budget cannot be negative: " + bytes);
+        }
+        byteBudget = bytes;
+        evictOverBudget(null);
+    }
+
+    /**
+     * Retrieves the limit on the estimated size of the cached images.
+     *
+     * @return the budget in bytes
+     */
+    public static synchronized long getByteBudget() {
+        return byteBudget;
+    }
+
+    /**
+     * Retrieves the estimated size of the cached images.
+     *
+     * @return the cached size in bytes
+     */
+    public static synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * Retrieves the number of cached images.
+     *
+     * @return the number of images
+     */
+    public static synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Retrieves the number of requests served from the cache.
+     *
+     * @return the hit count
+     */
+    public static synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of requests that decoded an image.
+     *
+     * @return the miss count
+     */
+    public static synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of images released.
+     *
+     * @return the eviction count
+     */
+    public static synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Summarizes the cache's size and counters.
+     *
+     * @return a one-line description of the cache
+     */
+    public static synchronized String describe() {
+        return "ImageRegistry[images=" + cache.size() + ", bytes=" + cachedBytes + "/" + byteBudget
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+
+    /**
+     * Converts an image name into a resource path.
+     *
+     * @param name the resource path, or a file name inside {@link #IMAGE_DIRECTORY}
+     * @return the resource path
+     */
+    private static String resolve(String name) {
+        return name.startsWith("/") ? name : IMAGE_DIRECTORY + name;
+    }
+
+    /**
+     * Releases least recently used images until the cache fits its budget.
+     * Images of the current level and the image just requested are kept.
+     *
+     * @param keep the resource path that must stay cached, or {@code null}
+     */
+    private static void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, Entry>> iterator = cache.entrySet().iterator();
+        while (cachedBytes > byteBudget && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            String path = eldest.getKey();
+            if (path.equals(keep) || levelImages.contains(path)) {
+                continue;
+            }
+            iterator.remove();
+            cachedBytes -= eldest.getValue().bytes();
+            evictions++;
+            GameLog.debug(LogCategory.UI, "Evicted image {} to stay within budget", path);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.demo.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash used as a collision broadphase.
+ *
+ * <p>Items are identified by their index in the caller's collection and are
+ * inserted into every grid cell their axis-aligned bounding box overlaps.
+ * A query returns, in ascending order and without duplicates, the indices of
+ * all items sharing at least one cell with the queried box. Cells are hashed
+ * into a fixed-size bucket table, and all storage is reused between passes,
+ * so a steady-state pass performs no allocations.</p>
+ *
+ * <p>Crowded cells are the normal case late in a level, where homing shots
+ * pile up at the left edge, so putting a query's candidates in order must not
+ * cost more than collecting them. Short lists are insertion-sorted. Longer
+ * ones are read back in index order from the per-item query stamps when their
+ * indices are packed closely enough, and sorted with {@link Arrays#sort}
+ * otherwise. A query too large to walk cell by cell reads every item
+ * inserted in the pass from the stamps, already in order.</p>
+ */
+public class SpatialHashGrid {
+
+    /**
+     * The number of hash buckets. Must be a power of two.
+     */
+    private static final int TABLE_SIZE = 4096;
+
+    /**
+     * Candidate lists up to this length are put in order by insertion sort.
+     */
+    private static final int INSERTION_SORT_LIMIT = 16;
+
+    /**
+     * Longer candidate lists are read back from the query stamps when their
+     * indices span at most this many times the number of candidates.
+     */
+    private static final int STAMP_SCAN_SPAN = 4;
+
+    /**
+     * The maximum number of cells a single item may cover before it is
+     * treated as oversized and tested against every query instead.
+     */
+    private static final int MAX_CELLS_PER_ITEM = 64;
+
+    /**
+     * Marker for an empty bucket or the end of a bucket chain.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The reciprocal of the cell edge length.
+     */
+    private final double inverseCellSize;
+
+    /**
+     * The first entry of each bucket chain.
+     */
+    private final int[] bucketHeads = new int[TABLE_SIZE];
+
+    /**
+     * The pass in which each bucket was last written; stale buckets count as empty.
+     */
+    private final int[] bucketStamps = new int[TABLE_SIZE];
+
+    /**
+     * The current pass, incremented by {@link #clear()}.
+     */
+    private int passStamp = 1;
+
+    /**
+     * The next entry in the same bucket chain.
+     */
+    private int[] entryNext = new int[64];
+
+    /**
+     * The item index stored by each entry.
+     */
+    private int[] entryItem = new int[64];
+
+    /**
+     * The cell column of each entry, used to reject hash collisions.
+     */
+    private int[] entryCellX = new int[64];
+
+    /**
+     * The cell row of each entry, used to reject hash collisions.
+     */
+    private int[] entryCellY = new int[64];
+
+    /**
+     * The number of entries written in the current pass.
+     */
+    private int entryCount;
+
+    /**
+     * Items too large to be hashed cell by cell.
+     */
+    private int[] oversizedItems = new int[8];
+
+    /**
+     * The number of oversized items in the current pass.
+     */
+    private int oversizedCount;
+
+    /**
+     * The query in which each item was last reported, used to remove duplicates.
+     */
+    private int[] itemQueryStamps = new int[64];
+
+    /**
+     * The current query, incremented by every call to {@link #query}.
+     */
+    private int queryStamp;
+
+    /**
+     * The pass in which each item was last inserted.
+     */
+    private int[] itemPassStamps = new int[64];
+
+    /**
+     * One more than the largest item index inserted in the current pass.
+     */
+    private int itemLimit;
+
+    /**
+     * Constructs a grid with the specified cell edge length.
+     *
+     * @param cellSize the edge length of a grid cell, in pixels
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public SpatialHashGrid(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.inverseCellSize = 1.0 / cellSize;
+    }
+
+    /**
+     * Removes all items from the grid in constant time.
+     */
+    public void clear() {
+        passStamp++;
+        if (passStamp == 0) {
+            Arrays.fill(bucketStamps, 0);
+            Arrays.fill(itemPassStamps, 0);
+            passStamp = 1;
+        }
+        entryCount = 0;
+        oversizedCount = 0;
+        itemLimit = 0;
+    }
+
+    /**
+     * Inserts an item into every cell overlapped by its bounding box.
+     *
+     * @param item the non-negative index identifying the item
+     * @param minX the minimum X coordinate of the item's bounds
+     * @param minY the minimum Y coordinate of the item's bounds
+     * @param maxX the maximum X coordinate of the item's bounds
+     * @param maxY the maximum Y coordinate of the item's bounds
+     */
+    public void insert(int item, double minX, double minY, double maxX, double maxY) {
+        ensureItemCapacity(item + 1);
+        itemPassStamps[item] = passStamp;
+        itemLimit = Math.max(itemLimit, item + 1);
+
+        int cellMinX = cell(minX);
+        int cellMinY = cell(minY);
+        int cellMaxX = cell(maxX);
+        int cellMaxY = cell(maxY);
+
+        if (isOversized(cellMinX, cellMinY, cellMaxX, cellMaxY)) {
+            if (oversizedCount == oversizedItems.length) {
+                oversizedItems = Arrays.copyOf(oversizedItems, oversizedCount * 2);
+            }
+            oversizedItems[oversizedCount++] = item;
+            return;
+        }
+
+        for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+            for (int cellY = cellMinY; cellY <= cellMaxY; cellY++) {
+                addEntry(item, cellX, cellY);
+            }
+        }
+    }
+
+    /**
+     * Collects the items that share at least one cell with the given bounding box.
+     *
+     * <p>The returned indices are unique and sorted in ascending order, so callers
+     * visit candidates in the same order as a plain nested loop would.</p>
+     *
+     * @param minX the minimum X coordinate of the queried bounds
+     * @param minY the minimum Y coordinate of the queried bounds
+     * @param maxX the maximum X coordinate of the queried bounds
+     * @param maxY the maximum Y coordinate of the queried bounds
+     * @param out  the buffer receiving candidate indices; must hold every inserted item
+     * @return the number of candidates written to {@code out}
+     */
+    public int query(double minX, double minY, double maxX, double maxY, int[] out) {
+        queryStamp++;
+        if (queryStamp == 0) {
+            Arrays.fill(itemQueryStamps, 0);
+            queryStamp = 1;
+        }
+
+        int cellMinX = cell(minX);
+        int cellMinY = cell(minY);
+        int cellMaxX = cell(maxX);
+        int cellMaxY = cell(maxY);
+
+        int count = 0;
+        if (isOversized(cellMinX, cellMinY, cellMaxX, cellMaxY)) {
+            // Every item is a candidate; reading them by index is cheaper than walking a huge cell range
+            for (int item = 0; item < itemLimit; item++) {
+                if (itemPassStamps[item] == passStamp) {
+                    itemQueryStamps[item] = queryStamp;
+                    out[count++] = item;
+                }
+            }
+            return count;
+        }
+
+        for (int i = 0; i < oversizedCount; i++) {
+            count = report(oversizedItems[i], out, count);
+        }
+
+        for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+            for (int cellY = cellMinY; cellY <= cellMaxY; cellY++) {
+                int bucket = bucket(cellX, cellY);
+                if (bucketStamps[bucket] != passStamp) {
+                    continue;
+                }
+                for (int entry = bucketHeads[bucket]; entry != NONE; entry = entryNext[entry]) {
+                    if (entryCellX[entry] == cellX && entryCellY[entry] == cellY) {
+                        count = report(entryItem[entry], out, count);
+                    }
+                }
+            }
+        }
+
+        putInOrder(out, count);
+        return count;
+    }
+
+    /**
+     * Records an item in the query output unless it has already been reported.
+     *
+     * @param item  the item index
+     * @param out   the output buffer
+     * @param count the number of items already written
+     * @return the updated number of items written
+     */
+    private int report(int item, int[] out, int count) {
+        if (itemQueryStamps[item] == queryStamp) {
+            return count;
+        }
+        itemQueryStamps[item] = queryStamp;
+        out[count] = item;
+        return count + 1;
+    }
+
+    /**
+     * Appends an entry for an item to the chain of the given cell.
+     *
+     * @param item  the item index
+     * @param cellX the cell column
+     * @param cellY the cell row
+     */
+    private void addEntry(int item, int cellX, int cellY) {
+        if (entryCount == entryItem.length) {
+            int newLength = entryCount * 2;
+            entryNext = Arrays.copyOf(entryNext, newLength);
+            entryItem = Arrays.copyOf(entryItem, newLength);
+            entryCellX = Arrays.copyOf(entryCellX, newLength);
+            entryCellY = Arrays.copyOf(entryCellY, newLength);
+        }
+
+        int bucket = bucket(cellX, cellY);
+        if (bucketStamps[bucket] != passStamp) {
+            bucketStamps[bucket] = passStamp;
+            bucketHeads[bucket] = NONE;
+        }
+
+        int entry = entryCount++;
+        entryItem[entry] = item;
+        entryCellX[entry] = cellX;
+        entryCellY[entry] = cellY;
+        entryNext[entry] = bucketHeads[bucket];
+        bucketHeads[bucket] = entry;
+    }
+
+    /**
+     * Grows the per-item bookkeeping so the given number of items can be tracked.
+     *
+     * @param itemCount the number of items that must fit
+     */
+    private void ensureItemCapacity(int itemCount) {
+        if (itemCount > itemQueryStamps.length) {
+            int newLength = Math.max(itemCount, itemQueryStamps.length * 2);
+            itemQueryStamps = Arrays.copyOf(itemQueryStamps, newLength);
+            itemPassStamps = Arrays.copyOf(itemPassStamps, newLength);
+        }
+    }
+
+    /**
+     * Converts a coordinate to a cell index.
+     *
+     * @param coordinate the world coordinate
+     * @return the index of the cell containing the coordinate
+     */
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    /**
+     * Checks whether a cell range is too large to be visited cell by cell.
+     *
+     * @param cellMinX the first cell column
+     * @param cellMinY the first cell row
+     * @param cellMaxX the last cell column
+     * @param cellMaxY the last cell row
+     * @return {@code true} if the range covers more than {@link #MAX_CELLS_PER_ITEM} cells
+     */
+    private static boolean isOversized(int cellMinX, int cellMinY, int cellMaxX, int cellMaxY) {
+        long columns = (long) cellMaxX - cellMinX + 1;
+        long rows = (long) cellMaxY - cellMinY + 1;
+        return columns <= 0 || rows <= 0 || columns * rows > MAX_CELLS_PER_ITEM;
+    }
+
+    /**
+     * Hashes a cell coordinate to a bucket index.
+     *
+     * @param cellX the cell column
+     * @param cellY the cell row
+     * @return the bucket index
+     */
+    private static int bucket(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (TABLE_SIZE - 1);
+    }
+
+    /**
+     * Puts the candidates of the current query in ascending order without allocating.
+     *
+     * @param out   the candidates, each stamped with the current query
+     * @param count the number of candidates
+     */
+    private void putInOrder(int[] out, int count) {
+        if (count <= INSERTION_SORT_LIMIT) {
+            insertionSort(out, count);
+            return;
+        }
+        int min = out[0];
+        int max = out[0];
+        for (int i = 1; i < count; i++) {
+            min = Math.min(min, out[i]);
+            max = Math.max(max, out[i]);
+        }
+        if ((long) max - min < (long) count * STAMP_SCAN_SPAN) {
+            // Every stamped item in the span is a candidate, so reading them back yields the sorted list
+            int written = 0;
+            for (int item = min; item <= max; item++) {
+                if (itemQueryStamps[item] == queryStamp) {
+                    out[written++] = item;
+                }
+            }
+        } else {
+            Arrays.sort(out, 0, count);
+        }
+    }
+
+    /**
+     * Sorts the first {@code count} values in place by insertion, for short lists.
+     *
+     * @param values the values to sort
+     * @param count  the number of values to sort
+     */
+    private static void insertionSort(int[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            int value = values[i];
+            int j = i - 1;
+            while (j >= 0 && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+}
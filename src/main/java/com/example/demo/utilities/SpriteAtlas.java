@@ -0,0 +1,241 @@
+package com.example.demo.utilities;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The game's sprites, packed into one shared image.
+ *
+ * <p>Sprite nodes show the shared atlas image through a viewport rectangle
+ * instead of holding an image each. The renderer then uploads and binds a
+ * single texture for all of them, and the game decodes one image at startup
+ * instead of one per sprite. Backgrounds and full-screen overlays are too
+ * large to share a texture and stay separate.</p>
+ *
+ * <p>The atlas is built by {@link SpriteAtlasPacker} on first launch and cached
+ * in {@link #CACHE_DIRECTORY}. Later launches reuse the cache as long as its
+ * fingerprint matches the current sprites. If the atlas cannot be built, it is
+ * empty, and callers fall back to the individual images.</p>
+ */
+public final class SpriteAtlas {
+
+    /**
+     * The sprites packed into the atlas, as file names inside {@link ImageRegistry#IMAGE_DIRECTORY}.
+     */
+    public static final List<String> SPRITES = List.of(
+            "userplane.png", "enemyplane.png", "bossplane.png", "userfire.png",
+            "enemyFire.png", "fireball.png", "shield.png", "heart.png");
+
+    /**
+     * The directory holding the cached atlas.
+     */
+    public static final Path CACHE_DIRECTORY = Path.of("config", "atlas");
+
+    /**
+     * The file name of the cached atlas image.
+     */
+    public static final String IMAGE_FILE = "sprites.png";
+
+    /**
+     * The file name of the cached atlas manifest.
+     */
+    public static final String MANIFEST_FILE = "sprites.properties";
+
+    /**
+     * The atlas shared by every sprite node, loaded on first use.
+     */
+    private static SpriteAtlas defaultAtlas;
+
+    /**
+     * The atlas image, or {@code null} if the atlas is empty.
+     */
+    private final Image image;
+
+    /**
+     * The viewport of each sprite, keyed by file name.
+     */
+    private final Map<String, Rectangle2D> regions;
+
+    /**
+     * Constructs an atlas from an image and its sprite rectangles.
+     *
+     * @param image   the atlas image, or {@code null} for an empty atlas
+     * @param regions the viewport of each sprite
+     */
+    private SpriteAtlas(Image image, Map<String, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Retrieves the shared atlas, loading or building it on first use.
+     *
+     * @return the shared atlas
+     */
+    public static synchronized SpriteAtlas getDefault() {
+        if (defaultAtlas == null) {
+            defaultAtlas = load(CACHE_DIRECTORY);
+        }
+        return defaultAtlas;
+    }
+
+    /**
+     * Loads the atlas cached in a directory, rebuilding and re-caching it when it is
+     * missing or out of date.
+     *
+     * @param directory the cache directory
+     * @return the atlas, or an empty atlas if the sprites cannot be packed
+     */
+    static SpriteAtlas load(Path directory) {
+        Path imageFile = directory.resolve(IMAGE_FILE);
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        try {
+            String fingerprint = SpriteAtlasPacker.fingerprint(SPRITES);
+            SpriteAtlas cached = readCache(imageFile, manifestFile, fingerprint);
+            if (cached != null) {
+                GameLog.info(LogCategory.UI, "Loaded cached sprite atlas with {} sprites", cached.regions.size());
+                return cached;
+            }
+
+            SpriteAtlasPacker.Result result = SpriteAtlasPacker.pack(SPRITES);
+            try {
+                SpriteAtlasPacker.write(result, imageFile, manifestFile);
+            } catch (IOException e) {
+                GameLog.warn(LogCategory.UI, "Could not cache sprite atlas: {}", e.getMessage());
+            }
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(result.image(), "png", png);
+            Map<String, Rectangle2D> regions = new HashMap<>();
+            result.regions().forEach((name, region) -> regions.put(name, toViewport(region)));
+            GameLog.info(LogCategory.UI, "Packed sprite atlas with {} sprites ({}x{})",
+                    regions.size(), result.image().getWidth(), result.image().getHeight());
+            return new SpriteAtlas(new Image(new ByteArrayInputStream(png.toByteArray())), regions);
+        } catch (IOException | RuntimeException e) {
+            GameLog.warn(LogCategory.UI, "Sprite atlas unavailable, using individual images: {}", e.getMessage());
+            return new SpriteAtlas(null, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Reads a cached atlas if its fingerprint matches.
+     *
+     * @param imageFile    the cached atlas image
+     * @param manifestFile the cached manifest
+     * @param fingerprint  the fingerprint of the current sprites
+     * @return the cached atlas, or {@code null} if it is missing, stale or incomplete
+     * @throws IOException if the cache exists but cannot be read
+     */
+    private static SpriteAtlas readCache(Path imageFile, Path manifestFile, String fingerprint) throws IOException {
+        if (!Files.isRegularFile(imageFile) || !Files.isRegularFile(manifestFile)) {
+            return null;
+        }
+        Properties manifest = new Properties();
+        try (InputStream input = Files.newInputStream(manifestFile)) {
+            manifest.load(input);
+        }
+        if (!fingerprint.equals(manifest.getProperty(SpriteAtlasPacker.FINGERPRINT_KEY))) {
+            return null;
+        }
+
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        for (String name : SPRITES) {
+            String value = manifest.getProperty(name);
+            if (value == null) {
+                return null;
+            }
+            String[] parts = value.split(",");
+            if (parts.length != 4) {
+                return null;
+            }
+            regions.put(name, new Rectangle2D(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                    Integer.parseInt(parts[2].trim()), Integer.parseInt(parts[3].trim())));
+        }
+        Image image = new Image(imageFile.toUri().toString());
+        if (image.isError()) {
+            return null;
+        }
+        return new SpriteAtlas(image, regions);
+    }
+
+    /**
+     * Converts a packed rectangle into a viewport.
+     *
+     * @param region the packed rectangle
+     * @return the viewport
+     */
+    private static Rectangle2D toViewport(Rectangle region) {
+        return new Rectangle2D(region.x, region.y, region.width, region.height);
+    }
+
+    /**
+     * Points an image view at a sprite in the atlas.
+     *
+     * @param view the view to update
+     * @param name the sprite file name
+     * @return {@code true} if the sprite is in the atlas; otherwise the view is left unchanged
+     */
+    public boolean applyTo(ImageView view, String name) {
+        Rectangle2D region = regions.get(name);
+        if (region == null) {
+            return false;
+        }
+        view.setImage(image);
+        view.setViewport(region);
+        return true;
+    }
+
+    /**
+     * Checks whether a sprite is in the atlas.
+     *
+     * @param name the sprite file name
+     * @return {@code true} if the atlas contains the sprite
+     */
+    public boolean contains(String name) {
+        return regions.containsKey(name);
+    }
+
+    /**
+     * Retrieves the viewport of a sprite.
+     *
+     * @param name the sprite file name
+     * @return the viewport, or {@code null} if the sprite is not in the atlas
+     */
+    public Rectangle2D getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Retrieves the shared atlas image.
+     *
+     * @return the atlas image, or {@code null} if the atlas is empty
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Retrieves the number of sprites in the atlas.
+     *
+     * @return the sprite count
+     */
+    public int getSpriteCount() {
+        return regions.size();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.demo.utilities;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+/**
+ * Packs individual sprite images into one atlas image and a manifest of sub-rectangles.
+ *
+ * <p>Sprites are placed on shelves, tallest first, with a transparent gap
+ * around each one so filtering at the edges never picks up a neighbour's
+ * pixels. The atlas width is capped and its height rounded up to a power of
+ * two. The manifest stores each sprite's rectangle as
+ * {@code name=x,y,width,height}, plus a fingerprint of the source images, so
+ * a cached atlas can be checked against the current resources.</p>
+ *
+ * <p>The packer uses only ImageIO and needs no JavaFX. It runs on first launch
+ * through {@link SpriteAtlas}, or ahead of time with {@link #main}.</p>
+ */
+public final class SpriteAtlasPacker {
+
+    /**
+     * The transparent gap left around each sprite, in pixels.
+     */
+    public static final int PADDING = 2;
+
+    /**
+     * The maximum width of the atlas, in pixels.
+     */
+    public static final int MAX_WIDTH = 2048;
+
+    /**
+     * The manifest key holding the fingerprint of the source images.
+     */
+    public static final String FINGERPRINT_KEY = "@fingerprint";
+
+    /**
+     * Bumped whenever the packing layout changes, so older cached atlases are rebuilt.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The result of packing: the atlas image and the rectangle of each sprite.
+     *
+     * @param image       the atlas image
+     * @param regions     the rectangle of each sprite, keyed by file name
+     * @param fingerprint the fingerprint of the source images
+     */
+    public record Result(BufferedImage image, Map<String, Rectangle> regions, String fingerprint) {
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private SpriteAtlasPacker() {
+    }
+
+    /**
+     * Computes a fingerprint of the source images, covering their bytes and the packing format.
+     *
+     * @param names the sprite file names inside {@link ImageRegistry#IMAGE_DIRECTORY}
+     * @return the fingerprint as a hexadecimal string
+     * @throws IOException if a sprite cannot be read
+     */
+    public static String fingerprint(List<String> names) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(FORMAT_VERSION);
+        crc.update(PADDING);
+        for (String name : names) {
+            crc.update(name.getBytes(StandardCharsets.UTF_8));
+            try (InputStream input = open(name)) {
+                crc.update(input.readAllBytes());
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Packs the sprites into a single atlas.
+     *
+     * @param names the sprite file names inside {@link ImageRegistry#IMAGE_DIRECTORY}
+     * @return the atlas and its manifest
+     * @throws IOException if a sprite cannot be read or is wider than the atlas
+     */
+    public static Result pack(List<String> names) throws IOException {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        for (String name : names) {
+            try (InputStream input = open(name)) {
+                BufferedImage sprite = ImageIO.read(input);
+                if (sprite == null) {
+                    throw new IOException("Unsupported image format: " + name);
+                }
+                if (sprite.getWidth() + 2 * PADDING > MAX_WIDTH) {
+                    throw new IOException("Sprite is wider than the atlas: " + name);
+                }
+                sprites.put(name, sprite);
+            }
+        }
+
+        List<String> order = new ArrayList<>(sprites.keySet());
+        order.sort(Comparator.comparingInt((String name) -> sprites.get(name).getHeight()).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        // Shelf packing: fill a row left to right, then start a new row under the tallest sprite
+        Map<String, Rectangle> regions = new LinkedHashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        int usedWidth = 0;
+        for (String name : order) {
+            BufferedImage sprite = sprites.get(name);
+            int cellWidth = sprite.getWidth() + 2 * PADDING;
+            int cellHeight = sprite.getHeight() + 2 * PADDING;
+            if (x + cellWidth > MAX_WIDTH) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            regions.put(name, new Rectangle(x + PADDING, y + PADDING, sprite.getWidth(), sprite.getHeight()));
+            x += cellWidth;
+            usedWidth = Math.max(usedWidth, x);
+            shelfHeight = Math.max(shelfHeight, cellHeight);
+        }
+        int height = Integer.highestOneBit(Math.max(1, y + shelfHeight - 1)) << 1;
+
+        BufferedImage atlas = new BufferedImage(Math.max(1, usedWidth), height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlas.createGraphics();
+        try {
+            for (Map.Entry<String, Rectangle> entry : regions.entrySet()) {
+                Rectangle region = entry.getValue();
+                graphics.drawImage(sprites.get(entry.getKey()), region.x, region.y, null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return new Result(atlas, regions, fingerprint(names));
+    }
+
+    /**
+     * Writes an atlas image and its manifest.
+     *
+     * @param result       the packed atlas
+     * @param imageFile    the PNG file to write
+     * @param manifestFile the manifest file to write
+     * @throws IOException if either file cannot be written
+     */
+    public static void write(Result result, Path imageFile, Path manifestFile) throws IOException {
+        if (imageFile.getParent() != null) {
+            Files.createDirectories(imageFile.getParent());
+        }
+        if (manifestFile.getParent() != null) {
+            Files.createDirectories(manifestFile.getParent());
+        }
+        ImageIO.write(result.image(), "png", imageFile.toFile());
+
+        Properties manifest = new Properties();
+        manifest.setProperty(FINGERPRINT_KEY, result.fingerprint());
+        for (Map.Entry<String, Rectangle> entry : result.regions().entrySet()) {
+            Rectangle region = entry.getValue();
+            manifest.setProperty(entry.getKey(), region.x + "," + region.y + "," + region.width + "," + region.height);
+        }
+        try (OutputStream output = Files.newOutputStream(manifestFile)) {
+            manifest.store(output, "Sprite atlas manifest: name=x,y,width,height");
+        }
+    }
+
+    /**
+     * Opens a sprite resource.
+     *
+     * @param name the sprite file name inside {@link ImageRegistry#IMAGE_DIRECTORY}
+     * @return the resource stream
+     * @throws IOException if the resource does not exist
+     */
+    private static InputStream open(String name) throws IOException {
+        InputStream input = SpriteAtlasPacker.class.getResourceAsStream(ImageRegistry.IMAGE_DIRECTORY + name);
+        if (input == null) {
+            throw new IOException("Sprite not found: " + name);
+        }
+        return input;
+    }
+
+    /**
+     * Packs the game's sprites ahead of time, for example as a build step.
+     *
+     * @param args optionally, the directory to write the atlas to; defaults to the atlas cache directory
+     * @throws IOException if packing or writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = args.length > 0 ? Path.of(args[0]) : SpriteAtlas.CACHE_DIRECTORY;
+        Result result = pack(SpriteAtlas.SPRITES);
+        write(result, directory.resolve(SpriteAtlas.IMAGE_FILE), directory.resolve(SpriteAtlas.MANIFEST_FILE));
+        GameLog.info(LogCategory.UI, "Packed {} sprites into {} at {}", result.regions().size(),
+                result.image().getWidth() + "x" + result.image().getHeight(), directory.toAbsolutePath());
+        GameLog.flush();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.utilities;
+
+/**
+ * Tests whether two moving sprites touch at any point of a step, not just at its end.
+ *
+ * <p>Fast movers, such as user projectiles covering 30 pixels a step, could
+ * otherwise pass through a thin target between two steps. The second sprite's
+ * position relative to the first moves in a straight line over the step.
+ * The slab method first gives the span of the step during which the two
+ * boxes overlap. The step is then cut into sub-steps of at most
+ * {@link #SAMPLE_SPACING} pixels of relative movement, and at each sub-step
+ * inside that span the boxes and then the alpha masks are compared, so the
+ * result is exactly what testing every sub-step in turn would give, at the
+ * cost of only those that can hit.</p>
+ *
+ * <p>Both the collision manager and the headless simulation use this class,
+ * so they agree on every fast pair. It needs no JavaFX.</p>
+ */
+public final class SweptOverlap {
+
+    /**
+     * Sprites moving more than this many pixels along either axis in one step are tested over the whole step.
+     */
+    public static final double THRESHOLD = 4.0;
+
+    /**
+     * The largest relative movement, in pixels, between two sub-steps at which a pair is compared.
+     */
+    public static final double SAMPLE_SPACING = 1.0;
+
+    /**
+     * The result of a pair whose boxes never overlap at a sub-step.
+     */
+    public static final int MISS = 0;
+
+    /**
+     * The result of a pair whose boxes overlap at some sub-step but whose opaque pixels never touch.
+     */
+    public static final int MASK_MISS = 1;
+
+    /**
+     * The result of a pair whose opaque pixels touch at some sub-step.
+     */
+    public static final int HIT = 2;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private SweptOverlap() {
+    }
+
+    /**
+     * Counts the sub-steps a step with the given relative movement is cut into.
+     *
+     * @param velocityX the first sprite's movement along X relative to the second over the step
+     * @param velocityY the first sprite's movement along Y relative to the second over the step
+     * @return the number of sub-steps, at least 1
+     */
+    public static int subSteps(double velocityX, double velocityY) {
+        return Math.max(1, (int) Math.ceil(Math.max(Math.abs(velocityX), Math.abs(velocityY)) / SAMPLE_SPACING));
+    }
+
+    /**
+     * Tests a pair over a whole step.
+     *
+     * <p>Offsets place the second sprite's box relative to the first's. At
+     * sub-step {@code k} of {@code n} the offset is the start offset minus
+     * {@code velocity * k / n}; sub-step {@code n} is the end of the step. Boxes
+     * overlap with edges included, and masks are placed at the offset rounded
+     * to whole pixels; a missing mask leaves the box test standing.</p>
+     *
+     * @param firstMask    the first sprite's alpha mask, or {@code null}
+     * @param firstWidth   the width of the first sprite's box
+     * @param firstHeight  the height of the first sprite's box
+     * @param secondMask   the second sprite's alpha mask, or {@code null}
+     * @param secondWidth  the width of the second sprite's box
+     * @param secondHeight the height of the second sprite's box
+     * @param startOffsetX the X offset of the second box from the first at the start of the step
+     * @param startOffsetY the Y offset of the second box from the first at the start of the step
+     * @param velocityX    the first sprite's movement along X relative to the second over the step
+     * @param velocityY    the first sprite's movement along Y relative to the second over the step
+     * @return {@link #HIT}, {@link #MASK_MISS} or {@link #MISS}
+     */
+    public static int test(AlphaMask firstMask, double firstWidth, double firstHeight,
+                           AlphaMask secondMask, double secondWidth, double secondHeight,
+                           double startOffsetX, double startOffsetY, double velocityX, double velocityY) {
+        // The boxes overlap along an axis while the offset lies within [-secondSize, firstSize]
+        double enter = 0.0;
+        double exit = 1.0;
+        if (velocityX == 0.0) {
+            if (startOffsetX > firstWidth || startOffsetX < -secondWidth) {
+                return MISS;
+            }
+        } else {
+            double t1 = (startOffsetX - firstWidth) / velocityX;
+            double t2 = (startOffsetX + secondWidth) / velocityX;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (velocityY == 0.0) {
+            if (startOffsetY > firstHeight || startOffsetY < -secondHeight) {
+                return MISS;
+            }
+        } else {
+            double t1 = (startOffsetY - firstHeight) / velocityY;
+            double t2 = (startOffsetY + secondHeight) / velocityY;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (enter > exit) {
+            return MISS;
+        }
+
+        // Widened by a sub-step on each side, so rounding in the slab cannot skip a sub-step that overlaps
+        int steps = subSteps(velocityX, velocityY);
+        int first = Math.max(0, (int) Math.floor(enter * steps) - 1);
+        int last = Math.min(steps, (int) Math.ceil(exit * steps) + 1);
+        boolean boxesMet = false;
+        for (int k = first; k <= last; k++) {
+            double t = (double) k / steps;
+            double offsetX = startOffsetX - velocityX * t;
+            double offsetY = startOffsetY - velocityY * t;
+            if (offsetX > firstWidth || offsetX < -secondWidth || offsetY > firstHeight || offsetY < -secondHeight) {
+                continue;
+            }
+            boxesMet = true;
+            if (firstMask == null || secondMask == null
+                    || firstMask.overlaps(secondMask, (int) Math.round(offsetX), (int) Math.round(offsetY))) {
+                return HIT;
+            }
+        }
+        return boxesMet ? MASK_MISS : MISS;
+    }
+}
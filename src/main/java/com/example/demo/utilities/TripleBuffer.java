@@ -0,0 +1,103 @@
+package com.example.demo.utilities;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the latest of a stream of values from one writer thread to one reader thread without locks.
+ *
+ * <p>Three slots are allocated up front. The writer owns one and fills it,
+ * the reader owns another and reads it, and the third sits in between. A
+ * publish swaps the writer's slot with the middle one, and a read swaps the
+ * middle one with the reader's when something new was published. Each swap
+ * is a single atomic exchange, so neither side ever waits for the other, and
+ * a slot is never written while the reader can see it. A reader that falls
+ * behind skips straight to the newest value; a writer that runs ahead simply
+ * overwrites values nobody read.</p>
+ *
+ * <p>Slots are reused rather than reallocated, so the values are mutable
+ * objects that the writer overwrites in place. Everything the writer stores
+ * in a slot before {@link #publish()} is visible to the reader after the
+ * {@link #getLatest()} that returns it.</p>
+ *
+ * @param <T> the type of the values
+ */
+public final class TripleBuffer<T> {
+
+    /**
+     * The bits of {@link #middle} holding a slot index.
+     */
+    private static final int INDEX_MASK = 3;
+
+    /**
+     * The bit of {@link #middle} set when the middle slot holds a value the reader has not taken.
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * The three slots.
+     */
+    private final T[] slots;
+
+    /**
+     * The index of the middle slot, with {@link #FRESH} set when it holds an unread value.
+     */
+    private final AtomicInteger middle = new AtomicInteger(2);
+
+    /**
+     * The index of the slot the writer fills. Touched only by the writer.
+     */
+    private int writeIndex;
+
+    /**
+     * The index of the slot the reader reads. Touched only by the reader.
+     */
+    private int readIndex = 1;
+
+    /**
+     * Constructs a buffer, allocating its three slots.
+     *
+     * @param factory creates each slot
+     */
+    @SuppressWarnings("unchecked")
+    public TripleBuffer(Supplier<? extends T> factory) {
+        slots = (T[]) new Object[] {factory.get(), factory.get(), factory.get()};
+    }
+
+    /**
+     * Retrieves the slot the writer fills next. Called only from the writer thread.
+     *
+     * @return the writer's slot
+     */
+    public T getWriteSlot() {
+        return slots[writeIndex];
+    }
+
+    /**
+     * Publishes the writer's slot and hands the writer a free one. Called only from the writer thread.
+     */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Retrieves the most recently published value. Called only from the reader thread.
+     *
+     * @return the latest value, or the reader's current slot if nothing new was published
+     */
+    public T getLatest() {
+        if ((middle.get() & FRESH) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return slots[readIndex];
+    }
+
+    /**
+     * Checks whether a value was published since the reader last took one.
+     *
+     * @return {@code true} if {@link #getLatest()} would return a new value
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
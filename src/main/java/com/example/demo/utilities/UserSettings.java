@@ -1,5 +1,8 @@
 package com.example.demo.utilities;
 
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -36,7 +39,7 @@ public class UserSettings {
         try (FileInputStream input = new FileInputStream(SETTINGS_FILE_PATH)) {
             properties.load(input);
         } catch (IOException e) {
-            System.out.println("Unable to load settings file: " + e.getMessage());
+            GameLog.warn(LogCategory.SETTINGS, "Unable to load settings file: {}", e.getMessage());
         }
     }
 
@@ -74,7 +77,7 @@ public class UserSettings {
      */
     public static String getDisplayMode() {
         String mode = properties.getProperty("displayMode", "Windowed");
-        System.out.println("Display Mode Retrieved: " + mode);
+        GameLog.debug(LogCategory.SETTINGS, "Display Mode Retrieved: {}", mode);
         return mode;
     }
 
@@ -85,13 +88,13 @@ public class UserSettings {
      */
     public static void setDisplayMode(String mode) {
         properties.setProperty("displayMode", mode);
-        System.out.println("Display Mode Set to: " + mode);
+        GameLog.info(LogCategory.SETTINGS, "Display Mode Set to: {}", mode);
 
         try (FileOutputStream output = new FileOutputStream(SETTINGS_FILE_PATH)) {
             properties.store(output, "User Settings");
-            System.out.println("Settings saved successfully.");
+            GameLog.debug(LogCategory.SETTINGS, "Settings saved successfully.");
         } catch (IOException e) {
-            System.out.println("Unable to save settings: " + e.getMessage());
+            GameLog.warn(LogCategory.SETTINGS, "Unable to save settings: {}", e.getMessage());
         }
     }
 }
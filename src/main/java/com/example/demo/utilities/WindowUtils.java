@@ -1,5 +1,8 @@
 package com.example.demo.utilities;
 
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
 import javafx.animation.PauseTransition;
 import javafx.geometry.Rectangle2D;
 import javafx.stage.Screen;
@@ -19,16 +22,16 @@ public class WindowUtils {
      */
     public static void applyFullscreen(Stage stage, boolean fullscreen) {
         if (stage == null) {
-            System.err.println("Stage is null. Cannot apply fullscreen.");
+            GameLog.warn(LogCategory.SETTINGS, "Stage is null. Cannot apply fullscreen.");
             return;
         }
         PauseTransition delay = new PauseTransition(Duration.millis(100)); // Allow JavaFX to initialize
         delay.setOnFinished(e -> {
             try {
                 stage.setFullScreen(fullscreen);
-                System.out.println("Fullscreen set to: " + fullscreen);
+                GameLog.debug(LogCategory.SETTINGS, "Fullscreen set to: {}", fullscreen);
             } catch (NullPointerException ex) {
-                System.err.println("Failed to apply fullscreen: " + ex.getMessage());
+                GameLog.warn(LogCategory.SETTINGS, "Failed to apply fullscreen: {}", ex.getMessage());
             }
         });
         delay.play();
@@ -73,7 +76,7 @@ public class WindowUtils {
      * @param mode  The display mode to apply ("Fullscreen", "Windowed Borderless", or "Windowed").
      */
     public static void setStageDisplayMode(Stage stage, String mode) {
-        System.out.println("Applying display mode: " + mode);
+        GameLog.info(LogCategory.SETTINGS, "Applying display mode: {}", mode);
 
         UserSettings.setTransitioning(true);
         try {
@@ -97,7 +100,7 @@ public class WindowUtils {
                     break;
             }
         } catch (Exception e) {
-            System.err.println("Failed to set display mode: " + e.getMessage());
+            GameLog.warn(LogCategory.SETTINGS, "Failed to set display mode: {}", e.getMessage());
         } finally {
             UserSettings.setTransitioning(false);
         }
@@ -2,6 +2,7 @@ module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires jdk.jfr;
 
 
     opens com.example.demo.controller to javafx.fxml;
@@ -10,6 +11,9 @@ module com.example.demo {
     opens com.example.demo.utilities;
     opens com.example.demo.projectiles;
     opens com.example.demo.levels;
+    opens com.example.demo.logging;
+    opens com.example.demo.simulation;
+    opens com.example.demo.diagnostics;
 
     exports com.example.demo.controller;
     exports com.example.demo.ui;
@@ -17,4 +21,7 @@ module com.example.demo {
     exports com.example.demo.utilities;
     exports com.example.demo.projectiles;
     exports com.example.demo.levels;
+    exports com.example.demo.logging;
+    exports com.example.demo.simulation;
+    exports com.example.demo.diagnostics;
 }
\ No newline at end of file
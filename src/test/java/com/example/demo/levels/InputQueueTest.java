@@ -0,0 +1,82 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the ordering, capacity and clearing of {@link InputQueue} through its writer and reader calls, on one thread.
+ */
+class InputQueueTest {
+
+    /**
+     * Checks that commands come out in the order they went in, across many wraps of the ring.
+     */
+    @Test
+    void pollReturnsCommandsInOfferOrder() {
+        InputQueue queue = new InputQueue();
+        assertNull(queue.poll());
+        InputCommand[] commands = InputCommand.values();
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            int batch = 1 + round * 5;
+            for (int i = 0; i < batch; i++) {
+                assertTrue(queue.offer(commands[(round + i) % commands.length]));
+            }
+            assertEquals(batch, queue.size());
+            for (int i = 0; i < batch; i++) {
+                assertSame(commands[(round + i) % commands.length], queue.poll(), "round " + round + ", command " + i);
+            }
+            assertNull(queue.poll());
+            assertEquals(0, queue.size());
+            next += batch;
+        }
+        assertTrue(next > InputQueue.CAPACITY, "The ring should have wrapped");
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    /**
+     * Checks that a full ring drops and counts further commands, keeps the ones it holds, and accepts more once read.
+     */
+    @Test
+    void fullQueueDropsAndCounts() {
+        InputQueue queue = new InputQueue();
+        for (int i = 0; i < InputQueue.CAPACITY; i++) {
+            assertTrue(queue.offer(InputCommand.MOVE_UP));
+        }
+        assertFalse(queue.offer(InputCommand.FIRE));
+        assertFalse(queue.offer(InputCommand.FIRE));
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(InputQueue.CAPACITY, queue.size());
+
+        assertSame(InputCommand.MOVE_UP, queue.poll());
+        assertTrue(queue.offer(InputCommand.MOVE_DOWN));
+        for (int i = 1; i < InputQueue.CAPACITY; i++) {
+            assertSame(InputCommand.MOVE_UP, queue.poll());
+        }
+        assertSame(InputCommand.MOVE_DOWN, queue.poll(), "The dropped commands must not appear");
+        assertNull(queue.poll());
+        assertEquals(2, queue.getDroppedCount());
+    }
+
+    /**
+     * Checks that clearing discards every queued command and leaves the queue usable.
+     */
+    @Test
+    void clearDiscardsQueuedCommands() {
+        InputQueue queue = new InputQueue();
+        queue.offer(InputCommand.MOVE_LEFT);
+        queue.offer(InputCommand.FIRE);
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+
+        queue.offer(InputCommand.STOP_HORIZONTAL);
+        assertEquals(1, queue.size());
+        assertSame(InputCommand.STOP_HORIZONTAL, queue.poll());
+    }
+}
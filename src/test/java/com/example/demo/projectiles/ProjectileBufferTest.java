@@ -0,0 +1,108 @@
+package com.example.demo.projectiles;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the movement and slot bookkeeping of {@link ProjectileBuffer} on headless slots, which need no JavaFX.
+ */
+class ProjectileBufferTest {
+
+    /**
+     * Checks that straight projectiles move by their velocity and leave play past the right bound.
+     */
+    @Test
+    void straightProjectilesMoveAndLeavePlay() {
+        ProjectileBuffer buffer = new ProjectileBuffer();
+        int slow = buffer.addStraight(null, 0, 10, 30, 0);
+        int fast = buffer.addStraight(null, 50, 20, 60, -1);
+
+        buffer.update(0, true, 100);
+        assertEquals(30, buffer.getX(slow));
+        assertEquals(10, buffer.getY(slow), "Straight shots are not steered");
+        assertEquals(110, buffer.getX(fast));
+        assertEquals(19, buffer.getY(fast));
+        assertTrue(buffer.isAlive(slow));
+        assertFalse(buffer.isAlive(fast));
+
+        assertEquals(1, buffer.compact());
+        assertEquals(1, buffer.size());
+        assertEquals(30, buffer.getX(0));
+        assertEquals(ProjectileBuffer.TYPE_STRAIGHT, buffer.getType(0));
+        assertNull(buffer.getOwner(0));
+
+        buffer.update(0, false, 100);
+        assertEquals(60, buffer.getX(0), "Straight shots keep moving once the target is gone");
+    }
+
+    /**
+     * Checks that homing projectiles turn toward the target by at most their turn rate,
+     * stop at the left edge and freeze once the target is gone.
+     */
+    @Test
+    void homingProjectilesSteerAndStop() {
+        ProjectileBuffer buffer = new ProjectileBuffer();
+        int far = buffer.addHoming(null, 20, 100, 8, 0.5);
+        int near = buffer.addHoming(null, 500, 50.2, 8, 0.5);
+        int above = buffer.addHoming(null, 500, 0, 8, 0.5);
+
+        buffer.update(50, true, 1000);
+        assertEquals(12, buffer.getX(far));
+        assertEquals(99.5, buffer.getY(far));
+        assertEquals(50, buffer.getY(near), 1e-9, "Within the turn rate, the shot snaps to the target");
+        assertEquals(0.5, buffer.getY(above));
+
+        buffer.update(50, true, 1000);
+        buffer.update(50, true, 1000);
+        assertEquals(0, buffer.getX(far), "Homing shots stop at the left edge");
+        assertTrue(buffer.isAlive(far), "Homing shots do not leave play by the right bound");
+
+        double x = buffer.getX(near);
+        double y = buffer.getY(above);
+        buffer.update(700, false, 1000);
+        assertEquals(x, buffer.getX(near));
+        assertEquals(y, buffer.getY(above));
+        assertEquals(ProjectileBuffer.TYPE_HOMING, buffer.getType(far));
+    }
+
+    /**
+     * Checks that the buffer grows past its capacity and that compaction keeps every live projectile's state.
+     */
+    @Test
+    void growsAndCompactsWithoutLosingState() {
+        ProjectileBuffer buffer = new ProjectileBuffer(2);
+        int count = 40;
+        for (int i = 0; i < count; i++) {
+            // Every third shot starts beyond the bound and leaves play on the first update
+            double x = i % 3 == 0 ? 1000 + i : i;
+            buffer.addStraight(null, x, i, 1, 0);
+        }
+        assertEquals(count, buffer.size());
+        assertTrue(buffer.capacity() >= count);
+        assertEquals(count, buffer.getPeakSize());
+
+        buffer.update(0, true, 500);
+        assertEquals((count + 2) / 3, buffer.compact());
+
+        Set<Integer> rows = new HashSet<>();
+        for (int slot = 0; slot < buffer.size(); slot++) {
+            assertTrue(buffer.isAlive(slot));
+            int row = (int) buffer.getY(slot);
+            assertTrue(row % 3 != 0, "Removed shot " + row + " is still buffered");
+            assertEquals(row + 1, buffer.getX(slot), "Shot " + row + " lost its position");
+            rows.add(row);
+        }
+        assertEquals(count - (count + 2) / 3, rows.size());
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(count, buffer.getPeakSize(), "The peak survives clearing");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.CollisionLayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link GameSimulation} sizes its entities as the JavaFX actors draw them.
+ *
+ * <p>{@link EntityKind} derives the drawn sizes from the sprite files. These
+ * tests pin them to the sizes the image views come out at in the game, so a
+ * changed sprite or fit shows up here rather than as a quietly different
+ * simulation.</p>
+ */
+class GameSimulationParityTest {
+
+    /**
+     * How far a derived size may be from the one measured in the game, which is rounded to two decimals.
+     */
+    private static final double TOLERANCE = 0.01;
+
+    @Test
+    void planeSizesMatchTheirSprites() {
+        assertSize(EntityKind.USER_PLANE, 74.75, ActorRules.USER_PLANE_HEIGHT);
+        assertSize(EntityKind.ENEMY_PLANE, 200.0, ActorRules.ENEMY_PLANE_HEIGHT);
+        assertSize(EntityKind.BOSS, 500.0, ActorRules.BOSS_HEIGHT);
+    }
+
+    @Test
+    void projectileSizesMatchTheirSprites() {
+        assertSize(EntityKind.USER_PROJECTILE, 45.71, ActorRules.USER_PROJECTILE_HEIGHT);
+        // Both homing sprites are wider than tall, so they fill the square's width
+        assertSize(EntityKind.ENEMY_PROJECTILE, ActorRules.HOMING_FIT_SIZE, 15.33);
+        assertSize(EntityKind.BOSS_PROJECTILE, ActorRules.HOMING_FIT_SIZE, 19.9);
+    }
+
+    @Test
+    void layersMatchTheCollisionMatrix() {
+        assertEquals(CollisionLayer.PLAYER, EntityKind.USER_PLANE.getCollisionLayer());
+        assertEquals(CollisionLayer.PLAYER_PROJECTILE, EntityKind.USER_PROJECTILE.getCollisionLayer());
+        assertEquals(EntityKind.ENEMY_PROJECTILE.getCollisionLayer(), EntityKind.BOSS_PROJECTILE.getCollisionLayer());
+        assertEquals(0, EntityKind.BOSS.getCollisionMask() & CollisionLayer.PLAYER.bit(), "The boss must not ram");
+        assertTrue(EntityKind.ENEMY_PLANE.countsAsKill());
+        assertFalse(EntityKind.BOSS.countsAsKill());
+    }
+
+    @Test
+    void entitiesStartWhereTheLevelsPlaceThem() {
+        GameSimulation simulation = new GameSimulation(LevelRules.LEVEL_THREE, 1L);
+        SimEntity userPlane = simulation.getUserPlane();
+        assertEquals(ActorRules.USER_START_X, userPlane.getX());
+        assertEquals(LevelRules.DEFAULT_WORLD_HEIGHT / 2.0, userPlane.getY());
+        assertEquals(EntityKind.USER_PLANE.getWidth(), userPlane.getWidth());
+        assertEquals(LevelRules.LEVEL_THREE.getPlayerInitialHealth(), userPlane.getHealth());
+
+        SimEntity boss = simulation.getBoss();
+        assertEquals(LevelRules.DEFAULT_WORLD_WIDTH - ActorRules.BOSS_START_X_OFFSET, boss.getX());
+        assertEquals(LevelRules.DEFAULT_WORLD_HEIGHT / 2.0, boss.getY());
+        assertEquals(LevelRules.LEVEL_THREE.getBossHealth(), boss.getHealth());
+    }
+
+    @Test
+    void enemiesSpawnAtTheRightEdgeWithTheLevelsSpacing() {
+        GameSimulation simulation = new GameSimulation(LevelRules.LEVEL_ONE, 7L);
+        for (int tick = 0; tick < 200 && simulation.getEnemies().isEmpty(); tick++) {
+            simulation.tick(PlayerInput.NONE);
+        }
+        assertFalse(simulation.getEnemies().isEmpty(), "No enemy spawned");
+        for (SimEntity enemy : simulation.getEnemies()) {
+            double slot = (LevelRules.DEFAULT_WORLD_WIDTH - enemy.getOriginX()) / LevelRules.LEVEL_ONE.getEnemySpawnSpacing();
+            assertEquals(Math.rint(slot), slot, 1e-9);
+            assertEquals(EntityKind.ENEMY_PLANE.getWidth(), enemy.getWidth());
+            assertEquals(LevelRules.LEVEL_ONE.getEnemyHealth(), enemy.getHealth());
+        }
+    }
+
+    /**
+     * Checks the drawn size of a kind of entity.
+     *
+     * @param kind   the kind of entity
+     * @param width  the width its actor is drawn at
+     * @param height the height its actor is drawn at
+     */
+    private static void assertSize(EntityKind kind, double width, double height) {
+        assertEquals(width, kind.getWidth(), TOLERANCE, kind + " width");
+        assertEquals(height, kind.getHeight(), TOLERANCE, kind + " height");
+    }
+}
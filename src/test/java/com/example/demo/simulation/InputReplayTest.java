@@ -0,0 +1,165 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that recorded input survives the file format and replays into the same game.
+ */
+class InputReplayTest {
+
+    /**
+     * The number of ticks each session is recorded for, unless the level ends first.
+     */
+    private static final int TICKS = 3000;
+
+    /**
+     * Records a session of varied input, writes and reads it back, and checks the replay ends where the session did.
+     *
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    void replayMatchesRecordedSession() throws IOException {
+        int totalKills = 0;
+        int totalDamage = 0;
+        for (LevelRules rules : List.of(LevelRules.LEVEL_ONE, LevelRules.LEVEL_TWO, LevelRules.LEVEL_THREE)) {
+            for (long seed = -2; seed <= 2; seed++) {
+                GameSimulation recorded = new GameSimulation(rules, seed);
+                InputRecorder recorder = new InputRecorder();
+                SplittableRandom pilot = new SplittableRandom(seed * 31 + 7);
+                int input = PlayerInput.NONE;
+                int runLeft = 0;
+                for (int tick = 0; tick < TICKS && recorded.getStatus() == SimulationStatus.RUNNING; tick++) {
+                    if (runLeft-- == 0) {
+                        input = pilot.nextInt(PlayerInput.ALL + 1);
+                        runLeft = pilot.nextInt(40);
+                    }
+                    recorder.record(input);
+                    recorded.tick(input);
+                }
+
+                InputRecording recording = roundTrip(recorder.toRecording(rules.getName(), seed,
+                        rules.getWorldWidth(), rules.getWorldHeight()));
+                GameSimulation replayed = InputReplay.play(recording);
+
+                String context = rules.getName() + " seed " + seed;
+                assertEquals(recorded.getTickCount(), recording.getTickCount(), context);
+                assertEquals(recorded.getTickCount(), replayed.getTickCount(), context);
+                assertEquals(recorded.getStatus(), replayed.getStatus(), context);
+                assertEquals(recorded.getKills(), replayed.getKills(), context);
+                assertEquals(recorded.getDamageTaken(), replayed.getDamageTaken(), context);
+                assertEquals(recorded.getShotsFired(), replayed.getShotsFired(), context);
+                assertEntitiesEqual(List.of(recorded.getUserPlane()), List.of(replayed.getUserPlane()), context);
+                assertEntitiesEqual(recorded.getEnemies(), replayed.getEnemies(), context);
+                assertEntitiesEqual(recorded.getUserProjectiles(), replayed.getUserProjectiles(), context);
+                assertEntitiesEqual(recorded.getEnemyProjectiles(), replayed.getEnemyProjectiles(), context);
+                totalKills += recorded.getKills();
+                totalDamage += recorded.getDamageTaken();
+            }
+        }
+        assertTrue(totalKills > 0, "No session scored a kill");
+        assertTrue(totalDamage > 0, "No session took a hit");
+    }
+
+    /**
+     * Checks that runs, seeds and world sizes at the edges of their varint encodings read back unchanged.
+     *
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    void recordingRoundTripsThroughVarints() throws IOException {
+        int[] lengths = {1, 3, 4, 127, 128, 16_383, 16_384, 1 << 21, Integer.MAX_VALUE, 1};
+        int[] inputs = new int[lengths.length];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = (i * 7) & PlayerInput.ALL;
+        }
+        for (long seed : new long[] {0L, 1L, -1L, 63L, -64L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            InputRecording original = new InputRecording("LevelTwo", seed, 1350, 16_384, lengths, inputs, lengths.length);
+            InputRecording copy = roundTrip(original);
+
+            assertEquals("LevelTwo", copy.getLevelName());
+            assertEquals(seed, copy.getSeed());
+            assertEquals(1350, copy.getWorldWidth());
+            assertEquals(16_384, copy.getWorldHeight());
+            assertEquals(original.getTickCount(), copy.getTickCount());
+            assertEquals(lengths.length, copy.getRunCount());
+            for (int i = 0; i < lengths.length; i++) {
+                assertEquals(lengths[i], copy.getRunLength(i), "run " + i);
+                assertEquals(inputs[i], copy.getRunInput(i), "run " + i);
+            }
+        }
+    }
+
+    /**
+     * Checks that the recorder merges repeated input into runs and keeps only the input bits.
+     */
+    @Test
+    void recorderMergesRunsOfSameInput() {
+        InputRecorder recorder = new InputRecorder();
+        recorder.record(PlayerInput.UP);
+        recorder.record(PlayerInput.UP | ~PlayerInput.ALL);
+        recorder.record(PlayerInput.FIRE);
+        InputRecording recording = recorder.toRecording("LevelOne", 5L, 1350, 750);
+
+        assertEquals(2, recording.getRunCount());
+        assertEquals(2, recording.getRunLength(0));
+        assertEquals(PlayerInput.UP, recording.getRunInput(0));
+        assertEquals(PlayerInput.FIRE, recording.getRunInput(1));
+        assertEquals(3, recording.getTickCount());
+
+        recorder.reset();
+        assertEquals(0, recorder.toRecording("LevelOne", 5L, 1350, 750).getRunCount());
+    }
+
+    /**
+     * Checks that a stream that is not a recording is rejected.
+     */
+    @Test
+    void readRejectsOtherData() {
+        byte[] data = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThrows(IOException.class, () -> InputRecording.read(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * Writes a recording to memory and reads it back.
+     *
+     * @param recording the recording
+     * @return the recording read back
+     * @throws IOException if the recording cannot be written or read
+     */
+    private static InputRecording roundTrip(InputRecording recording) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        recording.write(bytes);
+        assertTrue(bytes.size() > 0);
+        return InputRecording.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    /**
+     * Checks that two groups hold the same entities in the same places with the same health.
+     *
+     * @param expected the entities of the recorded session
+     * @param actual   the entities of the replay
+     * @param context  the session, for failure messages
+     */
+    private static void assertEntitiesEqual(List<SimEntity> expected, List<SimEntity> actual, String context) {
+        assertEquals(expected.size(), actual.size(), context);
+        for (int i = 0; i < expected.size(); i++) {
+            SimEntity want = expected.get(i);
+            SimEntity got = actual.get(i);
+            assertEquals(want.getId(), got.getId(), context);
+            assertEquals(want.getKind(), got.getKind(), context);
+            assertEquals(want.getX(), got.getX(), context);
+            assertEquals(want.getY(), got.getY(), context);
+            assertEquals(want.getHealth(), got.getHealth(), context);
+        }
+    }
+}
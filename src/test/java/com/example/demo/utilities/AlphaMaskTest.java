@@ -0,0 +1,143 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the word-parallel {@link AlphaMask#overlaps} against a pixel-by-pixel comparison.
+ */
+class AlphaMaskTest {
+
+    /**
+     * The number of random offsets tried per pair of masks.
+     */
+    private static final int OFFSETS_PER_PAIR = 400;
+
+    /**
+     * Creates an image whose pixels are opaque or transparent at random.
+     *
+     * @param random  the source of pixels
+     * @param width   the width of the image
+     * @param height  the height of the image
+     * @param density the share of opaque pixels
+     * @return the image
+     */
+    private static BufferedImage randomImage(SplittableRandom random, int width, int height, double density) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextDouble() < density ? 0xFF000000 : 0);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Checks for a shared opaque pixel one pixel at a time.
+     *
+     * @param first   the first mask
+     * @param second  the second mask
+     * @param offsetX the X position of the second mask relative to the first
+     * @param offsetY the Y position of the second mask relative to the first
+     * @return {@code true} if a pixel is opaque in both
+     */
+    private static boolean overlapsByPixel(AlphaMask first, AlphaMask second, int offsetX, int offsetY) {
+        for (int y = 0; y < first.getHeight(); y++) {
+            for (int x = 0; x < first.getWidth(); x++) {
+                if (first.isOpaque(x, y) && second.isOpaque(x - offsetX, y - offsetY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void overlapsAgreesWithIsOpaqueAtRandomOffsets() {
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int pair = 0; pair < 40; pair++) {
+            // Widths up to 200 span several words, so unaligned offsets cross word boundaries
+            AlphaMask first = AlphaMask.fromAlpha(randomImage(random, 1 + random.nextInt(200), 1 + random.nextInt(40),
+                    random.nextDouble(0.002, 0.05)), 1 + random.nextInt(40));
+            AlphaMask second = AlphaMask.fromAlpha(randomImage(random, 1 + random.nextInt(200), 1 + random.nextInt(40),
+                    random.nextDouble(0.002, 0.05)), 1 + random.nextInt(40));
+            for (int i = 0; i < OFFSETS_PER_PAIR; i++) {
+                int offsetX = random.nextInt(-second.getWidth() - 2, first.getWidth() + 3);
+                int offsetY = random.nextInt(-second.getHeight() - 2, first.getHeight() + 3);
+                boolean expected = overlapsByPixel(first, second, offsetX, offsetY);
+                assertEquals(expected, first.overlaps(second, offsetX, offsetY),
+                        "pair " + pair + " at (" + offsetX + ", " + offsetY + ")");
+                assertEquals(expected, second.overlaps(first, -offsetX, -offsetY),
+                        "pair " + pair + " reversed at (" + offsetX + ", " + offsetY + ")");
+            }
+        }
+    }
+
+    @Test
+    void scalingKeepsTheAspectRatioAndAveragesAlpha() {
+        // Left half opaque, right half transparent, scaled down by half
+        BufferedImage image = new BufferedImage(8, 4, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                image.setRGB(x, y, 0xFF000000);
+            }
+        }
+        AlphaMask mask = AlphaMask.fromAlpha(image, 2);
+        assertEquals(4, mask.getWidth());
+        assertEquals(2, mask.getHeight());
+        assertEquals(4, mask.getOpaqueCount());
+        assertTrue(mask.isOpaque(1, 1));
+        assertFalse(mask.isOpaque(2, 0));
+        assertFalse(mask.isOpaque(-1, 0));
+        assertFalse(mask.isOpaque(0, 2));
+    }
+
+    @Test
+    void spritesAreMostlyTransparentAroundThePlanes() {
+        AlphaMask enemy = AlphaMask.forSprite("enemyplane.png", 150);
+        assertNotNull(enemy);
+        assertEquals(150, enemy.getHeight());
+        assertTrue(enemy.getOpaqueCount() < enemy.getWidth() * enemy.getHeight() / 2);
+        assertTrue(enemy.overlaps(enemy, 0, 0));
+        assertFalse(enemy.overlaps(enemy, enemy.getWidth(), 0));
+    }
+
+    @Test
+    void homingProjectileMaskMatchesItsDrawnSize() throws IOException {
+        BufferedImage image;
+        try (InputStream input = AlphaMaskTest.class.getResourceAsStream(ImageRegistry.IMAGE_DIRECTORY + "enemyFire.png")) {
+            assertNotNull(input);
+            image = ImageIO.read(input);
+        }
+        // Loaded at a height of 20, then fitted into 50x50 with its aspect ratio kept
+        double scale = Math.min(50.0 / image.getWidth(), 50.0 / image.getHeight());
+        int drawnWidth = (int) Math.round(image.getWidth() * scale);
+        int drawnHeight = (int) Math.round(image.getHeight() * scale);
+        assertEquals(50, drawnWidth);
+        assertEquals(15, drawnHeight);
+
+        AlphaMask mask = AlphaMask.forSprite("enemyFire.png", drawnWidth, drawnHeight);
+        assertNotNull(mask);
+        assertEquals(drawnWidth, mask.getWidth());
+        assertEquals(drawnHeight, mask.getHeight());
+        assertTrue(mask.getOpaqueCount() > 0);
+        assertTrue(mask.overlaps(mask, 0, 0));
+        assertFalse(mask.overlaps(mask, drawnWidth, 0));
+        assertFalse(mask.overlaps(mask, 0, drawnHeight));
+
+        // The load-height mask is larger than the sprite as drawn
+        AlphaMask loaded = AlphaMask.forSprite("enemyFire.png", 20);
+        assertNotNull(loaded);
+        assertTrue(loaded.getWidth() > drawnWidth && loaded.getHeight() > drawnHeight);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the packing, handles and bulk removal of {@link EntityRegistry}.
+ */
+class EntityRegistryTest {
+
+    /**
+     * A minimal entity remembering its handle.
+     */
+    private static final class Item implements EntityRegistry.Entry {
+
+        /**
+         * The name shown in failure messages.
+         */
+        private final String name;
+
+        /**
+         * The handle assigned by the registry holding this item.
+         */
+        private long handle = EntityRegistry.NO_HANDLE;
+
+        /**
+         * Constructs an unregistered item.
+         *
+         * @param name the name shown in failure messages
+         */
+        Item(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public long getRegistryHandle() {
+            return handle;
+        }
+
+        @Override
+        public void setRegistryHandle(long handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Creates unregistered items.
+     *
+     * @param count the number of items
+     * @return the items
+     */
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item" + i));
+        }
+        return items;
+    }
+
+    /**
+     * Checks that added entities are found by position, handle and membership, and that removal moves the last one in.
+     */
+    @Test
+    void addRemoveAndLookUp() {
+        EntityRegistry<Item> registry = new EntityRegistry<>(2);
+        List<Item> items = items(5);
+        long[] handles = new long[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            handles[i] = registry.insert(items.get(i));
+            assertEquals(handles[i], items.get(i).getRegistryHandle());
+        }
+
+        assertEquals(5, registry.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertSame(items.get(i), registry.get(i));
+            assertSame(items.get(i), registry.get(handles[i]));
+            assertTrue(registry.contains(items.get(i)));
+        }
+
+        assertTrue(registry.remove(items.get(1)));
+        assertEquals(4, registry.size());
+        assertSame(items.get(4), registry.get(1), "The last entity fills the freed position");
+        assertFalse(registry.contains(items.get(1)));
+        assertEquals(EntityRegistry.NO_HANDLE, items.get(1).getRegistryHandle());
+        assertFalse(registry.remove(items.get(1)));
+        assertSame(items.get(4), registry.get(handles[4]), "Handles survive the move");
+
+        assertSame(items.get(3), registry.remove(handles[3]));
+        assertNull(registry.remove(handles[3]));
+        assertEquals(Set.of(items.get(0), items.get(2), items.get(4)), new HashSet<>(registry));
+    }
+
+    /**
+     * Checks that a removed entity's handle stays stale after its slot is reused, while the new handle works.
+     */
+    @Test
+    void staleHandleRejectedAfterSlotReuse() {
+        EntityRegistry<Item> registry = new EntityRegistry<>();
+        Item first = new Item("first");
+        Item second = new Item("second");
+        long firstHandle = registry.insert(first);
+        registry.remove(first);
+
+        long secondHandle = registry.insert(second);
+        assertNotEquals(firstHandle, secondHandle);
+        assertFalse(registry.isValid(firstHandle));
+        assertNull(registry.get(firstHandle));
+        assertNull(registry.remove(firstHandle));
+        assertTrue(registry.isValid(secondHandle));
+        assertSame(second, registry.get(secondHandle));
+        assertEquals(1, registry.size());
+
+        // The removed entity can be added again and gets a fresh handle
+        long againHandle = registry.insert(first);
+        assertNotEquals(firstHandle, againHandle);
+        assertSame(first, registry.get(againHandle));
+        assertFalse(registry.isValid(EntityRegistry.NO_HANDLE));
+    }
+
+    /**
+     * Checks that an entity cannot be in a registry twice and that null is refused.
+     */
+    @Test
+    void rejectsDuplicateAndNull() {
+        EntityRegistry<Item> registry = new EntityRegistry<>();
+        Item item = new Item("item");
+        registry.add(item);
+        assertThrows(IllegalStateException.class, () -> registry.add(item));
+        assertThrows(IllegalStateException.class, () -> new EntityRegistry<Item>().add(item));
+        assertThrows(IllegalArgumentException.class, () -> registry.insert(null));
+        assertThrows(IllegalArgumentException.class, () -> new EntityRegistry<Item>(0));
+        assertEquals(1, registry.size());
+    }
+
+    /**
+     * Checks that bulk removal through the list's iterator removes exactly the chosen entities and leaves the rest
+     * registered under their handles, although removal reorders the registry while it is being walked.
+     */
+    @Test
+    void removeAllKeepsTheRestIntact() {
+        EntityRegistry<Item> registry = new EntityRegistry<>(4);
+        List<Item> items = items(50);
+        long[] handles = new long[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            handles[i] = registry.insert(items.get(i));
+        }
+
+        List<Item> removed = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += 3) {
+            removed.add(items.get(i));
+        }
+        removed.add(items.get(items.size() - 1));
+        assertTrue(registry.removeAll(removed));
+
+        Set<Item> expected = new HashSet<>(items);
+        removed.forEach(expected::remove);
+        assertEquals(expected.size(), registry.size());
+        assertEquals(expected, new HashSet<>(registry));
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            if (expected.contains(item)) {
+                assertSame(item, registry.get(handles[i]), item.toString());
+                assertTrue(registry.contains(item), item.toString());
+            } else {
+                assertFalse(registry.isValid(handles[i]), item.toString());
+                assertEquals(EntityRegistry.NO_HANDLE, item.getRegistryHandle(), item.toString());
+            }
+        }
+
+        assertTrue(registry.removeIf(item -> item.toString().endsWith("1")));
+        expected.removeIf(item -> item.toString().endsWith("1"));
+        assertEquals(expected, new HashSet<>(registry));
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertFalse(registry.isValid(handles[i]));
+            assertEquals(EntityRegistry.NO_HANDLE, items.get(i).getRegistryHandle());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Checks that {@link SpatialHashGrid} queries return exactly the items sharing a cell, in ascending order.
+ */
+class SpatialHashGridTest {
+
+    /**
+     * The cell edge length used by the tests.
+     */
+    private static final double CELL_SIZE = 64.0;
+
+    /**
+     * The largest number of cells an item may cover before the grid treats it as oversized.
+     */
+    private static final int MAX_CELLS_PER_ITEM = 64;
+
+    /**
+     * Compares queries against a brute-force search over populations from sparse to piled up in one cell,
+     * with some oversized items and queries mixed in.
+     */
+    @Test
+    void queryMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(3);
+        SpatialHashGrid grid = new SpatialHashGrid(CELL_SIZE);
+        for (int round = 0; round < 40; round++) {
+            int count = 1 + random.nextInt(600);
+            // Later rounds crowd every item into a small corner, as homing shots do at the left edge
+            double spread = round % 2 == 0 ? 1350 : 40;
+            double[][] boxes = new double[count][];
+            grid.clear();
+            for (int i = 0; i < count; i++) {
+                double size = random.nextInt(50) == 0 ? 900 : random.nextDouble(80);
+                double x = random.nextDouble(spread);
+                double y = random.nextDouble(spread);
+                boxes[i] = new double[] {x, y, x + size, y + size};
+                grid.insert(i, x, y, x + size, y + size);
+            }
+
+            int[] out = new int[count];
+            for (int q = 0; q < 50; q++) {
+                double size = random.nextInt(25) == 0 ? 2000 : random.nextDouble(200);
+                double x = random.nextDouble(spread) - 50;
+                double y = random.nextDouble(spread) - 50;
+                double[] query = {x, y, x + size, y + size};
+
+                int found = grid.query(query[0], query[1], query[2], query[3], out);
+                assertArrayEquals(expected(boxes, query), Arrays.copyOf(out, found), "round " + round + ", query " + q);
+            }
+        }
+    }
+
+    /**
+     * Lists, in ascending order, the items the grid should report for a query.
+     *
+     * @param boxes the items' bounds
+     * @param query the queried bounds
+     * @return the expected candidates
+     */
+    private static int[] expected(double[][] boxes, double[] query) {
+        boolean everything = oversized(query);
+        return IntStream.range(0, boxes.length)
+                .filter(i -> everything || oversized(boxes[i]) || sharesCell(boxes[i], query))
+                .toArray();
+    }
+
+    /**
+     * Checks whether two boxes cover a common cell.
+     *
+     * @param a the first box
+     * @param b the second box
+     * @return {@code true} if their cell ranges overlap
+     */
+    private static boolean sharesCell(double[] a, double[] b) {
+        return cell(a[0]) <= cell(b[2]) && cell(b[0]) <= cell(a[2])
+                && cell(a[1]) <= cell(b[3]) && cell(b[1]) <= cell(a[3]);
+    }
+
+    /**
+     * Checks whether a box covers too many cells to be hashed cell by cell.
+     *
+     * @param box the box
+     * @return {@code true} if it is oversized
+     */
+    private static boolean oversized(double[] box) {
+        long columns = (long) cell(box[2]) - cell(box[0]) + 1;
+        long rows = (long) cell(box[3]) - cell(box[1]) + 1;
+        return columns * rows > MAX_CELLS_PER_ITEM;
+    }
+
+    /**
+     * Converts a coordinate to a cell index.
+     *
+     * @param coordinate the coordinate
+     * @return the cell index
+     */
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the swept hit test against plain sub-stepping one pixel at a time.
+ *
+ * <p>Uses the masks of the game's sprites, built without the JavaFX toolkit,
+ * so the thin shapes that fast projectiles could tunnel through are covered.</p>
+ */
+class SweptOverlapTest {
+
+    /**
+     * The number of random pairs tried per pair of sprites.
+     */
+    private static final int CASES = 3000;
+
+    /**
+     * Tests a pair by moving it through every one-pixel sub-step of the step.
+     * The parameters are those of {@link SweptOverlap#test}.
+     *
+     * @return {@link SweptOverlap#HIT}, {@link SweptOverlap#MASK_MISS} or {@link SweptOverlap#MISS}
+     */
+    private static int subStep(AlphaMask firstMask, double firstWidth, double firstHeight,
+                               AlphaMask secondMask, double secondWidth, double secondHeight,
+                               double startOffsetX, double startOffsetY, double velocityX, double velocityY) {
+        int steps = Math.max(1, (int) Math.ceil(Math.max(Math.abs(velocityX), Math.abs(velocityY))));
+        boolean boxesMet = false;
+        for (int k = 0; k <= steps; k++) {
+            double t = (double) k / steps;
+            double offsetX = startOffsetX - velocityX * t;
+            double offsetY = startOffsetY - velocityY * t;
+            boolean boxes = offsetX <= firstWidth && offsetX >= -secondWidth
+                    && offsetY <= firstHeight && offsetY >= -secondHeight;
+            if (boxes) {
+                boxesMet = true;
+                if (firstMask.overlaps(secondMask, (int) Math.round(offsetX), (int) Math.round(offsetY))) {
+                    return SweptOverlap.HIT;
+                }
+            }
+        }
+        return boxesMet ? SweptOverlap.MASK_MISS : SweptOverlap.MISS;
+    }
+
+    /**
+     * Compares the two tests on random fast pairs placed near each other.
+     *
+     * @param seed         the seed of the random pairs
+     * @param first        the first sprite's mask
+     * @param second       the second sprite's mask
+     * @param maxVelocity  the largest movement of the first sprite relative to the second, per axis
+     * @return the number of pairs that hit
+     */
+    private static int compare(long seed, AlphaMask first, AlphaMask second, double maxVelocity) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double firstWidth = first.getWidth() - random.nextDouble(0.0, 0.5);
+        double firstHeight = first.getHeight();
+        double secondWidth = second.getWidth() - random.nextDouble(0.0, 0.5);
+        double secondHeight = second.getHeight();
+        int hits = 0;
+        for (int i = 0; i < CASES; i++) {
+            double velocityX = random.nextDouble(-maxVelocity, maxVelocity);
+            double velocityY = random.nextBoolean() ? 0.0 : random.nextDouble(-maxVelocity / 4, maxVelocity / 4);
+            // Start somewhere the path can cross the other box
+            double startOffsetX = random.nextDouble(-secondWidth - maxVelocity, firstWidth + maxVelocity);
+            double startOffsetY = random.nextDouble(-secondHeight - maxVelocity / 4, firstHeight + maxVelocity / 4);
+            int expected = subStep(first, firstWidth, firstHeight, second, secondWidth, secondHeight,
+                    startOffsetX, startOffsetY, velocityX, velocityY);
+            int actual = SweptOverlap.test(first, firstWidth, firstHeight, second, secondWidth, secondHeight,
+                    startOffsetX, startOffsetY, velocityX, velocityY);
+            assertEquals(expected, actual, "case " + i + ": offset (" + startOffsetX + ", " + startOffsetY
+                    + "), velocity (" + velocityX + ", " + velocityY + ")");
+            if (actual == SweptOverlap.HIT) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Test
+    void samplesEveryPixelOfRelativeMovement() {
+        assertEquals(1.0, SweptOverlap.SAMPLE_SPACING);
+    }
+
+    @Test
+    void userProjectileAgainstEnemyPlaneMatchesSubStepping() {
+        AlphaMask projectile = AlphaMask.forSprite("userfire.png", 15);
+        AlphaMask enemy = AlphaMask.forSprite("enemyplane.png", 150);
+        assertNotNull(projectile);
+        assertNotNull(enemy);
+        // Projectile and enemy close at 32 pixels a step; faster relative speeds too
+        assertTrue(compare(1L, projectile, enemy, 32.0) > 0);
+        assertTrue(compare(2L, projectile, enemy, 120.0) > 0);
+    }
+
+    @Test
+    void homingProjectileAgainstUserPlaneMatchesSubStepping() {
+        AlphaMask projectile = AlphaMask.forSprite("enemyFire.png", 50, 15);
+        AlphaMask userPlane = AlphaMask.forSprite("userplane.png", 20);
+        assertNotNull(projectile);
+        assertNotNull(userPlane);
+        assertTrue(compare(3L, projectile, userPlane, 16.0) > 0);
+        assertTrue(compare(4L, userPlane, projectile, 40.0) > 0);
+    }
+
+    @Test
+    void fastProjectileCannotTunnelThroughAThinTarget() {
+        // A one-pixel-wide wall, and a projectile crossing it in one 30-pixel step
+        AlphaMask wall = AlphaMask.fromAlpha(solidImage(1, 40), 40);
+        AlphaMask bullet = AlphaMask.fromAlpha(solidImage(10, 4), 4);
+        // Starts 12 pixels left of the wall and ends 8 pixels right of it
+        double startOffsetX = 12.0;
+        assertEquals(SweptOverlap.HIT, SweptOverlap.test(bullet, 10, 4, wall, 1, 40, startOffsetX, -10, 30, 0));
+        // Neither end of the step overlaps, so an end-of-step test would have missed it
+        assertEquals(SweptOverlap.MISS, SweptOverlap.test(bullet, 10, 4, wall, 1, 40, startOffsetX - 30, -10, 0, 0));
+    }
+
+    /**
+     * Creates a fully opaque image.
+     *
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @return the image
+     */
+    private static BufferedImage solidImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, 0xFF000000);
+            }
+        }
+        return image;
+    }
+}
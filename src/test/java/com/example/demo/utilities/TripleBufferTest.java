@@ -0,0 +1,91 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the handoff rules of {@link TripleBuffer} through its writer and reader calls, on one thread.
+ */
+class TripleBufferTest {
+
+    /**
+     * A mutable value the writer overwrites in place.
+     */
+    private static final class Value {
+
+        /**
+         * The number of the publish that filled this slot, or -1 if never filled.
+         */
+        long sequence = -1;
+    }
+
+    /**
+     * Checks that nothing is fresh before the first publish and that each value is fresh until it is read.
+     */
+    @Test
+    void hasFreshTracksUnreadPublishes() {
+        TripleBuffer<Value> buffer = new TripleBuffer<>(Value::new);
+        assertFalse(buffer.hasFresh());
+        assertEquals(-1, buffer.getLatest().sequence, "Nothing published yet");
+
+        buffer.getWriteSlot().sequence = 0;
+        buffer.publish();
+        assertTrue(buffer.hasFresh());
+        assertEquals(0, buffer.getLatest().sequence);
+        assertFalse(buffer.hasFresh());
+
+        Value again = buffer.getLatest();
+        assertEquals(0, again.sequence, "Reading twice returns the same value");
+        assertFalse(buffer.hasFresh());
+    }
+
+    /**
+     * Checks that a reader that falls behind skips straight to the newest value.
+     */
+    @Test
+    void readerGetsTheNewestValue() {
+        TripleBuffer<Value> buffer = new TripleBuffer<>(Value::new);
+        for (long i = 0; i < 5; i++) {
+            buffer.getWriteSlot().sequence = i;
+            buffer.publish();
+        }
+        assertEquals(4, buffer.getLatest().sequence);
+        assertFalse(buffer.hasFresh());
+    }
+
+    /**
+     * Checks, over a random interleaving of publishes and reads, that the writer's slot is never the one
+     * the reader holds, that values are never lost or reordered, and that the three slots stay distinct.
+     */
+    @Test
+    void writerNeverTouchesTheReadersSlot() {
+        TripleBuffer<Value> buffer = new TripleBuffer<>(Value::new);
+        SplittableRandom random = new SplittableRandom(11);
+        long published = -1;
+        long lastRead = -1;
+        Value held = buffer.getLatest();
+        for (int step = 0; step < 10_000; step++) {
+            if (random.nextBoolean()) {
+                Value slot = buffer.getWriteSlot();
+                assertNotSame(held, slot, "The writer was handed the slot the reader holds");
+                slot.sequence = ++published;
+                buffer.publish();
+                assertEquals(lastRead, held.sequence, "The reader's value changed under it");
+                assertTrue(buffer.hasFresh());
+            } else {
+                boolean fresh = buffer.hasFresh();
+                held = buffer.getLatest();
+                assertEquals(published, held.sequence, "The reader did not get the newest value");
+                assertEquals(fresh, held.sequence != lastRead, "hasFresh disagreed with what the read returned");
+                lastRead = held.sequence;
+                assertFalse(buffer.hasFresh());
+            }
+        }
+    }
+}